@@ -18,12 +18,14 @@ import org.eclipse.digitaltwin.fa3st.common.exception.AssetConnectionException;
 import org.eclipse.digitaltwin.fa3st.common.model.value.DataElementValue;
 import org.eclipse.digitaltwin.fa3st.common.typing.TypeInfo;
 import org.eclipse.digitaltwin.fa3st.service.assetconnection.common.ElementInfo;
+import org.eclipse.digitaltwin.fa3st.service.processor.Indexed;
 
 
 /**
  * Interface for data formats to be used for data de-/encoding across different asset connection independently of
  * underlying transport protocol.
  */
+@Indexed
 public interface Format {
 
     public String getMimeType();
@@ -16,10 +16,13 @@ package org.eclipse.digitaltwin.fa3st.service.assetconnection.common.format;
 import io.github.classgraph.ClassGraph;
 import io.github.classgraph.ScanResult;
 import java.lang.reflect.InvocationTargetException;
+import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.concurrent.ConcurrentHashMap;
 import org.apache.commons.lang3.StringUtils;
 import org.eclipse.digitaltwin.fa3st.common.util.ImplementationManager;
+import org.eclipse.digitaltwin.fa3st.service.util.ClassIndex;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -40,28 +43,50 @@ public class FormatFactory {
             return;
         }
         formats = new ConcurrentHashMap<>();
-        try (ScanResult scanResult = new ClassGraph()
+        ClassLoader classLoader = ImplementationManager.getClassLoader();
+        Optional<List<Class<? extends Format>>> indexed = ClassIndex.getImplementations(Format.class, classLoader);
+        if (indexed.isEmpty()) {
+            LOGGER.debug("no build-time index for data formats found, scanning classpath instead");
+            scan(new ClassGraph().addClassLoader(classLoader));
+            return;
+        }
+        indexed.get().stream()
+                .filter(x -> x.isAnnotationPresent(Dataformat.class))
+                .forEach(x -> register(x.getAnnotation(Dataformat.class).key(), x));
+        // third-party jars and plugins without build-time index are only visible by scanning
+        scan(new ClassGraph()
+                .addClassLoader(classLoader)
+                .filterClasspathElements(ClassIndex.withoutIndex(Format.class, classLoader)));
+    }
+
+
+    private static void scan(ClassGraph classGraph) {
+        try (ScanResult scanResult = classGraph
                 .enableClassInfo()
                 .enableAnnotationInfo()
-                .addClassLoader(ImplementationManager.getClassLoader())
                 .scan()) {
             for (var classInfo: scanResult.getClassesWithAnnotation(Dataformat.class)) {
                 String key = ((Dataformat) classInfo.getAnnotationInfo(Dataformat.class).loadClassAndInstantiate()).key();
-                if (StringUtils.isBlank(key)) {
-                    LOGGER.warn("Ignoring data format with empty key (class: {})", classInfo.getName());
-                    continue;
-                }
                 if (!classInfo.implementsInterface(Format.class)) {
                     LOGGER.warn("Ignoring data format with key '{}' because implementing class does not implement interface 'Format' (class: {})",
                             key, classInfo.getName());
                     continue;
                 }
-                formats.put(key, classInfo.loadClass(Format.class));
+                register(key, classInfo.loadClass(Format.class));
             }
         }
     }
 
 
+    private static void register(String key, Class<? extends Format> type) {
+        if (StringUtils.isBlank(key)) {
+            LOGGER.warn("Ignoring data format with empty key (class: {})", type.getName());
+            return;
+        }
+        formats.putIfAbsent(key, type);
+    }
+
+
     /**
      * Instantiates a new format for given key via reflection.
      *
@@ -13,9 +13,12 @@
  */
 package org.eclipse.digitaltwin.fa3st.service;
 
+import java.time.Instant;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 import java.util.function.Consumer;
 import org.eclipse.digitaltwin.aas4j.v3.model.Environment;
 import org.eclipse.digitaltwin.aas4j.v3.model.Operation;
@@ -55,7 +58,9 @@ import org.eclipse.digitaltwin.fa3st.service.filestorage.FileStorage;
 import org.eclipse.digitaltwin.fa3st.service.messagebus.MessageBus;
 import org.eclipse.digitaltwin.fa3st.service.persistence.Persistence;
 import org.eclipse.digitaltwin.fa3st.service.registry.RegistrySynchronization;
+import org.eclipse.digitaltwin.fa3st.service.request.RequestDeadline;
 import org.eclipse.digitaltwin.fa3st.service.request.RequestHandlerManager;
+import org.eclipse.digitaltwin.fa3st.service.request.admission.AdmissionController;
 import org.eclipse.digitaltwin.fa3st.service.request.handler.DynamicRequestExecutionContext;
 import org.eclipse.digitaltwin.fa3st.service.request.handler.RequestExecutionContext;
 import org.slf4j.Logger;
@@ -79,6 +84,7 @@ public class Service implements ServiceContext {
 
     private RegistrySynchronization registrySynchronization;
     private RequestHandlerManager requestHandler;
+    private AdmissionController admissionController;
 
     /**
      * Creates a new instance of {@link Service}.
@@ -122,6 +128,7 @@ public class Service implements ServiceContext {
         this.messageBus = messageBus;
         this.assetConnectionManager = new AssetConnectionManager(config.getCore(), assetConnections, this);
         this.requestHandler = new RequestHandlerManager(config.getCore());
+        this.admissionController = new AdmissionController(config.getCore().getAdmissionControl());
         this.requestExecutionContext = new DynamicRequestExecutionContext(this);
         this.registrySynchronization = new RegistrySynchronization(config.getCore(), persistence, messageBus, endpoints);
     }
@@ -146,8 +153,14 @@ public class Service implements ServiceContext {
 
     @Override
     public Response execute(Endpoint source, Request request) {
+        return execute(source, request, RequestDeadline.NONE);
+    }
+
+
+    @Override
+    public Response execute(Endpoint source, Request request, RequestDeadline deadline) {
         try {
-            return requestHandler.execute(request, requestExecutionContext.withEndpoint(source));
+            return requestHandler.execute(request, requestExecutionContext.withEndpoint(source).withDeadline(deadline));
         }
         catch (Exception e) {
             LOGGER.trace("Error executing request", e);
@@ -156,6 +169,19 @@ public class Service implements ServiceContext {
     }
 
 
+    @Override
+    public <T extends Response> CompletableFuture<T> executeAsync(Endpoint source, Request<T> request) {
+        return executeAsync(source, request, RequestDeadline.NONE);
+    }
+
+
+    @Override
+    public <T extends Response> CompletableFuture<T> executeAsync(Endpoint source, Request<T> request, RequestDeadline deadline) {
+        Ensure.requireNonNull(request, "request must be non-null");
+        return requestHandler.executeAsync(request, requestExecutionContext.withEndpoint(source).withDeadline(deadline));
+    }
+
+
     @Override
     public OperationVariable[] getOperationOutputVariables(Reference reference) throws ResourceNotFoundException, PersistenceException {
         if (reference == null) {
@@ -180,6 +206,12 @@ public class Service implements ServiceContext {
     }
 
 
+    @Override
+    public SubmodelElement getSubmodelElement(Reference reference, QueryModifier modifier) throws ResourceNotFoundException, PersistenceException {
+        return persistence.getSubmodelElement(reference, modifier);
+    }
+
+
     @Override
     public boolean hasValueProvider(Reference reference) {
         return Objects.nonNull(assetConnectionManager.getValueProvider(reference));
@@ -227,6 +259,15 @@ public class Service implements ServiceContext {
     }
 
 
+    @Override
+    public Optional<Instant> getFileLastModified(String path) throws PersistenceException {
+        if (Objects.isNull(fileStorage)) {
+            return Optional.empty();
+        }
+        return fileStorage.getLastModified(path);
+    }
+
+
     @Override
     public MessageBus getMessageBus() {
         return messageBus;
@@ -253,6 +294,12 @@ public class Service implements ServiceContext {
     }
 
 
+    @Override
+    public AdmissionController getAdmissionController() {
+        return admissionController;
+    }
+
+
     /**
      * Starts the service.This includes starting the message bus and endpoints.
      *
@@ -317,6 +364,7 @@ public class Service implements ServiceContext {
             }
         }
         this.requestHandler = new RequestHandlerManager(config.getCore());
+        this.admissionController = new AdmissionController(config.getCore().getAdmissionControl());
         this.requestExecutionContext = new DynamicRequestExecutionContext(this);
         this.registrySynchronization = new RegistrySynchronization(config.getCore(), persistence, messageBus, endpoints);
     }
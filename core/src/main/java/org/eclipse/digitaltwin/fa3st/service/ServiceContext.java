@@ -13,16 +13,23 @@
  */
 package org.eclipse.digitaltwin.fa3st.service;
 
+import java.time.Instant;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 import org.eclipse.digitaltwin.aas4j.v3.model.Environment;
 import org.eclipse.digitaltwin.aas4j.v3.model.OperationVariable;
 import org.eclipse.digitaltwin.aas4j.v3.model.Reference;
+import org.eclipse.digitaltwin.aas4j.v3.model.SubmodelElement;
 import org.eclipse.digitaltwin.fa3st.common.exception.PersistenceException;
 import org.eclipse.digitaltwin.fa3st.common.exception.ResourceNotFoundException;
 import org.eclipse.digitaltwin.fa3st.common.model.api.Request;
 import org.eclipse.digitaltwin.fa3st.common.model.api.Response;
+import org.eclipse.digitaltwin.fa3st.common.model.api.modifier.QueryModifier;
 import org.eclipse.digitaltwin.fa3st.common.typing.TypeInfo;
 import org.eclipse.digitaltwin.fa3st.service.endpoint.Endpoint;
 import org.eclipse.digitaltwin.fa3st.service.messagebus.MessageBus;
+import org.eclipse.digitaltwin.fa3st.service.request.RequestDeadline;
+import org.eclipse.digitaltwin.fa3st.service.request.admission.AdmissionController;
 
 
 /**
@@ -43,6 +50,19 @@ public interface ServiceContext {
     public TypeInfo getTypeInfo(Reference reference) throws ResourceNotFoundException, PersistenceException;
 
 
+    /**
+     * Gets an element identified by reference directly from persistence, i.e., without executing a request and without
+     * synchronizing its value with any asset connection.
+     *
+     * @param reference reference identifying the element
+     * @param modifier the modifier to apply
+     * @return the referenced element
+     * @throws ResourceNotFoundException if reference can not be resolved on AAS environment of the service
+     * @throws PersistenceException if storage error occurs
+     */
+    public SubmodelElement getSubmodelElement(Reference reference, QueryModifier modifier) throws ResourceNotFoundException, PersistenceException;
+
+
     /**
      * Executes a request.
      *
@@ -54,6 +74,21 @@ public interface ServiceContext {
     public <T extends Response> T execute(Endpoint source, Request<T> request);
 
 
+    /**
+     * Executes a request with a deadline. Accessing asset connections while executing the request is aborted as soon as
+     * the deadline expires. Implementations not supporting deadlines may ignore it.
+     *
+     * @param <T> type of expected response
+     * @param source the endpoint via which the request has been triggered
+     * @param request request to execute
+     * @param deadline the deadline of the request
+     * @return result of executing the request
+     */
+    public default <T extends Response> T execute(Endpoint source, Request<T> request, RequestDeadline deadline) {
+        return execute(source, request);
+    }
+
+
     /**
      * Execute a request without context of an endpoint. This is typically used when executed for custom code.
      *
@@ -66,6 +101,46 @@ public interface ServiceContext {
     }
 
 
+    /**
+     * Executes a request asynchronously, i.e., without blocking the calling thread while the request is processed.
+     * Implementations not supporting asynchronous execution may execute the request on the calling thread.
+     *
+     * @param <T> type of expected response
+     * @param source the endpoint via which the request has been triggered
+     * @param request request to execute
+     * @return a future that completes with the result of executing the request
+     */
+    public default <T extends Response> CompletableFuture<T> executeAsync(Endpoint source, Request<T> request) {
+        return CompletableFuture.completedFuture(execute(source, request));
+    }
+
+
+    /**
+     * Executes a request asynchronously with a deadline. Accessing asset connections while executing the request is
+     * aborted as soon as the deadline expires. Implementations not supporting deadlines may ignore it.
+     *
+     * @param <T> type of expected response
+     * @param source the endpoint via which the request has been triggered
+     * @param request request to execute
+     * @param deadline the deadline of the request
+     * @return a future that completes with the result of executing the request
+     */
+    public default <T extends Response> CompletableFuture<T> executeAsync(Endpoint source, Request<T> request, RequestDeadline deadline) {
+        return executeAsync(source, request);
+    }
+
+
+    /**
+     * Gets the admission controller that endpoints should use to limit the number of concurrently executed requests.
+     * Implementations not supporting admission control return {@link AdmissionController#DISABLED}.
+     *
+     * @return the admission controller
+     */
+    public default AdmissionController getAdmissionController() {
+        return AdmissionController.DISABLED;
+    }
+
+
     /**
      * Get a copied version of the Environment instance of the service.
      *
@@ -74,6 +149,18 @@ public interface ServiceContext {
     public Environment getAASEnvironment() throws PersistenceException;
 
 
+    /**
+     * Gets the time a file in the file storage of the service has last been modified.
+     *
+     * @param path the path of the file
+     * @return the time of the last modification or an empty optional if unknown
+     * @throws PersistenceException if accessing the file storage fails
+     */
+    public default Optional<Instant> getFileLastModified(String path) throws PersistenceException {
+        return Optional.empty();
+    }
+
+
     /**
      * Returns the message bus of the service.
      *
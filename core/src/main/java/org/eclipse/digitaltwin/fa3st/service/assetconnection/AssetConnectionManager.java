@@ -14,14 +14,29 @@
 package org.eclipse.digitaltwin.fa3st.service.assetconnection;
 
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.Semaphore;
 import java.util.concurrent.ThreadFactory;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
@@ -43,6 +58,8 @@ import org.eclipse.digitaltwin.fa3st.service.assetconnection.lambda.provider.Lam
 import org.eclipse.digitaltwin.fa3st.service.assetconnection.lambda.provider.LambdaSubscriptionProvider;
 import org.eclipse.digitaltwin.fa3st.service.assetconnection.lambda.provider.LambdaValueProvider;
 import org.eclipse.digitaltwin.fa3st.service.config.CoreConfig;
+import org.eclipse.digitaltwin.fa3st.service.request.RequestDeadline;
+import org.eclipse.digitaltwin.fa3st.service.util.ExecutorHelper;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -57,7 +74,11 @@ public class AssetConnectionManager {
     private final List<AssetConnection> connections;
     private final CoreConfig coreConfig;
     private final Service service;
+    private final Map<Object, Semaphore> connectionPermits;
+    private volatile ValueProviderIndex valueProviderIndex;
+    private final AssetValueCache valueCache;
     private ScheduledExecutorService scheduledExecutorService;
+    private ExecutorService readExecutorService;
     private LambdaAssetConnection lambdaAssetConnection;
     private volatile boolean active;
 
@@ -66,6 +87,8 @@ public class AssetConnectionManager {
         this.coreConfig = coreConfig;
         this.connections = connections != null ? new ArrayList<>(connections) : new ArrayList<>();
         this.service = service;
+        this.connectionPermits = Collections.synchronizedMap(new IdentityHashMap<>());
+        this.valueCache = new AssetValueCache(coreConfig.getAssetValueCacheMaxAge());
         validateConnections();
         init();
     }
@@ -82,6 +105,19 @@ public class AssetConnectionManager {
             }
         };
         scheduledExecutorService = Executors.newScheduledThreadPool(this.connections.size(), threadFactory);
+        readExecutorService = ExecutorHelper.newVirtualThreadPerTaskExecutor().orElseGet(() -> Executors.newCachedThreadPool(new ThreadFactory() {
+            AtomicLong count = new AtomicLong(0);
+
+            @Override
+            public Thread newThread(Runnable target) {
+                Thread result = new Thread(target, String.format("asset connection reader - %d", count.getAndIncrement()));
+                result.setDaemon(true);
+                return result;
+            }
+        }));
+        connectionPermits.clear();
+        valueProviderIndex = null;
+        valueCache.clear();
     }
 
 
@@ -108,6 +144,7 @@ public class AssetConnectionManager {
      */
     public void registerLambdaValueProvider(Reference reference, LambdaValueProvider provider) {
         lambdaAssetConnection.registerValueProvider(reference, provider);
+        valueProviderIndex = null;
     }
 
 
@@ -118,6 +155,7 @@ public class AssetConnectionManager {
      */
     public void unregisterLambdaValueProvider(Reference reference) {
         lambdaAssetConnection.unregisterValueProvider(reference);
+        valueProviderIndex = null;
     }
 
 
@@ -180,6 +218,8 @@ public class AssetConnectionManager {
 
     private void tryConnecting(AssetConnection connection) throws AssetConnectionException {
         connection.connect();
+        // connecting registers the providers of the connection
+        valueProviderIndex = null;
         LOGGER.info("Asset connection established (endpoint: {})", connection.getEndpointInformation());
     }
 
@@ -221,6 +261,7 @@ public class AssetConnectionManager {
         }
         try {
             provider.addNewDataListener((DataElementValue data) -> {
+                valueCache.put(reference, data);
                 Response response = service.execute(PatchSubmodelElementValueByPathRequest.builder()
                         .submodelId(ReferenceHelper.findFirstKeyType(reference, KeyTypes.SUBMODEL))
                         .path(ReferenceHelper.toPath(reference))
@@ -287,6 +328,7 @@ public class AssetConnectionManager {
             validateConnections();
         }
         validateConnections();
+        valueProviderIndex = null;
     }
 
 
@@ -312,6 +354,7 @@ public class AssetConnectionManager {
             scheduledExecutorService.shutdownNow();
             Thread.currentThread().interrupt();
         }
+        readExecutorService.shutdownNow();
         lambdaAssetConnection.stop();
         connections.stream()
                 .filter(AssetConnection::isConnected)
@@ -326,6 +369,7 @@ public class AssetConnectionManager {
                     }
 
                 });
+        connectionPermits.clear();
     }
 
 
@@ -380,11 +424,8 @@ public class AssetConnectionManager {
         if (lambdaAssetConnection.hasValueProvider(reference)) {
             return lambdaAssetConnection.getValueProvider(reference);
         }
-        return connections.stream()
-                .flatMap(x -> (Stream<Map.Entry<Reference, AssetValueProvider>>) x.getValueProviders().entrySet().stream())
-                .filter(x -> ReferenceHelper.equals(reference, x.getKey()))
-                .map(Map.Entry::getValue)
-                .findFirst()
+        return findValueProvider(reference)
+                .map(x -> (AssetValueProvider) x.connection.getValueProviders().get(x.reference))
                 .orElse(null);
     }
 
@@ -399,20 +440,44 @@ public class AssetConnectionManager {
      *             fails
      */
     public void setValue(Reference reference, ElementValue value) throws AssetConnectionException {
+        setValue(reference, value, RequestDeadline.NONE);
+    }
+
+
+    /**
+     * If a {@link AssetValueProvider} exists for given reference, the provided
+     * will be written; otherwise nothing happens. Writing is aborted when the
+     * deadline expires.
+     *
+     * @param reference reference to element to check for asset connection
+     * @param value the value to write
+     * @param deadline the deadline of the request
+     * @throws AssetConnectionException if writing value to asset connection
+     *             fails or the deadline expires
+     */
+    public void setValue(Reference reference, ElementValue value, RequestDeadline deadline) throws AssetConnectionException {
         if (hasValueProvider(reference) && ElementValueHelper.isValidDataElementValue(value)) {
             try {
-                getValueProvider(reference).setValue((DataElementValue) value);
+                callWithDeadline(() -> {
+                    getValueProvider(reference).setValue((DataElementValue) value);
+                    return null;
+                }, reference, deadline);
             }
             catch (UnsupportedOperationException e) {
                 // ignored on purpose
             }
+            finally {
+                valueCache.invalidate(reference);
+            }
         }
     }
 
 
     /**
      * Reads value from asset connection if available, otherwise empty optional
-     * is returned.
+     * is returned. If {@link CoreConfig#getAssetValueCacheMaxAge()} is
+     * positive, values not older than the configured age are served from
+     * cache.
      *
      * @param reference reference to element to check for asset connection
      * @return value read from the asset connection if available, empty optional
@@ -421,6 +486,101 @@ public class AssetConnectionManager {
      *             reading fails
      */
     public Optional<DataElementValue> readValue(Reference reference) throws AssetConnectionException {
+        return readValue(reference, RequestDeadline.NONE);
+    }
+
+
+    /**
+     * Reads value from asset connection if available, otherwise empty optional
+     * is returned. Reading is aborted when the deadline expires.
+     *
+     * @param reference reference to element to check for asset connection
+     * @param deadline the deadline of the request
+     * @return value read from the asset connection if available, empty optional
+     *         otherwise
+     * @throws AssetConnectionException if there is an asset connection but
+     *             reading fails or the deadline expires
+     */
+    public Optional<DataElementValue> readValue(Reference reference, RequestDeadline deadline) throws AssetConnectionException {
+        if (!hasValueProvider(reference)) {
+            return Optional.empty();
+        }
+        if (!valueCache.isEnabled() || !deadline.canExpire()) {
+            return callWithDeadline(() -> valueCache.get(reference, () -> readValueFromProvider(reference)), reference, deadline);
+        }
+        if (deadline.isExpired()) {
+            throw deadlineExpired(reference, deadline, null);
+        }
+        // the shared read runs independently of this request so that concurrent readers only time out on their own deadline
+        return awaitWithDeadline(valueCache.getAsync(reference, () -> readValueFromProvider(reference), readExecutorService), reference, deadline);
+    }
+
+
+    /**
+     * Executes an action accessing an asset connection. If the deadline can expire, the action is executed on a
+     * separate thread so that the calling thread is released as soon as the deadline expires. The thread executing the
+     * action is interrupted in that case which allows providers to abort pending calls to the asset.
+     */
+    private <T> T callWithDeadline(Callable<T> action, Reference reference, RequestDeadline deadline) throws AssetConnectionException {
+        if (!deadline.canExpire()) {
+            try {
+                return action.call();
+            }
+            catch (AssetConnectionException | RuntimeException e) {
+                throw e;
+            }
+            catch (Exception e) {
+                throw new AssetConnectionException(e);
+            }
+        }
+        if (deadline.isExpired()) {
+            throw deadlineExpired(reference, deadline, null);
+        }
+        Future<T> task;
+        try {
+            task = readExecutorService.submit(action);
+        }
+        catch (RejectedExecutionException e) {
+            throw new AssetConnectionException("accessing asset connection failed (reason: asset connection manager stopped)", e);
+        }
+        return awaitWithDeadline(task, reference, deadline);
+    }
+
+
+    private static <T> T awaitWithDeadline(Future<T> task, Reference reference, RequestDeadline deadline) throws AssetConnectionException {
+        try {
+            return deadline.await(task);
+        }
+        catch (TimeoutException | CancellationException e) {
+            throw deadlineExpired(reference, deadline, e);
+        }
+        catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new AssetConnectionException("interrupted while accessing asset connection", e);
+        }
+        catch (ExecutionException e) {
+            if (e.getCause() instanceof AssetConnectionException) {
+                throw (AssetConnectionException) e.getCause();
+            }
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw new AssetConnectionException(e.getCause());
+        }
+    }
+
+
+    private static AssetConnectionException deadlineExpired(Reference reference, RequestDeadline deadline, Exception cause) {
+        deadline.markAborted();
+        return new AssetConnectionException(
+                String.format("accessing asset connection aborted (reason: %s, reference: %s)",
+                        deadline.isCancelled() ? "request cancelled" : "request deadline exceeded",
+                        ReferenceHelper.toString(reference)),
+                cause);
+    }
+
+
+    private Optional<DataElementValue> readValueFromProvider(Reference reference) throws AssetConnectionException {
         if (hasValueProvider(reference)) {
             try {
                 return Optional.ofNullable(getValueProvider(reference).getValue());
@@ -433,6 +593,454 @@ public class AssetConnectionManager {
     }
 
 
+    /**
+     * Reads the values of multiple elements from their asset connections. Reads are executed concurrently, limited by
+     * {@link CoreConfig#getAssetSyncParallelism()} for this call and by
+     * {@link CoreConfig#getAssetConnectionParallelism()} for each asset connection across all concurrent calls.
+     * Elements without value provider are ignored.
+     *
+     * @param references references to the elements to read the values for
+     * @return map of references and the values read from the asset connection; references without value provider or
+     *         without value are not contained
+     * @throws AssetConnectionException if reading any of the values fails
+     */
+    public Map<Reference, DataElementValue> readValues(Collection<Reference> references) throws AssetConnectionException {
+        return readValues(references, RequestDeadline.NONE);
+    }
+
+
+    /**
+     * Reads the values of multiple elements from their asset connections. Reads are executed concurrently, limited by
+     * {@link CoreConfig#getAssetSyncParallelism()} for this call and by
+     * {@link CoreConfig#getAssetConnectionParallelism()} for each asset connection across all concurrent calls.
+     * Elements without value provider are ignored. When the deadline expires, all pending reads are cancelled.
+     *
+     * @param references references to the elements to read the values for
+     * @param deadline the deadline of the request
+     * @return map of references and the values read from the asset connection; references without value provider or
+     *         without value are not contained
+     * @throws AssetConnectionException if reading any of the values fails or the deadline expires
+     */
+    public Map<Reference, DataElementValue> readValues(Collection<Reference> references, RequestDeadline deadline) throws AssetConnectionException {
+        Map<Reference, DataElementValue> result = new ConcurrentHashMap<>();
+        if (Objects.isNull(references)) {
+            return result;
+        }
+        List<Reference> readableReferences = references.stream()
+                .filter(this::hasValueProvider)
+                .collect(Collectors.toList());
+        if (readableReferences.size() <= 1 || coreConfig.getAssetSyncParallelism() <= 1) {
+            for (Reference reference: readableReferences) {
+                readValue(reference, deadline).ifPresent(x -> result.put(reference, x));
+            }
+            return result;
+        }
+        Semaphore requestPermits = new Semaphore(coreConfig.getAssetSyncParallelism());
+        List<Future<?>> tasks = new ArrayList<>(readableReferences.size());
+        try {
+            for (Reference reference: readableReferences) {
+                if (deadline.isExpired() || !acquire(requestPermits, deadline)) {
+                    throw new TimeoutException();
+                }
+                try {
+                    tasks.add(readExecutorService.submit(() -> {
+                        try {
+                            readValueWithConnectionPermit(reference).ifPresent(x -> result.put(reference, x));
+                            return null;
+                        }
+                        finally {
+                            requestPermits.release();
+                        }
+                    }));
+                }
+                catch (RejectedExecutionException e) {
+                    requestPermits.release();
+                    throw new AssetConnectionException("reading values from asset connection failed (reason: asset connection manager stopped)", e);
+                }
+            }
+            for (Future<?> task: tasks) {
+                deadline.await(task);
+            }
+        }
+        catch (TimeoutException | CancellationException e) {
+            tasks.forEach(x -> x.cancel(true));
+            deadline.markAborted();
+            throw new AssetConnectionException(
+                    String.format("reading values from asset connection aborted (reason: %s)",
+                            deadline.isCancelled() ? "request cancelled" : "request deadline exceeded"),
+                    e);
+        }
+        catch (InterruptedException e) {
+            tasks.forEach(x -> x.cancel(true));
+            Thread.currentThread().interrupt();
+            throw new AssetConnectionException("interrupted while reading values from asset connection", e);
+        }
+        catch (ExecutionException e) {
+            tasks.forEach(x -> x.cancel(true));
+            if (e.getCause() instanceof AssetConnectionException) {
+                throw (AssetConnectionException) e.getCause();
+            }
+            throw new AssetConnectionException("reading values from asset connection failed", e.getCause());
+        }
+        return result;
+    }
+
+
+    /**
+     * Reads the values of multiple elements from their asset connections and reports the outcome per element instead of
+     * failing as a whole. Elements are grouped by the asset connection serving them. Asset connections implementing
+     * {@link AssetValueBatchReader} read all values of their group with a single call, values of all other asset
+     * connections are read concurrently as in {@link #readValues(Collection, RequestDeadline)}. Elements without value
+     * provider are ignored. When the deadline expires, all pending reads are cancelled and reported as failed.
+     *
+     * @param references references to the elements to read the values for
+     * @param deadline the deadline of the request
+     * @return map of references and the outcome of reading their values; references without value provider are not
+     *         contained
+     */
+    public Map<Reference, ValueReadResult> readValuesPerElement(Collection<Reference> references, RequestDeadline deadline) {
+        Map<Reference, ValueReadResult> result = new ConcurrentHashMap<>();
+        if (Objects.isNull(references)) {
+            return result;
+        }
+        Map<Object, List<Reference>> groups = new IdentityHashMap<>();
+        for (Reference reference: references) {
+            if (hasValueProvider(reference)) {
+                groups.computeIfAbsent(findValueProviderOwner(reference), x -> new ArrayList<>()).add(reference);
+            }
+        }
+        List<Callable<Void>> reads = new ArrayList<>();
+        for (var group: groups.entrySet()) {
+            if (group.getKey() instanceof AssetValueBatchReader && group.getValue().size() > 1) {
+                reads.add(() -> {
+                    readValuesBatched((AssetValueBatchReader) group.getKey(), group.getValue(), result);
+                    return null;
+                });
+            }
+            else {
+                for (Reference reference: group.getValue()) {
+                    reads.add(() -> {
+                        result.put(reference, readValuePerElement(reference));
+                        return null;
+                    });
+                }
+            }
+        }
+        AssetConnectionException failure = executeConcurrently(reads, deadline, "reading values from asset connection");
+        if (Objects.nonNull(failure)) {
+            for (List<Reference> group: groups.values()) {
+                for (Reference reference: group) {
+                    result.putIfAbsent(reference, ValueReadResult.failure(failure));
+                }
+            }
+        }
+        return result;
+    }
+
+
+    /**
+     * Writes the values of multiple elements to their asset connections and reports failures per element instead of
+     * failing as a whole. Elements are grouped by the asset connection serving them. Asset connections implementing
+     * {@link AssetValueBatchWriter} write all values of their group with a single call, values of all other asset
+     * connections are written concurrently. Elements without value provider or with values that are not data element
+     * values are ignored. When the deadline expires, all pending writes are cancelled and reported as failed.
+     *
+     * @param values map of references to the elements and the values to write
+     * @param deadline the deadline of the request
+     * @return map of references and the reason why writing the value failed; references written successfully are not
+     *         contained
+     */
+    public Map<Reference, AssetConnectionException> setValues(Map<Reference, ElementValue> values, RequestDeadline deadline) {
+        Map<Reference, AssetConnectionException> result = new ConcurrentHashMap<>();
+        if (Objects.isNull(values)) {
+            return result;
+        }
+        Map<Object, Map<Reference, DataElementValue>> groups = new IdentityHashMap<>();
+        for (var entry: values.entrySet()) {
+            if (hasValueProvider(entry.getKey()) && ElementValueHelper.isValidDataElementValue(entry.getValue())) {
+                groups.computeIfAbsent(findValueProviderOwner(entry.getKey()), x -> new LinkedHashMap<>())
+                        .put(entry.getKey(), (DataElementValue) entry.getValue());
+            }
+        }
+        Set<Reference> done = ConcurrentHashMap.newKeySet();
+        List<Callable<Void>> writes = new ArrayList<>();
+        for (var group: groups.entrySet()) {
+            if (group.getKey() instanceof AssetValueBatchWriter && group.getValue().size() > 1) {
+                writes.add(() -> {
+                    writeValuesBatched((AssetValueBatchWriter) group.getKey(), group.getValue(), result);
+                    done.addAll(group.getValue().keySet());
+                    return null;
+                });
+            }
+            else {
+                for (var entry: group.getValue().entrySet()) {
+                    writes.add(() -> {
+                        writeValuePerElement(entry.getKey(), entry.getValue()).ifPresent(x -> result.put(entry.getKey(), x));
+                        done.add(entry.getKey());
+                        return null;
+                    });
+                }
+            }
+        }
+        AssetConnectionException failure = executeConcurrently(writes, deadline, "writing values to asset connection");
+        if (Objects.nonNull(failure)) {
+            for (Map<Reference, DataElementValue> group: groups.values()) {
+                for (Reference reference: group.keySet()) {
+                    if (!done.contains(reference)) {
+                        result.putIfAbsent(reference, failure);
+                    }
+                }
+            }
+        }
+        return result;
+    }
+
+
+    /**
+     * Executes actions accessing asset connections concurrently, limited by
+     * {@link CoreConfig#getAssetSyncParallelism()}. Actions are expected to handle errors themselves.
+     *
+     * @return null if all actions have been executed, otherwise the reason why execution has been aborted
+     */
+    private AssetConnectionException executeConcurrently(List<Callable<Void>> actions, RequestDeadline deadline, String description) {
+        if (!deadline.canExpire() && (actions.size() <= 1 || coreConfig.getAssetSyncParallelism() <= 1)) {
+            for (Callable<Void> action: actions) {
+                try {
+                    action.call();
+                }
+                catch (Exception e) {
+                    LOGGER.debug("{} failed", description, e);
+                }
+            }
+            return null;
+        }
+        Semaphore requestPermits = new Semaphore(Math.max(1, coreConfig.getAssetSyncParallelism()));
+        List<Future<?>> tasks = new ArrayList<>(actions.size());
+        AssetConnectionException failure = null;
+        try {
+            for (Callable<Void> action: actions) {
+                if (deadline.isExpired() || !acquire(requestPermits, deadline)) {
+                    throw new TimeoutException();
+                }
+                tasks.add(readExecutorService.submit(() -> {
+                    try {
+                        return action.call();
+                    }
+                    finally {
+                        requestPermits.release();
+                    }
+                }));
+            }
+            for (Future<?> task: tasks) {
+                deadline.await(task);
+            }
+        }
+        catch (TimeoutException | CancellationException e) {
+            deadline.markAborted();
+            failure = new AssetConnectionException(
+                    String.format("%s aborted (reason: %s)",
+                            description,
+                            deadline.isCancelled() ? "request cancelled" : "request deadline exceeded"),
+                    e);
+        }
+        catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            failure = new AssetConnectionException(String.format("interrupted while %s", description), e);
+        }
+        catch (RejectedExecutionException e) {
+            failure = new AssetConnectionException(String.format("%s failed (reason: asset connection manager stopped)", description), e);
+        }
+        catch (ExecutionException e) {
+            failure = new AssetConnectionException(String.format("%s failed", description), e.getCause());
+        }
+        if (Objects.nonNull(failure)) {
+            tasks.forEach(x -> x.cancel(true));
+        }
+        return failure;
+    }
+
+
+    private ValueReadResult readValuePerElement(Reference reference) throws InterruptedException {
+        try {
+            return ValueReadResult.success(readValueWithConnectionPermit(reference).orElse(null));
+        }
+        catch (AssetConnectionException e) {
+            return ValueReadResult.failure(e);
+        }
+        catch (RuntimeException e) {
+            return ValueReadResult.failure(new AssetConnectionException("reading value from asset connection failed", e));
+        }
+    }
+
+
+    private void readValuesBatched(AssetValueBatchReader reader, List<Reference> references, Map<Reference, ValueReadResult> result) throws InterruptedException {
+        Map<Reference, DataElementValue> cached = valueCache.getAllPresent(references);
+        cached.forEach((reference, value) -> result.put(reference, ValueReadResult.success(value)));
+        List<Reference> pending = references.stream()
+                .filter(x -> !cached.containsKey(x))
+                .collect(Collectors.toList());
+        if (pending.isEmpty()) {
+            return;
+        }
+        Semaphore permits = connectionPermits.computeIfAbsent(
+                reader,
+                x -> new Semaphore(Math.max(1, coreConfig.getAssetConnectionParallelism())));
+        permits.acquire();
+        try {
+            Map<Reference, DataElementValue> values = reader.readValues(pending);
+            for (Reference reference: pending) {
+                DataElementValue value = Objects.nonNull(values) ? values.get(reference) : null;
+                valueCache.put(reference, value);
+                result.put(reference, ValueReadResult.success(value));
+            }
+        }
+        catch (AssetConnectionException e) {
+            pending.forEach(x -> result.put(x, ValueReadResult.failure(e)));
+        }
+        catch (RuntimeException e) {
+            AssetConnectionException failure = new AssetConnectionException("reading values from asset connection failed", e);
+            pending.forEach(x -> result.put(x, ValueReadResult.failure(failure)));
+        }
+        finally {
+            permits.release();
+        }
+    }
+
+
+    private Optional<AssetConnectionException> writeValuePerElement(Reference reference, DataElementValue value) throws InterruptedException {
+        Semaphore permits = connectionPermits.computeIfAbsent(
+                findValueProviderOwner(reference),
+                x -> new Semaphore(Math.max(1, coreConfig.getAssetConnectionParallelism())));
+        permits.acquire();
+        try {
+            setValue(reference, value);
+            return Optional.empty();
+        }
+        catch (AssetConnectionException e) {
+            return Optional.of(e);
+        }
+        catch (RuntimeException e) {
+            return Optional.of(new AssetConnectionException("writing value to asset connection failed", e));
+        }
+        finally {
+            permits.release();
+        }
+    }
+
+
+    private void writeValuesBatched(AssetValueBatchWriter writer, Map<Reference, DataElementValue> values, Map<Reference, AssetConnectionException> result)
+            throws InterruptedException {
+        Semaphore permits = connectionPermits.computeIfAbsent(
+                writer,
+                x -> new Semaphore(Math.max(1, coreConfig.getAssetConnectionParallelism())));
+        permits.acquire();
+        try {
+            writer.writeValues(values);
+        }
+        catch (AssetConnectionException e) {
+            values.keySet().forEach(x -> result.put(x, e));
+        }
+        catch (RuntimeException e) {
+            AssetConnectionException failure = new AssetConnectionException("writing values to asset connection failed", e);
+            values.keySet().forEach(x -> result.put(x, failure));
+        }
+        finally {
+            values.keySet().forEach(valueCache::invalidate);
+            permits.release();
+        }
+    }
+
+
+    private static boolean acquire(Semaphore semaphore, RequestDeadline deadline) throws InterruptedException {
+        if (!deadline.hasTimeLimit()) {
+            semaphore.acquire();
+            return true;
+        }
+        return semaphore.tryAcquire(deadline.getRemaining(TimeUnit.NANOSECONDS), TimeUnit.NANOSECONDS);
+    }
+
+
+    private Optional<DataElementValue> readValueWithConnectionPermit(Reference reference) throws AssetConnectionException, InterruptedException {
+        Semaphore permits = connectionPermits.computeIfAbsent(
+                findValueProviderOwner(reference),
+                x -> new Semaphore(Math.max(1, coreConfig.getAssetConnectionParallelism())));
+        permits.acquire();
+        try {
+            return readValue(reference);
+        }
+        finally {
+            permits.release();
+        }
+    }
+
+
+    private Object findValueProviderOwner(Reference reference) {
+        if (lambdaAssetConnection.hasValueProvider(reference)) {
+            return lambdaAssetConnection;
+        }
+        return findValueProvider(reference)
+                .map(x -> (Object) x.connection)
+                .orElse(lambdaAssetConnection);
+    }
+
+
+    /**
+     * Finds the connection providing the value of an element using an index of all value providers. The index is built
+     * on first use and rebuilt whenever it is found to be outdated, i.e., when connections have been added or
+     * (re-)connected, a provider found via the index has been unregistered in the meantime, or no provider is found and
+     * the number of registered providers has changed since the index has been built, e.g. because an asset connection
+     * has registered its providers when reconnecting on its own.
+     *
+     * @param reference the reference to the element
+     * @return the connection and the reference the value provider is registered with, or empty if there is none
+     */
+    private Optional<ValueProviderOwner> findValueProvider(Reference reference) {
+        String key = ReferenceHelper.toString(reference);
+        ValueProviderIndex index = valueProviderIndex;
+        if (Objects.isNull(index)) {
+            index = rebuildValueProviderIndex();
+        }
+        ValueProviderOwner result = index.owners.get(key);
+        if ((Objects.nonNull(result) && !result.isValid())
+                || (Objects.isNull(result) && index.providerCount != countValueProviders())) {
+            result = rebuildValueProviderIndex().owners.get(key);
+        }
+        return Optional.ofNullable(result);
+    }
+
+
+    private int countValueProviders() {
+        int result = 0;
+        for (AssetConnection connection: List.copyOf(connections)) {
+            result += connection.getValueProviders().size();
+        }
+        return result;
+    }
+
+
+    private synchronized ValueProviderIndex rebuildValueProviderIndex() {
+        Map<String, ValueProviderOwner> owners = new HashMap<>();
+        int providerCount = 0;
+        for (AssetConnection connection: List.copyOf(connections)) {
+            Set<Reference> references = Set.copyOf(((Map<Reference, AssetValueProvider>) connection.getValueProviders()).keySet());
+            providerCount += references.size();
+            for (Reference reference: references) {
+                owners.putIfAbsent(ReferenceHelper.toString(reference), new ValueProviderOwner(connection, reference));
+            }
+        }
+        // drop permits of connections that have been replaced or no longer provide any values
+        Set<Object> connectionsInUse = Collections.newSetFromMap(new IdentityHashMap<>());
+        connectionsInUse.add(lambdaAssetConnection);
+        owners.values().forEach(x -> connectionsInUse.add(x.connection));
+        synchronized (connectionPermits) {
+            connectionPermits.keySet().removeIf(x -> !connectionsInUse.contains(x));
+        }
+        ValueProviderIndex result = new ValueProviderIndex(owners, providerCount);
+        valueProviderIndex = result;
+        return result;
+    }
+
+
     /**
      * Returns whether there is a operation provider defined for the provided
      * AAS element or not.
@@ -504,4 +1112,74 @@ public class AssetConnectionManager {
                     ReferenceHelper.toString(subscriptionProviders.get().getKey())));
         }
     }
+
+
+    /**
+     * Outcome of reading the value of a single element as part of
+     * {@link AssetConnectionManager#readValuesPerElement(Collection, RequestDeadline)}.
+     */
+    public static class ValueReadResult {
+
+        private final DataElementValue value;
+        private final AssetConnectionException error;
+
+        private ValueReadResult(DataElementValue value, AssetConnectionException error) {
+            this.value = value;
+            this.error = error;
+        }
+
+
+        static ValueReadResult success(DataElementValue value) {
+            return new ValueReadResult(value, null);
+        }
+
+
+        static ValueReadResult failure(AssetConnectionException error) {
+            return new ValueReadResult(null, error);
+        }
+
+
+        public boolean isSuccess() {
+            return Objects.isNull(error);
+        }
+
+
+        public Optional<DataElementValue> getValue() {
+            return Optional.ofNullable(value);
+        }
+
+
+        public AssetConnectionException getError() {
+            return error;
+        }
+    }
+
+
+    private static class ValueProviderIndex {
+
+        private final Map<String, ValueProviderOwner> owners;
+        private final int providerCount;
+
+        private ValueProviderIndex(Map<String, ValueProviderOwner> owners, int providerCount) {
+            this.owners = owners;
+            this.providerCount = providerCount;
+        }
+    }
+
+
+    private static class ValueProviderOwner {
+
+        private final AssetConnection connection;
+        private final Reference reference;
+
+        private ValueProviderOwner(AssetConnection connection, Reference reference) {
+            this.connection = connection;
+            this.reference = reference;
+        }
+
+
+        private boolean isValid() {
+            return connection.getValueProviders().containsKey(reference);
+        }
+    }
 }
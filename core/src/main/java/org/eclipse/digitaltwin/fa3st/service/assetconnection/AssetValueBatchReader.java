@@ -0,0 +1,40 @@
+/**
+ * Copyright (c) 2025 the Eclipse FA³ST Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.eclipse.digitaltwin.fa3st.service.assetconnection;
+
+import java.util.Collection;
+import java.util.Map;
+import org.eclipse.digitaltwin.aas4j.v3.model.Reference;
+import org.eclipse.digitaltwin.fa3st.common.exception.AssetConnectionException;
+import org.eclipse.digitaltwin.fa3st.common.model.value.DataElementValue;
+
+
+/**
+ * Optional interface for asset connections that can read the values of multiple elements with a single request to the
+ * asset, e.g. one OPC UA read request for multiple nodes. When values of multiple elements served by the same asset
+ * connection are read at once, the {@link AssetConnectionManager} passes all of them to the asset connection in a single
+ * call instead of reading them one by one via the value providers.
+ */
+public interface AssetValueBatchReader {
+
+    /**
+     * Reads the values of multiple elements.
+     *
+     * @param references references to the elements to read the values for; all of them are served by value providers
+     *            of this asset connection
+     * @return map of references and the values read; references without value are not contained
+     * @throws AssetConnectionException if reading the values fails
+     */
+    public Map<Reference, DataElementValue> readValues(Collection<Reference> references) throws AssetConnectionException;
+}
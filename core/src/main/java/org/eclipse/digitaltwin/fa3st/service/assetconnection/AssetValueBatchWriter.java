@@ -0,0 +1,38 @@
+/**
+ * Copyright (c) 2025 the Eclipse FA³ST Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.eclipse.digitaltwin.fa3st.service.assetconnection;
+
+import java.util.Map;
+import org.eclipse.digitaltwin.aas4j.v3.model.Reference;
+import org.eclipse.digitaltwin.fa3st.common.exception.AssetConnectionException;
+import org.eclipse.digitaltwin.fa3st.common.model.value.DataElementValue;
+
+
+/**
+ * Optional interface for asset connections that can write the values of multiple elements with a single request to the
+ * asset, e.g. one OPC UA write request for multiple nodes. When values of multiple elements served by the same asset
+ * connection are written at once, the {@link AssetConnectionManager} passes all of them to the asset connection in a
+ * single call instead of writing them one by one via the value providers.
+ */
+public interface AssetValueBatchWriter {
+
+    /**
+     * Writes the values of multiple elements.
+     *
+     * @param values map of references to the elements and the values to write; all of them are served by value
+     *            providers of this asset connection
+     * @throws AssetConnectionException if writing the values fails
+     */
+    public void writeValues(Map<Reference, DataElementValue> values) throws AssetConnectionException;
+}
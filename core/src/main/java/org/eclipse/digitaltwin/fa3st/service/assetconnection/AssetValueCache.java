@@ -0,0 +1,264 @@
+/**
+ * Copyright (c) 2025 the Eclipse FA³ST Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.eclipse.digitaltwin.fa3st.service.assetconnection;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import org.eclipse.digitaltwin.aas4j.v3.model.Reference;
+import org.eclipse.digitaltwin.fa3st.common.exception.AssetConnectionException;
+import org.eclipse.digitaltwin.fa3st.common.model.value.DataElementValue;
+import org.eclipse.digitaltwin.fa3st.common.util.ReferenceHelper;
+
+
+/**
+ * Caches values read from asset connections for a limited time. Concurrent reads of the same element that miss the
+ * cache are merged into a single read from the asset connection. A read that is still in progress when the element is
+ * updated or invalidated does not store its result in the cache. If the maximum age is not positive, caching is
+ * disabled and every read is passed to the asset connection.
+ */
+public class AssetValueCache {
+
+    private final long maxAgeInNanos;
+    private final Map<String, CacheEntry> entries;
+    private final Map<String, CompletableFuture<Optional<DataElementValue>>> pendingReads;
+
+    /**
+     * Creates a new instance.
+     *
+     * @param maxAge the maximum age of cached values in milliseconds
+     */
+    public AssetValueCache(long maxAge) {
+        this.maxAgeInNanos = TimeUnit.MILLISECONDS.toNanos(Math.max(0, maxAge));
+        this.entries = new ConcurrentHashMap<>();
+        this.pendingReads = new ConcurrentHashMap<>();
+    }
+
+
+    /**
+     * Returns whether caching is enabled.
+     *
+     * @return true if caching is enabled, otherwise false
+     */
+    public boolean isEnabled() {
+        return maxAgeInNanos > 0;
+    }
+
+
+    /**
+     * Gets the value of an element from the cache if it is fresh enough, otherwise reads it using the provided loader
+     * and caches the result.
+     *
+     * @param reference the reference to the element
+     * @param loader the loader to read the value from the asset connection
+     * @return the value of the element
+     * @throws AssetConnectionException if reading the value from the asset connection fails
+     */
+    public Optional<DataElementValue> get(Reference reference, ValueLoader loader) throws AssetConnectionException {
+        if (!isEnabled()) {
+            return loader.load();
+        }
+        return await(getAsync(reference, loader, Runnable::run));
+    }
+
+
+    /**
+     * Gets the value of an element from the cache if it is fresh enough, otherwise reads it asynchronously using the
+     * provided loader and caches the result. Concurrent calls for the same element share a single read. Each caller
+     * receives its own future, i.e. cancelling the returned future does not abort the shared read.
+     *
+     * @param reference the reference to the element
+     * @param loader the loader to read the value from the asset connection
+     * @param executor the executor to run the loader on
+     * @return a future of the value of the element
+     */
+    public CompletableFuture<Optional<DataElementValue>> getAsync(Reference reference, ValueLoader loader, Executor executor) {
+        CompletableFuture<Optional<DataElementValue>> pendingRead = new CompletableFuture<>();
+        if (!isEnabled()) {
+            execute(executor, () -> load(null, loader, pendingRead), pendingRead);
+            return pendingRead;
+        }
+        String key = ReferenceHelper.toString(reference);
+        CacheEntry entry = entries.get(key);
+        if (Objects.nonNull(entry) && entry.isFresh()) {
+            return CompletableFuture.completedFuture(Optional.ofNullable(entry.value));
+        }
+        CompletableFuture<Optional<DataElementValue>> existingRead = pendingReads.putIfAbsent(key, pendingRead);
+        if (Objects.nonNull(existingRead)) {
+            return existingRead.copy();
+        }
+        execute(executor, () -> load(key, loader, pendingRead), pendingRead);
+        return pendingRead.copy();
+    }
+
+
+    /**
+     * Gets the cached values of multiple elements without accessing the asset connection. Only values that are fresh
+     * enough are returned.
+     *
+     * @param references the references to the elements
+     * @return map of references and their cached values; references without fresh cached value are not contained
+     */
+    public Map<Reference, DataElementValue> getAllPresent(Collection<Reference> references) {
+        Map<Reference, DataElementValue> result = new HashMap<>();
+        if (!isEnabled() || Objects.isNull(references)) {
+            return result;
+        }
+        for (Reference reference: references) {
+            CacheEntry entry = entries.get(ReferenceHelper.toString(reference));
+            if (Objects.nonNull(entry) && entry.isFresh() && Objects.nonNull(entry.value)) {
+                result.put(reference, entry.value);
+            }
+        }
+        return result;
+    }
+
+
+    /**
+     * Updates the cached value of an element, e.g. when a new value has been received via a subscription.
+     *
+     * @param reference the reference to the element
+     * @param value the new value
+     */
+    public void put(Reference reference, DataElementValue value) {
+        if (isEnabled()) {
+            String key = ReferenceHelper.toString(reference);
+            synchronized (pendingReads) {
+                pendingReads.remove(key);
+                entries.put(key, new CacheEntry(value));
+            }
+        }
+    }
+
+
+    /**
+     * Removes the cached value of an element, e.g. after a new value has been written to the asset.
+     *
+     * @param reference the reference to the element
+     */
+    public void invalidate(Reference reference) {
+        if (isEnabled()) {
+            String key = ReferenceHelper.toString(reference);
+            synchronized (pendingReads) {
+                pendingReads.remove(key);
+                entries.remove(key);
+            }
+        }
+    }
+
+
+    /**
+     * Removes all cached values.
+     */
+    public void clear() {
+        synchronized (pendingReads) {
+            pendingReads.clear();
+            entries.clear();
+        }
+    }
+
+
+    private void load(String key, ValueLoader loader, CompletableFuture<Optional<DataElementValue>> pendingRead) {
+        Optional<DataElementValue> result;
+        try {
+            result = loader.load();
+        }
+        catch (AssetConnectionException | RuntimeException e) {
+            if (Objects.nonNull(key)) {
+                pendingReads.remove(key, pendingRead);
+            }
+            pendingRead.completeExceptionally(e);
+            return;
+        }
+        if (Objects.nonNull(key)) {
+            // only store the result if the element has not been updated or invalidated while reading
+            synchronized (pendingReads) {
+                if (pendingReads.remove(key, pendingRead)) {
+                    entries.put(key, new CacheEntry(result.orElse(null)));
+                }
+            }
+        }
+        pendingRead.complete(result);
+    }
+
+
+    private void execute(Executor executor, Runnable read, CompletableFuture<Optional<DataElementValue>> pendingRead) {
+        try {
+            executor.execute(read);
+        }
+        catch (RejectedExecutionException e) {
+            pendingReads.values().remove(pendingRead);
+            pendingRead.completeExceptionally(new AssetConnectionException("reading value from asset connection failed (reason: executor rejected read)", e));
+        }
+    }
+
+
+    private static Optional<DataElementValue> await(CompletableFuture<Optional<DataElementValue>> read) throws AssetConnectionException {
+        try {
+            return read.get();
+        }
+        catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new AssetConnectionException("interrupted while waiting for value from asset connection", e);
+        }
+        catch (ExecutionException e) {
+            if (e.getCause() instanceof AssetConnectionException) {
+                throw (AssetConnectionException) e.getCause();
+            }
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw new AssetConnectionException("reading value from asset connection failed", e.getCause());
+        }
+    }
+
+    /**
+     * Reads a value from an asset connection.
+     */
+    @FunctionalInterface
+    public interface ValueLoader {
+
+        /**
+         * Reads the value.
+         *
+         * @return the value read
+         * @throws AssetConnectionException if reading the value fails
+         */
+        public Optional<DataElementValue> load() throws AssetConnectionException;
+    }
+
+    private class CacheEntry {
+
+        private final DataElementValue value;
+        private final long timestamp;
+
+        private CacheEntry(DataElementValue value) {
+            this.value = value;
+            this.timestamp = System.nanoTime();
+        }
+
+
+        private boolean isFresh() {
+            return System.nanoTime() - timestamp <= maxAgeInNanos;
+        }
+    }
+}
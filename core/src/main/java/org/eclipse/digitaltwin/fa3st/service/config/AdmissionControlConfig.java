@@ -0,0 +1,237 @@
+/**
+ * Copyright (c) 2025 the Eclipse FA³ST Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.eclipse.digitaltwin.fa3st.service.config;
+
+import java.util.Objects;
+import org.eclipse.digitaltwin.aas4j.v3.model.builder.ExtendableBuilder;
+
+
+/**
+ * Configuration of the admission control that limits the number of requests executed concurrently per request category.
+ * Limits less or equal zero mean unlimited.
+ */
+public class AdmissionControlConfig {
+
+    private static final boolean DEFAULT_ENABLED = false;
+    private static final boolean DEFAULT_ADAPTIVE = false;
+    private static final int DEFAULT_MAX_CONCURRENT_READS = 256;
+    private static final int DEFAULT_MAX_CONCURRENT_WRITES = 64;
+    private static final int DEFAULT_MAX_CONCURRENT_OPERATIONS = 32;
+    private static final int DEFAULT_MAX_CONCURRENT_SERIALIZATIONS = 2;
+    private static final long DEFAULT_TARGET_LATENCY = 1000;
+    private static final long DEFAULT_RETRY_AFTER = 1;
+
+    private boolean enabled;
+    private boolean adaptive;
+    private int maxConcurrentReads;
+    private int maxConcurrentWrites;
+    private int maxConcurrentOperations;
+    private int maxConcurrentSerializations;
+    private long targetLatency;
+    private long retryAfter;
+
+    public AdmissionControlConfig() {
+        this.enabled = DEFAULT_ENABLED;
+        this.adaptive = DEFAULT_ADAPTIVE;
+        this.maxConcurrentReads = DEFAULT_MAX_CONCURRENT_READS;
+        this.maxConcurrentWrites = DEFAULT_MAX_CONCURRENT_WRITES;
+        this.maxConcurrentOperations = DEFAULT_MAX_CONCURRENT_OPERATIONS;
+        this.maxConcurrentSerializations = DEFAULT_MAX_CONCURRENT_SERIALIZATIONS;
+        this.targetLatency = DEFAULT_TARGET_LATENCY;
+        this.retryAfter = DEFAULT_RETRY_AFTER;
+    }
+
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+
+    public boolean isAdaptive() {
+        return adaptive;
+    }
+
+
+    public void setAdaptive(boolean adaptive) {
+        this.adaptive = adaptive;
+    }
+
+
+    public int getMaxConcurrentReads() {
+        return maxConcurrentReads;
+    }
+
+
+    public void setMaxConcurrentReads(int maxConcurrentReads) {
+        this.maxConcurrentReads = maxConcurrentReads;
+    }
+
+
+    public int getMaxConcurrentWrites() {
+        return maxConcurrentWrites;
+    }
+
+
+    public void setMaxConcurrentWrites(int maxConcurrentWrites) {
+        this.maxConcurrentWrites = maxConcurrentWrites;
+    }
+
+
+    public int getMaxConcurrentOperations() {
+        return maxConcurrentOperations;
+    }
+
+
+    public void setMaxConcurrentOperations(int maxConcurrentOperations) {
+        this.maxConcurrentOperations = maxConcurrentOperations;
+    }
+
+
+    public int getMaxConcurrentSerializations() {
+        return maxConcurrentSerializations;
+    }
+
+
+    public void setMaxConcurrentSerializations(int maxConcurrentSerializations) {
+        this.maxConcurrentSerializations = maxConcurrentSerializations;
+    }
+
+
+    public long getTargetLatency() {
+        return targetLatency;
+    }
+
+
+    public void setTargetLatency(long targetLatency) {
+        this.targetLatency = targetLatency;
+    }
+
+
+    public long getRetryAfter() {
+        return retryAfter;
+    }
+
+
+    public void setRetryAfter(long retryAfter) {
+        this.retryAfter = retryAfter;
+    }
+
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(enabled,
+                adaptive,
+                maxConcurrentReads,
+                maxConcurrentWrites,
+                maxConcurrentOperations,
+                maxConcurrentSerializations,
+                targetLatency,
+                retryAfter);
+    }
+
+
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        if (obj == null) {
+            return false;
+        }
+        if (getClass() != obj.getClass()) {
+            return false;
+        }
+        final AdmissionControlConfig other = (AdmissionControlConfig) obj;
+        return Objects.equals(this.enabled, other.enabled)
+                && Objects.equals(this.adaptive, other.adaptive)
+                && Objects.equals(this.maxConcurrentReads, other.maxConcurrentReads)
+                && Objects.equals(this.maxConcurrentWrites, other.maxConcurrentWrites)
+                && Objects.equals(this.maxConcurrentOperations, other.maxConcurrentOperations)
+                && Objects.equals(this.maxConcurrentSerializations, other.maxConcurrentSerializations)
+                && Objects.equals(this.targetLatency, other.targetLatency)
+                && Objects.equals(this.retryAfter, other.retryAfter);
+    }
+
+    public static class Builder extends ExtendableBuilder<AdmissionControlConfig, Builder> {
+
+        public Builder enabled(boolean value) {
+            getBuildingInstance().setEnabled(value);
+            return getSelf();
+        }
+
+
+        public Builder adaptive(boolean value) {
+            getBuildingInstance().setAdaptive(value);
+            return getSelf();
+        }
+
+
+        public Builder maxConcurrentReads(int value) {
+            getBuildingInstance().setMaxConcurrentReads(value);
+            return getSelf();
+        }
+
+
+        public Builder maxConcurrentWrites(int value) {
+            getBuildingInstance().setMaxConcurrentWrites(value);
+            return getSelf();
+        }
+
+
+        public Builder maxConcurrentOperations(int value) {
+            getBuildingInstance().setMaxConcurrentOperations(value);
+            return getSelf();
+        }
+
+
+        public Builder maxConcurrentSerializations(int value) {
+            getBuildingInstance().setMaxConcurrentSerializations(value);
+            return getSelf();
+        }
+
+
+        public Builder targetLatency(long value) {
+            getBuildingInstance().setTargetLatency(value);
+            return getSelf();
+        }
+
+
+        public Builder retryAfter(long value) {
+            getBuildingInstance().setRetryAfter(value);
+            return getSelf();
+        }
+
+
+        @Override
+        protected Builder getSelf() {
+            return this;
+        }
+
+
+        @Override
+        protected AdmissionControlConfig newBuildingInstance() {
+            return new AdmissionControlConfig();
+        }
+    }
+}
@@ -29,10 +29,19 @@ public class CoreConfig {
     public static final CoreConfig DEFAULT = builder().build();
 
     private static final long DEFAULT_ASSET_CONNECTION_RETRY_INTERVAL = 1000;
+    private static final int DEFAULT_ASSET_CONNECTION_PARALLELISM = 4;
+    private static final int DEFAULT_ASSET_SYNC_PARALLELISM = 8;
+    private static final long DEFAULT_ASSET_VALUE_CACHE_MAX_AGE = 0;
     private static final int DEFAULT_REQUEST_HANDLER_THREADPOOL_SIZE = 1;
+    private static final boolean DEFAULT_REQUEST_HANDLER_VIRTUAL_THREADS = true;
 
+    private AdmissionControlConfig admissionControl;
     private long assetConnectionRetryInterval;
+    private int assetConnectionParallelism;
+    private int assetSyncParallelism;
+    private long assetValueCacheMaxAge;
     private int requestHandlerThreadPoolSize;
+    private boolean requestHandlerVirtualThreads;
     private ModelValidatorConfig validationOnLoad;
     private ModelValidatorConfig validationOnCreate;
     private ModelValidatorConfig validationOnUpdate;
@@ -40,8 +49,13 @@ public class CoreConfig {
     private List<String> submodelRegistries;
 
     public CoreConfig() {
+        this.admissionControl = new AdmissionControlConfig();
         this.assetConnectionRetryInterval = DEFAULT_ASSET_CONNECTION_RETRY_INTERVAL;
+        this.assetConnectionParallelism = DEFAULT_ASSET_CONNECTION_PARALLELISM;
+        this.assetSyncParallelism = DEFAULT_ASSET_SYNC_PARALLELISM;
+        this.assetValueCacheMaxAge = DEFAULT_ASSET_VALUE_CACHE_MAX_AGE;
         this.requestHandlerThreadPoolSize = DEFAULT_REQUEST_HANDLER_THREADPOOL_SIZE;
+        this.requestHandlerVirtualThreads = DEFAULT_REQUEST_HANDLER_VIRTUAL_THREADS;
         this.validationOnLoad = ModelValidatorConfig.builder()
                 .validateConstraints(true)
                 .validateIdShortUniqueness(true)
@@ -67,6 +81,16 @@ public class CoreConfig {
     }
 
 
+    public AdmissionControlConfig getAdmissionControl() {
+        return admissionControl;
+    }
+
+
+    public void setAdmissionControl(AdmissionControlConfig admissionControl) {
+        this.admissionControl = admissionControl;
+    }
+
+
     public long getAssetConnectionRetryInterval() {
         return assetConnectionRetryInterval;
     }
@@ -77,6 +101,36 @@ public class CoreConfig {
     }
 
 
+    public int getAssetConnectionParallelism() {
+        return assetConnectionParallelism;
+    }
+
+
+    public void setAssetConnectionParallelism(int assetConnectionParallelism) {
+        this.assetConnectionParallelism = assetConnectionParallelism;
+    }
+
+
+    public int getAssetSyncParallelism() {
+        return assetSyncParallelism;
+    }
+
+
+    public void setAssetSyncParallelism(int assetSyncParallelism) {
+        this.assetSyncParallelism = assetSyncParallelism;
+    }
+
+
+    public long getAssetValueCacheMaxAge() {
+        return assetValueCacheMaxAge;
+    }
+
+
+    public void setAssetValueCacheMaxAge(long assetValueCacheMaxAge) {
+        this.assetValueCacheMaxAge = assetValueCacheMaxAge;
+    }
+
+
     public int getRequestHandlerThreadPoolSize() {
         return requestHandlerThreadPoolSize;
     }
@@ -117,6 +171,16 @@ public class CoreConfig {
     }
 
 
+    public boolean isRequestHandlerVirtualThreads() {
+        return requestHandlerVirtualThreads;
+    }
+
+
+    public void setRequestHandlerVirtualThreads(boolean requestHandlerVirtualThreads) {
+        this.requestHandlerVirtualThreads = requestHandlerVirtualThreads;
+    }
+
+
     public List<String> getAasRegistries() {
         return aasRegistries;
     }
@@ -139,8 +203,13 @@ public class CoreConfig {
 
     @Override
     public int hashCode() {
-        return Objects.hash(assetConnectionRetryInterval,
+        return Objects.hash(admissionControl,
+                assetConnectionRetryInterval,
+                assetConnectionParallelism,
+                assetSyncParallelism,
+                assetValueCacheMaxAge,
                 requestHandlerThreadPoolSize,
+                requestHandlerVirtualThreads,
                 validationOnLoad,
                 validationOnCreate,
                 validationOnUpdate,
@@ -161,8 +230,13 @@ public class CoreConfig {
             return false;
         }
         final CoreConfig other = (CoreConfig) obj;
-        return Objects.equals(this.assetConnectionRetryInterval, other.assetConnectionRetryInterval)
+        return Objects.equals(this.admissionControl, other.admissionControl)
+                && Objects.equals(this.assetConnectionRetryInterval, other.assetConnectionRetryInterval)
+                && Objects.equals(this.assetConnectionParallelism, other.assetConnectionParallelism)
+                && Objects.equals(this.assetSyncParallelism, other.assetSyncParallelism)
+                && Objects.equals(this.assetValueCacheMaxAge, other.assetValueCacheMaxAge)
                 && Objects.equals(this.requestHandlerThreadPoolSize, other.requestHandlerThreadPoolSize)
+                && Objects.equals(this.requestHandlerVirtualThreads, other.requestHandlerVirtualThreads)
                 && Objects.equals(this.validationOnLoad, other.validationOnLoad)
                 && Objects.equals(this.validationOnCreate, other.validationOnCreate)
                 && Objects.equals(this.validationOnUpdate, other.validationOnUpdate)
@@ -178,12 +252,42 @@ public class CoreConfig {
         }
 
 
+        public Builder requestHandlerVirtualThreads(boolean value) {
+            getBuildingInstance().setRequestHandlerVirtualThreads(value);
+            return getSelf();
+        }
+
+
+        public Builder admissionControl(AdmissionControlConfig value) {
+            getBuildingInstance().setAdmissionControl(value);
+            return getSelf();
+        }
+
+
         public Builder assetConnectionRetryInterval(long value) {
             getBuildingInstance().setAssetConnectionRetryInterval(value);
             return getSelf();
         }
 
 
+        public Builder assetConnectionParallelism(int value) {
+            getBuildingInstance().setAssetConnectionParallelism(value);
+            return getSelf();
+        }
+
+
+        public Builder assetSyncParallelism(int value) {
+            getBuildingInstance().setAssetSyncParallelism(value);
+            return getSelf();
+        }
+
+
+        public Builder assetValueCacheMaxAge(long value) {
+            getBuildingInstance().setAssetValueCacheMaxAge(value);
+            return getSelf();
+        }
+
+
         public Builder validationOnLoad(ModelValidatorConfig value) {
             getBuildingInstance().setValidationOnLoad(value);
             return getSelf();
@@ -13,6 +13,8 @@
  */
 package org.eclipse.digitaltwin.fa3st.service.filestorage;
 
+import java.time.Instant;
+import java.util.Optional;
 import org.eclipse.digitaltwin.fa3st.common.exception.PersistenceException;
 import org.eclipse.digitaltwin.fa3st.common.exception.ResourceNotFoundException;
 import org.eclipse.digitaltwin.fa3st.common.model.InMemoryFile;
@@ -47,6 +49,19 @@ public interface FileStorage<C extends FileStorageConfig> extends Configurable<C
     public boolean contains(String path) throws PersistenceException;
 
 
+    /**
+     * Gets the time the file under given path has last been modified. Storages that do not keep track of modification
+     * times return an empty optional.
+     *
+     * @param path the path to the file
+     * @return the time of the last modification or an empty optional if unknown or the path does not exist
+     * @throws PersistenceException if storage error occurs
+     */
+    public default Optional<Instant> getLastModified(String path) throws PersistenceException {
+        return Optional.empty();
+    }
+
+
     /**
      * Saves the file to given path.
      *
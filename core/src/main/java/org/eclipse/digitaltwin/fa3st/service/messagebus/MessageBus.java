@@ -13,6 +13,7 @@
  */
 package org.eclipse.digitaltwin.fa3st.service.messagebus;
 
+import java.util.Collection;
 import org.eclipse.digitaltwin.fa3st.common.exception.MessageBusException;
 import org.eclipse.digitaltwin.fa3st.common.model.messagebus.EventMessage;
 import org.eclipse.digitaltwin.fa3st.common.model.messagebus.SubscriptionId;
@@ -37,6 +38,19 @@ public interface MessageBus<T extends MessageBusConfig> extends Configurable<T>
     public void publish(EventMessage message) throws MessageBusException;
 
 
+    /**
+     * Publish multiple EventMessages to the message bus preserving their order.
+     *
+     * @param messages the messages to publish
+     * @throws org.eclipse.digitaltwin.fa3st.common.exception.MessageBusException if publish fails
+     */
+    public default void publishAll(Collection<? extends EventMessage> messages) throws MessageBusException {
+        for (EventMessage message: messages) {
+            publish(message);
+        }
+    }
+
+
     /**
      * Subscribe to event messages published in the message bus. The Subscription Info determines which event messages
      * are considered in detail.
@@ -13,6 +13,9 @@
  */
 package org.eclipse.digitaltwin.fa3st.service.persistence;
 
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
 import java.util.Objects;
 import org.eclipse.digitaltwin.aas4j.v3.model.AssetAdministrationShell;
 import org.eclipse.digitaltwin.aas4j.v3.model.ConceptDescription;
@@ -35,6 +38,7 @@ import org.eclipse.digitaltwin.fa3st.common.model.persistence.ConceptDescription
 import org.eclipse.digitaltwin.fa3st.common.model.persistence.SubmodelElementSearchCriteria;
 import org.eclipse.digitaltwin.fa3st.common.model.persistence.SubmodelSearchCriteria;
 import org.eclipse.digitaltwin.fa3st.common.util.Ensure;
+import org.eclipse.digitaltwin.fa3st.common.util.ReferenceBuilder;
 import org.eclipse.digitaltwin.fa3st.common.util.ReferenceHelper;
 import org.eclipse.digitaltwin.fa3st.service.config.Configurable;
 
@@ -468,6 +472,22 @@ public interface Persistence<C extends PersistenceConfig> extends Configurable<C
     }
 
 
+    /**
+     * Updates multiple {@code org.eclipse.digitaltwin.aas4j.v3.model.SubmodelElement}s at once. Implementations
+     * should override this method if they can commit multiple updates more efficiently than one by one.
+     *
+     * @param submodelElements map of references and the
+     *            {@code org.eclipse.digitaltwin.aas4j.v3.model.SubmodelElement}s to update
+     * @throws ResourceNotFoundException if any of the elements cannot be found
+     * @throws PersistenceException if there was an error with the storage.
+     */
+    public default void updateAll(Map<Reference, SubmodelElement> submodelElements) throws ResourceNotFoundException, PersistenceException {
+        for (var entry: submodelElements.entrySet()) {
+            update(entry.getKey(), entry.getValue());
+        }
+    }
+
+
     /**
      * Gets a {@code org.eclipse.digitaltwin.aas4j.v3.model.SubmodelElement} by idShort path.
      *
@@ -533,6 +553,35 @@ public interface Persistence<C extends PersistenceConfig> extends Configurable<C
     }
 
 
+    /**
+     * Gets multiple {@code org.eclipse.digitaltwin.aas4j.v3.model.SubmodelElement}s at once. Identifiers that cannot be
+     * resolved are not contained in the result. Implementations should override this method if they can look up
+     * multiple elements more efficiently than one by one, e.g. by resolving each submodel only once.
+     *
+     * @param identifiers the identifiers of the elements
+     * @param modifier the modifier
+     * @return map of identifiers and the corresponding
+     *         {@code org.eclipse.digitaltwin.aas4j.v3.model.SubmodelElement}s
+     * @throws PersistenceException if there was an error with the storage.
+     */
+    public default Map<SubmodelElementIdentifier, SubmodelElement> getSubmodelElements(Collection<SubmodelElementIdentifier> identifiers, QueryModifier modifier)
+            throws PersistenceException {
+        Map<SubmodelElementIdentifier, SubmodelElement> result = new LinkedHashMap<>();
+        if (Objects.isNull(identifiers)) {
+            return result;
+        }
+        for (SubmodelElementIdentifier identifier: identifiers) {
+            try {
+                result.put(identifier, getSubmodelElement(identifier, modifier));
+            }
+            catch (ResourceNotFoundException e) {
+                // not contained in result on purpose
+            }
+        }
+        return result;
+    }
+
+
     /**
      * Gets all children {@code org.eclipse.digitaltwin.aas4j.v3.model.SubmodelElement}s of a
      * {@code org.eclipse.digitaltwin.aas4j.v3.model.Submodel},
@@ -628,6 +677,24 @@ public interface Persistence<C extends PersistenceConfig> extends Configurable<C
     }
 
 
+    /**
+     * Checks if a given {@code org.eclipse.digitaltwin.aas4j.v3.model.AssetAdministrationShell} contains a reference to
+     * a given {@code org.eclipse.digitaltwin.aas4j.v3.model.Submodel}. Implementations should override this method if
+     * they can answer this without loading the whole AAS.
+     *
+     * @param aasId the id of the AAS
+     * @param submodelId the id of the submodel
+     * @return true if the AAS contains a reference to the submodel, false otherwise
+     * @throws ResourceNotFoundException if the AAS does not exist
+     * @throws PersistenceException if there was an error with the storage.
+     */
+    public default boolean assetAdministrationShellContainsSubmodel(String aasId, String submodelId) throws ResourceNotFoundException, PersistenceException {
+        Reference submodelRef = ReferenceBuilder.forSubmodel(submodelId);
+        return getAssetAdministrationShell(aasId, QueryModifier.MINIMAL).getSubmodels().stream()
+                .anyMatch(x -> ReferenceHelper.equals(x, submodelRef));
+    }
+
+
     /**
      * Checks if a given {@code org.eclipse.digitaltwin.aas4j.v3.model.ConceptDescription} exists.
      *
@@ -0,0 +1,223 @@
+/**
+ * Copyright (c) 2025 the Eclipse FA³ST Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.eclipse.digitaltwin.fa3st.service.request;
+
+import java.util.Set;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+
+/**
+ * Deadline of a request. A request is considered expired when either its time limit is exceeded or it has been
+ * cancelled, e.g. because the client that issued the request disconnected. Work that is awaited via
+ * {@link #await(Future)} is cancelled as soon as the request expires.
+ */
+public class RequestDeadline {
+
+    /**
+     * Deadline without time limit that cannot be cancelled.
+     */
+    public static final RequestDeadline NONE = new RequestDeadline(0, false);
+
+    private final long expiresAt;
+    private final boolean hasTimeLimit;
+    private final boolean cancellable;
+    private final Set<Future<?>> pendingTasks;
+    private volatile boolean cancelled;
+    private volatile boolean aborted;
+
+    private RequestDeadline(long timeoutInMillis, boolean cancellable) {
+        this.hasTimeLimit = timeoutInMillis > 0;
+        this.expiresAt = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(Math.max(0, timeoutInMillis));
+        this.cancellable = cancellable;
+        this.pendingTasks = ConcurrentHashMap.newKeySet();
+    }
+
+
+    /**
+     * Creates a new deadline that expires after the given timeout.
+     *
+     * @param timeoutInMillis the timeout in milliseconds; values less or equal zero mean no time limit
+     * @return the new deadline
+     */
+    public static RequestDeadline after(long timeoutInMillis) {
+        return new RequestDeadline(timeoutInMillis, true);
+    }
+
+
+    /**
+     * Creates a new deadline without time limit that expires only when being cancelled.
+     *
+     * @return the new deadline
+     */
+    public static RequestDeadline unlimited() {
+        return new RequestDeadline(0, true);
+    }
+
+
+    /**
+     * Returns whether this deadline has a time limit.
+     *
+     * @return true if this deadline has a time limit, false otherwise
+     */
+    public boolean hasTimeLimit() {
+        return hasTimeLimit;
+    }
+
+
+    /**
+     * Returns whether this deadline can expire at all, i.e. whether it has a time limit or can be cancelled.
+     *
+     * @return true if this deadline can expire, false otherwise
+     */
+    public boolean canExpire() {
+        return hasTimeLimit || cancellable;
+    }
+
+
+    /**
+     * Returns whether the request has been cancelled.
+     *
+     * @return true if the request has been cancelled, false otherwise
+     */
+    public boolean isCancelled() {
+        return cancelled;
+    }
+
+
+    /**
+     * Records that work of the request has been aborted because this deadline expired. This allows to tell requests that
+     * failed because of their deadline apart from requests that failed for other reasons. Has no effect on
+     * {@link #NONE}.
+     */
+    public void markAborted() {
+        if (canExpire()) {
+            aborted = true;
+        }
+    }
+
+
+    /**
+     * Returns whether work of the request has been aborted because this deadline expired, either via
+     * {@link #markAborted()} or because waiting in {@link #await(Future)} ended due to the expiry of this deadline.
+     *
+     * @return true if work has been aborted because this deadline expired, false otherwise
+     */
+    public boolean isAborted() {
+        return aborted;
+    }
+
+
+    /**
+     * Returns whether the request has expired, i.e. the time limit is exceeded or the request has been cancelled.
+     *
+     * @return true if expired, false otherwise
+     */
+    public boolean isExpired() {
+        return cancelled || (hasTimeLimit && getRemaining(TimeUnit.NANOSECONDS) <= 0);
+    }
+
+
+    /**
+     * Returns the remaining time until the deadline expires.
+     *
+     * @param unit the time unit of the result
+     * @return the remaining time, {@link Long#MAX_VALUE} if there is no time limit, zero or negative if expired
+     */
+    public long getRemaining(TimeUnit unit) {
+        if (!hasTimeLimit) {
+            return Long.MAX_VALUE;
+        }
+        return unit.convert(expiresAt - System.nanoTime(), TimeUnit.NANOSECONDS);
+    }
+
+
+    /**
+     * Cancels the request. All tasks currently awaited via {@link #await(Future)} are cancelled and the waiting threads
+     * are released immediately. Has no effect on {@link #NONE}.
+     */
+    public void cancel() {
+        if (!cancellable) {
+            return;
+        }
+        cancelled = true;
+        pendingTasks.forEach(x -> x.cancel(true));
+    }
+
+
+    /**
+     * Waits for a task to complete but at most until the deadline expires. If the deadline expires first, the task is
+     * cancelled.
+     *
+     * @param <T> the result type of the task
+     * @param task the task to wait for
+     * @return the result of the task
+     * @throws InterruptedException if the current thread was interrupted while waiting
+     * @throws ExecutionException if the task completed exceptionally
+     * @throws TimeoutException if the time limit is exceeded
+     * @throws CancellationException if the request has been cancelled
+     */
+    public <T> T await(Future<T> task) throws InterruptedException, ExecutionException, TimeoutException {
+        return await(task, Long.MAX_VALUE, TimeUnit.NANOSECONDS);
+    }
+
+
+    /**
+     * Waits for a task to complete but at most for the given timeout or until the deadline expires, whichever comes
+     * first. If the task does not complete in time, it is cancelled.
+     *
+     * @param <T> the result type of the task
+     * @param task the task to wait for
+     * @param timeout the maximum time to wait
+     * @param unit the time unit of the timeout
+     * @return the result of the task
+     * @throws InterruptedException if the current thread was interrupted while waiting
+     * @throws ExecutionException if the task completed exceptionally
+     * @throws TimeoutException if the timeout or the time limit of this deadline is exceeded
+     * @throws CancellationException if the request has been cancelled
+     */
+    public <T> T await(Future<T> task, long timeout, TimeUnit unit) throws InterruptedException, ExecutionException, TimeoutException {
+        pendingTasks.add(task);
+        try {
+            if (cancelled) {
+                task.cancel(true);
+            }
+            long waitTime = Math.min(unit.toNanos(timeout), getRemaining(TimeUnit.NANOSECONDS));
+            // untimed wait as some future implementations overflow when computing the wait time for huge timeouts
+            return waitTime == Long.MAX_VALUE
+                    ? task.get()
+                    : task.get(waitTime, TimeUnit.NANOSECONDS);
+        }
+        catch (TimeoutException | InterruptedException e) {
+            task.cancel(true);
+            if (isExpired()) {
+                markAborted();
+            }
+            throw e;
+        }
+        catch (CancellationException e) {
+            if (isExpired()) {
+                markAborted();
+            }
+            throw e;
+        }
+        finally {
+            pendingTasks.remove(task);
+        }
+    }
+}
@@ -18,12 +18,19 @@ import io.github.classgraph.ClassGraph;
 import io.github.classgraph.ScanResult;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.TimeUnit;
 import java.util.function.Consumer;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 import org.apache.commons.lang3.concurrent.BasicThreadFactory;
 import org.apache.commons.lang3.reflect.ConstructorUtils;
@@ -36,20 +43,26 @@ import org.eclipse.digitaltwin.fa3st.common.model.api.Message;
 import org.eclipse.digitaltwin.fa3st.common.model.api.Request;
 import org.eclipse.digitaltwin.fa3st.common.model.api.Response;
 import org.eclipse.digitaltwin.fa3st.common.model.api.StatusCode;
+import org.eclipse.digitaltwin.fa3st.common.util.ImplementationManager;
 import org.eclipse.digitaltwin.fa3st.service.config.CoreConfig;
 import org.eclipse.digitaltwin.fa3st.service.request.handler.AbstractRequestHandler;
 import org.eclipse.digitaltwin.fa3st.service.request.handler.RequestExecutionContext;
+import org.eclipse.digitaltwin.fa3st.service.util.ClassIndex;
+import org.eclipse.digitaltwin.fa3st.service.util.ExecutorHelper;
+import org.eclipse.digitaltwin.fa3st.service.util.ResponseFactory;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 
 /**
- * Finds available RequestHandlers and handles execution (sync or async).
+ * Finds available RequestHandlers and handles execution (sync or async). Asynchronous execution uses virtual threads
+ * if enabled and supported by the JVM (Java 21+), otherwise a fixed-size pool of platform threads.
  */
 public class RequestHandlerManager {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(RequestHandlerManager.class);
     private Map<Class<? extends Request>, ? extends AbstractRequestHandler> handlers;
+    private final Map<Class<? extends Request>, Supplier<? extends Response>> responseFactories = new ConcurrentHashMap<>();
     private ExecutorService requestHandlerExecutorService;
 
     public RequestHandlerManager(CoreConfig config) {
@@ -58,38 +71,86 @@ public class RequestHandlerManager {
 
 
     private void init(CoreConfig config) {
-        // TODO implement build-time scan to improve performance (see https://github.com/classgraph/classgraph/wiki/Build-Time-Scanning)
         final Class<?>[] constructorArgTypes = AbstractRequestHandler.class.getDeclaredConstructors()[0].getParameterTypes();
-        try (ScanResult scanResult = new ClassGraph()
-                .enableAllInfo()
-                .acceptPackages(getClass().getPackageName())
+        handlers = findHandlerClasses(ImplementationManager.getClassLoader()).stream()
+                .collect(Collectors.toMap(
+                        x -> (Class<? extends Request>) TypeToken.of(x).resolveType(AbstractRequestHandler.class.getTypeParameters()[0]).getRawType(),
+                        x -> {
+                            try {
+                                return ConstructorUtils.invokeConstructor(x);
+                            }
+                            catch (NoSuchMethodException | SecurityException e) {
+                                LOGGER.warn("request handler implementation could not be loaded, "
+                                        + "reason: missing constructor (implementation class: {}, required constructor signature: {})",
+                                        x.getName(),
+                                        constructorArgTypes,
+                                        e);
+                            }
+                            catch (InstantiationException | IllegalAccessException | IllegalArgumentException | InvocationTargetException e) {
+                                LOGGER.warn("request handler implementation could not be loaded, "
+                                        + "reason: calling constructor failed (implementation class: {})",
+                                        x.getName(),
+                                        e);
+                            }
+                            return null;
+                        }));
+        handlers.keySet().forEach(x -> {
+            try {
+                responseFactories.put(x, ResponseFactory.forRequestType(x));
+            }
+            catch (TypeInstantiationException e) {
+                LOGGER.warn("response factory could not be created (request type: {})", x.getName(), e);
+            }
+        });
+        requestHandlerExecutorService = newExecutorService(config);
+    }
+
+
+    /**
+     * Finds all request handler implementations. Implementations are read from the build-time index if available.
+     * Classpath elements without index, e.g. third-party jars or plugins built without the index processor, are still
+     * scanned so that handlers contained in them are found as well.
+     *
+     * @param classLoader the plugin class loader
+     * @return all request handler implementations
+     */
+    static List<Class<? extends AbstractRequestHandler>> findHandlerClasses(ClassLoader classLoader) {
+        ClassGraph classGraph = new ClassGraph()
+                .addClassLoader(classLoader)
+                .acceptPackages(RequestHandlerManager.class.getPackageName());
+        Optional<List<Class<? extends AbstractRequestHandler>>> indexed = ClassIndex.getImplementations(AbstractRequestHandler.class, classLoader);
+        if (indexed.isEmpty()) {
+            LOGGER.debug("no build-time index for request handlers found, scanning classpath instead");
+            return scanHandlerClasses(classGraph);
+        }
+        Set<Class<? extends AbstractRequestHandler>> result = new LinkedHashSet<>(indexed.get());
+        result.addAll(scanHandlerClasses(classGraph.filterClasspathElements(ClassIndex.withoutIndex(AbstractRequestHandler.class, classLoader))));
+        return new ArrayList<>(result);
+    }
+
+
+    private static List<Class<? extends AbstractRequestHandler>> scanHandlerClasses(ClassGraph classGraph) {
+        try (ScanResult scanResult = classGraph
+                .enableClassInfo()
                 .scan()) {
-            handlers = scanResult.getSubclasses(AbstractRequestHandler.class).loadClasses().stream()
+            return scanResult.getSubclasses(AbstractRequestHandler.class).loadClasses().stream()
                     .filter(x -> !Modifier.isAbstract(x.getModifiers()))
                     .map(x -> (Class<? extends AbstractRequestHandler>) x)
-                    .collect(Collectors.toMap(
-                            x -> (Class<? extends Request>) TypeToken.of(x).resolveType(AbstractRequestHandler.class.getTypeParameters()[0]).getRawType(),
-                            x -> {
-                                try {
-                                    return ConstructorUtils.invokeConstructor(x);
-                                }
-                                catch (NoSuchMethodException | SecurityException e) {
-                                    LOGGER.warn("request handler implementation could not be loaded, "
-                                            + "reason: missing constructor (implementation class: {}, required constructor signature: {})",
-                                            x.getName(),
-                                            constructorArgTypes,
-                                            e);
-                                }
-                                catch (InstantiationException | IllegalAccessException | IllegalArgumentException | InvocationTargetException e) {
-                                    LOGGER.warn("request handler implementation could not be loaded, "
-                                            + "reason: calling constructor failed (implementation class: {})",
-                                            x.getName(),
-                                            e);
-                                }
-                                return null;
-                            }));
+                    .collect(Collectors.toList());
+        }
+    }
+
+
+    private static ExecutorService newExecutorService(CoreConfig config) {
+        if (config.isRequestHandlerVirtualThreads()) {
+            Optional<ExecutorService> result = ExecutorHelper.newVirtualThreadPerTaskExecutor();
+            if (result.isPresent()) {
+                return result.get();
+            }
+            LOGGER.debug("virtual threads not supported by JVM, using platform threads for request handling instead (thread pool size: {})",
+                    config.getRequestHandlerThreadPoolSize());
         }
-        requestHandlerExecutorService = Executors.newFixedThreadPool(
+        return Executors.newFixedThreadPool(
                 config.getRequestHandlerThreadPoolSize(),
                 new BasicThreadFactory.Builder()
                         .namingPattern("RequestHandler" + "-%d")
@@ -97,6 +158,17 @@ public class RequestHandlerManager {
     }
 
 
+    /**
+     * Gets the executor used for asynchronous request execution. Request handlers may use this executor to run
+     * sub-tasks of a request concurrently.
+     *
+     * @return the executor used for asynchronous request execution
+     */
+    public ExecutorService getExecutorService() {
+        return requestHandlerExecutorService;
+    }
+
+
     /**
      * Properly shuts down this instance and releases all resources. Do not call any methods on this instance after
      * calling this method.
@@ -136,6 +208,10 @@ public class RequestHandlerManager {
         if (!handlers.containsKey(request.getClass())) {
             return createResponse(request, StatusCode.SERVER_INTERNAL_ERROR, MessageTypeEnum.EXCEPTION, "no handler defined for this request");
         }
+        if (context.getDeadline().isExpired()) {
+            context.getDeadline().markAborted();
+            return createResponse(request, StatusCode.SERVER_INTERNAL_ERROR, MessageTypeEnum.ERROR, "request expired before execution");
+        }
         try {
             return (O) handlers.get(request.getClass()).process(request, context);
         }
@@ -151,25 +227,20 @@ public class RequestHandlerManager {
     }
 
 
-    private static <I extends Request<O>, O extends Response> O createResponse(I request, StatusCode statusCode, MessageTypeEnum messageType, Exception e) {
+    private <I extends Request<O>, O extends Response> O createResponse(I request, StatusCode statusCode, MessageTypeEnum messageType, Exception e) {
         return createResponse(request, statusCode, messageType, e.getMessage());
     }
 
 
-    private static <I extends Request<O>, O extends Response> O createResponse(I request, StatusCode statusCode, MessageTypeEnum messageType, String message) {
-        try {
-            O response = (O) ConstructorUtils.invokeConstructor(TypeToken.of(request.getClass()).resolveType(Request.class.getTypeParameters()[0]).getRawType());
-            response.setStatusCode(statusCode);
-            response.getResult().setMessages(List.of(
-                    new Message.Builder()
-                            .text(message)
-                            .messageType(messageType)
-                            .build()));
-            return response;
-        }
-        catch (InstantiationException | IllegalAccessException | IllegalArgumentException | InvocationTargetException | NoSuchMethodException | SecurityException ex) {
-            throw new TypeInstantiationException("executing request failed and failure could not be properly handled", ex);
-        }
+    private <I extends Request<O>, O extends Response> O createResponse(I request, StatusCode statusCode, MessageTypeEnum messageType, String message) {
+        O response = (O) responseFactories.computeIfAbsent(request.getClass(), ResponseFactory::forRequestType).get();
+        response.setStatusCode(statusCode);
+        response.getResult().setMessages(List.of(
+                new Message.Builder()
+                        .text(message)
+                        .messageType(messageType)
+                        .build()));
+        return response;
     }
 
 
@@ -183,20 +254,36 @@ public class RequestHandlerManager {
      * @param callback callback handler which is called with the response once the request has been executed
      */
     public <I extends Request<O>, O extends Response> void executeAsync(I request, Consumer<O> callback, RequestExecutionContext context) {
-        if (request == null) {
-            throw new IllegalArgumentException("request must be non-null");
-        }
         if (callback == null) {
             throw new IllegalArgumentException("callback must be non-null");
         }
-        requestHandlerExecutorService.submit(() -> {
+        executeAsync(request, context).thenAccept(callback);
+    }
+
+
+    /**
+     * Executes a request asynchroniously.
+     *
+     * @param <I> type of request/input
+     * @param <O> type of response/output
+     * @param request the request to execute
+     * @param context the execution context
+     * @return a future that completes with the response once the request has been executed; the future never
+     *         completes exceptionally as errors are converted to error responses
+     * @throws IllegalArgumentException if request is null
+     */
+    public <I extends Request<O>, O extends Response> CompletableFuture<O> executeAsync(I request, RequestExecutionContext context) {
+        if (request == null) {
+            throw new IllegalArgumentException("request must be non-null");
+        }
+        return CompletableFuture.supplyAsync(() -> {
             try {
-                callback.accept(execute(request, context));
+                return execute(request, context);
             }
             catch (Exception e) {
                 LOGGER.trace("Error while executing request", e);
-                callback.accept(createResponse(request, StatusCode.SERVER_INTERNAL_ERROR, MessageTypeEnum.EXCEPTION, e));
+                return createResponse(request, StatusCode.SERVER_INTERNAL_ERROR, MessageTypeEnum.EXCEPTION, e);
             }
-        });
+        }, requestHandlerExecutorService);
     }
 }
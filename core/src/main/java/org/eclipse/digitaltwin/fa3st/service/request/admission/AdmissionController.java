@@ -0,0 +1,185 @@
+/**
+ * Copyright (c) 2025 the Eclipse FA³ST Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.eclipse.digitaltwin.fa3st.service.request.admission;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.eclipse.digitaltwin.fa3st.common.model.api.Request;
+import org.eclipse.digitaltwin.fa3st.service.config.AdmissionControlConfig;
+
+
+/**
+ * Limits the number of requests executed concurrently per {@link RequestCategory}. Requests exceeding the limit of
+ * their category are rejected immediately instead of being queued so that clients can back off and retry later. As each
+ * category has its own limit, expensive requests like AASX export cannot block cheap requests like reading values.
+ *
+ * <p>If adaptive limits are enabled, the limit of each category is adjusted based on the observed latency: it is
+ * decreased multiplicatively when the average latency exceeds the configured target latency and increased additively
+ * up to the configured maximum when requests are fast and the limit is fully used.
+ */
+public class AdmissionController {
+
+    /**
+     * Admission controller that admits all requests.
+     */
+    public static final AdmissionController DISABLED = new AdmissionController(AdmissionControlConfig.builder()
+            .enabled(false)
+            .build());
+
+    private static final double LATENCY_SMOOTHING_FACTOR = 0.2;
+    private static final double LIMIT_DECREASE_FACTOR = 0.9;
+    private final AdmissionControlConfig config;
+    private final Map<RequestCategory, Limiter> limiters;
+
+    public AdmissionController(AdmissionControlConfig config) {
+        this.config = Objects.nonNull(config) ? config : new AdmissionControlConfig();
+        this.limiters = new EnumMap<>(RequestCategory.class);
+        this.limiters.put(RequestCategory.READ, new Limiter(this.config.getMaxConcurrentReads()));
+        this.limiters.put(RequestCategory.WRITE, new Limiter(this.config.getMaxConcurrentWrites()));
+        this.limiters.put(RequestCategory.OPERATION, new Limiter(this.config.getMaxConcurrentOperations()));
+        this.limiters.put(RequestCategory.SERIALIZATION, new Limiter(this.config.getMaxConcurrentSerializations()));
+    }
+
+
+    /**
+     * Tries to admit a request. The returned permit must be closed once the request has been executed.
+     *
+     * @param request the request to admit
+     * @return a permit for executing the request
+     * @throws RequestRejectedException if the concurrency limit of the category of the request is reached
+     */
+    public Permit acquire(Request<?> request) throws RequestRejectedException {
+        if (!config.isEnabled() || Objects.isNull(request)) {
+            return Permit.NONE;
+        }
+        RequestCategory category = RequestCategory.of(request);
+        Limiter limiter = limiters.get(category);
+        if (!limiter.tryAcquire()) {
+            throw new RequestRejectedException(category, config.getRetryAfter());
+        }
+        return new Permit(limiter);
+    }
+
+
+    /**
+     * Returns the current concurrency limit of a category.
+     *
+     * @param category the category
+     * @return the current limit, less or equal zero if unlimited
+     */
+    public int getLimit(RequestCategory category) {
+        return limiters.get(category).limit;
+    }
+
+
+    /**
+     * Returns the number of requests of a category currently being executed.
+     *
+     * @param category the category
+     * @return the number of requests currently being executed
+     */
+    public int getActive(RequestCategory category) {
+        return limiters.get(category).active.get();
+    }
+
+    /**
+     * Permit to execute a request. Closing the permit releases it; closing it multiple times has no further effect.
+     */
+    public static class Permit implements AutoCloseable {
+
+        private static final Permit NONE = new Permit(null);
+
+        private final Limiter limiter;
+        private final long startTime;
+        private final AtomicBoolean released;
+
+        private Permit(Limiter limiter) {
+            this.limiter = limiter;
+            this.startTime = System.nanoTime();
+            this.released = new AtomicBoolean(false);
+        }
+
+
+        @Override
+        public void close() {
+            if (Objects.nonNull(limiter) && released.compareAndSet(false, true)) {
+                limiter.release(System.nanoTime() - startTime);
+            }
+        }
+    }
+
+    private class Limiter {
+
+        private final int maxLimit;
+        private final AtomicInteger active;
+        private volatile int limit;
+        private double averageLatency;
+        private long lastDecrease;
+
+        private Limiter(int maxLimit) {
+            this.maxLimit = maxLimit;
+            this.limit = maxLimit;
+            this.active = new AtomicInteger();
+            this.lastDecrease = System.nanoTime();
+        }
+
+
+        private boolean tryAcquire() {
+            if (maxLimit <= 0) {
+                active.incrementAndGet();
+                return true;
+            }
+            while (true) {
+                int current = active.get();
+                if (current >= limit) {
+                    return false;
+                }
+                if (active.compareAndSet(current, current + 1)) {
+                    return true;
+                }
+            }
+        }
+
+
+        private void release(long latency) {
+            int activeBeforeRelease = active.getAndDecrement();
+            if (config.isAdaptive() && maxLimit > 0) {
+                adapt(latency, activeBeforeRelease);
+            }
+        }
+
+
+        private synchronized void adapt(long latency, int activeBeforeRelease) {
+            averageLatency = averageLatency == 0
+                    ? latency
+                    : (1 - LATENCY_SMOOTHING_FACTOR) * averageLatency + LATENCY_SMOOTHING_FACTOR * latency;
+            long now = System.nanoTime();
+            long targetLatency = TimeUnit.MILLISECONDS.toNanos(config.getTargetLatency());
+            if (averageLatency > targetLatency) {
+                // decrease at most once per target latency to give previously admitted requests time to finish
+                if (now - lastDecrease >= targetLatency) {
+                    limit = Math.max(1, (int) (limit * LIMIT_DECREASE_FACTOR));
+                    lastDecrease = now;
+                }
+            }
+            else if (activeBeforeRelease >= limit && limit < maxLimit) {
+                limit++;
+            }
+        }
+    }
+}
@@ -0,0 +1,64 @@
+/**
+ * Copyright (c) 2025 the Eclipse FA³ST Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.eclipse.digitaltwin.fa3st.service.request.admission;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import org.eclipse.digitaltwin.fa3st.common.model.api.Request;
+import org.eclipse.digitaltwin.fa3st.common.model.api.request.aasserialization.GenerateSerializationByIdsRequest;
+import org.eclipse.digitaltwin.fa3st.common.model.api.request.proprietary.ImportRequest;
+import org.eclipse.digitaltwin.fa3st.common.model.api.request.submodel.InvokeOperationRequest;
+import org.eclipse.digitaltwin.fa3st.service.request.bulk.BulkReadValuesRequest;
+
+
+/**
+ * Categories of requests with separate concurrency limits. {@code READ} covers all requests only reading data,
+ * {@code WRITE} all requests modifying data, {@code OPERATION} all operation invocations and {@code SERIALIZATION}
+ * expensive requests serializing or importing whole environments, e.g. AASX export.
+ */
+public enum RequestCategory {
+    READ,
+    WRITE,
+    OPERATION,
+    SERIALIZATION;
+
+    private static final String READ_REQUEST_PREFIX = "Get";
+    private static final Map<Class<?>, RequestCategory> CATEGORIES = new ConcurrentHashMap<>();
+
+    /**
+     * Determines the category of a request.
+     *
+     * @param request the request
+     * @return the category of the request
+     */
+    public static RequestCategory of(Request<?> request) {
+        return CATEGORIES.computeIfAbsent(request.getClass(), RequestCategory::categorize);
+    }
+
+
+    private static RequestCategory categorize(Class<?> type) {
+        if (InvokeOperationRequest.class.isAssignableFrom(type)) {
+            return OPERATION;
+        }
+        if (GenerateSerializationByIdsRequest.class.isAssignableFrom(type)
+                || ImportRequest.class.isAssignableFrom(type)) {
+            return SERIALIZATION;
+        }
+        if (type.getSimpleName().startsWith(READ_REQUEST_PREFIX)
+                || BulkReadValuesRequest.class.isAssignableFrom(type)) {
+            return READ;
+        }
+        return WRITE;
+    }
+}
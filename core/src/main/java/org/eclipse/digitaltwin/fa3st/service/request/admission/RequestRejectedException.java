@@ -0,0 +1,45 @@
+/**
+ * Copyright (c) 2025 the Eclipse FA³ST Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.eclipse.digitaltwin.fa3st.service.request.admission;
+
+/**
+ * Indicates that a request has been rejected by the {@link AdmissionController} because the concurrency limit of its
+ * category has been reached.
+ */
+public class RequestRejectedException extends Exception {
+
+    private final RequestCategory category;
+    private final long retryAfter;
+
+    public RequestRejectedException(RequestCategory category, long retryAfter) {
+        super(String.format("service overloaded, request rejected (category: %s)", category));
+        this.category = category;
+        this.retryAfter = retryAfter;
+    }
+
+
+    public RequestCategory getCategory() {
+        return category;
+    }
+
+
+    /**
+     * Returns the time in seconds after which the client may retry the request.
+     *
+     * @return the time in seconds after which the client may retry the request
+     */
+    public long getRetryAfter() {
+        return retryAfter;
+    }
+}
@@ -0,0 +1,97 @@
+/**
+ * Copyright (c) 2025 the Eclipse FA³ST Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.eclipse.digitaltwin.fa3st.service.request.bulk;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import org.eclipse.digitaltwin.fa3st.common.model.SubmodelElementIdentifier;
+import org.eclipse.digitaltwin.fa3st.common.model.api.request.AbstractRequest;
+
+
+/**
+ * Request class for reading the values of multiple submodel elements, possibly spread across multiple submodels, at
+ * once.
+ */
+public class BulkReadValuesRequest extends AbstractRequest<BulkReadValuesResponse> {
+
+    private List<SubmodelElementIdentifier> elements;
+
+    public BulkReadValuesRequest() {
+        this.elements = new ArrayList<>();
+    }
+
+
+    public List<SubmodelElementIdentifier> getElements() {
+        return elements;
+    }
+
+
+    public void setElements(List<SubmodelElementIdentifier> elements) {
+        this.elements = elements;
+    }
+
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        BulkReadValuesRequest that = (BulkReadValuesRequest) o;
+        return super.equals(that)
+                && Objects.equals(elements, that.elements);
+    }
+
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(super.hashCode(), elements);
+    }
+
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    public abstract static class AbstractBuilder<T extends BulkReadValuesRequest, B extends AbstractBuilder<T, B>> extends AbstractRequest.AbstractBuilder<T, B> {
+
+        public B elements(List<SubmodelElementIdentifier> value) {
+            getBuildingInstance().setElements(value);
+            return getSelf();
+        }
+
+
+        public B element(SubmodelElementIdentifier value) {
+            getBuildingInstance().getElements().add(value);
+            return getSelf();
+        }
+    }
+
+    public static class Builder extends AbstractBuilder<BulkReadValuesRequest, Builder> {
+
+        @Override
+        protected Builder getSelf() {
+            return this;
+        }
+
+
+        @Override
+        protected BulkReadValuesRequest newBuildingInstance() {
+            return new BulkReadValuesRequest();
+        }
+    }
+}
@@ -0,0 +1,50 @@
+/**
+ * Copyright (c) 2025 the Eclipse FA³ST Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.eclipse.digitaltwin.fa3st.service.request.bulk;
+
+import java.util.ArrayList;
+import java.util.List;
+import org.eclipse.digitaltwin.fa3st.common.model.api.response.AbstractResponseWithPayload;
+
+
+/**
+ * Response class for {@link BulkReadValuesRequest}. Contains one result per requested element in the order of the
+ * request. The status code of the response itself only indicates whether the request could be processed at all, the
+ * outcome for each element is contained in the corresponding result.
+ */
+public class BulkReadValuesResponse extends AbstractResponseWithPayload<List<BulkValueResult>> {
+
+    public BulkReadValuesResponse() {
+        setPayload(new ArrayList<>());
+    }
+
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    public static class Builder extends AbstractResponseWithPayload.AbstractBuilder<List<BulkValueResult>, BulkReadValuesResponse, Builder> {
+
+        @Override
+        protected Builder getSelf() {
+            return this;
+        }
+
+
+        @Override
+        protected BulkReadValuesResponse newBuildingInstance() {
+            return new BulkReadValuesResponse();
+        }
+    }
+}
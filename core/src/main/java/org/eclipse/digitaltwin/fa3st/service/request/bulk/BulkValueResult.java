@@ -0,0 +1,147 @@
+/**
+ * Copyright (c) 2025 the Eclipse FA³ST Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.eclipse.digitaltwin.fa3st.service.request.bulk;
+
+import java.util.Objects;
+import org.eclipse.digitaltwin.aas4j.v3.model.SubmodelElement;
+import org.eclipse.digitaltwin.aas4j.v3.model.builder.ExtendableBuilder;
+import org.eclipse.digitaltwin.fa3st.common.model.SubmodelElementIdentifier;
+import org.eclipse.digitaltwin.fa3st.common.model.api.StatusCode;
+
+
+/**
+ * Outcome of reading or writing the value of a single element as part of a bulk request.
+ */
+public class BulkValueResult {
+
+    private SubmodelElementIdentifier element;
+    private StatusCode statusCode;
+    private String message;
+    private SubmodelElement value;
+
+    public SubmodelElementIdentifier getElement() {
+        return element;
+    }
+
+
+    public void setElement(SubmodelElementIdentifier element) {
+        this.element = element;
+    }
+
+
+    public StatusCode getStatusCode() {
+        return statusCode;
+    }
+
+
+    public void setStatusCode(StatusCode statusCode) {
+        this.statusCode = statusCode;
+    }
+
+
+    public String getMessage() {
+        return message;
+    }
+
+
+    public void setMessage(String message) {
+        this.message = message;
+    }
+
+
+    /**
+     * Gets the element containing the current value. Only present for successful reads.
+     *
+     * @return the element containing the current value, or null
+     */
+    public SubmodelElement getValue() {
+        return value;
+    }
+
+
+    public void setValue(SubmodelElement value) {
+        this.value = value;
+    }
+
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        BulkValueResult that = (BulkValueResult) o;
+        return Objects.equals(element, that.element)
+                && Objects.equals(statusCode, that.statusCode)
+                && Objects.equals(message, that.message)
+                && Objects.equals(value, that.value);
+    }
+
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(element, statusCode, message, value);
+    }
+
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    public static class Builder extends ExtendableBuilder<BulkValueResult, Builder> {
+
+        public Builder element(SubmodelElementIdentifier value) {
+            getBuildingInstance().setElement(value);
+            return getSelf();
+        }
+
+
+        public Builder statusCode(StatusCode value) {
+            getBuildingInstance().setStatusCode(value);
+            return getSelf();
+        }
+
+
+        public Builder success() {
+            getBuildingInstance().setStatusCode(StatusCode.SUCCESS);
+            return getSelf();
+        }
+
+
+        public Builder message(String value) {
+            getBuildingInstance().setMessage(value);
+            return getSelf();
+        }
+
+
+        public Builder value(SubmodelElement value) {
+            getBuildingInstance().setValue(value);
+            return getSelf();
+        }
+
+
+        @Override
+        protected Builder getSelf() {
+            return this;
+        }
+
+
+        @Override
+        protected BulkValueResult newBuildingInstance() {
+            return new BulkValueResult();
+        }
+    }
+}
@@ -0,0 +1,118 @@
+/**
+ * Copyright (c) 2025 the Eclipse FA³ST Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.eclipse.digitaltwin.fa3st.service.request.bulk;
+
+import java.util.Objects;
+import org.eclipse.digitaltwin.aas4j.v3.model.builder.ExtendableBuilder;
+import org.eclipse.digitaltwin.fa3st.common.model.SubmodelElementIdentifier;
+import org.eclipse.digitaltwin.fa3st.common.model.value.ElementValueParser;
+
+
+/**
+ * A single value to write as part of a {@link BulkWriteValuesRequest}. The value is kept in its raw form and parsed by
+ * the request handler using the provided parser, as parsing may require type information of the existing element.
+ */
+public class BulkValueWrite {
+
+    private SubmodelElementIdentifier element;
+    private Object rawValue;
+    private ElementValueParser<?> valueParser;
+
+    public SubmodelElementIdentifier getElement() {
+        return element;
+    }
+
+
+    public void setElement(SubmodelElementIdentifier element) {
+        this.element = element;
+    }
+
+
+    public Object getRawValue() {
+        return rawValue;
+    }
+
+
+    public void setRawValue(Object rawValue) {
+        this.rawValue = rawValue;
+    }
+
+
+    public ElementValueParser<?> getValueParser() {
+        return valueParser;
+    }
+
+
+    public void setValueParser(ElementValueParser<?> valueParser) {
+        this.valueParser = valueParser;
+    }
+
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        BulkValueWrite that = (BulkValueWrite) o;
+        return Objects.equals(element, that.element)
+                && Objects.equals(rawValue, that.rawValue)
+                && Objects.equals(valueParser, that.valueParser);
+    }
+
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(element, rawValue, valueParser);
+    }
+
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    public static class Builder extends ExtendableBuilder<BulkValueWrite, Builder> {
+
+        public Builder element(SubmodelElementIdentifier value) {
+            getBuildingInstance().setElement(value);
+            return getSelf();
+        }
+
+
+        public Builder value(Object value) {
+            getBuildingInstance().setRawValue(value);
+            return getSelf();
+        }
+
+
+        public Builder valueParser(ElementValueParser<?> value) {
+            getBuildingInstance().setValueParser(value);
+            return getSelf();
+        }
+
+
+        @Override
+        protected Builder getSelf() {
+            return this;
+        }
+
+
+        @Override
+        protected BulkValueWrite newBuildingInstance() {
+            return new BulkValueWrite();
+        }
+    }
+}
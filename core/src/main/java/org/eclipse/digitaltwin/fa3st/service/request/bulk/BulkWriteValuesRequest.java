@@ -0,0 +1,141 @@
+/**
+ * Copyright (c) 2025 the Eclipse FA³ST Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.eclipse.digitaltwin.fa3st.service.request.bulk;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import org.eclipse.digitaltwin.fa3st.common.model.api.request.AbstractRequest;
+
+
+/**
+ * Request class for writing the values of multiple submodel elements, possibly spread across multiple submodels, at
+ * once. If atomic, no value is written unless all values are valid and could be written to the assets; otherwise
+ * (default) all valid values are written and failures are reported per element.
+ */
+public class BulkWriteValuesRequest extends AbstractRequest<BulkWriteValuesResponse> {
+
+    private List<BulkValueWrite> values;
+    private boolean atomic;
+    private boolean syncWithAsset;
+
+    public BulkWriteValuesRequest() {
+        this.values = new ArrayList<>();
+        this.atomic = false;
+        this.syncWithAsset = true;
+    }
+
+
+    public List<BulkValueWrite> getValues() {
+        return values;
+    }
+
+
+    public void setValues(List<BulkValueWrite> values) {
+        this.values = values;
+    }
+
+
+    public boolean isAtomic() {
+        return atomic;
+    }
+
+
+    public void setAtomic(boolean atomic) {
+        this.atomic = atomic;
+    }
+
+
+    public boolean isSyncWithAsset() {
+        return syncWithAsset;
+    }
+
+
+    public void setSyncWithAsset(boolean syncWithAsset) {
+        this.syncWithAsset = syncWithAsset;
+    }
+
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        BulkWriteValuesRequest that = (BulkWriteValuesRequest) o;
+        return super.equals(that)
+                && Objects.equals(values, that.values)
+                && Objects.equals(atomic, that.atomic)
+                && Objects.equals(syncWithAsset, that.syncWithAsset);
+    }
+
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(super.hashCode(), values, atomic, syncWithAsset);
+    }
+
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    public abstract static class AbstractBuilder<T extends BulkWriteValuesRequest, B extends AbstractBuilder<T, B>> extends AbstractRequest.AbstractBuilder<T, B> {
+
+        public B values(List<BulkValueWrite> value) {
+            getBuildingInstance().setValues(value);
+            return getSelf();
+        }
+
+
+        public B value(BulkValueWrite value) {
+            getBuildingInstance().getValues().add(value);
+            return getSelf();
+        }
+
+
+        public B atomic(boolean value) {
+            getBuildingInstance().setAtomic(value);
+            return getSelf();
+        }
+
+
+        public B atomic() {
+            getBuildingInstance().setAtomic(true);
+            return getSelf();
+        }
+
+
+        public B syncWithAsset(boolean value) {
+            getBuildingInstance().setSyncWithAsset(value);
+            return getSelf();
+        }
+    }
+
+    public static class Builder extends AbstractBuilder<BulkWriteValuesRequest, Builder> {
+
+        @Override
+        protected Builder getSelf() {
+            return this;
+        }
+
+
+        @Override
+        protected BulkWriteValuesRequest newBuildingInstance() {
+            return new BulkWriteValuesRequest();
+        }
+    }
+}
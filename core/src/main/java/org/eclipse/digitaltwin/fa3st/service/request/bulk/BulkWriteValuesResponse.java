@@ -0,0 +1,50 @@
+/**
+ * Copyright (c) 2025 the Eclipse FA³ST Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.eclipse.digitaltwin.fa3st.service.request.bulk;
+
+import java.util.ArrayList;
+import java.util.List;
+import org.eclipse.digitaltwin.fa3st.common.model.api.response.AbstractResponseWithPayload;
+
+
+/**
+ * Response class for {@link BulkWriteValuesRequest}. Contains one result per requested element in the order of the
+ * request. In best-effort mode the status code of the response itself only indicates whether the request could be
+ * processed at all; in atomic mode it is an error status if any value has not been written.
+ */
+public class BulkWriteValuesResponse extends AbstractResponseWithPayload<List<BulkValueResult>> {
+
+    public BulkWriteValuesResponse() {
+        setPayload(new ArrayList<>());
+    }
+
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    public static class Builder extends AbstractResponseWithPayload.AbstractBuilder<List<BulkValueResult>, BulkWriteValuesResponse, Builder> {
+
+        @Override
+        protected Builder getSelf() {
+            return this;
+        }
+
+
+        @Override
+        protected BulkWriteValuesResponse newBuildingInstance() {
+            return new BulkWriteValuesResponse();
+        }
+    }
+}
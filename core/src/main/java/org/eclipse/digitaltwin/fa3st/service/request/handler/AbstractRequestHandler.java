@@ -13,22 +13,22 @@
  */
 package org.eclipse.digitaltwin.fa3st.service.request.handler;
 
-import com.fasterxml.jackson.databind.JsonNode;
 import com.github.fge.jsonpatch.JsonPatchException;
 import com.github.fge.jsonpatch.mergepatch.JsonMergePatch;
 import com.google.common.reflect.TypeToken;
+import java.io.IOException;
 import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
 import java.util.Collection;
-import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
-import java.util.Optional;
 import java.util.function.Predicate;
-import org.apache.commons.lang3.reflect.ConstructorUtils;
-import org.eclipse.digitaltwin.aas4j.v3.dataformat.core.DeserializationException;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
 import org.eclipse.digitaltwin.aas4j.v3.dataformat.core.util.AasUtils;
-import org.eclipse.digitaltwin.aas4j.v3.dataformat.json.JsonDeserializer;
-import org.eclipse.digitaltwin.aas4j.v3.dataformat.json.JsonSerializer;
 import org.eclipse.digitaltwin.aas4j.v3.model.Reference;
 import org.eclipse.digitaltwin.aas4j.v3.model.SubmodelElement;
 import org.eclipse.digitaltwin.aas4j.v3.model.SubmodelElementCollection;
@@ -38,9 +38,11 @@ import org.eclipse.digitaltwin.fa3st.common.exception.MessageBusException;
 import org.eclipse.digitaltwin.fa3st.common.exception.PersistenceException;
 import org.eclipse.digitaltwin.fa3st.common.exception.ResourceNotAContainerElementException;
 import org.eclipse.digitaltwin.fa3st.common.exception.ResourceNotFoundException;
+import org.eclipse.digitaltwin.fa3st.common.exception.TypeInstantiationException;
 import org.eclipse.digitaltwin.fa3st.common.exception.ValueMappingException;
 import org.eclipse.digitaltwin.fa3st.common.model.api.Request;
 import org.eclipse.digitaltwin.fa3st.common.model.api.Response;
+import org.eclipse.digitaltwin.fa3st.common.model.messagebus.EventMessage;
 import org.eclipse.digitaltwin.fa3st.common.model.messagebus.event.change.ValueChangeEventMessage;
 import org.eclipse.digitaltwin.fa3st.common.model.value.DataElementValue;
 import org.eclipse.digitaltwin.fa3st.common.model.value.ElementValue;
@@ -49,6 +51,9 @@ import org.eclipse.digitaltwin.fa3st.common.util.DeepCopyHelper;
 import org.eclipse.digitaltwin.fa3st.common.util.LambdaExceptionHelper;
 import org.eclipse.digitaltwin.fa3st.common.util.ReferenceHelper;
 import org.eclipse.digitaltwin.fa3st.service.persistence.Persistence;
+import org.eclipse.digitaltwin.fa3st.service.processor.Indexed;
+import org.eclipse.digitaltwin.fa3st.service.util.MergePatchHelper;
+import org.eclipse.digitaltwin.fa3st.service.util.ResponseFactory;
 
 
 /**
@@ -57,8 +62,11 @@ import org.eclipse.digitaltwin.fa3st.service.persistence.Persistence;
  * @param <I> type of the request
  * @param <O> type of the corresponding response
  */
+@Indexed
 public abstract class AbstractRequestHandler<I extends Request<O>, O extends Response> {
 
+    private volatile Supplier<O> responseFactory;
+
     /**
      * Creates a empty response object.
      *
@@ -69,10 +77,24 @@ public abstract class AbstractRequestHandler<I extends Request<O>, O extends Res
      * @throws IllegalAccessException if parameterless constructor of response type is inaccessible
      */
     public O newResponse() throws NoSuchMethodException, InstantiationException, InvocationTargetException, IllegalAccessException {
-        return (O) ConstructorUtils.invokeConstructor(
-                TypeToken.of(getClass())
-                        .resolveType(AbstractRequestHandler.class.getTypeParameters()[1])
-                        .getRawType());
+        if (Objects.isNull(responseFactory)) {
+            Class<O> responseType = (Class<O>) TypeToken.of(getClass())
+                    .resolveType(AbstractRequestHandler.class.getTypeParameters()[1])
+                    .getRawType();
+            if (Modifier.isAbstract(responseType.getModifiers())) {
+                throw new InstantiationException(String.format("response type must not be abstract (response type: %s)", responseType.getName()));
+            }
+            try {
+                responseFactory = ResponseFactory.forResponseType(responseType);
+            }
+            catch (TypeInstantiationException e) {
+                if (e.getCause() instanceof IllegalAccessException) {
+                    throw (IllegalAccessException) e.getCause();
+                }
+                throw new NoSuchMethodException(e.getMessage());
+            }
+        }
+        return responseFactory.get();
     }
 
 
@@ -90,6 +112,8 @@ public abstract class AbstractRequestHandler<I extends Request<O>, O extends Res
     /**
      * Check for each SubmodelElement if there is an AssetConnection.If yes read the value from it and compare it to the
      * current value.If they differ from each other update the submodelelement with the value from the AssetConnection.
+     * Values are read concurrently for all elements (including nested ones), all changes are written to the persistence
+     * at once and the resulting events are published as a batch.
      *
      * @param parent of the SubmodelElement List
      * @param submodelElements List of SubmodelElements which should be considered and updated
@@ -107,37 +131,63 @@ public abstract class AbstractRequestHandler<I extends Request<O>, O extends Res
         if (parent == null || submodelElements == null) {
             return;
         }
-        Map<SubmodelElement, ElementValue> updatedSubmodelElements = new HashMap<>();
-        for (SubmodelElement submodelElement: submodelElements) {
-            Reference reference = AasUtils.toReference(parent, submodelElement);
-            Optional<DataElementValue> newValue = context.getAssetConnectionManager().readValue(reference);
-            if (newValue.isPresent()) {
-                ElementValue oldValue = ElementValueMapper.toValue(submodelElement);
-                if (!Objects.equals(oldValue, newValue.get())) {
-                    updatedSubmodelElements.put(submodelElement, newValue.get());
-                }
+        List<SyncCandidate> candidates = new ArrayList<>();
+        collectSyncCandidates(parent, submodelElements, context, candidates);
+        if (candidates.isEmpty()) {
+            return;
+        }
+        Map<Reference, DataElementValue> newValues = context.getAssetConnectionManager().readValues(
+                candidates.stream()
+                        .map(SyncCandidate::getReference)
+                        .collect(Collectors.toList()),
+                context.getDeadline());
+        Map<Reference, SubmodelElement> updates = new LinkedHashMap<>();
+        List<EventMessage> events = new ArrayList<>();
+        for (SyncCandidate candidate: candidates) {
+            DataElementValue newValue = newValues.get(candidate.getReference());
+            if (Objects.isNull(newValue)) {
+                continue;
             }
-            else if (SubmodelElementCollection.class.isAssignableFrom(submodelElement.getClass())) {
-                syncWithAsset(reference, ((SubmodelElementCollection) submodelElement).getValue(), publishOnMessageBus, context);
+            SubmodelElement oldElement = candidate.getElement();
+            ElementValue oldValue = ElementValueMapper.toValue(oldElement);
+            if (Objects.equals(oldValue, newValue)) {
+                continue;
             }
-        }
-
-        for (var update: updatedSubmodelElements.entrySet()) {
-            Reference reference = AasUtils.toReference(parent, update.getKey());
-            SubmodelElement oldElement = update.getKey();
             SubmodelElement newElement = DeepCopyHelper.deepCopy(oldElement, SubmodelElement.class);
-            ElementValueMapper.setValue(newElement, update.getValue());
-            context.getPersistence().update(reference, newElement);
-            submodelElements.remove(oldElement);
-            submodelElements.add(newElement);
+            ElementValueMapper.setValue(newElement, newValue);
+            updates.put(candidate.getReference(), newElement);
+            candidate.getContainer().remove(oldElement);
+            candidate.getContainer().add(newElement);
             if (publishOnMessageBus) {
-                context.getMessageBus().publish(ValueChangeEventMessage.builder()
-                        .element(reference)
-                        .oldValue(ElementValueMapper.toValue(oldElement))
+                events.add(ValueChangeEventMessage.builder()
+                        .element(candidate.getReference())
+                        .oldValue(oldValue)
                         .newValue(ElementValueMapper.toValue(newElement))
                         .build());
             }
         }
+        if (!updates.isEmpty()) {
+            context.getPersistence().updateAll(updates);
+        }
+        if (!events.isEmpty()) {
+            context.getMessageBus().publishAll(events);
+        }
+    }
+
+
+    private static void collectSyncCandidates(Reference parent, Collection<SubmodelElement> submodelElements, RequestExecutionContext context, List<SyncCandidate> result) {
+        if (parent == null || submodelElements == null) {
+            return;
+        }
+        for (SubmodelElement submodelElement: submodelElements) {
+            Reference reference = AasUtils.toReference(parent, submodelElement);
+            if (SubmodelElementCollection.class.isAssignableFrom(submodelElement.getClass())) {
+                collectSyncCandidates(reference, ((SubmodelElementCollection) submodelElement).getValue(), context, result);
+            }
+            else if (context.getAssetConnectionManager().hasValueProvider(reference)) {
+                result.add(new SyncCandidate(reference, submodelElement, submodelElements));
+            }
+        }
     }
 
 
@@ -167,7 +217,8 @@ public abstract class AbstractRequestHandler<I extends Request<O>, O extends Res
 
 
     /**
-     * Creates an updated element based on a JSON merge patch.
+     * Creates an updated element based on a JSON merge patch. The patch is applied directly to the given element so
+     * that only the parts touched by the patch are processed, i.e., {@code targetBean} is modified.
      *
      * @param <T> the type of the element to update
      * @param patch the JSON merge patch containing the changes to apply
@@ -179,13 +230,38 @@ public abstract class AbstractRequestHandler<I extends Request<O>, O extends Res
      */
     protected <T> T applyMergePatch(JsonMergePatch patch, T targetBean, Class<T> type) throws InvalidRequestException {
         try {
-            JsonNode json = new JsonSerializer().toNode(targetBean);
-            JsonNode updatedJson = patch.apply(json);
-            return new JsonDeserializer().read(updatedJson, type);
+            return MergePatchHelper.apply(patch, targetBean, type);
         }
-        catch (JsonPatchException | IllegalArgumentException | DeserializationException e) {
+        catch (JsonPatchException | IllegalArgumentException | IOException e) {
             throw new InvalidRequestException("Error applying JSON merge patch", e);
         }
     }
 
+    private static class SyncCandidate {
+
+        private final Reference reference;
+        private final SubmodelElement element;
+        private final Collection<SubmodelElement> container;
+
+        private SyncCandidate(Reference reference, SubmodelElement element, Collection<SubmodelElement> container) {
+            this.reference = reference;
+            this.element = element;
+            this.container = container;
+        }
+
+
+        private Reference getReference() {
+            return reference;
+        }
+
+
+        private SubmodelElement getElement() {
+            return element;
+        }
+
+
+        private Collection<SubmodelElement> getContainer() {
+            return container;
+        }
+    }
 }
@@ -13,17 +13,11 @@
  */
 package org.eclipse.digitaltwin.fa3st.service.request.handler;
 
-import org.eclipse.digitaltwin.aas4j.v3.model.AssetAdministrationShell;
-import org.eclipse.digitaltwin.aas4j.v3.model.Reference;
 import org.eclipse.digitaltwin.fa3st.common.exception.PersistenceException;
 import org.eclipse.digitaltwin.fa3st.common.exception.ResourceNotFoundException;
 import org.eclipse.digitaltwin.fa3st.common.model.api.Response;
-import org.eclipse.digitaltwin.fa3st.common.model.api.modifier.Level;
-import org.eclipse.digitaltwin.fa3st.common.model.api.modifier.OutputModifier;
 import org.eclipse.digitaltwin.fa3st.common.model.api.request.AbstractSubmodelInterfaceRequest;
 import org.eclipse.digitaltwin.fa3st.common.util.Ensure;
-import org.eclipse.digitaltwin.fa3st.common.util.ReferenceBuilder;
-import org.eclipse.digitaltwin.fa3st.common.util.ReferenceHelper;
 
 
 /**
@@ -53,19 +47,12 @@ public abstract class AbstractSubmodelInterfaceRequestHandler<T extends Abstract
      * @throws ResourceNotFoundException if AAS does not exist or submodel does not belong to AAS
      */
     protected void validateSubmodelWithinAAS(T request, RequestExecutionContext context) throws ResourceNotFoundException, PersistenceException {
-        if (request.getAasId() != null) {
-            Reference submodelRef = ReferenceBuilder.forSubmodel(request.getSubmodelId());
-            AssetAdministrationShell aas = context.getPersistence().getAssetAdministrationShell(
+        if (request.getAasId() != null
+                && !context.getPersistence().assetAdministrationShellContainsSubmodel(request.getAasId(), request.getSubmodelId())) {
+            throw new ResourceNotFoundException(String.format(
+                    "AAS does not contain requested submodel (aasId: %s, submodelId: %s)",
                     request.getAasId(),
-                    new OutputModifier.Builder()
-                            .level(Level.CORE)
-                            .build());
-            if (aas.getSubmodels().stream().noneMatch(x -> ReferenceHelper.equals(x, submodelRef))) {
-                throw new ResourceNotFoundException(String.format(
-                        "AAS does not contain requested submodel (aasId: %s, submodelId: %s)",
-                        request.getAasId(),
-                        request.getSubmodelId()));
-            }
+                    request.getSubmodelId()));
         }
     }
 
@@ -21,6 +21,7 @@ import org.eclipse.digitaltwin.fa3st.service.endpoint.Endpoint;
 import org.eclipse.digitaltwin.fa3st.service.filestorage.FileStorage;
 import org.eclipse.digitaltwin.fa3st.service.messagebus.MessageBus;
 import org.eclipse.digitaltwin.fa3st.service.persistence.Persistence;
+import org.eclipse.digitaltwin.fa3st.service.request.RequestDeadline;
 
 
 /**
@@ -30,11 +31,18 @@ import org.eclipse.digitaltwin.fa3st.service.persistence.Persistence;
 public class DynamicRequestExecutionContext implements RequestExecutionContext {
 
     private final Endpoint endpoint;
+    private final RequestDeadline deadline;
     private final Service service;
 
-    public DynamicRequestExecutionContext(Service service, Endpoint endpoint) {
+    public DynamicRequestExecutionContext(Service service, Endpoint endpoint, RequestDeadline deadline) {
         this.service = service;
         this.endpoint = endpoint;
+        this.deadline = Objects.nonNull(deadline) ? deadline : RequestDeadline.NONE;
+    }
+
+
+    public DynamicRequestExecutionContext(Service service, Endpoint endpoint) {
+        this(service, endpoint, RequestDeadline.NONE);
     }
 
 
@@ -55,6 +63,12 @@ public class DynamicRequestExecutionContext implements RequestExecutionContext {
     }
 
 
+    @Override
+    public RequestDeadline getDeadline() {
+        return deadline;
+    }
+
+
     @Override
     public Endpoint getEndpoint() {
         return endpoint;
@@ -87,7 +101,13 @@ public class DynamicRequestExecutionContext implements RequestExecutionContext {
 
     @Override
     public DynamicRequestExecutionContext withEndpoint(Endpoint endpoint) {
-        return new DynamicRequestExecutionContext(service, endpoint);
+        return new DynamicRequestExecutionContext(service, endpoint, deadline);
+    }
+
+
+    @Override
+    public DynamicRequestExecutionContext withDeadline(RequestDeadline deadline) {
+        return new DynamicRequestExecutionContext(service, endpoint, deadline);
     }
 
 
@@ -101,12 +121,13 @@ public class DynamicRequestExecutionContext implements RequestExecutionContext {
         }
         DynamicRequestExecutionContext that = (DynamicRequestExecutionContext) o;
         return Objects.equals(endpoint, that.endpoint)
+                && Objects.equals(deadline, that.deadline)
                 && Objects.equals(service, that.service);
     }
 
 
     @Override
     public int hashCode() {
-        return Objects.hash(endpoint, service);
+        return Objects.hash(endpoint, deadline, service);
     }
 }
@@ -19,6 +19,7 @@ import org.eclipse.digitaltwin.fa3st.service.endpoint.Endpoint;
 import org.eclipse.digitaltwin.fa3st.service.filestorage.FileStorage;
 import org.eclipse.digitaltwin.fa3st.service.messagebus.MessageBus;
 import org.eclipse.digitaltwin.fa3st.service.persistence.Persistence;
+import org.eclipse.digitaltwin.fa3st.service.request.RequestDeadline;
 
 
 /**
@@ -33,6 +34,14 @@ public interface RequestExecutionContext {
     public CoreConfig getCoreConfig();
 
 
+    /**
+     * Returns the deadline of the request.
+     *
+     * @return the deadline of the request, {@link RequestDeadline#NONE} if there is none
+     */
+    public RequestDeadline getDeadline();
+
+
     public Endpoint getEndpoint();
 
 
@@ -60,4 +69,13 @@ public interface RequestExecutionContext {
      * @return new instance of the execution context with endpoint set
      */
     public RequestExecutionContext withEndpoint(Endpoint endpoint);
+
+
+    /**
+     * Creates a new copy of this execution context with the provided deadline.
+     *
+     * @param deadline the deadline to use
+     * @return new instance of the execution context with deadline set
+     */
+    public RequestExecutionContext withDeadline(RequestDeadline deadline);
 }
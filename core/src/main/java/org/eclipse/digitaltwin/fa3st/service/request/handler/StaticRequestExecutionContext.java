@@ -20,6 +20,7 @@ import org.eclipse.digitaltwin.fa3st.service.endpoint.Endpoint;
 import org.eclipse.digitaltwin.fa3st.service.filestorage.FileStorage;
 import org.eclipse.digitaltwin.fa3st.service.messagebus.MessageBus;
 import org.eclipse.digitaltwin.fa3st.service.persistence.Persistence;
+import org.eclipse.digitaltwin.fa3st.service.request.RequestDeadline;
 
 
 /**
@@ -31,6 +32,7 @@ public class StaticRequestExecutionContext implements RequestExecutionContext {
     private final AssetConnectionManager assetConnectionManager;
     private final CoreConfig coreConfig;
     private final Endpoint endpoint;
+    private final RequestDeadline deadline;
     private final FileStorage fileStorage;
     private final MessageBus messageBus;
     private final Persistence persistence;
@@ -40,13 +42,25 @@ public class StaticRequestExecutionContext implements RequestExecutionContext {
             FileStorage fileStorage,
             MessageBus messageBus,
             AssetConnectionManager assetConnectionManager,
-            Endpoint endpoint) {
+            Endpoint endpoint,
+            RequestDeadline deadline) {
         this.coreConfig = coreConfig;
         this.persistence = persistence;
         this.fileStorage = fileStorage;
         this.messageBus = messageBus;
         this.assetConnectionManager = assetConnectionManager;
         this.endpoint = endpoint;
+        this.deadline = Objects.nonNull(deadline) ? deadline : RequestDeadline.NONE;
+    }
+
+
+    public StaticRequestExecutionContext(CoreConfig coreConfig,
+            Persistence persistence,
+            FileStorage fileStorage,
+            MessageBus messageBus,
+            AssetConnectionManager assetConnectionManager,
+            Endpoint endpoint) {
+        this(coreConfig, persistence, fileStorage, messageBus, assetConnectionManager, endpoint, RequestDeadline.NONE);
     }
 
 
@@ -71,6 +85,12 @@ public class StaticRequestExecutionContext implements RequestExecutionContext {
     }
 
 
+    @Override
+    public RequestDeadline getDeadline() {
+        return deadline;
+    }
+
+
     @Override
     public Endpoint getEndpoint() {
         return endpoint;
@@ -103,7 +123,13 @@ public class StaticRequestExecutionContext implements RequestExecutionContext {
 
     @Override
     public StaticRequestExecutionContext withEndpoint(Endpoint endpoint) {
-        return new StaticRequestExecutionContext(coreConfig, persistence, fileStorage, messageBus, assetConnectionManager, endpoint);
+        return new StaticRequestExecutionContext(coreConfig, persistence, fileStorage, messageBus, assetConnectionManager, endpoint, deadline);
+    }
+
+
+    @Override
+    public StaticRequestExecutionContext withDeadline(RequestDeadline deadline) {
+        return new StaticRequestExecutionContext(coreConfig, persistence, fileStorage, messageBus, assetConnectionManager, endpoint, deadline);
     }
 
 
@@ -119,6 +145,7 @@ public class StaticRequestExecutionContext implements RequestExecutionContext {
         return Objects.equals(assetConnectionManager, that.assetConnectionManager)
                 && Objects.equals(coreConfig, that.coreConfig)
                 && Objects.equals(endpoint, that.endpoint)
+                && Objects.equals(deadline, that.deadline)
                 && Objects.equals(fileStorage, that.fileStorage)
                 && Objects.equals(messageBus, that.messageBus)
                 && Objects.equals(persistence, that.persistence);
@@ -127,6 +154,6 @@ public class StaticRequestExecutionContext implements RequestExecutionContext {
 
     @Override
     public int hashCode() {
-        return Objects.hash(assetConnectionManager, coreConfig, endpoint, fileStorage, messageBus, persistence);
+        return Objects.hash(assetConnectionManager, coreConfig, endpoint, deadline, fileStorage, messageBus, persistence);
     }
 }
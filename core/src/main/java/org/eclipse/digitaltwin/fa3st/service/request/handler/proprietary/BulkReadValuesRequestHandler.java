@@ -0,0 +1,135 @@
+/**
+ * Copyright (c) 2025 the Eclipse FA³ST Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.eclipse.digitaltwin.fa3st.service.request.handler.proprietary;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import org.eclipse.digitaltwin.aas4j.v3.model.Reference;
+import org.eclipse.digitaltwin.aas4j.v3.model.SubmodelElement;
+import org.eclipse.digitaltwin.fa3st.common.exception.MessageBusException;
+import org.eclipse.digitaltwin.fa3st.common.exception.PersistenceException;
+import org.eclipse.digitaltwin.fa3st.common.exception.ResourceNotFoundException;
+import org.eclipse.digitaltwin.fa3st.common.exception.ValueMappingException;
+import org.eclipse.digitaltwin.fa3st.common.model.SubmodelElementIdentifier;
+import org.eclipse.digitaltwin.fa3st.common.model.api.StatusCode;
+import org.eclipse.digitaltwin.fa3st.common.model.api.modifier.QueryModifier;
+import org.eclipse.digitaltwin.fa3st.common.model.messagebus.EventMessage;
+import org.eclipse.digitaltwin.fa3st.common.model.messagebus.event.access.ElementReadEventMessage;
+import org.eclipse.digitaltwin.fa3st.common.model.messagebus.event.change.ValueChangeEventMessage;
+import org.eclipse.digitaltwin.fa3st.common.model.value.DataElementValue;
+import org.eclipse.digitaltwin.fa3st.common.model.value.ElementValue;
+import org.eclipse.digitaltwin.fa3st.common.model.value.mapper.ElementValueMapper;
+import org.eclipse.digitaltwin.fa3st.common.util.Ensure;
+import org.eclipse.digitaltwin.fa3st.service.assetconnection.AssetConnectionManager.ValueReadResult;
+import org.eclipse.digitaltwin.fa3st.service.request.bulk.BulkReadValuesRequest;
+import org.eclipse.digitaltwin.fa3st.service.request.bulk.BulkReadValuesResponse;
+import org.eclipse.digitaltwin.fa3st.service.request.bulk.BulkValueResult;
+import org.eclipse.digitaltwin.fa3st.service.request.handler.AbstractRequestHandler;
+import org.eclipse.digitaltwin.fa3st.service.request.handler.RequestExecutionContext;
+
+
+/**
+ * Class to handle a {@link BulkReadValuesRequest} in the service and to send the corresponding response
+ * {@link BulkReadValuesResponse}. All elements are looked up from the persistence at once and values of elements with
+ * an asset connection are read grouped per asset connection. Changed values are written to the persistence at once and
+ * all resulting events are published as a batch. Failures are reported per element.
+ */
+public class BulkReadValuesRequestHandler extends AbstractRequestHandler<BulkReadValuesRequest, BulkReadValuesResponse> {
+
+    @Override
+    public BulkReadValuesResponse process(BulkReadValuesRequest request, RequestExecutionContext context)
+            throws PersistenceException, ResourceNotFoundException, MessageBusException {
+        Ensure.requireNonNull(request, "request must be non-null");
+        List<SubmodelElementIdentifier> identifiers = Objects.nonNull(request.getElements())
+                ? request.getElements()
+                : List.of();
+        Map<SubmodelElementIdentifier, SubmodelElement> elements = context.getPersistence().getSubmodelElements(identifiers, QueryModifier.DEFAULT);
+        Map<SubmodelElementIdentifier, Reference> references = new LinkedHashMap<>();
+        elements.keySet().forEach(x -> references.put(x, x.toReference()));
+        Map<Reference, ValueReadResult> assetValues = context.getAssetConnectionManager().readValuesPerElement(references.values(), context.getDeadline());
+        Map<Reference, SubmodelElement> updates = new LinkedHashMap<>();
+        List<EventMessage> events = new ArrayList<>();
+        List<BulkValueResult> results = new ArrayList<>(identifiers.size());
+        for (SubmodelElementIdentifier identifier: identifiers) {
+            SubmodelElement element = elements.get(identifier);
+            if (Objects.isNull(element)) {
+                results.add(BulkValueResult.builder()
+                        .element(identifier)
+                        .statusCode(StatusCode.CLIENT_ERROR_RESOURCE_NOT_FOUND)
+                        .message(String.format("resource not found (submodelId: %s, idShortPath: %s)", identifier.getSubmodelId(), identifier.getIdShortPath()))
+                        .build());
+                continue;
+            }
+            Reference reference = references.get(identifier);
+            ValueReadResult assetValue = assetValues.get(reference);
+            if (Objects.nonNull(assetValue) && !assetValue.isSuccess()) {
+                results.add(BulkValueResult.builder()
+                        .element(identifier)
+                        .statusCode(StatusCode.SERVER_INTERNAL_ERROR)
+                        .message(assetValue.getError().getMessage())
+                        .build());
+                continue;
+            }
+            if (Objects.nonNull(assetValue) && assetValue.getValue().isPresent()) {
+                try {
+                    DataElementValue newValue = assetValue.getValue().get();
+                    ElementValue oldValue = ElementValueMapper.toValue(element);
+                    if (!Objects.equals(oldValue, newValue)) {
+                        element = ElementValueMapper.setValue(element, newValue);
+                        updates.put(reference, element);
+                        if (!request.isInternal()) {
+                            events.add(ValueChangeEventMessage.builder()
+                                    .element(reference)
+                                    .oldValue(oldValue)
+                                    .newValue(newValue)
+                                    .build());
+                        }
+                    }
+                }
+                catch (ValueMappingException e) {
+                    results.add(BulkValueResult.builder()
+                            .element(identifier)
+                            .statusCode(StatusCode.SERVER_INTERNAL_ERROR)
+                            .message(e.getMessage())
+                            .build());
+                    continue;
+                }
+            }
+            if (!request.isInternal()) {
+                events.add(ElementReadEventMessage.builder()
+                        .element(reference)
+                        .value(element)
+                        .build());
+            }
+            results.add(BulkValueResult.builder()
+                    .element(identifier)
+                    .success()
+                    .value(element)
+                    .build());
+        }
+        if (!updates.isEmpty()) {
+            context.getPersistence().updateAll(updates);
+        }
+        if (!events.isEmpty()) {
+            context.getMessageBus().publishAll(events);
+        }
+        return BulkReadValuesResponse.builder()
+                .payload(results)
+                .success()
+                .build();
+    }
+}
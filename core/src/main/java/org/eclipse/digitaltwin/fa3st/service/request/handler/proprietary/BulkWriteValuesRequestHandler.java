@@ -0,0 +1,218 @@
+/**
+ * Copyright (c) 2025 the Eclipse FA³ST Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.eclipse.digitaltwin.fa3st.service.request.handler.proprietary;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Collectors;
+import org.eclipse.digitaltwin.aas4j.v3.model.MessageTypeEnum;
+import org.eclipse.digitaltwin.aas4j.v3.model.Reference;
+import org.eclipse.digitaltwin.aas4j.v3.model.SubmodelElement;
+import org.eclipse.digitaltwin.fa3st.common.dataformat.DeserializationException;
+import org.eclipse.digitaltwin.fa3st.common.exception.AssetConnectionException;
+import org.eclipse.digitaltwin.fa3st.common.exception.MessageBusException;
+import org.eclipse.digitaltwin.fa3st.common.exception.PersistenceException;
+import org.eclipse.digitaltwin.fa3st.common.exception.ResourceNotFoundException;
+import org.eclipse.digitaltwin.fa3st.common.exception.ValueMappingException;
+import org.eclipse.digitaltwin.fa3st.common.model.SubmodelElementIdentifier;
+import org.eclipse.digitaltwin.fa3st.common.model.api.Message;
+import org.eclipse.digitaltwin.fa3st.common.model.api.StatusCode;
+import org.eclipse.digitaltwin.fa3st.common.model.api.modifier.Extent;
+import org.eclipse.digitaltwin.fa3st.common.model.api.modifier.QueryModifier;
+import org.eclipse.digitaltwin.fa3st.common.model.messagebus.EventMessage;
+import org.eclipse.digitaltwin.fa3st.common.model.messagebus.event.change.ValueChangeEventMessage;
+import org.eclipse.digitaltwin.fa3st.common.model.value.ElementValue;
+import org.eclipse.digitaltwin.fa3st.common.model.value.mapper.ElementValueMapper;
+import org.eclipse.digitaltwin.fa3st.common.util.Ensure;
+import org.eclipse.digitaltwin.fa3st.service.request.bulk.BulkValueResult;
+import org.eclipse.digitaltwin.fa3st.service.request.bulk.BulkValueWrite;
+import org.eclipse.digitaltwin.fa3st.service.request.bulk.BulkWriteValuesRequest;
+import org.eclipse.digitaltwin.fa3st.service.request.bulk.BulkWriteValuesResponse;
+import org.eclipse.digitaltwin.fa3st.service.request.handler.AbstractRequestHandler;
+import org.eclipse.digitaltwin.fa3st.service.request.handler.RequestExecutionContext;
+
+
+/**
+ * Class to handle a {@link BulkWriteValuesRequest} in the service and to send the corresponding response
+ * {@link BulkWriteValuesResponse}. All elements are looked up from the persistence at once and all values are parsed
+ * and validated before anything is written. Values are then written to the assets grouped per asset connection, all
+ * written values are committed to the persistence at once and the resulting events are published as a batch.
+ *
+ * <p>In atomic mode nothing is committed to the persistence if any value is invalid or could not be written to its
+ * asset. As values already written to assets cannot be rolled back, assets of other elements may still have received
+ * their new value in the latter case.
+ */
+public class BulkWriteValuesRequestHandler extends AbstractRequestHandler<BulkWriteValuesRequest, BulkWriteValuesResponse> {
+
+    private static final QueryModifier QUERY_MODIFIER = new QueryModifier.Builder()
+            .extent(Extent.WITH_BLOB_VALUE)
+            .build();
+
+    @Override
+    public BulkWriteValuesResponse process(BulkWriteValuesRequest request, RequestExecutionContext context)
+            throws PersistenceException, ResourceNotFoundException, MessageBusException {
+        Ensure.requireNonNull(request, "request must be non-null");
+        List<BulkValueWrite> writes = Objects.nonNull(request.getValues())
+                ? request.getValues()
+                : List.of();
+        Map<SubmodelElementIdentifier, SubmodelElement> elements = context.getPersistence().getSubmodelElements(
+                writes.stream()
+                        .map(BulkValueWrite::getElement)
+                        .filter(Objects::nonNull)
+                        .distinct()
+                        .collect(Collectors.toList()),
+                QUERY_MODIFIER);
+        List<BulkValueResult> results = new ArrayList<>(Collections.nCopies(writes.size(), null));
+        Map<Reference, PreparedWrite> prepared = new LinkedHashMap<>();
+        Set<SubmodelElementIdentifier> visited = new HashSet<>();
+        for (int i = 0; i < writes.size(); i++) {
+            BulkValueWrite write = writes.get(i);
+            SubmodelElementIdentifier identifier = write.getElement();
+            if (Objects.isNull(identifier) || Objects.isNull(write.getValueParser())) {
+                results.set(i, failure(identifier, StatusCode.CLIENT_ERROR_BAD_REQUEST, "element and value parser must be non-null"));
+                continue;
+            }
+            if (!visited.add(identifier)) {
+                results.set(i, failure(identifier, StatusCode.CLIENT_ERROR_BAD_REQUEST, "element must not be written more than once per request"));
+                continue;
+            }
+            SubmodelElement element = elements.get(identifier);
+            if (Objects.isNull(element)) {
+                results.set(i, failure(identifier,
+                        StatusCode.CLIENT_ERROR_RESOURCE_NOT_FOUND,
+                        String.format("resource not found (submodelId: %s, idShortPath: %s)", identifier.getSubmodelId(), identifier.getIdShortPath())));
+                continue;
+            }
+            try {
+                ElementValue oldValue = ElementValueMapper.toValue(element);
+                ElementValue newValue = write.getValueParser().parse(write.getRawValue(), oldValue.getClass());
+                prepared.put(identifier.toReference(), new PreparedWrite(i, identifier, ElementValueMapper.setValue(element, newValue), oldValue, newValue));
+            }
+            catch (DeserializationException | ValueMappingException | IllegalArgumentException e) {
+                results.set(i, failure(identifier, StatusCode.CLIENT_ERROR_BAD_REQUEST, e.getMessage()));
+            }
+        }
+        if (request.isAtomic() && prepared.size() < writes.size()) {
+            prepared.values().forEach(x -> results.set(x.index, failure(x.identifier,
+                    StatusCode.CLIENT_ERROR_BAD_REQUEST,
+                    "value not written because other values of the atomic request are invalid")));
+            return failedResponse(StatusCode.CLIENT_ERROR_BAD_REQUEST, "atomic bulk write rejected because some values are invalid", results);
+        }
+        Map<Reference, AssetConnectionException> assetFailures = request.isSyncWithAsset()
+                ? context.getAssetConnectionManager().setValues(
+                        prepared.entrySet().stream().collect(Collectors.toMap(Map.Entry::getKey, x -> x.getValue().newValue)),
+                        context.getDeadline())
+                : Map.of();
+        for (var failed: assetFailures.entrySet()) {
+            PreparedWrite write = prepared.remove(failed.getKey());
+            if (Objects.nonNull(write)) {
+                results.set(write.index, failure(write.identifier, StatusCode.SERVER_INTERNAL_ERROR, failed.getValue().getMessage()));
+            }
+        }
+        if (request.isAtomic() && !assetFailures.isEmpty()) {
+            prepared.values().forEach(x -> results.set(x.index, failure(x.identifier,
+                    StatusCode.SERVER_INTERNAL_ERROR,
+                    "value not committed because writing other values of the atomic request to their assets failed")));
+            return failedResponse(StatusCode.SERVER_INTERNAL_ERROR, "atomic bulk write aborted because writing values to assets failed", results);
+        }
+        Map<Reference, SubmodelElement> updates = new LinkedHashMap<>();
+        List<EventMessage> events = new ArrayList<>();
+        for (var entry: prepared.entrySet()) {
+            PreparedWrite write = entry.getValue();
+            updates.put(entry.getKey(), write.element);
+            if (!request.isInternal()) {
+                events.add(ValueChangeEventMessage.builder()
+                        .element(entry.getKey())
+                        .oldValue(write.oldValue)
+                        .newValue(write.newValue)
+                        .build());
+            }
+            results.set(write.index, BulkValueResult.builder()
+                    .element(write.identifier)
+                    .statusCode(StatusCode.SUCCESS_NO_CONTENT)
+                    .build());
+        }
+        if (!updates.isEmpty()) {
+            context.getPersistence().updateAll(updates);
+        }
+        if (!events.isEmpty()) {
+            context.getMessageBus().publishAll(events);
+        }
+        return BulkWriteValuesResponse.builder()
+                .payload(results)
+                .success()
+                .build();
+    }
+
+
+    private static BulkValueResult failure(SubmodelElementIdentifier identifier, StatusCode statusCode, String message) {
+        return BulkValueResult.builder()
+                .element(identifier)
+                .statusCode(statusCode)
+                .message(message)
+                .build();
+    }
+
+
+    /**
+     * Creates the response of an aborted atomic request. As error responses are serialized without payload, the
+     * outcome of each element is additionally contained as message.
+     */
+    private static BulkWriteValuesResponse failedResponse(StatusCode statusCode, String message, List<BulkValueResult> results) {
+        BulkWriteValuesResponse response = BulkWriteValuesResponse.builder()
+                .payload(results)
+                .statusCode(statusCode)
+                .build();
+        List<Message> messages = new ArrayList<>();
+        messages.add(new Message.Builder()
+                .text(message)
+                .messageType(MessageTypeEnum.ERROR)
+                .build());
+        results.stream()
+                .filter(x -> Objects.nonNull(x.getElement()))
+                .forEach(x -> messages.add(new Message.Builder()
+                        .text(String.format("%s (submodelId: %s, idShortPath: %s)",
+                                x.getMessage(),
+                                x.getElement().getSubmodelId(),
+                                x.getElement().getIdShortPath()))
+                        .messageType(MessageTypeEnum.ERROR)
+                        .build()));
+        response.getResult().setMessages(messages);
+        return response;
+    }
+
+
+    private static class PreparedWrite {
+
+        private final int index;
+        private final SubmodelElementIdentifier identifier;
+        private final SubmodelElement element;
+        private final ElementValue oldValue;
+        private final ElementValue newValue;
+
+        private PreparedWrite(int index, SubmodelElementIdentifier identifier, SubmodelElement element, ElementValue oldValue, ElementValue newValue) {
+            this.index = index;
+            this.identifier = identifier;
+            this.element = element;
+            this.oldValue = oldValue;
+            this.newValue = newValue;
+        }
+    }
+}
@@ -52,7 +52,7 @@ public class GetSubmodelElementByPathRequestHandler extends AbstractSubmodelInte
                 .idShortPath(request.getPath())
                 .build();
         SubmodelElement submodelElement = context.getPersistence().getSubmodelElement(reference, request.getOutputModifier());
-        Optional<DataElementValue> valueFromAssetConnection = context.getAssetConnectionManager().readValue(reference);
+        Optional<DataElementValue> valueFromAssetConnection = context.getAssetConnectionManager().readValue(reference, context.getDeadline());
         if (valueFromAssetConnection.isPresent()) {
             ElementValue oldValue = ElementValueMapper.toValue(submodelElement);
             if (!Objects.equals(valueFromAssetConnection, oldValue)) {
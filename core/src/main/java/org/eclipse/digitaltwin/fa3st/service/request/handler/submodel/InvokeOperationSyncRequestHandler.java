@@ -16,6 +16,7 @@ package org.eclipse.digitaltwin.fa3st.service.request.handler.submodel;
 import java.util.Arrays;
 import java.util.Calendar;
 import java.util.concurrent.Callable;
+import java.util.concurrent.CancellationException;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
@@ -114,7 +115,10 @@ public class InvokeOperationSyncRequestHandler extends AbstractInvokeOperationRe
         });
         OperationResult result;
         try {
-            OperationVariable[] outputVariables = future.get(request.getTimeout().getTimeInMillis(Calendar.getInstance()), TimeUnit.MILLISECONDS);
+            OperationVariable[] outputVariables = context.getDeadline().await(
+                    future,
+                    request.getTimeout().getTimeInMillis(Calendar.getInstance()),
+                    TimeUnit.MILLISECONDS);
             result = new DefaultOperationResult.Builder()
                     .executionState(ExecutionState.COMPLETED)
                     .inoutputArguments(request.getInoutputArguments())
@@ -131,6 +135,13 @@ public class InvokeOperationSyncRequestHandler extends AbstractInvokeOperationRe
                     .build();
             Thread.currentThread().interrupt();
         }
+        catch (CancellationException e) {
+            result = new DefaultOperationResult.Builder()
+                    .inoutputArguments(request.getInoutputArguments())
+                    .executionState(ExecutionState.CANCELED)
+                    .success(false)
+                    .build();
+        }
         catch (InterruptedException | ExecutionException e) {
             result = new DefaultOperationResult.Builder()
                     .inoutputArguments(request.getInoutputArguments())
@@ -59,6 +59,12 @@ public class PatchSubmodelElementByPathRequestHandler extends AbstractSubmodelIn
                 .idShortPath(request.getPath())
                 .build();
         SubmodelElement oldSubmodelElement = context.getPersistence().getSubmodelElement(reference, QueryModifier.DEFAULT);
+        Class<? extends SubmodelElement> oldType = Objects.nonNull(oldSubmodelElement) ? oldSubmodelElement.getClass() : null;
+        boolean isSerializableAsValue = Objects.nonNull(oldType) && ElementValueHelper.isSerializableAsValue(oldType);
+        // old value must be extracted before patching as the patch is applied to the element directly
+        ElementValue oldValue = isSerializableAsValue
+                ? ElementValueMapper.toValue(oldSubmodelElement)
+                : null;
         SubmodelElement newSubmodelElement = applyMergePatch(request.getChanges(), oldSubmodelElement, SubmodelElement.class);
         ModelValidator.validate(newSubmodelElement, context.getCoreConfig().getValidationOnUpdate());
         context.getPersistence().update(reference, newSubmodelElement);
@@ -69,12 +75,10 @@ public class PatchSubmodelElementByPathRequestHandler extends AbstractSubmodelIn
                     .value(newSubmodelElement)
                     .build());
         }
-        else if (Objects.equals(oldSubmodelElement.getClass(), newSubmodelElement.getClass())
-                && ElementValueHelper.isSerializableAsValue(oldSubmodelElement.getClass())) {
-            ElementValue oldValue = ElementValueMapper.toValue(oldSubmodelElement);
+        else if (Objects.equals(oldType, newSubmodelElement.getClass()) && isSerializableAsValue) {
             ElementValue newValue = ElementValueMapper.toValue(newSubmodelElement);
             if (!Objects.equals(oldValue, newValue)) {
-                context.getAssetConnectionManager().setValue(reference, newValue);
+                context.getAssetConnectionManager().setValue(reference, newValue, context.getDeadline());
                 if (!request.isInternal()) {
                     context.getMessageBus().publish(ValueChangeEventMessage.builder()
                             .element(reference)
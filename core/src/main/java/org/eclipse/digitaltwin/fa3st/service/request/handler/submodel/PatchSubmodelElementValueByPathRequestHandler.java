@@ -57,7 +57,7 @@ public class PatchSubmodelElementValueByPathRequestHandler
         ElementValue newValue = request.getValueParser().parse(request.getRawValue(), oldValue.getClass());
         ElementValueMapper.setValue(submodelElement, newValue);
         if (request.isSyncWithAsset()) {
-            context.getAssetConnectionManager().setValue(reference, newValue);
+            context.getAssetConnectionManager().setValue(reference, newValue, context.getDeadline());
         }
         try {
             context.getPersistence().update(reference, submodelElement);
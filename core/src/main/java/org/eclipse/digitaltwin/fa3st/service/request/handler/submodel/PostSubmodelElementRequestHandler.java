@@ -56,7 +56,7 @@ public class PostSubmodelElementRequestHandler extends AbstractSubmodelInterface
         }
         context.getPersistence().insert(parentReference, request.getSubmodelElement());
         if (ElementValueHelper.isSerializableAsValue(request.getSubmodelElement().getClass())) {
-            context.getAssetConnectionManager().setValue(childReference, ElementValueMapper.toValue(request.getSubmodelElement()));
+            context.getAssetConnectionManager().setValue(childReference, ElementValueMapper.toValue(request.getSubmodelElement()), context.getDeadline());
         }
         if (!request.isInternal()) {
             context.getMessageBus().publish(ElementCreateEventMessage.builder()
@@ -73,7 +73,7 @@ public class PutSubmodelElementByPathRequestHandler extends AbstractSubmodelInte
             ElementValue oldValue = ElementValueMapper.toValue(oldSubmodelElement);
             ElementValue newValue = ElementValueMapper.toValue(newSubmodelElement);
             if (!Objects.equals(oldValue, newValue)) {
-                context.getAssetConnectionManager().setValue(reference, newValue);
+                context.getAssetConnectionManager().setValue(reference, newValue, context.getDeadline());
                 if (!request.isInternal()) {
                     context.getMessageBus().publish(ValueChangeEventMessage.builder()
                             .element(reference)
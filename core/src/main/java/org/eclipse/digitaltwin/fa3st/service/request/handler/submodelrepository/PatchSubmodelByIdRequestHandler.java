@@ -13,8 +13,10 @@
  */
 package org.eclipse.digitaltwin.fa3st.service.request.handler.submodelrepository;
 
+import java.util.List;
 import org.eclipse.digitaltwin.aas4j.v3.model.Reference;
 import org.eclipse.digitaltwin.aas4j.v3.model.Submodel;
+import org.eclipse.digitaltwin.aas4j.v3.model.SubmodelElement;
 import org.eclipse.digitaltwin.fa3st.common.exception.AssetConnectionException;
 import org.eclipse.digitaltwin.fa3st.common.exception.InvalidRequestException;
 import org.eclipse.digitaltwin.fa3st.common.exception.MessageBusException;
@@ -28,10 +30,10 @@ import org.eclipse.digitaltwin.fa3st.common.model.api.modifier.QueryModifier;
 import org.eclipse.digitaltwin.fa3st.common.model.api.request.submodelrepository.PatchSubmodelByIdRequest;
 import org.eclipse.digitaltwin.fa3st.common.model.api.response.submodelrepository.PatchSubmodelByIdResponse;
 import org.eclipse.digitaltwin.fa3st.common.model.messagebus.event.change.ElementUpdateEventMessage;
-import org.eclipse.digitaltwin.fa3st.common.model.validation.ModelValidator;
 import org.eclipse.digitaltwin.fa3st.common.util.ReferenceBuilder;
 import org.eclipse.digitaltwin.fa3st.service.request.handler.AbstractRequestHandler;
 import org.eclipse.digitaltwin.fa3st.service.request.handler.RequestExecutionContext;
+import org.eclipse.digitaltwin.fa3st.service.util.IncrementalValidator;
 
 
 /**
@@ -45,8 +47,10 @@ public class PatchSubmodelByIdRequestHandler extends AbstractRequestHandler<Patc
             throws ResourceNotFoundException, AssetConnectionException, ValueMappingException, MessageBusException, ValidationException, ResourceNotAContainerElementException,
             InvalidRequestException, PersistenceException {
         Submodel current = context.getPersistence().getSubmodel(request.getId(), QueryModifier.DEFAULT);
+        // merge patches replace lists as a whole, therefore the current list of elements is not modified
+        List<SubmodelElement> currentElements = current.getSubmodelElements();
         Submodel updated = applyMergePatch(request.getChanges(), current, Submodel.class);
-        ModelValidator.validate(updated, context.getCoreConfig().getValidationOnUpdate());
+        IncrementalValidator.validate(currentElements, updated, request.getChanges(), context.getCoreConfig());
         context.getPersistence().save(updated);
         Reference reference = ReferenceBuilder.forSubmodel(updated);
         cleanupDanglingAssetConnectionsForParent(reference, context.getPersistence(), context);
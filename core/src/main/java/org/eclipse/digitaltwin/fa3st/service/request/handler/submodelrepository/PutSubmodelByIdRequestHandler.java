@@ -15,6 +15,7 @@ package org.eclipse.digitaltwin.fa3st.service.request.handler.submodelrepository
 
 import org.eclipse.digitaltwin.aas4j.v3.dataformat.core.util.AasUtils;
 import org.eclipse.digitaltwin.aas4j.v3.model.Reference;
+import org.eclipse.digitaltwin.aas4j.v3.model.Submodel;
 import org.eclipse.digitaltwin.fa3st.common.exception.AssetConnectionException;
 import org.eclipse.digitaltwin.fa3st.common.exception.MessageBusException;
 import org.eclipse.digitaltwin.fa3st.common.exception.PersistenceException;
@@ -30,6 +31,7 @@ import org.eclipse.digitaltwin.fa3st.common.model.messagebus.event.change.Elemen
 import org.eclipse.digitaltwin.fa3st.common.model.validation.ModelValidator;
 import org.eclipse.digitaltwin.fa3st.service.request.handler.AbstractRequestHandler;
 import org.eclipse.digitaltwin.fa3st.service.request.handler.RequestExecutionContext;
+import org.eclipse.digitaltwin.fa3st.service.util.IncrementalValidator;
 
 
 /**
@@ -45,9 +47,17 @@ public class PutSubmodelByIdRequestHandler extends AbstractRequestHandler<PutSub
     public PutSubmodelByIdResponse process(PutSubmodelByIdRequest request, RequestExecutionContext context)
             throws ResourceNotFoundException, AssetConnectionException, ValueMappingException, MessageBusException, ValidationException, ResourceNotAContainerElementException,
             PersistenceException {
-        ModelValidator.validate(request.getSubmodel(), context.getCoreConfig().getValidationOnUpdate());
-        //check if resource does exist
-        context.getPersistence().getSubmodel(request.getSubmodel().getId(), QueryModifier.DEFAULT);
+        Submodel current;
+        try {
+            //check if resource does exist
+            current = context.getPersistence().getSubmodel(request.getSubmodel().getId(), QueryModifier.DEFAULT);
+        }
+        catch (ResourceNotFoundException e) {
+            // invalid payloads are reported before missing resources
+            ModelValidator.validate(request.getSubmodel(), context.getCoreConfig().getValidationOnUpdate());
+            throw e;
+        }
+        IncrementalValidator.validate(current, request.getSubmodel(), context.getCoreConfig());
         context.getPersistence().save(request.getSubmodel());
         Reference reference = AasUtils.toReference(request.getSubmodel());
         syncWithAsset(reference, request.getSubmodel().getSubmodelElements(), !request.isInternal(), context);
@@ -0,0 +1,172 @@
+/**
+ * Copyright (c) 2025 the Eclipse FA³ST Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.eclipse.digitaltwin.fa3st.service.util;
+
+import io.github.classgraph.ClassGraph;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.lang.reflect.Modifier;
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.FileSystemNotFoundException;
+import java.nio.file.InvalidPathException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+
+/**
+ * Reads the build-time indices of implementation classes generated by
+ * {@code org.eclipse.digitaltwin.fa3st.service.processor.IndexProcessor} for types annotated with
+ * {@code @Indexed}. Using the index avoids scanning classpath elements that provide an index at startup.
+ */
+public class ClassIndex {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(ClassIndex.class);
+    private static final String INDEX_LOCATION = "META-INF/fa3st/index/";
+    private static final String JAR_PROTOCOL_PREFIX = "jar:";
+    private static final String JAR_SEPARATOR = "!/";
+
+    private ClassIndex() {}
+
+
+    /**
+     * Finds all non-abstract implementations of a type using the build-time index visible to the class loader of the
+     * type.
+     *
+     * @param <T> the type
+     * @param type the type to find implementations for
+     * @return the implementing classes if an index is available, otherwise empty
+     */
+    public static <T> Optional<List<Class<? extends T>>> getImplementations(Class<T> type) {
+        return getImplementations(type, type.getClassLoader());
+    }
+
+
+    /**
+     * Finds all non-abstract implementations of a type using all build-time indices visible to the given class loader.
+     *
+     * @param <T> the type
+     * @param type the type to find implementations for
+     * @param classLoader the class loader to use for finding indices and loading classes
+     * @return the implementing classes if an index is available, otherwise empty
+     */
+    public static <T> Optional<List<Class<? extends T>>> getImplementations(Class<T> type, ClassLoader classLoader) {
+        Set<String> classNames = new LinkedHashSet<>();
+        try {
+            Enumeration<URL> resources = classLoader.getResources(INDEX_LOCATION + type.getName());
+            if (!resources.hasMoreElements()) {
+                return Optional.empty();
+            }
+            for (URL resource: Collections.list(resources)) {
+                try (BufferedReader reader = new BufferedReader(new InputStreamReader(resource.openStream(), StandardCharsets.UTF_8))) {
+                    reader.lines()
+                            .map(String::trim)
+                            .filter(x -> !x.isEmpty())
+                            .forEach(classNames::add);
+                }
+            }
+        }
+        catch (IOException e) {
+            LOGGER.debug("reading class index failed (type: {})", type.getName(), e);
+            return Optional.empty();
+        }
+        List<Class<? extends T>> result = new ArrayList<>();
+        for (String className: classNames) {
+            try {
+                Class<?> implementation = Class.forName(className, false, classLoader);
+                if (!type.isAssignableFrom(implementation)
+                        || implementation.isInterface()
+                        || Modifier.isAbstract(implementation.getModifiers())) {
+                    LOGGER.debug("ignoring invalid entry in class index (type: {}, class: {})", type.getName(), className);
+                    continue;
+                }
+                result.add(implementation.asSubclass(type));
+            }
+            catch (ClassNotFoundException | LinkageError e) {
+                LOGGER.debug("ignoring unknown class in class index (type: {}, class: {})", type.getName(), className, e);
+            }
+        }
+        return Optional.of(result);
+    }
+
+
+    /**
+     * Creates a filter for classpath scanning that excludes all classpath elements, i.e. directories and jar files,
+     * that provide a build-time index for the given type. Implementations contained in these elements are already known
+     * from the index, so only third-party jars or plugins built without the index processor need to be scanned.
+     *
+     * @param type the indexed type
+     * @param classLoader the class loader to use for finding indices
+     * @return a filter accepting only classpath elements without build-time index for the type
+     */
+    public static ClassGraph.ClasspathElementFilter withoutIndex(Class<?> type, ClassLoader classLoader) {
+        Set<Path> indexedElements = getIndexedClasspathElements(type, classLoader);
+        return x -> {
+            try {
+                return !indexedElements.contains(Path.of(x).toAbsolutePath().normalize());
+            }
+            catch (InvalidPathException e) {
+                return true;
+            }
+        };
+    }
+
+
+    private static Set<Path> getIndexedClasspathElements(Class<?> type, ClassLoader classLoader) {
+        String resourceName = INDEX_LOCATION + type.getName();
+        Set<Path> result = new HashSet<>();
+        try {
+            for (URL resource: Collections.list(classLoader.getResources(resourceName))) {
+                getClasspathElement(resource, resourceName).ifPresent(result::add);
+            }
+        }
+        catch (IOException e) {
+            LOGGER.debug("reading class index failed (type: {})", type.getName(), e);
+        }
+        return result;
+    }
+
+
+    private static Optional<Path> getClasspathElement(URL resource, String resourceName) {
+        String url = resource.toString();
+        if (url.startsWith(JAR_PROTOCOL_PREFIX) && url.contains(JAR_SEPARATOR)) {
+            url = url.substring(JAR_PROTOCOL_PREFIX.length(), url.indexOf(JAR_SEPARATOR));
+        }
+        else if (url.endsWith(resourceName)) {
+            url = url.substring(0, url.length() - resourceName.length());
+        }
+        else {
+            return Optional.empty();
+        }
+        try {
+            return Optional.of(Path.of(new URI(url)).toAbsolutePath().normalize());
+        }
+        catch (URISyntaxException | IllegalArgumentException | FileSystemNotFoundException e) {
+            LOGGER.debug("unable to determine classpath element of class index (resource: {})", resource, e);
+            return Optional.empty();
+        }
+    }
+}
@@ -0,0 +1,49 @@
+/**
+ * Copyright (c) 2025 the Eclipse FA³ST Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.eclipse.digitaltwin.fa3st.service.util;
+
+import java.lang.reflect.InvocationTargetException;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+
+/**
+ * Helper class for creating executors.
+ */
+public class ExecutorHelper {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(ExecutorHelper.class);
+
+    private ExecutorHelper() {}
+
+
+    /**
+     * Creates an executor that starts a new virtual thread for each task. As virtual threads are only available on
+     * Java 21+, the executor is resolved reflectively.
+     *
+     * @return an executor using virtual threads if supported by the JVM, otherwise empty
+     */
+    public static Optional<ExecutorService> newVirtualThreadPerTaskExecutor() {
+        try {
+            return Optional.of((ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null));
+        }
+        catch (NoSuchMethodException | IllegalAccessException | InvocationTargetException e) {
+            LOGGER.trace("virtual threads not supported by JVM", e);
+            return Optional.empty();
+        }
+    }
+}
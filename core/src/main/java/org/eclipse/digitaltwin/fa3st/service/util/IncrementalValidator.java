@@ -0,0 +1,222 @@
+/**
+ * Copyright (c) 2025 the Eclipse FA³ST Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.eclipse.digitaltwin.fa3st.service.util;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.fge.jsonpatch.mergepatch.JsonMergePatch;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import org.eclipse.digitaltwin.aas4j.v3.model.Submodel;
+import org.eclipse.digitaltwin.aas4j.v3.model.SubmodelElement;
+import org.eclipse.digitaltwin.fa3st.common.exception.ValidationException;
+import org.eclipse.digitaltwin.fa3st.common.model.validation.ModelValidator;
+import org.eclipse.digitaltwin.fa3st.common.model.validation.ModelValidatorConfig;
+import org.eclipse.digitaltwin.fa3st.service.config.CoreConfig;
+
+
+/**
+ * Validates updated submodels by only checking the parts that actually changed compared to the currently stored
+ * version instead of the whole submodel.
+ *
+ * <p>The result is equivalent to validating the whole updated submodel with {@link ModelValidator} provided that the
+ * stored version already satisfies the given validation config. The methods accepting a {@link CoreConfig} only
+ * validate incrementally if this is guaranteed, i.e. if every way a submodel can enter the persistence validates at
+ * least as strict as updates do (see {@link #isApplicable(CoreConfig)}), and otherwise validate the whole submodel.
+ * This holds because
+ * <ul>
+ * <li>all constraints on a submodel element only depend on its own subtree and on the kind of the submodel, therefore
+ * unchanged top-level elements cannot become invalid unless the kind of the submodel changes, in which case the whole
+ * submodel is validated,</li>
+ * <li>the only constraint spanning multiple top-level elements is the uniqueness of their idShorts, which is checked
+ * explicitly for all top-level elements.</li>
+ * </ul>
+ *
+ * <p>Validation temporarily replaces the submodel elements of the updated submodel. The updated submodel must therefore
+ * not be accessed concurrently while being validated.
+ */
+public class IncrementalValidator {
+
+    private static final String SUBMODEL_ELEMENTS = "submodelElements";
+    private static final String KIND = "kind";
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    private IncrementalValidator() {}
+
+
+    /**
+     * Checks whether incremental validation yields the same result as full validation for the given config, i.e.
+     * whether submodels stored in the persistence are guaranteed to satisfy the update validation config. This is the
+     * case if validation on load and on create is at least as strict as validation on update.
+     *
+     * @param coreConfig the core config
+     * @return true if incremental validation can be used, otherwise false
+     */
+    public static boolean isApplicable(CoreConfig coreConfig) {
+        ModelValidatorConfig required = coreConfig.getValidationOnUpdate();
+        return covers(coreConfig.getValidationOnLoad(), required)
+                && covers(coreConfig.getValidationOnCreate(), required);
+    }
+
+
+    /**
+     * Validates an updated submodel against the currently stored version using the update validation config. Falls
+     * back to full validation if incremental validation is not applicable for the given config.
+     *
+     * @param current the currently stored version of the submodel, may be null in which case the whole submodel is
+     *            validated
+     * @param updated the updated submodel
+     * @param coreConfig the core config
+     * @throws ValidationException if validation fails
+     */
+    public static void validate(Submodel current, Submodel updated, CoreConfig coreConfig) throws ValidationException {
+        if (!isApplicable(coreConfig)) {
+            ModelValidator.validate(updated, coreConfig.getValidationOnUpdate());
+            return;
+        }
+        validate(current, updated, coreConfig.getValidationOnUpdate());
+    }
+
+
+    /**
+     * Validates an updated submodel against the currently stored version. The stored version must satisfy the given
+     * validation config.
+     *
+     * @param current the currently stored version of the submodel, may be null in which case the whole submodel is
+     *            validated
+     * @param updated the updated submodel
+     * @param config the validation config
+     * @throws ValidationException if validation fails
+     */
+    public static void validate(Submodel current, Submodel updated, ModelValidatorConfig config) throws ValidationException {
+        if (Objects.isNull(current)
+                || Objects.isNull(updated)
+                || !Objects.equals(current.getKind(), updated.getKind())) {
+            ModelValidator.validate(updated, config);
+            return;
+        }
+        validateChanged(updated, getChangedElements(current.getSubmodelElements(), updated.getSubmodelElements()), config);
+    }
+
+
+    /**
+     * Validates a submodel that has been updated by applying a JSON merge patch using the update validation config.
+     * Falls back to full validation if incremental validation is not applicable for the given config.
+     *
+     * @param currentElements the submodel elements of the currently stored version of the submodel
+     * @param updated the updated submodel, i.e. with the patch already applied
+     * @param patch the patch that has been applied
+     * @param coreConfig the core config
+     * @throws ValidationException if validation fails
+     */
+    public static void validate(List<SubmodelElement> currentElements, Submodel updated, JsonMergePatch patch, CoreConfig coreConfig)
+            throws ValidationException {
+        if (!isApplicable(coreConfig)) {
+            ModelValidator.validate(updated, coreConfig.getValidationOnUpdate());
+            return;
+        }
+        validate(currentElements, updated, patch, coreConfig.getValidationOnUpdate());
+    }
+
+
+    /**
+     * Validates a submodel that has been updated by applying a JSON merge patch. If the patch modifies the kind of the
+     * submodel, the whole submodel is validated. If it modifies the submodel elements, only elements that differ from
+     * the currently stored ones are validated. The stored version must satisfy the given validation config.
+     *
+     * @param currentElements the submodel elements of the currently stored version of the submodel
+     * @param updated the updated submodel, i.e. with the patch already applied
+     * @param patch the patch that has been applied
+     * @param config the validation config
+     * @throws ValidationException if validation fails
+     */
+    public static void validate(List<SubmodelElement> currentElements, Submodel updated, JsonMergePatch patch, ModelValidatorConfig config)
+            throws ValidationException {
+        JsonNode node = Objects.nonNull(patch) ? MAPPER.valueToTree(patch) : null;
+        if (Objects.isNull(updated)
+                || Objects.isNull(node)
+                || !node.isObject()
+                || node.has(KIND)) {
+            ModelValidator.validate(updated, config);
+            return;
+        }
+        validateChanged(updated,
+                node.has(SUBMODEL_ELEMENTS)
+                        ? getChangedElements(currentElements, updated.getSubmodelElements())
+                        : List.of(),
+                config);
+    }
+
+
+    private static boolean covers(ModelValidatorConfig actual, ModelValidatorConfig required) {
+        if (Objects.isNull(required) || !required.isEnabled()) {
+            return true;
+        }
+        return Objects.nonNull(actual)
+                && actual.isEnabled()
+                && (actual.getValidateConstraints() || !required.getValidateConstraints())
+                && (actual.getIdShortUniqueness() || !required.getIdShortUniqueness())
+                && (actual.getIdentifierUniqueness() || !required.getIdentifierUniqueness());
+    }
+
+
+    private static List<SubmodelElement> getChangedElements(List<SubmodelElement> currentElements, List<SubmodelElement> updatedElements) {
+        Map<String, SubmodelElement> current = new HashMap<>();
+        if (Objects.nonNull(currentElements)) {
+            currentElements.stream()
+                    .filter(x -> Objects.nonNull(x.getIdShort()))
+                    .forEach(x -> current.putIfAbsent(x.getIdShort(), x));
+        }
+        List<SubmodelElement> result = new ArrayList<>();
+        if (Objects.nonNull(updatedElements)) {
+            for (var element: updatedElements) {
+                if (Objects.isNull(element.getIdShort()) || !Objects.equals(current.get(element.getIdShort()), element)) {
+                    result.add(element);
+                }
+            }
+        }
+        return result;
+    }
+
+
+    private static void validateChanged(Submodel updated, List<SubmodelElement> changedElements, ModelValidatorConfig config) throws ValidationException {
+        List<SubmodelElement> elements = updated.getSubmodelElements();
+        if (Objects.nonNull(elements) && !elements.isEmpty()) {
+            // optional lists must not be empty, therefore no changes are represented by null
+            updated.setSubmodelElements(changedElements.isEmpty() ? null : changedElements);
+        }
+        try {
+            ModelValidator.validate(updated, config);
+        }
+        finally {
+            updated.setSubmodelElements(elements);
+        }
+        if (config.getIdShortUniqueness() && Objects.nonNull(elements)) {
+            Set<String> idShorts = new HashSet<>();
+            for (var element: elements) {
+                if (Objects.nonNull(element.getIdShort()) && !idShorts.add(element.getIdShort())) {
+                    throw new ValidationException(String.format(
+                            "idShort must be unique within the same namespace (idShort: %s, submodel: %s)",
+                            element.getIdShort(),
+                            updated.getId()));
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,157 @@
+/**
+ * Copyright (c) 2025 the Eclipse FA³ST Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.eclipse.digitaltwin.fa3st.service.util;
+
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.introspect.BeanPropertyDefinition;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.github.fge.jsonpatch.JsonPatchException;
+import com.github.fge.jsonpatch.mergepatch.JsonMergePatch;
+import java.io.IOException;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import org.eclipse.digitaltwin.aas4j.v3.dataformat.json.JsonMapperFactory;
+import org.eclipse.digitaltwin.aas4j.v3.dataformat.json.SimpleAbstractTypeResolverFactory;
+
+
+/**
+ * Applies JSON merge patches (RFC 7386) directly to AAS model objects. Only the parts of the object graph touched by
+ * the patch are modified; the rest of the object is neither serialized nor deserialized. If the patch cannot be mapped
+ * to the properties of an object, e.g. because it changes the model type, only this object is converted to JSON,
+ * patched and converted back.
+ */
+public class MergePatchHelper {
+
+    private static final JsonMapper MAPPER = new JsonMapperFactory().create(new SimpleAbstractTypeResolverFactory().create());
+    private static final Map<Class<?>, Map<String, BeanPropertyDefinition>> PROPERTIES = new ConcurrentHashMap<>();
+
+    private MergePatchHelper() {}
+
+
+    /**
+     * Applies a JSON merge patch to an object. The target object is modified in place where possible, therefore callers
+     * must pass a copy if the original object is still needed.
+     *
+     * @param <T> the type of the object
+     * @param patch the patch to apply
+     * @param target the object to patch
+     * @param type the type of the object
+     * @return the patched object; this may be the modified target object or a new instance
+     * @throws JsonPatchException if the patch is invalid
+     * @throws IOException if the patch contains values that are invalid for the type of the object
+     * @throws IllegalArgumentException if the patch contains values that are invalid for the type of the object
+     */
+    public static <T> T apply(JsonMergePatch patch, T target, Class<T> type) throws JsonPatchException, IOException {
+        return apply((JsonNode) MAPPER.valueToTree(patch), target, type);
+    }
+
+
+    /**
+     * Applies a JSON merge patch to an object. The target object is modified in place where possible, therefore callers
+     * must pass a copy if the original object is still needed.
+     *
+     * @param <T> the type of the object
+     * @param patch the JSON representation of the patch to apply
+     * @param target the object to patch
+     * @param type the type of the object
+     * @return the patched object; this may be the modified target object or a new instance
+     * @throws JsonPatchException if the patch is invalid
+     * @throws IOException if the patch contains values that are invalid for the type of the object
+     * @throws IllegalArgumentException if the patch contains values that are invalid for the type of the object
+     */
+    public static <T> T apply(JsonNode patch, T target, Class<T> type) throws JsonPatchException, IOException {
+        return (T) apply(patch, target, MAPPER.constructType(type));
+    }
+
+
+    private static Object apply(JsonNode patch, Object target, JavaType type) throws JsonPatchException, IOException {
+        if (!patch.isObject()) {
+            return MAPPER.readerFor(type).readValue(patch);
+        }
+        if (Objects.isNull(target)) {
+            return MAPPER.readerFor(type).readValue(JsonMergePatch.fromJson(patch).apply(MAPPER.createObjectNode()));
+        }
+        Map<String, BeanPropertyDefinition> properties = getProperties(target.getClass());
+        Iterator<String> fieldNames = patch.fieldNames();
+        while (fieldNames.hasNext()) {
+            if (!properties.containsKey(fieldNames.next())) {
+                return applyViaJson(patch, target, type);
+            }
+        }
+        boolean needsDefaults = false;
+        for (JsonNode value: patch) {
+            needsDefaults |= value.isNull();
+        }
+        Object defaults = null;
+        if (needsDefaults) {
+            try {
+                defaults = target.getClass().getDeclaredConstructor().newInstance();
+            }
+            catch (ReflectiveOperationException | RuntimeException e) {
+                return applyViaJson(patch, target, type);
+            }
+        }
+        Iterator<Map.Entry<String, JsonNode>> fields = patch.fields();
+        while (fields.hasNext()) {
+            Map.Entry<String, JsonNode> field = fields.next();
+            BeanPropertyDefinition property = properties.get(field.getKey());
+            JsonNode value = field.getValue();
+            Object newValue;
+            if (value.isNull()) {
+                // removing a member results in the default value of the property, same as deserializing without it
+                newValue = property.getGetter().getValue(defaults);
+            }
+            else if (value.isObject()) {
+                newValue = apply(value, property.getGetter().getValue(target), property.getPrimaryType());
+            }
+            else {
+                newValue = MAPPER.readerFor(property.getPrimaryType()).readValue(value);
+            }
+            property.getSetter().setValue(target, newValue);
+        }
+        return target;
+    }
+
+
+    private static Object applyViaJson(JsonNode patch, Object target, JavaType type) throws JsonPatchException, IOException {
+        return MAPPER.readerFor(type).readValue(JsonMergePatch.fromJson(patch).apply(MAPPER.valueToTree(target)));
+    }
+
+
+    private static Map<String, BeanPropertyDefinition> getProperties(Class<?> type) {
+        return PROPERTIES.computeIfAbsent(type, x -> {
+            JavaType javaType = MAPPER.constructType(x);
+            if (javaType.isContainerType()
+                    || javaType.isEnumType()
+                    || javaType.isPrimitive()
+                    || CharSequence.class.isAssignableFrom(x)
+                    || Number.class.isAssignableFrom(x)
+                    || Boolean.class.isAssignableFrom(x)) {
+                return Collections.emptyMap();
+            }
+            Map<String, BeanPropertyDefinition> result = new HashMap<>();
+            for (BeanPropertyDefinition property: MAPPER.getDeserializationConfig().introspect(javaType).findProperties()) {
+                if (property.hasGetter() && property.hasSetter()) {
+                    result.put(property.getName(), property);
+                }
+            }
+            return result;
+        });
+    }
+}
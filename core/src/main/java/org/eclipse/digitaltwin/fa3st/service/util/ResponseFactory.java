@@ -0,0 +1,82 @@
+/**
+ * Copyright (c) 2025 the Eclipse FA³ST Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.eclipse.digitaltwin.fa3st.service.util;
+
+import com.google.common.base.Throwables;
+import com.google.common.reflect.TypeToken;
+import java.lang.invoke.LambdaMetafactory;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.util.function.Supplier;
+import org.eclipse.digitaltwin.fa3st.common.exception.TypeInstantiationException;
+import org.eclipse.digitaltwin.fa3st.common.model.api.Request;
+import org.eclipse.digitaltwin.fa3st.common.model.api.Response;
+
+
+/**
+ * Helper class for creating factories for empty responses. The response type and its constructor are resolved once
+ * when creating the factory so that creating a response does not require any reflection.
+ */
+public class ResponseFactory {
+
+    private ResponseFactory() {}
+
+
+    /**
+     * Creates a factory for empty responses matching the given request type.
+     *
+     * @param requestType the request type
+     * @return a factory creating empty responses for the request type
+     * @throws TypeInstantiationException if the response type does not provide an accessible parameterless constructor
+     */
+    public static Supplier<? extends Response> forRequestType(Class<? extends Request> requestType) {
+        return forResponseType((Class<? extends Response>) TypeToken.of(requestType).resolveType(Request.class.getTypeParameters()[0]).getRawType());
+    }
+
+
+    /**
+     * Creates a factory for empty responses of the given type.
+     *
+     * @param <T> the response type
+     * @param responseType the response type
+     * @return a factory creating empty responses of the given type
+     * @throws TypeInstantiationException if the response type does not provide an accessible parameterless constructor
+     */
+    public static <T extends Response> Supplier<T> forResponseType(Class<T> responseType) {
+        try {
+            MethodHandles.Lookup lookup = MethodHandles.lookup();
+            MethodHandle constructor = lookup.findConstructor(responseType, MethodType.methodType(void.class));
+            return (Supplier<T>) LambdaMetafactory.metafactory(
+                    lookup,
+                    "get",
+                    MethodType.methodType(Supplier.class),
+                    MethodType.methodType(Object.class),
+                    constructor,
+                    MethodType.methodType(responseType))
+                    .getTarget()
+                    .invoke();
+        }
+        catch (Exception e) {
+            throw new TypeInstantiationException(
+                    String.format("response type must provide an accessible parameterless constructor (response type: %s)", responseType.getName()),
+                    e);
+        }
+        catch (Throwable e) {
+            // errors are not related to the response type and must not be wrapped
+            Throwables.throwIfUnchecked(e);
+            throw new IllegalStateException(e);
+        }
+    }
+}
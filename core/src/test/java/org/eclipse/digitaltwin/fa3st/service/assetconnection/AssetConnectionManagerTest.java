@@ -0,0 +1,286 @@
+/**
+ * Copyright (c) 2025 the Eclipse FA³ST Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.eclipse.digitaltwin.fa3st.service.assetconnection;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.withSettings;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.eclipse.digitaltwin.aas4j.v3.model.Reference;
+import org.eclipse.digitaltwin.fa3st.common.exception.AssetConnectionException;
+import org.eclipse.digitaltwin.fa3st.common.model.value.DataElementValue;
+import org.eclipse.digitaltwin.fa3st.common.model.value.Datatype;
+import org.eclipse.digitaltwin.fa3st.common.model.value.ElementValue;
+import org.eclipse.digitaltwin.fa3st.common.model.value.PropertyValue;
+import org.eclipse.digitaltwin.fa3st.common.util.ReferenceBuilder;
+import org.eclipse.digitaltwin.fa3st.service.Service;
+import org.eclipse.digitaltwin.fa3st.service.config.CoreConfig;
+import org.eclipse.digitaltwin.fa3st.service.request.RequestDeadline;
+import org.junit.After;
+import org.junit.Test;
+
+
+public class AssetConnectionManagerTest {
+
+    private static final String SUBMODEL_ID = "http://example.org/submodel";
+    private static final long READ_DURATION = 100;
+    private AssetConnectionManager manager;
+
+    @After
+    public void cleanUp() {
+        if (manager != null) {
+            manager.stop();
+        }
+    }
+
+
+    @Test
+    public void testReadValuesParallelPerConnection() throws Exception {
+        ConcurrencyTracker total = new ConcurrencyTracker();
+        ConcurrencyTracker connection1Tracker = new ConcurrencyTracker();
+        ConcurrencyTracker connection2Tracker = new ConcurrencyTracker();
+        AssetConnection connection1 = connection(Map.of(
+                reference("a1"), provider(42, total, connection1Tracker),
+                reference("a2"), provider(42, total, connection1Tracker),
+                reference("a3"), provider(42, total, connection1Tracker)));
+        AssetConnection connection2 = connection(Map.of(
+                reference("b1"), provider(42, total, connection2Tracker),
+                reference("b2"), provider(42, total, connection2Tracker),
+                reference("b3"), provider(42, total, connection2Tracker)));
+        manager = new AssetConnectionManager(CoreConfig.builder()
+                .assetSyncParallelism(8)
+                .assetConnectionParallelism(1)
+                .build(),
+                List.of(connection1, connection2),
+                mock(Service.class));
+        Map<Reference, DataElementValue> actual = manager.readValues(List.of(
+                reference("a1"),
+                reference("a2"),
+                reference("a3"),
+                reference("b1"),
+                reference("b2"),
+                reference("b3"),
+                reference("withoutProvider")));
+        assertEquals(6, actual.size());
+        assertFalse(actual.containsKey(reference("withoutProvider")));
+        // each connection is accessed sequentially but different connections are accessed concurrently
+        assertEquals(1, connection1Tracker.max.get());
+        assertEquals(1, connection2Tracker.max.get());
+        assertEquals(2, total.max.get());
+    }
+
+
+    @Test
+    public void testReadValuesFailure() throws Exception {
+        AssetConnection connection = connection(Map.of(
+                reference("a1"), provider(42, new ConcurrencyTracker()),
+                reference("a2"), failingProvider()));
+        manager = new AssetConnectionManager(CoreConfig.builder()
+                .assetSyncParallelism(8)
+                .build(),
+                List.of(connection),
+                mock(Service.class));
+        try {
+            manager.readValues(List.of(reference("a1"), reference("a2")));
+            fail("expected AssetConnectionException");
+        }
+        catch (AssetConnectionException e) {
+            // expected
+        }
+    }
+
+
+    @Test
+    public void testReadValuesPerElementIsolatesFailures() throws Exception {
+        AssetConnection connection1 = connection(Map.of(
+                reference("a1"), provider(1, new ConcurrencyTracker()),
+                reference("a2"), failingProvider()));
+        AssetConnection connection2 = connection(Map.of(
+                reference("b1"), provider(2, new ConcurrencyTracker())));
+        manager = new AssetConnectionManager(CoreConfig.builder()
+                .assetSyncParallelism(8)
+                .build(),
+                List.of(connection1, connection2),
+                mock(Service.class));
+        Map<Reference, AssetConnectionManager.ValueReadResult> actual = manager.readValuesPerElement(
+                List.of(reference("a1"), reference("a2"), reference("b1")),
+                RequestDeadline.NONE);
+        assertEquals(3, actual.size());
+        assertEquals(PropertyValue.of(Datatype.INT, "1"), actual.get(reference("a1")).getValue().get());
+        assertFalse(actual.get(reference("a2")).isSuccess());
+        assertEquals(PropertyValue.of(Datatype.INT, "2"), actual.get(reference("b1")).getValue().get());
+    }
+
+
+    @Test
+    public void testReadValuesPerElementUsesBatchReader() throws Exception {
+        AssetValueProvider provider1 = provider(1, new ConcurrencyTracker());
+        AssetValueProvider provider2 = provider(2, new ConcurrencyTracker());
+        AssetConnection connection = batchConnection(Map.of(
+                reference("a1"), provider1,
+                reference("a2"), provider2));
+        AssetValueBatchReader reader = (AssetValueBatchReader) connection;
+        when(reader.readValues(any())).thenReturn(Map.of(
+                reference("a1"), PropertyValue.of(Datatype.INT, "3"),
+                reference("a2"), PropertyValue.of(Datatype.INT, "4")));
+        manager = new AssetConnectionManager(CoreConfig.builder()
+                .assetSyncParallelism(8)
+                .build(),
+                List.of(connection),
+                mock(Service.class));
+        Map<Reference, AssetConnectionManager.ValueReadResult> actual = manager.readValuesPerElement(
+                List.of(reference("a1"), reference("a2")),
+                RequestDeadline.NONE);
+        assertEquals(2, actual.size());
+        assertEquals(PropertyValue.of(Datatype.INT, "3"), actual.get(reference("a1")).getValue().get());
+        assertEquals(PropertyValue.of(Datatype.INT, "4"), actual.get(reference("a2")).getValue().get());
+        verify(reader, times(1)).readValues(any());
+        verify(provider1, never()).getValue();
+        verify(provider2, never()).getValue();
+    }
+
+
+    @Test
+    public void testSetValuesUsesBatchWriter() throws Exception {
+        AssetValueProvider provider1 = provider(1, new ConcurrencyTracker());
+        AssetValueProvider provider2 = provider(2, new ConcurrencyTracker());
+        AssetConnection connection = batchConnection(Map.of(
+                reference("a1"), provider1,
+                reference("a2"), provider2));
+        AssetValueBatchWriter writer = (AssetValueBatchWriter) connection;
+        manager = new AssetConnectionManager(CoreConfig.builder()
+                .assetSyncParallelism(8)
+                .build(),
+                List.of(connection),
+                mock(Service.class));
+        Map<Reference, ElementValue> values = Map.of(
+                reference("a1"), PropertyValue.of(Datatype.INT, "3"),
+                reference("a2"), PropertyValue.of(Datatype.INT, "4"));
+        Map<Reference, AssetConnectionException> actual = manager.setValues(values, RequestDeadline.NONE);
+        assertTrue(actual.isEmpty());
+        verify(writer, times(1)).writeValues(Map.of(
+                reference("a1"), PropertyValue.of(Datatype.INT, "3"),
+                reference("a2"), PropertyValue.of(Datatype.INT, "4")));
+        verify(provider1, never()).setValue(any());
+        verify(provider2, never()).setValue(any());
+    }
+
+
+    @Test
+    public void testValueProviderLookupReflectsRemovedProviders() throws Exception {
+        Map<Reference, AssetValueProvider> providers = new HashMap<>(Map.of(
+                reference("a1"), provider(42, new ConcurrencyTracker()),
+                reference("a2"), provider(42, new ConcurrencyTracker())));
+        AssetConnection connection = connection(providers);
+        manager = new AssetConnectionManager(CoreConfig.builder().build(), List.of(connection), mock(Service.class));
+        assertTrue(manager.hasValueProvider(reference("a1")));
+        assertTrue(manager.hasValueProvider(reference("a2")));
+        providers.remove(reference("a1"));
+        assertFalse(manager.hasValueProvider(reference("a1")));
+        assertTrue(manager.hasValueProvider(reference("a2")));
+    }
+
+
+    @Test
+    public void testValueProviderLookupReflectsProvidersRegisteredLater() throws Exception {
+        Map<Reference, AssetValueProvider> providers = new HashMap<>(Map.of(
+                reference("a1"), provider(42, new ConcurrencyTracker())));
+        AssetConnection connection = connection(providers);
+        manager = new AssetConnectionManager(CoreConfig.builder().build(), List.of(connection), mock(Service.class));
+        assertTrue(manager.hasValueProvider(reference("a1")));
+        assertFalse(manager.hasValueProvider(reference("a2")));
+        // simulates an asset connection registering its providers when (re-)connecting
+        providers.put(reference("a2"), provider(42, new ConcurrencyTracker()));
+        assertTrue(manager.hasValueProvider(reference("a2")));
+        assertTrue(manager.hasValueProvider(reference("a1")));
+    }
+
+
+    private static Reference reference(String idShort) {
+        return ReferenceBuilder.forSubmodel(SUBMODEL_ID, idShort);
+    }
+
+
+    private static AssetConnection connection(Map<Reference, AssetValueProvider> providers) {
+        AssetConnection result = mock(AssetConnection.class);
+        when(result.getValueProviders()).thenReturn(providers);
+        when(result.getOperationProviders()).thenReturn(Map.of());
+        when(result.getSubscriptionProviders()).thenReturn(Map.of());
+        return result;
+    }
+
+
+    private static AssetConnection batchConnection(Map<Reference, AssetValueProvider> providers) {
+        AssetConnection result = mock(AssetConnection.class, withSettings().extraInterfaces(AssetValueBatchReader.class, AssetValueBatchWriter.class));
+        when(result.getValueProviders()).thenReturn(providers);
+        when(result.getOperationProviders()).thenReturn(Map.of());
+        when(result.getSubscriptionProviders()).thenReturn(Map.of());
+        return result;
+    }
+
+
+    private static AssetValueProvider provider(int value, ConcurrencyTracker... trackers) throws AssetConnectionException {
+        AssetValueProvider result = mock(AssetValueProvider.class);
+        when(result.getValue()).then(x -> {
+            for (ConcurrencyTracker tracker: trackers) {
+                tracker.enter();
+            }
+            try {
+                Thread.sleep(READ_DURATION);
+            }
+            finally {
+                for (ConcurrencyTracker tracker: trackers) {
+                    tracker.exit();
+                }
+            }
+            return PropertyValue.of(Datatype.INT, Integer.toString(value));
+        });
+        return result;
+    }
+
+
+    private static AssetValueProvider failingProvider() throws AssetConnectionException {
+        AssetValueProvider result = mock(AssetValueProvider.class);
+        when(result.getValue()).thenThrow(new AssetConnectionException("reading value failed"));
+        return result;
+    }
+
+
+    private static class ConcurrencyTracker {
+
+        private final AtomicInteger current = new AtomicInteger();
+        private final AtomicInteger max = new AtomicInteger();
+
+        private void enter() {
+            max.accumulateAndGet(current.incrementAndGet(), Math::max);
+        }
+
+
+        private void exit() {
+            current.decrementAndGet();
+        }
+    }
+}
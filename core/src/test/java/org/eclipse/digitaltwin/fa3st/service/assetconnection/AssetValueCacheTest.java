@@ -0,0 +1,175 @@
+/**
+ * Copyright (c) 2025 the Eclipse FA³ST Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.eclipse.digitaltwin.fa3st.service.assetconnection;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.eclipse.digitaltwin.aas4j.v3.model.Reference;
+import org.eclipse.digitaltwin.fa3st.common.model.value.DataElementValue;
+import org.eclipse.digitaltwin.fa3st.common.model.value.Datatype;
+import org.eclipse.digitaltwin.fa3st.common.model.value.PropertyValue;
+import org.eclipse.digitaltwin.fa3st.common.util.ReferenceBuilder;
+import org.junit.Test;
+
+
+public class AssetValueCacheTest {
+
+    private static final Reference REFERENCE = ReferenceBuilder.forSubmodel("http://example.org/submodel", "property");
+
+    @Test
+    public void testDisabled() throws Exception {
+        AssetValueCache cache = new AssetValueCache(0);
+        AtomicInteger reads = new AtomicInteger();
+        cache.get(REFERENCE, () -> load(reads));
+        cache.get(REFERENCE, () -> load(reads));
+        assertEquals(2, reads.get());
+    }
+
+
+    @Test
+    public void testFreshValueServedFromCache() throws Exception {
+        AssetValueCache cache = new AssetValueCache(60000);
+        AtomicInteger reads = new AtomicInteger();
+        Optional<DataElementValue> expected = cache.get(REFERENCE, () -> load(reads));
+        Optional<DataElementValue> actual = cache.get(REFERENCE, () -> load(reads));
+        assertEquals(1, reads.get());
+        assertEquals(expected, actual);
+    }
+
+
+    @Test
+    public void testInvalidate() throws Exception {
+        AssetValueCache cache = new AssetValueCache(60000);
+        AtomicInteger reads = new AtomicInteger();
+        cache.get(REFERENCE, () -> load(reads));
+        cache.invalidate(REFERENCE);
+        cache.get(REFERENCE, () -> load(reads));
+        assertEquals(2, reads.get());
+    }
+
+
+    @Test
+    public void testPut() throws Exception {
+        AssetValueCache cache = new AssetValueCache(60000);
+        AtomicInteger reads = new AtomicInteger();
+        DataElementValue expected = PropertyValue.of(Datatype.INT, "42");
+        cache.put(REFERENCE, expected);
+        assertEquals(Optional.of(expected), cache.get(REFERENCE, () -> load(reads)));
+        assertEquals(0, reads.get());
+    }
+
+
+    @Test
+    public void testConcurrentReadsAreMerged() throws Exception {
+        AssetValueCache cache = new AssetValueCache(60000);
+        AtomicInteger reads = new AtomicInteger();
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            Future<Optional<DataElementValue>> first = executor.submit(() -> cache.get(REFERENCE, () -> {
+                started.countDown();
+                await(release);
+                return load(reads);
+            }));
+            started.await(5, TimeUnit.SECONDS);
+            Future<Optional<DataElementValue>> second = executor.submit(() -> cache.get(REFERENCE, () -> load(reads)));
+            Thread.sleep(100);
+            release.countDown();
+            assertEquals(first.get(5, TimeUnit.SECONDS), second.get(5, TimeUnit.SECONDS));
+            assertEquals(1, reads.get());
+        }
+        finally {
+            executor.shutdownNow();
+        }
+    }
+
+
+    @Test
+    public void testInvalidateDuringReadDoesNotCacheStaleValue() throws Exception {
+        AssetValueCache cache = new AssetValueCache(60000);
+        AtomicInteger reads = new AtomicInteger();
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            CompletableFuture<Optional<DataElementValue>> read = cache.getAsync(REFERENCE, () -> {
+                started.countDown();
+                await(release);
+                return load(reads);
+            }, executor);
+            started.await(5, TimeUnit.SECONDS);
+            cache.invalidate(REFERENCE);
+            release.countDown();
+            assertEquals(Optional.of(PropertyValue.of(Datatype.INT, "1")), read.get(5, TimeUnit.SECONDS));
+            assertEquals(Optional.of(PropertyValue.of(Datatype.INT, "2")), cache.get(REFERENCE, () -> load(reads)));
+            assertEquals(2, reads.get());
+        }
+        finally {
+            executor.shutdownNow();
+        }
+    }
+
+
+    @Test
+    public void testSharedReadNotCancelledByWaiter() throws Exception {
+        AssetValueCache cache = new AssetValueCache(60000);
+        AtomicInteger reads = new AtomicInteger();
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            CompletableFuture<Optional<DataElementValue>> first = cache.getAsync(REFERENCE, () -> {
+                started.countDown();
+                await(release);
+                return load(reads);
+            }, executor);
+            started.await(5, TimeUnit.SECONDS);
+            CompletableFuture<Optional<DataElementValue>> second = cache.getAsync(REFERENCE, () -> load(reads), executor);
+            first.cancel(true);
+            assertFalse(second.isDone());
+            release.countDown();
+            assertEquals(Optional.of(PropertyValue.of(Datatype.INT, "1")), second.get(5, TimeUnit.SECONDS));
+            assertEquals(Optional.of(PropertyValue.of(Datatype.INT, "1")), cache.get(REFERENCE, () -> load(reads)));
+            assertEquals(1, reads.get());
+        }
+        finally {
+            executor.shutdownNow();
+        }
+    }
+
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        }
+        catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+
+    private static Optional<DataElementValue> load(AtomicInteger reads) {
+        return Optional.of(PropertyValue.of(Datatype.INT, Integer.toString(reads.incrementAndGet())));
+    }
+}
@@ -13,6 +13,8 @@
  */
 package org.eclipse.digitaltwin.fa3st.service.filestorage;
 
+import java.time.Instant;
+import java.util.Optional;
 import org.eclipse.digitaltwin.fa3st.common.exception.ConfigurationException;
 import org.eclipse.digitaltwin.fa3st.common.exception.PersistenceException;
 import org.eclipse.digitaltwin.fa3st.common.exception.ResourceNotFoundException;
@@ -59,4 +61,19 @@ public abstract class AbstractFileStorageTest<T extends FileStorage<C>, C extend
         fileStorage.delete(expected.getPath());
         Assert.assertThrows(ResourceNotFoundException.class, () -> fileStorage.get(expected.getPath()));
     }
+
+
+    @Test
+    public void lastModified() throws ResourceNotFoundException, ConfigurationException, PersistenceException {
+        FileStorageConfig<T> config = getFileStorageConfig();
+        fileStorage = config.newInstance(CoreConfig.DEFAULT, SERVICE_CONTEXT);
+        String path = "my/path/modified.txt";
+        Instant before = Instant.now().minusSeconds(2);
+        fileStorage.save(path, "foo".getBytes());
+        Optional<Instant> actual = fileStorage.getLastModified(path);
+        Assert.assertTrue(actual.isPresent());
+        Assert.assertFalse(actual.get().isBefore(before));
+        fileStorage.delete(path);
+        Assert.assertTrue(fileStorage.getLastModified(path).isEmpty());
+    }
 }
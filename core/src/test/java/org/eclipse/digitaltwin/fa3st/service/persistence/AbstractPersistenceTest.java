@@ -733,6 +733,23 @@ public abstract class AbstractPersistenceTest<T extends Persistence<C>, C extend
     }
 
 
+    @Test
+    public void assetAdministrationShellContainsSubmodel() throws ResourceNotFoundException, PersistenceException {
+        AssetAdministrationShell aas = DeepCopyHelper.deepCopy(
+                environment.getAssetAdministrationShells().get(0),
+                AssetAdministrationShell.class);
+        String submodelId = ReferenceHelper.findFirstKeyType(aas.getSubmodels().get(0), KeyTypes.SUBMODEL);
+        String newSubmodelId = "http://example.org/submodel/new";
+        Assert.assertTrue(persistence.assetAdministrationShellContainsSubmodel(aas.getId(), submodelId));
+        Assert.assertFalse(persistence.assetAdministrationShellContainsSubmodel(aas.getId(), newSubmodelId));
+        aas.getSubmodels().add(ReferenceBuilder.forSubmodel(newSubmodelId));
+        persistence.save(aas);
+        Assert.assertTrue(persistence.assetAdministrationShellContainsSubmodel(aas.getId(), newSubmodelId));
+        persistence.deleteAssetAdministrationShell(aas.getId());
+        Assert.assertThrows(ResourceNotFoundException.class, () -> persistence.assetAdministrationShellContainsSubmodel(aas.getId(), submodelId));
+    }
+
+
     @Test
     public void removeAll() throws PersistenceException {
         persistence.deleteAll();
@@ -0,0 +1,109 @@
+/**
+ * Copyright (c) 2025 the Eclipse FA³ST Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.eclipse.digitaltwin.fa3st.service.request;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThrows;
+import static org.junit.Assert.assertTrue;
+
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import org.junit.AfterClass;
+import org.junit.Test;
+
+
+public class RequestDeadlineTest {
+
+    private static final ExecutorService EXECUTOR = Executors.newCachedThreadPool();
+
+    @AfterClass
+    public static void shutdown() {
+        EXECUTOR.shutdownNow();
+    }
+
+
+    @Test
+    public void testNoneNeverExpires() throws Exception {
+        RequestDeadline.NONE.cancel();
+        assertFalse(RequestDeadline.NONE.canExpire());
+        assertFalse(RequestDeadline.NONE.isExpired());
+        assertEquals("value", RequestDeadline.NONE.await(CompletableFuture.completedFuture("value")));
+        RequestDeadline.NONE.markAborted();
+        assertFalse(RequestDeadline.NONE.isAborted());
+    }
+
+
+    @Test
+    public void testTimeLimitExceeded() throws Exception {
+        RequestDeadline deadline = RequestDeadline.after(50);
+        Future<?> task = EXECUTOR.submit(() -> {
+            Thread.sleep(10000);
+            return null;
+        });
+        long start = System.nanoTime();
+        assertThrows(TimeoutException.class, () -> deadline.await(task));
+        assertTrue(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start) < 5000);
+        assertTrue(task.isCancelled());
+        assertTrue(deadline.isExpired());
+        assertFalse(deadline.isCancelled());
+        assertTrue(deadline.isAborted());
+    }
+
+
+    @Test
+    public void testCancelReleasesWaitingThread() throws Exception {
+        RequestDeadline deadline = RequestDeadline.unlimited();
+        CountDownLatch started = new CountDownLatch(1);
+        Future<?> task = EXECUTOR.submit(() -> {
+            started.countDown();
+            Thread.sleep(10000);
+            return null;
+        });
+        started.await();
+        EXECUTOR.submit(() -> {
+            Thread.sleep(50);
+            deadline.cancel();
+            return null;
+        });
+        assertThrows(CancellationException.class, () -> deadline.await(task));
+        assertTrue(task.isCancelled());
+        assertTrue(deadline.isExpired());
+        assertTrue(deadline.isCancelled());
+        assertTrue(deadline.isAborted());
+    }
+
+
+    @Test
+    public void testAwaitAfterCancel() {
+        RequestDeadline deadline = RequestDeadline.unlimited();
+        deadline.cancel();
+        assertThrows(CancellationException.class, () -> deadline.await(new CompletableFuture<>()));
+    }
+
+
+    @Test
+    public void testExplicitTimeoutShorterThanDeadline() throws Exception {
+        RequestDeadline deadline = RequestDeadline.after(10000);
+        assertThrows(TimeoutException.class, () -> deadline.await(new CompletableFuture<>(), 50, TimeUnit.MILLISECONDS));
+        assertFalse(deadline.isExpired());
+        assertFalse(deadline.isAborted());
+    }
+}
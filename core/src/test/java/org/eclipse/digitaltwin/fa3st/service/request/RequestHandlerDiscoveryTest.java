@@ -0,0 +1,97 @@
+/**
+ * Copyright (c) 2025 the Eclipse FA³ST Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.eclipse.digitaltwin.fa3st.service.request;
+
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.URI;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Collectors;
+import javax.tools.JavaCompiler;
+import javax.tools.JavaFileObject;
+import javax.tools.SimpleJavaFileObject;
+import javax.tools.ToolProvider;
+import org.eclipse.digitaltwin.fa3st.service.request.handler.AbstractRequestHandler;
+import org.eclipse.digitaltwin.fa3st.service.request.handler.description.GetSelfDescriptionRequestHandler;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+
+public class RequestHandlerDiscoveryTest {
+
+    private static final String PLUGIN_HANDLER = "org.eclipse.digitaltwin.fa3st.service.request.handler.plugin.PluginRequestHandler";
+    private static final String PLUGIN_HANDLER_SOURCE = "package org.eclipse.digitaltwin.fa3st.service.request.handler.plugin;"
+            + "import org.eclipse.digitaltwin.fa3st.common.model.api.request.description.GetSelfDescriptionRequest;"
+            + "import org.eclipse.digitaltwin.fa3st.common.model.api.response.description.GetSelfDescriptionResponse;"
+            + "import org.eclipse.digitaltwin.fa3st.service.request.handler.AbstractRequestHandler;"
+            + "import org.eclipse.digitaltwin.fa3st.service.request.handler.RequestExecutionContext;"
+            + "public class PluginRequestHandler extends AbstractRequestHandler<GetSelfDescriptionRequest, GetSelfDescriptionResponse> {"
+            + "    @Override"
+            + "    public GetSelfDescriptionResponse process(GetSelfDescriptionRequest request, RequestExecutionContext context) {"
+            + "        return null;"
+            + "    }"
+            + "}";
+
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    @Test
+    public void testIndexedHandlersFound() {
+        List<Class<? extends AbstractRequestHandler>> actual = RequestHandlerManager.findHandlerClasses(RequestHandlerManager.class.getClassLoader());
+        assertTrue(actual.contains(GetSelfDescriptionRequestHandler.class));
+    }
+
+
+    @Test
+    public void testPluginHandlerWithoutIndexFound() throws IOException {
+        Path plugin = compile(PLUGIN_HANDLER, PLUGIN_HANDLER_SOURCE);
+        try (URLClassLoader classLoader = new URLClassLoader(new URL[] {
+                plugin.toUri().toURL()
+        }, RequestHandlerManager.class.getClassLoader())) {
+            List<String> actual = RequestHandlerManager.findHandlerClasses(classLoader).stream()
+                    .map(Class::getName)
+                    .collect(Collectors.toList());
+            assertTrue(actual.contains(PLUGIN_HANDLER));
+            assertTrue(actual.contains(GetSelfDescriptionRequestHandler.class.getName()));
+        }
+    }
+
+
+    private Path compile(String className, String source) throws IOException {
+        JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        Path output = temporaryFolder.newFolder().toPath();
+        JavaFileObject compilationUnit = new SimpleJavaFileObject(URI.create("string:///" + className.replace('.', '/') + ".java"), JavaFileObject.Kind.SOURCE) {
+            @Override
+            public CharSequence getCharContent(boolean ignoreEncodingErrors) {
+                return source;
+            }
+        };
+        // compile without annotation processing so that the plugin does not contain a build-time index
+        JavaCompiler.CompilationTask task = compiler.getTask(
+                null,
+                null,
+                null,
+                List.of("-proc:none", "-d", output.toString(), "-classpath", System.getProperty("java.class.path") + File.pathSeparator + output),
+                null,
+                List.of(compilationUnit));
+        assertTrue(task.call());
+        return output;
+    }
+}
@@ -0,0 +1,117 @@
+/**
+ * Copyright (c) 2025 the Eclipse FA³ST Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.eclipse.digitaltwin.fa3st.service.request.admission;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertThrows;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import org.eclipse.digitaltwin.fa3st.common.model.api.Request;
+import org.eclipse.digitaltwin.fa3st.common.model.api.request.aasserialization.GenerateSerializationByIdsRequest;
+import org.eclipse.digitaltwin.fa3st.common.model.api.request.submodel.GetSubmodelElementByPathRequest;
+import org.eclipse.digitaltwin.fa3st.common.model.api.request.submodel.InvokeOperationSyncRequest;
+import org.eclipse.digitaltwin.fa3st.common.model.api.request.submodel.PutSubmodelRequest;
+import org.eclipse.digitaltwin.fa3st.service.config.AdmissionControlConfig;
+import org.junit.Test;
+
+
+public class AdmissionControllerTest {
+
+    private static final Request<?> READ_REQUEST = new GetSubmodelElementByPathRequest.Builder().build();
+    private static final Request<?> WRITE_REQUEST = new PutSubmodelRequest.Builder().build();
+    private static final Request<?> OPERATION_REQUEST = new InvokeOperationSyncRequest.Builder().build();
+    private static final Request<?> SERIALIZATION_REQUEST = GenerateSerializationByIdsRequest.builder().build();
+
+    @Test
+    public void testCategories() {
+        assertEquals(RequestCategory.READ, RequestCategory.of(READ_REQUEST));
+        assertEquals(RequestCategory.WRITE, RequestCategory.of(WRITE_REQUEST));
+        assertEquals(RequestCategory.OPERATION, RequestCategory.of(OPERATION_REQUEST));
+        assertEquals(RequestCategory.SERIALIZATION, RequestCategory.of(SERIALIZATION_REQUEST));
+    }
+
+
+    @Test
+    public void testRejectWhenLimitReached() throws Exception {
+        AdmissionController controller = new AdmissionController(AdmissionControlConfig.builder()
+                .enabled(true)
+                .maxConcurrentReads(2)
+                .retryAfter(5)
+                .build());
+        AdmissionController.Permit permit1 = controller.acquire(READ_REQUEST);
+        AdmissionController.Permit permit2 = controller.acquire(READ_REQUEST);
+        RequestRejectedException exception = assertThrows(RequestRejectedException.class, () -> controller.acquire(READ_REQUEST));
+        assertEquals(RequestCategory.READ, exception.getCategory());
+        assertEquals(5, exception.getRetryAfter());
+        permit1.close();
+        permit1.close();
+        assertEquals(1, controller.getActive(RequestCategory.READ));
+        controller.acquire(READ_REQUEST).close();
+        permit2.close();
+        assertEquals(0, controller.getActive(RequestCategory.READ));
+    }
+
+
+    @Test
+    public void testSaturatedSerializationsDoNotBlockReads() throws Exception {
+        AdmissionController controller = new AdmissionController(AdmissionControlConfig.builder()
+                .enabled(true)
+                .maxConcurrentReads(1)
+                .maxConcurrentSerializations(1)
+                .build());
+        try (AdmissionController.Permit serialization = controller.acquire(SERIALIZATION_REQUEST)) {
+            assertThrows(RequestRejectedException.class, () -> controller.acquire(SERIALIZATION_REQUEST));
+            try (AdmissionController.Permit read = controller.acquire(READ_REQUEST);
+                    AdmissionController.Permit write = controller.acquire(WRITE_REQUEST);
+                    AdmissionController.Permit operation = controller.acquire(OPERATION_REQUEST)) {
+                assertEquals(1, controller.getActive(RequestCategory.READ));
+            }
+        }
+    }
+
+
+    @Test
+    public void testDisabledAndUnlimited() throws Exception {
+        AdmissionController unlimited = new AdmissionController(AdmissionControlConfig.builder()
+                .enabled(true)
+                .maxConcurrentReads(0)
+                .build());
+        List<AdmissionController.Permit> permits = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            permits.add(AdmissionController.DISABLED.acquire(SERIALIZATION_REQUEST));
+            permits.add(unlimited.acquire(READ_REQUEST));
+        }
+        assertEquals(1000, unlimited.getActive(RequestCategory.READ));
+        permits.forEach(AdmissionController.Permit::close);
+        assertEquals(0, unlimited.getActive(RequestCategory.READ));
+    }
+
+
+    @Test
+    public void testAdaptiveLimitDecreasesOnHighLatency() throws Exception {
+        AdmissionController controller = new AdmissionController(AdmissionControlConfig.builder()
+                .enabled(true)
+                .adaptive(true)
+                .maxConcurrentReads(10)
+                .targetLatency(1)
+                .build());
+        AdmissionController.Permit permit = controller.acquire(READ_REQUEST);
+        Thread.sleep(20);
+        permit.close();
+        assertTrue(controller.getLimit(RequestCategory.READ) < 10);
+        assertTrue(controller.getLimit(RequestCategory.READ) >= 1);
+    }
+}
@@ -17,6 +17,7 @@ import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.spy;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
@@ -24,6 +25,7 @@ import static org.mockito.Mockito.when;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicReference;
@@ -200,6 +202,11 @@ import org.eclipse.digitaltwin.fa3st.service.filestorage.FileStorage;
 import org.eclipse.digitaltwin.fa3st.service.messagebus.MessageBus;
 import org.eclipse.digitaltwin.fa3st.service.persistence.Persistence;
 import org.eclipse.digitaltwin.fa3st.service.request.RequestHandlerManager;
+import org.eclipse.digitaltwin.fa3st.service.request.bulk.BulkReadValuesRequest;
+import org.eclipse.digitaltwin.fa3st.service.request.bulk.BulkReadValuesResponse;
+import org.eclipse.digitaltwin.fa3st.service.request.bulk.BulkValueWrite;
+import org.eclipse.digitaltwin.fa3st.service.request.bulk.BulkWriteValuesRequest;
+import org.eclipse.digitaltwin.fa3st.service.request.bulk.BulkWriteValuesResponse;
 import org.eclipse.digitaltwin.fa3st.service.request.handler.submodelrepository.DeleteSubmodelByIdRequestHandler;
 import org.junit.Assert;
 import org.junit.Before;
@@ -843,6 +850,32 @@ public class RequestHandlerManagerTest {
     }
 
 
+    @Test
+    public void testPutSubmodelRequestInvalidForMissingSubmodel() throws ResourceNotFoundException, Exception {
+        Submodel submodel = new DefaultSubmodel.Builder()
+                .id("http://example.org/submodel/missing")
+                .submodelElements(List.of(
+                        new DefaultProperty.Builder()
+                                .idShort("duplicate")
+                                .valueType(DataTypeDefXsd.STRING)
+                                .build(),
+                        new DefaultProperty.Builder()
+                                .idShort("duplicate")
+                                .valueType(DataTypeDefXsd.STRING)
+                                .build()))
+                .build();
+        when(persistence.getSubmodel(eq(submodel.getId()), any()))
+                .thenThrow(new ResourceNotFoundException("Resource not found with id"));
+        PutSubmodelRequest request = new PutSubmodelRequest.Builder()
+                .submodelId(submodel.getId())
+                .submodel(submodel)
+                .build();
+        PutSubmodelResponse actual = manager.execute(request, context);
+        Assert.assertEquals(StatusCode.CLIENT_ERROR_BAD_REQUEST, actual.getStatusCode());
+        verify(persistence, never()).save(submodel);
+    }
+
+
     @Test
     public void testGetAllSubmodelElementsRequest() throws ResourceNotFoundException, Exception {
         Reference reference = ReferenceBuilder.forSubmodel(environment.getSubmodels().get(0));
@@ -1611,6 +1644,16 @@ public class RequestHandlerManagerTest {
     }
 
 
+    @Test
+    public void testGetAllAssetAdministrationShellRequestAsyncFuture() throws Exception {
+        when(persistence.findAssetAdministrationShells(eq(AssetAdministrationShellSearchCriteria.NONE), any(), any()))
+                .thenReturn(Page.of(environment.getAssetAdministrationShells()));
+        GetAllAssetAdministrationShellsResponse response = manager.executeAsync(new GetAllAssetAdministrationShellsRequest(), context)
+                .get(DEFAULT_TIMEOUT, TimeUnit.MILLISECONDS);
+        Assert.assertEquals(environment.getAssetAdministrationShells(), response.getPayload().getContent());
+    }
+
+
     @Test
     public void testReadValueFromAssetConnectionAndUpdatePersistence()
             throws AssetConnectionException, ResourceNotFoundException, ValueMappingException, MessageBusException, ResourceNotAContainerElementException, PersistenceException {
@@ -1688,6 +1731,137 @@ public class RequestHandlerManagerTest {
     }
 
 
+    @Test
+    public void testBulkReadValuesRequest() throws Exception {
+        SubmodelElementIdentifier existing = SubmodelElementIdentifier.builder()
+                .submodelId("submodel")
+                .idShortPath(IdShortPath.parse("property"))
+                .build();
+        SubmodelElementIdentifier missing = SubmodelElementIdentifier.builder()
+                .submodelId("submodel")
+                .idShortPath(IdShortPath.parse("missing"))
+                .build();
+        when(persistence.getSubmodelElement(eq(existing), any()))
+                .thenReturn(new DefaultProperty.Builder()
+                        .idShort("property")
+                        .value("old")
+                        .valueType(DataTypeDefXsd.STRING)
+                        .build());
+        when(persistence.getSubmodelElement(eq(missing), any()))
+                .thenThrow(new ResourceNotFoundException(missing.toReference()));
+        when(assetValueProvider.getValue()).thenReturn(new PropertyValue.Builder().value(new StringValue("new")).build());
+        BulkReadValuesRequest request = BulkReadValuesRequest.builder()
+                .element(existing)
+                .element(missing)
+                .build();
+        BulkReadValuesResponse actual = manager.execute(request, context);
+        SubmodelElement expectedValue = new DefaultProperty.Builder()
+                .idShort("property")
+                .value("new")
+                .valueType(DataTypeDefXsd.STRING)
+                .build();
+        Assert.assertEquals(StatusCode.SUCCESS, actual.getStatusCode());
+        Assert.assertEquals(2, actual.getPayload().size());
+        Assert.assertEquals(existing, actual.getPayload().get(0).getElement());
+        Assert.assertEquals(StatusCode.SUCCESS, actual.getPayload().get(0).getStatusCode());
+        Assert.assertEquals(expectedValue, actual.getPayload().get(0).getValue());
+        Assert.assertEquals(missing, actual.getPayload().get(1).getElement());
+        Assert.assertEquals(StatusCode.CLIENT_ERROR_RESOURCE_NOT_FOUND, actual.getPayload().get(1).getStatusCode());
+        verify(persistence, times(1)).updateAll(any());
+        verify(messageBus, times(1)).publishAll(any());
+    }
+
+
+    @Test
+    public void testBulkWriteValuesRequest() throws Exception {
+        SubmodelElementIdentifier existing = SubmodelElementIdentifier.builder()
+                .submodelId("submodel")
+                .idShortPath(IdShortPath.parse("property"))
+                .build();
+        SubmodelElementIdentifier missing = SubmodelElementIdentifier.builder()
+                .submodelId("submodel")
+                .idShortPath(IdShortPath.parse("missing"))
+                .build();
+        mockBulkWriteElements(existing, missing);
+        PropertyValue propertyValue = new PropertyValue.Builder()
+                .value(new StringValue("new"))
+                .build();
+        BulkWriteValuesRequest request = BulkWriteValuesRequest.builder()
+                .value(bulkValueWrite(existing, propertyValue))
+                .value(bulkValueWrite(missing, propertyValue))
+                .build();
+        BulkWriteValuesResponse actual = manager.execute(request, context);
+        Assert.assertEquals(StatusCode.SUCCESS, actual.getStatusCode());
+        Assert.assertEquals(2, actual.getPayload().size());
+        Assert.assertEquals(StatusCode.SUCCESS_NO_CONTENT, actual.getPayload().get(0).getStatusCode());
+        Assert.assertEquals(StatusCode.CLIENT_ERROR_RESOURCE_NOT_FOUND, actual.getPayload().get(1).getStatusCode());
+        verify(assetValueProvider).setValue(propertyValue);
+        verify(persistence, times(1)).updateAll(Map.of(
+                existing.toReference(),
+                new DefaultProperty.Builder()
+                        .idShort("property")
+                        .value("new")
+                        .valueType(DataTypeDefXsd.STRING)
+                        .build()));
+        verify(messageBus, times(1)).publishAll(any());
+    }
+
+
+    @Test
+    public void testBulkWriteValuesRequestAtomicWithInvalidValue() throws Exception {
+        SubmodelElementIdentifier existing = SubmodelElementIdentifier.builder()
+                .submodelId("submodel")
+                .idShortPath(IdShortPath.parse("property"))
+                .build();
+        SubmodelElementIdentifier missing = SubmodelElementIdentifier.builder()
+                .submodelId("submodel")
+                .idShortPath(IdShortPath.parse("missing"))
+                .build();
+        mockBulkWriteElements(existing, missing);
+        PropertyValue propertyValue = new PropertyValue.Builder()
+                .value(new StringValue("new"))
+                .build();
+        BulkWriteValuesRequest request = BulkWriteValuesRequest.builder()
+                .value(bulkValueWrite(existing, propertyValue))
+                .value(bulkValueWrite(missing, propertyValue))
+                .atomic()
+                .build();
+        BulkWriteValuesResponse actual = manager.execute(request, context);
+        Assert.assertEquals(StatusCode.CLIENT_ERROR_BAD_REQUEST, actual.getStatusCode());
+        Assert.assertEquals(StatusCode.CLIENT_ERROR_BAD_REQUEST, actual.getPayload().get(0).getStatusCode());
+        Assert.assertEquals(StatusCode.CLIENT_ERROR_RESOURCE_NOT_FOUND, actual.getPayload().get(1).getStatusCode());
+        verify(assetValueProvider, never()).setValue(any());
+        verify(persistence, never()).updateAll(any());
+        verify(messageBus, never()).publishAll(any());
+    }
+
+
+    private void mockBulkWriteElements(SubmodelElementIdentifier existing, SubmodelElementIdentifier missing) throws Exception {
+        when(persistence.getSubmodelElement(eq(existing), any()))
+                .thenReturn(new DefaultProperty.Builder()
+                        .idShort("property")
+                        .value("old")
+                        .valueType(DataTypeDefXsd.STRING)
+                        .build());
+        when(persistence.getSubmodelElement(eq(missing), any()))
+                .thenThrow(new ResourceNotFoundException(missing.toReference()));
+    }
+
+
+    private static BulkValueWrite bulkValueWrite(SubmodelElementIdentifier element, ElementValue value) {
+        return BulkValueWrite.builder()
+                .element(element)
+                .value(value)
+                .valueParser(new ElementValueParser<Object>() {
+                    @Override
+                    public <U extends ElementValue> U parse(Object raw, Class<U> type) {
+                        return (U) raw;
+                    }
+                })
+                .build();
+    }
+
+
     public void testImport() throws Exception {
         ImportRequest request = new ImportRequest.Builder()
                 .content("{}".getBytes())
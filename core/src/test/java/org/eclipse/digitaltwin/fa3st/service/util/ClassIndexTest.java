@@ -0,0 +1,52 @@
+/**
+ * Copyright (c) 2025 the Eclipse FA³ST Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.eclipse.digitaltwin.fa3st.service.util;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import io.github.classgraph.ClassGraph;
+import java.io.IOException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import org.eclipse.digitaltwin.fa3st.service.request.handler.AbstractRequestHandler;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+
+public class ClassIndexTest {
+
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    @Test
+    public void testWithoutIndexExcludesOnlyIndexedClasspathElements() throws IOException {
+        Path indexed = temporaryFolder.newFolder().toPath();
+        Path index = indexed.resolve("META-INF/fa3st/index/" + AbstractRequestHandler.class.getName());
+        Files.createDirectories(index.getParent());
+        Files.writeString(index, "");
+        Path notIndexed = temporaryFolder.newFolder().toPath();
+        try (URLClassLoader classLoader = new URLClassLoader(new URL[] {
+                indexed.toUri().toURL(),
+                notIndexed.toUri().toURL()
+        }, null)) {
+            ClassGraph.ClasspathElementFilter filter = ClassIndex.withoutIndex(AbstractRequestHandler.class, classLoader);
+            assertFalse(filter.includeClasspathElement(indexed.toString()));
+            assertTrue(filter.includeClasspathElement(notIndexed.toString()));
+        }
+    }
+}
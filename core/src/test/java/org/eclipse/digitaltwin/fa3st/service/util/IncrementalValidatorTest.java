@@ -0,0 +1,238 @@
+/**
+ * Copyright (c) 2025 the Eclipse FA³ST Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.eclipse.digitaltwin.fa3st.service.util;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.fge.jsonpatch.mergepatch.JsonMergePatch;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+import org.eclipse.digitaltwin.aas4j.v3.model.DataTypeDefXsd;
+import org.eclipse.digitaltwin.aas4j.v3.model.ModellingKind;
+import org.eclipse.digitaltwin.aas4j.v3.model.QualifierKind;
+import org.eclipse.digitaltwin.aas4j.v3.model.Submodel;
+import org.eclipse.digitaltwin.aas4j.v3.model.SubmodelElement;
+import org.eclipse.digitaltwin.aas4j.v3.model.impl.DefaultLangStringTextType;
+import org.eclipse.digitaltwin.aas4j.v3.model.impl.DefaultProperty;
+import org.eclipse.digitaltwin.aas4j.v3.model.impl.DefaultQualifier;
+import org.eclipse.digitaltwin.aas4j.v3.model.impl.DefaultSubmodelElementCollection;
+import org.eclipse.digitaltwin.fa3st.common.exception.ValidationException;
+import org.eclipse.digitaltwin.fa3st.common.model.AASFull;
+import org.eclipse.digitaltwin.fa3st.common.model.validation.ModelValidator;
+import org.eclipse.digitaltwin.fa3st.common.model.validation.ModelValidatorConfig;
+import org.eclipse.digitaltwin.fa3st.common.util.DeepCopyHelper;
+import org.eclipse.digitaltwin.fa3st.service.config.CoreConfig;
+import org.junit.Test;
+
+
+public class IncrementalValidatorTest {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+    private static final List<ModelValidatorConfig> CONFIGS = List.of(
+            CoreConfig.DEFAULT.getValidationOnUpdate(),
+            ModelValidatorConfig.builder()
+                    .validateConstraints(true)
+                    .validateIdShortUniqueness(true)
+                    .validateIdentifierUniqueness(true)
+                    .build());
+    private static final Map<String, Consumer<Submodel>> MODIFICATIONS = Map.ofEntries(
+            Map.entry("none", x -> {}),
+            Map.entry("change description", x -> x.setDescription(List.of(new DefaultLangStringTextType.Builder()
+                    .language("en")
+                    .text("new description")
+                    .build()))),
+            Map.entry("change kind", x -> x.setKind(x.getKind() == ModellingKind.TEMPLATE ? ModellingKind.INSTANCE : ModellingKind.TEMPLATE)),
+            Map.entry("add element", x -> elements(x).add(property("newProperty"))),
+            Map.entry("add element with duplicate idShort", x -> elements(x).add(property(elements(x).isEmpty() ? "newProperty" : elements(x).get(0).getIdShort()))),
+            Map.entry("add element twice", x -> {
+                elements(x).add(property("newProperty"));
+                elements(x).add(property("newProperty"));
+            }),
+            Map.entry("add element without idShort", x -> elements(x).add(property(null))),
+            Map.entry("add element with invalid idShort", x -> elements(x).add(property("1 invalid"))),
+            Map.entry("remove element", x -> {
+                if (!elements(x).isEmpty()) {
+                    elements(x).remove(0);
+                }
+            }),
+            Map.entry("remove all elements", x -> x.setSubmodelElements(null)),
+            Map.entry("rename element to duplicate idShort", x -> {
+                if (elements(x).size() > 1) {
+                    elements(x).get(1).setIdShort(elements(x).get(0).getIdShort());
+                }
+            }),
+            Map.entry("rename element to invalid idShort", x -> {
+                if (!elements(x).isEmpty()) {
+                    elements(x).get(0).setIdShort("1 invalid");
+                }
+            }),
+            Map.entry("add template qualifier", x -> {
+                if (!elements(x).isEmpty()) {
+                    elements(x).get(0).setQualifiers(List.of(new DefaultQualifier.Builder()
+                            .kind(QualifierKind.TEMPLATE_QUALIFIER)
+                            .type("test")
+                            .valueType(DataTypeDefXsd.STRING)
+                            .value("test")
+                            .build()));
+                }
+            }));
+    private static final List<String> PATCHES = List.of(
+            "{}",
+            "{\"idShort\": \"newIdShort\"}",
+            "{\"idShort\": \"1 invalid\"}",
+            "{\"category\": null}",
+            "{\"description\": [{\"language\": \"en\", \"text\": \"new description\"}]}",
+            "{\"kind\": \"Template\"}",
+            "{\"kind\": \"Instance\"}",
+            "{\"submodelElements\": null}",
+            "{\"submodelElements\": [{\"modelType\": \"Property\", \"idShort\": \"property\", \"valueType\": \"xs:int\", \"value\": \"42\"}]}",
+            "{\"submodelElements\": [{\"modelType\": \"Property\", \"idShort\": \"property\", \"valueType\": \"xs:int\"}, "
+                    + "{\"modelType\": \"Property\", \"idShort\": \"property\", \"valueType\": \"xs:int\"}]}");
+
+    @Test
+    public void testUpdateEquivalentToFullValidation() throws Exception {
+        for (ModelValidatorConfig config: CONFIGS) {
+            for (Submodel submodel: validSubmodels(config)) {
+                for (var modification: MODIFICATIONS.entrySet()) {
+                    Submodel updated = DeepCopyHelper.deepCopy(submodel, Submodel.class);
+                    modification.getValue().accept(updated);
+                    Submodel expected = DeepCopyHelper.deepCopy(updated, Submodel.class);
+                    assertEquals(String.format("incremental validation differs from full validation (submodel: %s, modification: %s, config: %s)",
+                            submodel.getId(), modification.getKey(), config),
+                            isValid(() -> ModelValidator.validate(updated, config)),
+                            isValid(() -> IncrementalValidator.validate(submodel, updated, config)));
+                    assertEquals("validation must not modify the submodel", expected, updated);
+                }
+            }
+        }
+    }
+
+
+    @Test
+    public void testMergePatchEquivalentToFullValidation() throws Exception {
+        for (ModelValidatorConfig config: CONFIGS) {
+            for (Submodel submodel: validSubmodels(config)) {
+                for (String patchJson: PATCHES) {
+                    JsonMergePatch patch = JsonMergePatch.fromJson(MAPPER.readTree(patchJson));
+                    Submodel updated = MergePatchHelper.apply(patch, DeepCopyHelper.deepCopy(submodel, Submodel.class), Submodel.class);
+                    assertEquals(String.format("incremental validation differs from full validation (submodel: %s, patch: %s, config: %s)",
+                            submodel.getId(), patchJson, config),
+                            isValid(() -> ModelValidator.validate(updated, config)),
+                            isValid(() -> IncrementalValidator.validate(submodel.getSubmodelElements(), updated, patch, config)));
+                }
+            }
+        }
+    }
+
+
+    @Test
+    public void testWithoutCurrentEquivalentToFullValidation() throws Exception {
+        for (ModelValidatorConfig config: CONFIGS) {
+            for (Submodel submodel: AASFull.createEnvironment().getSubmodels()) {
+                assertEquals(isValid(() -> ModelValidator.validate(submodel, config)),
+                        isValid(() -> IncrementalValidator.validate(null, submodel, config)));
+            }
+        }
+    }
+
+
+    @Test
+    public void testIsApplicable() {
+        assertTrue(IncrementalValidator.isApplicable(CoreConfig.DEFAULT));
+        assertFalse(IncrementalValidator.isApplicable(CoreConfig.builder()
+                .validationOnLoad(ModelValidatorConfig.builder()
+                        .validateConstraints(false)
+                        .validateIdShortUniqueness(false)
+                        .validateIdentifierUniqueness(false)
+                        .build())
+                .build()));
+        assertFalse(IncrementalValidator.isApplicable(CoreConfig.builder()
+                .validationOnUpdate(ModelValidatorConfig.builder()
+                        .validateConstraints(true)
+                        .validateIdShortUniqueness(true)
+                        .validateIdentifierUniqueness(true)
+                        .build())
+                .build()));
+    }
+
+
+    @Test
+    public void testFallbackToFullValidationIfNotApplicable() throws Exception {
+        CoreConfig coreConfig = CoreConfig.builder()
+                .validationOnLoad(ModelValidatorConfig.builder()
+                        .validateConstraints(false)
+                        .validateIdShortUniqueness(false)
+                        .validateIdentifierUniqueness(false)
+                        .build())
+                .build();
+        Submodel current = DeepCopyHelper.deepCopy(AASFull.createEnvironment().getSubmodels().get(0), Submodel.class);
+        elements(current).add(new DefaultSubmodelElementCollection.Builder()
+                .idShort("collection")
+                .value(property("duplicate"))
+                .value(property("duplicate"))
+                .build());
+        Submodel updated = DeepCopyHelper.deepCopy(current, Submodel.class);
+        updated.setIdShort("newIdShort");
+        assertTrue(isValid(() -> IncrementalValidator.validate(current, updated, coreConfig.getValidationOnUpdate())));
+        assertFalse(isValid(() -> IncrementalValidator.validate(current, updated, coreConfig)));
+        JsonMergePatch patch = JsonMergePatch.fromJson(MAPPER.readTree("{\"idShort\": \"newIdShort\"}"));
+        assertFalse(isValid(() -> IncrementalValidator.validate(current.getSubmodelElements(), updated, patch, coreConfig)));
+    }
+
+
+    private static List<Submodel> validSubmodels(ModelValidatorConfig config) {
+        return AASFull.createEnvironment().getSubmodels().stream()
+                .filter(x -> isValid(() -> ModelValidator.validate(x, config)))
+                .toList();
+    }
+
+
+    private static List<SubmodelElement> elements(Submodel submodel) {
+        if (submodel.getSubmodelElements() == null) {
+            submodel.setSubmodelElements(new ArrayList<>());
+        }
+        return submodel.getSubmodelElements();
+    }
+
+
+    private static SubmodelElement property(String idShort) {
+        return new DefaultProperty.Builder()
+                .idShort(idShort)
+                .valueType(DataTypeDefXsd.STRING)
+                .value("value")
+                .build();
+    }
+
+
+    private static boolean isValid(Validation validation) {
+        try {
+            validation.validate();
+            return true;
+        }
+        catch (ValidationException e) {
+            return false;
+        }
+    }
+
+    @FunctionalInterface
+    private interface Validation {
+
+        public void validate() throws ValidationException;
+    }
+}
@@ -0,0 +1,88 @@
+/**
+ * Copyright (c) 2025 the Eclipse FA³ST Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.eclipse.digitaltwin.fa3st.service.util;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertThrows;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.fge.jsonpatch.mergepatch.JsonMergePatch;
+import java.util.List;
+import org.eclipse.digitaltwin.aas4j.v3.dataformat.json.JsonDeserializer;
+import org.eclipse.digitaltwin.aas4j.v3.dataformat.json.JsonSerializer;
+import org.eclipse.digitaltwin.aas4j.v3.model.Submodel;
+import org.eclipse.digitaltwin.aas4j.v3.model.SubmodelElement;
+import org.eclipse.digitaltwin.fa3st.common.model.AASFull;
+import org.eclipse.digitaltwin.fa3st.common.util.DeepCopyHelper;
+import org.junit.Test;
+
+
+public class MergePatchHelperTest {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+    private static final List<String> SUBMODEL_PATCHES = List.of(
+            "{}",
+            "{\"idShort\": \"newIdShort\"}",
+            "{\"category\": null}",
+            "{\"description\": [{\"language\": \"en\", \"text\": \"new description\"}]}",
+            "{\"administration\": {\"version\": \"42\"}}",
+            "{\"administration\": null}",
+            "{\"semanticId\": {\"keys\": [{\"type\": \"GlobalReference\", \"value\": \"http://example.org/semanticId\"}]}}",
+            "{\"submodelElements\": []}",
+            "{\"submodelElements\": [{\"modelType\": \"Property\", \"idShort\": \"property\", \"valueType\": \"xs:int\", \"value\": \"42\"}]}");
+    private static final List<String> SUBMODEL_ELEMENT_PATCHES = List.of(
+            "{\"value\": \"42\"}",
+            "{\"value\": null}",
+            "{\"idShort\": \"newIdShort\", \"category\": \"PARAMETER\"}",
+            "{\"valueType\": \"xs:string\"}",
+            "{\"qualifiers\": null}");
+
+    @Test
+    public void testSubmodelEquivalentToJsonRoundTrip() throws Exception {
+        for (Submodel submodel: AASFull.createEnvironment().getSubmodels()) {
+            for (String patch: SUBMODEL_PATCHES) {
+                assertEquivalentToJsonRoundTrip(patch, submodel, Submodel.class);
+            }
+        }
+    }
+
+
+    @Test
+    public void testSubmodelElementEquivalentToJsonRoundTrip() throws Exception {
+        for (Submodel submodel: AASFull.createEnvironment().getSubmodels()) {
+            for (SubmodelElement submodelElement: submodel.getSubmodelElements()) {
+                for (String patch: SUBMODEL_ELEMENT_PATCHES) {
+                    assertEquivalentToJsonRoundTrip(patch, submodelElement, SubmodelElement.class);
+                }
+            }
+        }
+    }
+
+
+    private static <T> void assertEquivalentToJsonRoundTrip(String patchJson, T target, Class<T> type) throws Exception {
+        JsonMergePatch patch = JsonMergePatch.fromJson(MAPPER.readTree(patchJson));
+        T expected;
+        try {
+            expected = new JsonDeserializer().read(patch.apply(new JsonSerializer().toNode(target)), type);
+        }
+        catch (Exception e) {
+            assertThrows(String.format("merge patch expected to fail (patch: %s)", patchJson),
+                    Exception.class,
+                    () -> MergePatchHelper.apply(patch, DeepCopyHelper.deepCopy(target, type), type));
+            return;
+        }
+        T actual = MergePatchHelper.apply(patch, DeepCopyHelper.deepCopy(target, type), type);
+        assertEquals(String.format("merge patch result differs (patch: %s)", patchJson), expected, actual);
+    }
+}
@@ -0,0 +1,76 @@
+/**
+ * Copyright (c) 2025 the Eclipse FA³ST Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.eclipse.digitaltwin.fa3st.service.util;
+
+import com.google.common.reflect.TypeToken;
+import java.util.function.Supplier;
+import org.apache.commons.lang3.reflect.ConstructorUtils;
+import org.eclipse.digitaltwin.fa3st.common.model.api.Request;
+import org.eclipse.digitaltwin.fa3st.common.model.api.Response;
+import org.eclipse.digitaltwin.fa3st.common.model.api.request.aasrepository.GetAllAssetAdministrationShellsRequest;
+import org.eclipse.digitaltwin.fa3st.service.request.RequestHandlerManager;
+
+
+/**
+ * Microbenchmark comparing reflective response construction (as previously done on every failed request) with the
+ * response factories created by {@link ResponseFactory} and used by {@link RequestHandlerManager}. Not executed as
+ * part of the test suite; run manually via its main method, e.g. from the IDE.
+ */
+public class ResponseFactoryBenchmark {
+
+    private static final Class<? extends Request> REQUEST_TYPE = GetAllAssetAdministrationShellsRequest.class;
+    private static final int WARMUP_ITERATIONS = 200_000;
+    private static final int MEASUREMENT_ITERATIONS = 1_000_000;
+    private static final int ROUNDS = 5;
+
+    public static void main(String[] args) throws Exception {
+        Supplier<? extends Response> factory = ResponseFactory.forRequestType(REQUEST_TYPE);
+        run(ResponseFactoryBenchmark::createReflective, WARMUP_ITERATIONS);
+        run(factory::get, WARMUP_ITERATIONS);
+        for (int i = 1; i <= ROUNDS; i++) {
+            double reflective = run(ResponseFactoryBenchmark::createReflective, MEASUREMENT_ITERATIONS);
+            double precomputed = run(factory::get, MEASUREMENT_ITERATIONS);
+            System.out.println(String.format("round %d: reflective %.1f ns/op, factory %.1f ns/op, saved %.1f ns/op",
+                    i,
+                    reflective,
+                    precomputed,
+                    reflective - precomputed));
+        }
+    }
+
+
+    private static Response createReflective() throws Exception {
+        return (Response) ConstructorUtils.invokeConstructor(TypeToken.of(REQUEST_TYPE).resolveType(Request.class.getTypeParameters()[0]).getRawType());
+    }
+
+
+    private static double run(ResponseCreator creator, int iterations) throws Exception {
+        int checksum = 0;
+        long start = System.nanoTime();
+        for (int i = 0; i < iterations; i++) {
+            checksum += System.identityHashCode(creator.create()) & 1;
+        }
+        long duration = System.nanoTime() - start;
+        if (checksum < 0) {
+            throw new IllegalStateException();
+        }
+        return (double) duration / iterations;
+    }
+
+    @FunctionalInterface
+    private interface ResponseCreator {
+
+        public Response create() throws Exception;
+    }
+}
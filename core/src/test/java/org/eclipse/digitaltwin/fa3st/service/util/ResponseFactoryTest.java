@@ -0,0 +1,56 @@
+/**
+ * Copyright (c) 2025 the Eclipse FA³ST Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.eclipse.digitaltwin.fa3st.service.util;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+
+import java.util.function.Supplier;
+import org.eclipse.digitaltwin.fa3st.common.model.api.Response;
+import org.eclipse.digitaltwin.fa3st.common.model.api.request.aasrepository.GetAllAssetAdministrationShellsRequest;
+import org.eclipse.digitaltwin.fa3st.common.model.api.response.aasrepository.GetAllAssetAdministrationShellsResponse;
+import org.eclipse.digitaltwin.fa3st.common.model.api.response.description.GetSelfDescriptionResponse;
+import org.eclipse.digitaltwin.fa3st.service.request.handler.description.GetSelfDescriptionRequestHandler;
+import org.junit.Test;
+
+
+public class ResponseFactoryTest {
+
+    @Test
+    public void testForRequestType() {
+        Supplier<? extends Response> factory = ResponseFactory.forRequestType(GetAllAssetAdministrationShellsRequest.class);
+        Response first = factory.get();
+        Response second = factory.get();
+        assertEquals(GetAllAssetAdministrationShellsResponse.class, first.getClass());
+        assertEquals(GetAllAssetAdministrationShellsResponse.class, second.getClass());
+        assertNotSame(first, second);
+    }
+
+
+    @Test
+    public void testForResponseType() {
+        Supplier<GetSelfDescriptionResponse> factory = ResponseFactory.forResponseType(GetSelfDescriptionResponse.class);
+        assertEquals(GetSelfDescriptionResponse.class, factory.get().getClass());
+    }
+
+
+    @Test
+    public void testNewResponseOfHandler() throws Exception {
+        GetSelfDescriptionRequestHandler handler = new GetSelfDescriptionRequestHandler();
+        GetSelfDescriptionResponse first = handler.newResponse();
+        GetSelfDescriptionResponse second = handler.newResponse();
+        assertEquals(GetSelfDescriptionResponse.class, first.getClass());
+        assertNotSame(first, second);
+    }
+}
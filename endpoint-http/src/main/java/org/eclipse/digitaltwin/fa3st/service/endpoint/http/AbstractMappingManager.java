@@ -16,12 +16,18 @@ package org.eclipse.digitaltwin.fa3st.service.endpoint.http;
 import io.github.classgraph.ClassGraph;
 import io.github.classgraph.ScanResult;
 import java.lang.reflect.InvocationTargetException;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 import org.apache.commons.lang3.reflect.ConstructorUtils;
 import org.eclipse.digitaltwin.fa3st.common.util.Ensure;
+import org.eclipse.digitaltwin.fa3st.common.util.ImplementationManager;
+import org.eclipse.digitaltwin.fa3st.service.util.ClassIndex;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -49,38 +55,60 @@ public abstract class AbstractMappingManager<T> {
 
 
     private void init() {
-        try (ScanResult scanResult = new ClassGraph()
-                .enableAllInfo()
-                .acceptPackages(getClass().getPackageName())
+        mappers = findMapperClasses(ImplementationManager.getClassLoader()).stream()
+                .map(x -> {
+                    try {
+                        return mapperType.cast(ConstructorUtils.invokeConstructor(x, constructorArgs));
+                    }
+                    catch (NoSuchMethodException | SecurityException e) {
+                        LOGGER.warn("mapper implementation could not be loaded, "
+                                + "reason: missing constructor (implementation class: {}, required constructor signature: {})",
+                                x.getName(),
+                                Stream.of(constructorArgs).map(a -> a.getClass().getName()).collect(Collectors.joining(",")),
+                                e);
+                    }
+                    catch (InstantiationException | IllegalAccessException | IllegalArgumentException | InvocationTargetException e) {
+                        LOGGER.warn("mapper implementation could not be loaded, "
+                                + "reason: calling constructor failed (implementation class: {}, constructor arguments: {})",
+                                x.getName(),
+                                Stream.of(constructorArgs).map(a -> a.getClass().getName()).collect(Collectors.joining(",")),
+                                e);
+                    }
+                    LOGGER.debug("unable to instantiate class {}", x.getName());
+                    return null;
+                })
+                .filter(Objects::nonNull)
+                .collect(Collectors.toList());
+    }
+
+
+    private List<Class<? extends T>> findMapperClasses(ClassLoader classLoader) {
+        String packageName = getClass().getPackageName();
+        ClassGraph classGraph = new ClassGraph()
+                .addClassLoader(classLoader)
+                .acceptPackages(packageName);
+        Optional<List<Class<? extends T>>> indexed = ClassIndex.getImplementations(mapperType, classLoader);
+        if (indexed.isEmpty()) {
+            LOGGER.debug("no build-time index for mappers found, scanning classpath instead (mapper type: {})", mapperType.getName());
+            return scanMapperClasses(classGraph);
+        }
+        Set<Class<? extends T>> result = indexed.get().stream()
+                .filter(x -> x.getName().startsWith(packageName + "."))
+                .collect(Collectors.toCollection(LinkedHashSet::new));
+        // third-party jars and plugins without build-time index are only visible by scanning
+        result.addAll(scanMapperClasses(classGraph.filterClasspathElements(ClassIndex.withoutIndex(mapperType, classLoader))));
+        return new ArrayList<>(result);
+    }
+
+
+    private List<Class<? extends T>> scanMapperClasses(ClassGraph classGraph) {
+        try (ScanResult scanResult = classGraph
+                .enableClassInfo()
                 .scan()) {
-            mappers = scanResult
+            return new ArrayList<>(scanResult
                     .getSubclasses(mapperType.getName())
                     .filter(x -> !x.isAbstract() && !x.isInterface())
-                    .loadClasses(mapperType)
-                    .stream()
-                    .map(x -> {
-                        try {
-                            return ConstructorUtils.invokeConstructor(x, constructorArgs);
-                        }
-                        catch (NoSuchMethodException | SecurityException e) {
-                            LOGGER.warn("mapper implementation could not be loaded, "
-                                    + "reason: missing constructor (implementation class: {}, required constructor signature: {})",
-                                    x.getName(),
-                                    Stream.of(constructorArgs).map(a -> a.getClass().getName()).collect(Collectors.joining(",")),
-                                    e);
-                        }
-                        catch (InstantiationException | IllegalAccessException | IllegalArgumentException | InvocationTargetException e) {
-                            LOGGER.warn("mapper implementation could not be loaded, "
-                                    + "reason: calling constructor failed (implementation class: {}, constructor arguments: {})",
-                                    x.getName(),
-                                    Stream.of(constructorArgs).map(a -> a.getClass().getName()).collect(Collectors.joining(",")),
-                                    e);
-                        }
-                        LOGGER.debug("unable to instantiate class {}", x.getName());
-                        return null;
-                    })
-                    .filter(Objects::nonNull)
-                    .collect(Collectors.toList());
+                    .loadClasses(mapperType));
         }
     }
 }
@@ -28,7 +28,9 @@ import java.time.Duration;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
+import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.TimeUnit;
 import org.eclipse.digitaltwin.aas4j.v3.model.SecurityTypeEnum;
 import org.eclipse.digitaltwin.aas4j.v3.model.impl.DefaultEndpoint;
 import org.eclipse.digitaltwin.aas4j.v3.model.impl.DefaultProtocolInformation;
@@ -36,13 +38,26 @@ import org.eclipse.digitaltwin.aas4j.v3.model.impl.DefaultSecurityAttributeObjec
 import org.eclipse.digitaltwin.fa3st.common.certificate.CertificateData;
 import org.eclipse.digitaltwin.fa3st.common.certificate.CertificateInformation;
 import org.eclipse.digitaltwin.fa3st.common.exception.EndpointException;
+import org.eclipse.digitaltwin.fa3st.common.exception.MessageBusException;
 import org.eclipse.digitaltwin.fa3st.common.model.Interface;
 import org.eclipse.digitaltwin.fa3st.common.model.Version;
 import org.eclipse.digitaltwin.fa3st.common.util.EncodingHelper;
 import org.eclipse.digitaltwin.fa3st.common.util.KeyStoreHelper;
 import org.eclipse.digitaltwin.fa3st.service.endpoint.AbstractEndpoint;
+import org.eclipse.digitaltwin.fa3st.service.endpoint.http.sse.EventStreamManager;
+import org.eclipse.digitaltwin.fa3st.service.endpoint.http.sse.EventStreamServlet;
 import org.eclipse.digitaltwin.fa3st.service.endpoint.http.util.HttpHelper;
+import org.eclipse.digitaltwin.fa3st.service.endpoint.http.websocket.WebSocketManager;
+import org.eclipse.jetty.alpn.server.ALPNServerConnectionFactory;
 import org.eclipse.jetty.ee10.servlet.ServletContextHandler;
+import org.eclipse.jetty.ee10.servlet.ServletHolder;
+import org.eclipse.jetty.ee10.websocket.server.config.JettyWebSocketServletContainerInitializer;
+import org.eclipse.jetty.http.HttpMethod;
+import org.eclipse.jetty.http2.HTTP2Cipher;
+import org.eclipse.jetty.http2.server.AbstractHTTP2ServerConnectionFactory;
+import org.eclipse.jetty.http2.server.HTTP2CServerConnectionFactory;
+import org.eclipse.jetty.http2.server.HTTP2ServerConnectionFactory;
+import org.eclipse.jetty.server.ConnectionFactory;
 import org.eclipse.jetty.server.HttpConfiguration;
 import org.eclipse.jetty.server.HttpConnectionFactory;
 import org.eclipse.jetty.server.SecureRequestCustomizer;
@@ -50,7 +65,11 @@ import org.eclipse.jetty.server.Server;
 import org.eclipse.jetty.server.ServerConnector;
 import org.eclipse.jetty.server.SslConnectionFactory;
 import org.eclipse.jetty.server.handler.CrossOriginHandler;
+import org.eclipse.jetty.server.handler.gzip.GzipHandler;
+import org.eclipse.jetty.util.BlockingArrayQueue;
+import org.eclipse.jetty.util.VirtualThreads;
 import org.eclipse.jetty.util.ssl.SslContextFactory;
+import org.eclipse.jetty.util.thread.QueuedThreadPool;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -72,8 +91,14 @@ public class HttpEndpoint extends AbstractEndpoint<HttpEndpointConfig> {
             .build();
     private static final String ENDPOINT_PROTOCOL = "HTTP";
     private static final String ENDPOINT_PROTOCOL_VERSION = "1.1";
+    private static final int INFLATE_BUFFER_SIZE = 8 * 1024;
+    private static final String THREAD_POOL_NAME = "fa3st-http";
+    private static final int THREAD_POOL_IDLE_TIMEOUT = 60000;
     private Server server;
     private ServletContextHandler context;
+    private QueuedThreadPool threadPool;
+    private EventStreamManager eventStreamManager;
+    private WebSocketManager webSocketManager;
 
     /**
      * Gets the API version prefix.
@@ -90,17 +115,39 @@ public class HttpEndpoint extends AbstractEndpoint<HttpEndpointConfig> {
         if (server != null && server.isStarted()) {
             return;
         }
-        server = new Server();
+        threadPool = buildThreadPool();
+        server = new Server(threadPool);
         configureHttpServer();
         CrossOriginHandler crossOriginHandler = buildCorsHandler();
         server.setHandler(crossOriginHandler);
 
         context = new ServletContextHandler();
         context.setContextPath("/");
-        crossOriginHandler.setHandler(context);
+        if (config.isCompressionEnabled() || config.isCompressionDecompressRequests()) {
+            GzipHandler gzipHandler = buildGzipHandler();
+            crossOriginHandler.setHandler(gzipHandler);
+            gzipHandler.setHandler(context);
+        }
+        else {
+            crossOriginHandler.setHandler(context);
+        }
 
-        RequestHandlerServlet handler = new RequestHandlerServlet(this, config, serviceContext);
-        context.addServlet(handler, "/*");
+        RequestHandlerServlet handler = new RequestHandlerServlet(this, config, serviceContext, threadPool);
+        ServletHolder handlerHolder = context.addServlet(handler, "/*");
+        handlerHolder.setAsyncSupported(config.isAsyncProcessingEnabled());
+        if (config.isSseEnabled()) {
+            eventStreamManager = new EventStreamManager(config, serviceContext, threadPool, server.getScheduler());
+            ServletHolder eventStreamHolder = context.addServlet(new EventStreamServlet(eventStreamManager), getVersionPrefix() + EventStreamServlet.PATH);
+            eventStreamHolder.setAsyncSupported(true);
+        }
+        if (config.isWebSocketEnabled()) {
+            webSocketManager = new WebSocketManager(serviceContext, this, threadPool);
+            JettyWebSocketServletContainerInitializer.configure(context, (servletContext, container) -> {
+                container.setMaxTextMessageSize(config.getWebSocketMaxMessageSize());
+                container.setMaxBinaryMessageSize(config.getWebSocketMaxMessageSize());
+                container.addMapping(getVersionPrefix() + WebSocketManager.PATH, (request, response) -> webSocketManager.create());
+            });
+        }
         server.setErrorHandler(new HttpErrorHandler(config));
         try {
             server.start();
@@ -108,6 +155,75 @@ public class HttpEndpoint extends AbstractEndpoint<HttpEndpointConfig> {
         catch (Exception e) {
             throw new EndpointException("error starting HTTP endpoint", e);
         }
+        if (Objects.nonNull(eventStreamManager)) {
+            try {
+                eventStreamManager.start();
+            }
+            catch (MessageBusException e) {
+                throw new EndpointException("error subscribing to message bus for Server-Sent Events", e);
+            }
+        }
+        if (Objects.nonNull(webSocketManager)) {
+            try {
+                webSocketManager.start();
+            }
+            catch (MessageBusException e) {
+                throw new EndpointException("error subscribing to message bus for WebSocket endpoint", e);
+            }
+        }
+        if (config.getThreadPoolReportInterval() > 0) {
+            scheduleThreadPoolReport();
+        }
+    }
+
+
+    /**
+     * Gets the current utilization of the thread pool handling requests.
+     *
+     * @return the current utilization of the thread pool, empty if the endpoint has not been started
+     */
+    public Optional<ThreadPoolUtilization> getThreadPoolUtilization() {
+        if (Objects.isNull(threadPool)) {
+            return Optional.empty();
+        }
+        return Optional.of(new ThreadPoolUtilization(
+                threadPool.getThreads(),
+                threadPool.getBusyThreads(),
+                threadPool.getIdleThreads(),
+                threadPool.getMaxThreads(),
+                threadPool.getQueueSize(),
+                threadPool.getUtilizationRate()));
+    }
+
+
+    private void scheduleThreadPoolReport() {
+        server.getScheduler().schedule(() -> {
+            if (server.isRunning()) {
+                getThreadPoolUtilization().ifPresent(x -> LOGGER.info("HTTP endpoint thread pool utilization ({})", x));
+                scheduleThreadPoolReport();
+            }
+        }, config.getThreadPoolReportInterval(), TimeUnit.MILLISECONDS);
+    }
+
+
+    private QueuedThreadPool buildThreadPool() {
+        QueuedThreadPool result = config.getThreadPoolMaxQueueSize() > 0
+                ? new QueuedThreadPool(
+                        config.getThreadPoolMaxThreads(),
+                        config.getThreadPoolMinThreads(),
+                        THREAD_POOL_IDLE_TIMEOUT,
+                        new BlockingArrayQueue<>(config.getThreadPoolMaxQueueSize()))
+                : new QueuedThreadPool(config.getThreadPoolMaxThreads(), config.getThreadPoolMinThreads());
+        result.setName(THREAD_POOL_NAME);
+        if (config.isThreadPoolVirtualThreads()) {
+            if (VirtualThreads.areSupported()) {
+                result.setVirtualThreadsExecutor(VirtualThreads.getDefaultVirtualThreadsExecutor());
+            }
+            else {
+                LOGGER.warn("virtual threads not supported by JVM, using platform threads for HTTP endpoint instead");
+            }
+        }
+        return result;
     }
 
 
@@ -116,23 +232,42 @@ public class HttpEndpoint extends AbstractEndpoint<HttpEndpointConfig> {
         httpConfig.setSendServerVersion(false);
         httpConfig.setSendDateHeader(false);
         httpConfig.setSendXPoweredBy(false);
+        httpConfig.setOutputBufferSize(config.getOutputBufferSize());
+        httpConfig.setRequestHeaderSize(config.getRequestHeaderSize());
         HttpConnectionFactory httpConnectionFactory = new HttpConnectionFactory(httpConfig);
         SecureRequestCustomizer secureRequestCustomizer = new SecureRequestCustomizer();
         secureRequestCustomizer.setSniHostCheck(config.isSniEnabled());
         httpConfig.addCustomizer(secureRequestCustomizer);
         ServerConnector serverConnector;
         if (config.isSslEnabled()) {
-            serverConnector = buildSSLServerConnector(httpConnectionFactory);
+            serverConnector = buildSSLServerConnector(httpConfig, httpConnectionFactory);
         }
         else {
-            serverConnector = new ServerConnector(server, httpConnectionFactory);
+            serverConnector = config.isHttp2Enabled()
+                    ? newServerConnector(httpConnectionFactory, configureHttp2(new HTTP2CServerConnectionFactory(httpConfig)))
+                    : newServerConnector(httpConnectionFactory);
             LOGGER.warn("Using HTTP endpoint with disabled SSL. Not safe for production - use for development only");
         }
         serverConnector.setPort(config.getPort());
+        serverConnector.setIdleTimeout(config.getIdleTimeout());
+        serverConnector.setAcceptQueueSize(config.getAcceptQueueSize());
         server.addConnector(serverConnector);
     }
 
 
+    private ServerConnector newServerConnector(ConnectionFactory... connectionFactories) {
+        return new ServerConnector(server, config.getAcceptors(), config.getSelectors(), connectionFactories);
+    }
+
+
+    private <T extends AbstractHTTP2ServerConnectionFactory> T configureHttp2(T connectionFactory) {
+        connectionFactory.setMaxConcurrentStreams(config.getHttp2MaxConcurrentStreams());
+        connectionFactory.setInitialSessionRecvWindow(config.getHttp2InitialSessionRecvWindow());
+        connectionFactory.setInitialStreamRecvWindow(config.getHttp2InitialStreamRecvWindow());
+        return connectionFactory;
+    }
+
+
     private CrossOriginHandler buildCorsHandler() {
         CrossOriginHandler result = new CrossOriginHandler();
         result.setAllowCredentials(config.isCorsAllowCredentials());
@@ -145,6 +280,37 @@ public class HttpEndpoint extends AbstractEndpoint<HttpEndpointConfig> {
     }
 
 
+    private GzipHandler buildGzipHandler() {
+        GzipHandler result = new GzipHandler();
+        String[] methods = {
+                HttpMethod.GET.asString(),
+                HttpMethod.POST.asString(),
+                HttpMethod.PUT.asString(),
+                HttpMethod.PATCH.asString(),
+                HttpMethod.DELETE.asString()
+        };
+        if (config.isCompressionEnabled()) {
+            result.setMinGzipSize(config.getCompressionMinSize());
+            result.setIncludedMethods(methods);
+            List<String> includedMimeTypes = HttpHelper.parseCommaSeparatedList(config.getCompressionIncludedMimeTypes());
+            if (!includedMimeTypes.isEmpty()) {
+                result.setIncludedMimeTypes(includedMimeTypes.toArray(String[]::new));
+            }
+            result.addExcludedMimeTypes(HttpHelper.parseCommaSeparatedList(config.getCompressionExcludedMimeTypes()).toArray(String[]::new));
+            // compressing would buffer events until the compressor flushes
+            result.addExcludedMimeTypes(EventStreamServlet.CONTENT_TYPE);
+        }
+        else {
+            // only used to decompress request bodies
+            result.setExcludedMethods(methods);
+        }
+        if (config.isCompressionDecompressRequests()) {
+            result.setInflateBufferSize(INFLATE_BUFFER_SIZE);
+        }
+        return result;
+    }
+
+
     private KeyStore generateSelfSignedCertificate() throws EndpointException {
         try {
             LOGGER.debug("Generating self-signed certificate for HTTP endpoint...");
@@ -162,7 +328,7 @@ public class HttpEndpoint extends AbstractEndpoint<HttpEndpointConfig> {
     }
 
 
-    private ServerConnector buildSSLServerConnector(HttpConnectionFactory httpConnectionFactory) throws EndpointException {
+    private ServerConnector buildSSLServerConnector(HttpConfiguration httpConfig, HttpConnectionFactory httpConnectionFactory) throws EndpointException {
         SslContextFactory.Server sslContextFactory = new SslContextFactory.Server();
         if (Objects.isNull(config.getCertificate())
                 || Objects.isNull(config.getCertificate().getKeyStorePath())
@@ -184,13 +350,29 @@ public class HttpEndpoint extends AbstractEndpoint<HttpEndpointConfig> {
                 throw new EndpointException("Error loading certificate for HTTP endpoint", e);
             }
         }
+        if (config.isHttp2Enabled()) {
+            sslContextFactory.setCipherComparator(HTTP2Cipher.COMPARATOR);
+            ALPNServerConnectionFactory alpnConnectionFactory = new ALPNServerConnectionFactory();
+            alpnConnectionFactory.setDefaultProtocol(httpConnectionFactory.getProtocol());
+            return newServerConnector(
+                    new SslConnectionFactory(sslContextFactory, alpnConnectionFactory.getProtocol()),
+                    alpnConnectionFactory,
+                    configureHttp2(new HTTP2ServerConnectionFactory(httpConfig)),
+                    httpConnectionFactory);
+        }
         SslConnectionFactory sslConnectionFactory = new SslConnectionFactory(sslContextFactory, httpConnectionFactory.getProtocol());
-        return new ServerConnector(server, sslConnectionFactory, httpConnectionFactory);
+        return newServerConnector(sslConnectionFactory, httpConnectionFactory);
     }
 
 
     @Override
     public void stop() {
+        if (eventStreamManager != null) {
+            eventStreamManager.stop();
+        }
+        if (webSocketManager != null) {
+            webSocketManager.stop();
+        }
         if (context != null) {
             try {
                 context.stop();
@@ -13,6 +13,8 @@
  */
 package org.eclipse.digitaltwin.fa3st.service.endpoint.http;
 
+import java.util.HashMap;
+import java.util.Map;
 import java.util.Objects;
 import org.eclipse.digitaltwin.fa3st.common.certificate.CertificateConfig;
 import org.eclipse.digitaltwin.fa3st.service.endpoint.EndpointConfig;
@@ -23,6 +25,15 @@ import org.eclipse.digitaltwin.fa3st.service.endpoint.EndpointConfig;
  */
 public class HttpEndpointConfig extends EndpointConfig<HttpEndpoint> {
 
+    public static final int DEFAULT_ACCEPTORS = -1;
+    public static final int DEFAULT_ACCEPT_QUEUE_SIZE = 0;
+    public static final boolean DEFAULT_ASYNC_PROCESSING_ENABLED = false;
+    public static final String DEFAULT_ASYNC_PROCESSING_EXCLUDED_REQUESTS = "GetSelfDescriptionRequest";
+    public static final boolean DEFAULT_COMPRESSION_DECOMPRESS_REQUESTS = true;
+    public static final boolean DEFAULT_COMPRESSION_ENABLED = false;
+    public static final String DEFAULT_COMPRESSION_EXCLUDED_MIME_TYPES = "";
+    public static final String DEFAULT_COMPRESSION_INCLUDED_MIME_TYPES = "";
+    public static final int DEFAULT_COMPRESSION_MIN_SIZE = 1024;
     public static final boolean DEFAULT_CORS_ENABLED = false;
     public static final boolean DEFAULT_CORS_ALLOW_CREDENTIALS = false;
     public static final String DEFAULT_CORS_ALLOWED_HEADERS = "*";
@@ -31,16 +42,51 @@ public class HttpEndpointConfig extends EndpointConfig<HttpEndpoint> {
     public static final String DEFAULT_CORS_EXPOSED_HEADERS = "";
     public static final long DEFAULT_CORS_MAX_AGE = 3600;
     public static final String DEFAULT_HOSTNAME = null;
+    public static final boolean DEFAULT_HTTP2_ENABLED = false;
+    public static final int DEFAULT_HTTP2_INITIAL_SESSION_RECV_WINDOW = 8 * 1024 * 1024;
+    public static final int DEFAULT_HTTP2_INITIAL_STREAM_RECV_WINDOW = 1024 * 1024;
+    public static final int DEFAULT_HTTP2_MAX_CONCURRENT_STREAMS = 256;
+    public static final long DEFAULT_IDLE_TIMEOUT = 30000;
     public static final boolean DEFAULT_INCLUDE_ERROR_DETAILS = false;
+    public static final long DEFAULT_MAX_REQUEST_BODY_SIZE = 100L * 1024 * 1024;
+    // imports and file uploads are expected to be larger than JSON bodies
+    public static final Map<String, Long> DEFAULT_MAX_REQUEST_BODY_SIZE_OVERRIDES = Map.of(
+            "ImportRequest", 1024L * 1024 * 1024,
+            "PutFileByPathRequest", 1024L * 1024 * 1024,
+            "PutThumbnailRequest", 1024L * 1024 * 1024);
+    public static final int DEFAULT_OUTPUT_BUFFER_SIZE = 32 * 1024;
     public static final int DEFAULT_PORT = 443;
+    public static final int DEFAULT_REQUEST_HEADER_SIZE = 8 * 1024;
+    public static final long DEFAULT_REQUEST_TIMEOUT = 0;
+    public static final int DEFAULT_SELECTORS = -1;
     public static final boolean DEFAULT_SNI_ENABLED = true;
+    public static final boolean DEFAULT_SSE_ENABLED = false;
+    public static final long DEFAULT_SSE_HEARTBEAT_INTERVAL = 15000;
+    public static final int DEFAULT_SSE_HISTORY_SIZE = 1000;
+    public static final int DEFAULT_SSE_MAX_QUEUE_SIZE = 1000;
     public static final boolean DEFAULT_SSL_ENABLED = true;
+    public static final int DEFAULT_THREAD_POOL_MAX_QUEUE_SIZE = 0;
+    public static final int DEFAULT_THREAD_POOL_MAX_THREADS = 200;
+    public static final int DEFAULT_THREAD_POOL_MIN_THREADS = 8;
+    public static final long DEFAULT_THREAD_POOL_REPORT_INTERVAL = 0;
+    public static final boolean DEFAULT_THREAD_POOL_VIRTUAL_THREADS = false;
+    public static final boolean DEFAULT_WEB_SOCKET_ENABLED = false;
+    public static final long DEFAULT_WEB_SOCKET_MAX_MESSAGE_SIZE = 64L * 1024;
 
     public static Builder builder() {
         return new Builder();
     }
 
+    private int acceptQueueSize;
+    private int acceptors;
+    private boolean asyncProcessingEnabled;
+    private String asyncProcessingExcludedRequests;
     private CertificateConfig certificate;
+    private boolean compressionDecompressRequests;
+    private boolean compressionEnabled;
+    private String compressionExcludedMimeTypes;
+    private String compressionIncludedMimeTypes;
+    private int compressionMinSize;
     private boolean corsEnabled;
     private boolean corsAllowCredentials;
     private String corsAllowedHeaders;
@@ -49,14 +95,46 @@ public class HttpEndpointConfig extends EndpointConfig<HttpEndpoint> {
     private String corsExposedHeaders;
     private long corsMaxAge;
     private String hostname;
+    private boolean http2Enabled;
+    private int http2InitialSessionRecvWindow;
+    private int http2InitialStreamRecvWindow;
+    private int http2MaxConcurrentStreams;
+    private long idleTimeout;
     private boolean includeErrorDetails;
+    private long maxRequestBodySize;
+    private Map<String, Long> maxRequestBodySizeOverrides;
+    private int outputBufferSize;
     private int port;
+    private int requestHeaderSize;
+    private long requestTimeout;
+    private Map<String, Long> requestTimeoutOverrides;
+    private int selectors;
     private boolean sniEnabled;
+    private boolean sseEnabled;
+    private long sseHeartbeatInterval;
+    private int sseHistorySize;
+    private int sseMaxQueueSize;
     private boolean sslEnabled;
+    private int threadPoolMaxQueueSize;
+    private int threadPoolMaxThreads;
+    private int threadPoolMinThreads;
+    private long threadPoolReportInterval;
+    private boolean threadPoolVirtualThreads;
+    private boolean webSocketEnabled;
+    private long webSocketMaxMessageSize;
 
     public HttpEndpointConfig() {
+        acceptQueueSize = DEFAULT_ACCEPT_QUEUE_SIZE;
+        acceptors = DEFAULT_ACCEPTORS;
+        asyncProcessingEnabled = DEFAULT_ASYNC_PROCESSING_ENABLED;
+        asyncProcessingExcludedRequests = DEFAULT_ASYNC_PROCESSING_EXCLUDED_REQUESTS;
         certificate = CertificateConfig.builder()
                 .build();
+        compressionDecompressRequests = DEFAULT_COMPRESSION_DECOMPRESS_REQUESTS;
+        compressionEnabled = DEFAULT_COMPRESSION_ENABLED;
+        compressionExcludedMimeTypes = DEFAULT_COMPRESSION_EXCLUDED_MIME_TYPES;
+        compressionIncludedMimeTypes = DEFAULT_COMPRESSION_INCLUDED_MIME_TYPES;
+        compressionMinSize = DEFAULT_COMPRESSION_MIN_SIZE;
         corsEnabled = DEFAULT_CORS_ENABLED;
         corsAllowCredentials = DEFAULT_CORS_ALLOW_CREDENTIALS;
         corsAllowedHeaders = DEFAULT_CORS_ALLOWED_HEADERS;
@@ -65,10 +143,73 @@ public class HttpEndpointConfig extends EndpointConfig<HttpEndpoint> {
         corsExposedHeaders = DEFAULT_CORS_EXPOSED_HEADERS;
         corsMaxAge = DEFAULT_CORS_MAX_AGE;
         hostname = DEFAULT_HOSTNAME;
+        http2Enabled = DEFAULT_HTTP2_ENABLED;
+        http2InitialSessionRecvWindow = DEFAULT_HTTP2_INITIAL_SESSION_RECV_WINDOW;
+        http2InitialStreamRecvWindow = DEFAULT_HTTP2_INITIAL_STREAM_RECV_WINDOW;
+        http2MaxConcurrentStreams = DEFAULT_HTTP2_MAX_CONCURRENT_STREAMS;
+        idleTimeout = DEFAULT_IDLE_TIMEOUT;
         includeErrorDetails = DEFAULT_INCLUDE_ERROR_DETAILS;
+        maxRequestBodySize = DEFAULT_MAX_REQUEST_BODY_SIZE;
+        maxRequestBodySizeOverrides = new HashMap<>(DEFAULT_MAX_REQUEST_BODY_SIZE_OVERRIDES);
+        outputBufferSize = DEFAULT_OUTPUT_BUFFER_SIZE;
         port = DEFAULT_PORT;
+        requestHeaderSize = DEFAULT_REQUEST_HEADER_SIZE;
+        requestTimeout = DEFAULT_REQUEST_TIMEOUT;
+        requestTimeoutOverrides = new HashMap<>();
+        selectors = DEFAULT_SELECTORS;
         sniEnabled = DEFAULT_SNI_ENABLED;
+        sseEnabled = DEFAULT_SSE_ENABLED;
+        sseHeartbeatInterval = DEFAULT_SSE_HEARTBEAT_INTERVAL;
+        sseHistorySize = DEFAULT_SSE_HISTORY_SIZE;
+        sseMaxQueueSize = DEFAULT_SSE_MAX_QUEUE_SIZE;
         sslEnabled = DEFAULT_SSL_ENABLED;
+        threadPoolMaxQueueSize = DEFAULT_THREAD_POOL_MAX_QUEUE_SIZE;
+        threadPoolMaxThreads = DEFAULT_THREAD_POOL_MAX_THREADS;
+        threadPoolMinThreads = DEFAULT_THREAD_POOL_MIN_THREADS;
+        threadPoolReportInterval = DEFAULT_THREAD_POOL_REPORT_INTERVAL;
+        threadPoolVirtualThreads = DEFAULT_THREAD_POOL_VIRTUAL_THREADS;
+        webSocketEnabled = DEFAULT_WEB_SOCKET_ENABLED;
+        webSocketMaxMessageSize = DEFAULT_WEB_SOCKET_MAX_MESSAGE_SIZE;
+    }
+
+
+    public int getAcceptQueueSize() {
+        return acceptQueueSize;
+    }
+
+
+    public void setAcceptQueueSize(int acceptQueueSize) {
+        this.acceptQueueSize = acceptQueueSize;
+    }
+
+
+    public int getAcceptors() {
+        return acceptors;
+    }
+
+
+    public void setAcceptors(int acceptors) {
+        this.acceptors = acceptors;
+    }
+
+
+    public boolean isAsyncProcessingEnabled() {
+        return asyncProcessingEnabled;
+    }
+
+
+    public void setAsyncProcessingEnabled(boolean asyncProcessingEnabled) {
+        this.asyncProcessingEnabled = asyncProcessingEnabled;
+    }
+
+
+    public String getAsyncProcessingExcludedRequests() {
+        return asyncProcessingExcludedRequests;
+    }
+
+
+    public void setAsyncProcessingExcludedRequests(String asyncProcessingExcludedRequests) {
+        this.asyncProcessingExcludedRequests = asyncProcessingExcludedRequests;
     }
 
 
@@ -82,6 +223,56 @@ public class HttpEndpointConfig extends EndpointConfig<HttpEndpoint> {
     }
 
 
+    public boolean isCompressionDecompressRequests() {
+        return compressionDecompressRequests;
+    }
+
+
+    public void setCompressionDecompressRequests(boolean compressionDecompressRequests) {
+        this.compressionDecompressRequests = compressionDecompressRequests;
+    }
+
+
+    public boolean isCompressionEnabled() {
+        return compressionEnabled;
+    }
+
+
+    public void setCompressionEnabled(boolean compressionEnabled) {
+        this.compressionEnabled = compressionEnabled;
+    }
+
+
+    public String getCompressionExcludedMimeTypes() {
+        return compressionExcludedMimeTypes;
+    }
+
+
+    public void setCompressionExcludedMimeTypes(String compressionExcludedMimeTypes) {
+        this.compressionExcludedMimeTypes = compressionExcludedMimeTypes;
+    }
+
+
+    public String getCompressionIncludedMimeTypes() {
+        return compressionIncludedMimeTypes;
+    }
+
+
+    public void setCompressionIncludedMimeTypes(String compressionIncludedMimeTypes) {
+        this.compressionIncludedMimeTypes = compressionIncludedMimeTypes;
+    }
+
+
+    public int getCompressionMinSize() {
+        return compressionMinSize;
+    }
+
+
+    public void setCompressionMinSize(int compressionMinSize) {
+        this.compressionMinSize = compressionMinSize;
+    }
+
+
     public boolean isCorsEnabled() {
         return corsEnabled;
     }
@@ -162,6 +353,56 @@ public class HttpEndpointConfig extends EndpointConfig<HttpEndpoint> {
     }
 
 
+    public boolean isHttp2Enabled() {
+        return http2Enabled;
+    }
+
+
+    public void setHttp2Enabled(boolean http2Enabled) {
+        this.http2Enabled = http2Enabled;
+    }
+
+
+    public int getHttp2InitialSessionRecvWindow() {
+        return http2InitialSessionRecvWindow;
+    }
+
+
+    public void setHttp2InitialSessionRecvWindow(int http2InitialSessionRecvWindow) {
+        this.http2InitialSessionRecvWindow = http2InitialSessionRecvWindow;
+    }
+
+
+    public int getHttp2InitialStreamRecvWindow() {
+        return http2InitialStreamRecvWindow;
+    }
+
+
+    public void setHttp2InitialStreamRecvWindow(int http2InitialStreamRecvWindow) {
+        this.http2InitialStreamRecvWindow = http2InitialStreamRecvWindow;
+    }
+
+
+    public int getHttp2MaxConcurrentStreams() {
+        return http2MaxConcurrentStreams;
+    }
+
+
+    public void setHttp2MaxConcurrentStreams(int http2MaxConcurrentStreams) {
+        this.http2MaxConcurrentStreams = http2MaxConcurrentStreams;
+    }
+
+
+    public long getIdleTimeout() {
+        return idleTimeout;
+    }
+
+
+    public void setIdleTimeout(long idleTimeout) {
+        this.idleTimeout = idleTimeout;
+    }
+
+
     public boolean isIncludeErrorDetails() {
         return includeErrorDetails;
     }
@@ -172,6 +413,36 @@ public class HttpEndpointConfig extends EndpointConfig<HttpEndpoint> {
     }
 
 
+    public long getMaxRequestBodySize() {
+        return maxRequestBodySize;
+    }
+
+
+    public void setMaxRequestBodySize(long maxRequestBodySize) {
+        this.maxRequestBodySize = maxRequestBodySize;
+    }
+
+
+    public Map<String, Long> getMaxRequestBodySizeOverrides() {
+        return maxRequestBodySizeOverrides;
+    }
+
+
+    public void setMaxRequestBodySizeOverrides(Map<String, Long> maxRequestBodySizeOverrides) {
+        this.maxRequestBodySizeOverrides = maxRequestBodySizeOverrides;
+    }
+
+
+    public int getOutputBufferSize() {
+        return outputBufferSize;
+    }
+
+
+    public void setOutputBufferSize(int outputBufferSize) {
+        this.outputBufferSize = outputBufferSize;
+    }
+
+
     public int getPort() {
         return port;
     }
@@ -182,6 +453,46 @@ public class HttpEndpointConfig extends EndpointConfig<HttpEndpoint> {
     }
 
 
+    public int getRequestHeaderSize() {
+        return requestHeaderSize;
+    }
+
+
+    public void setRequestHeaderSize(int requestHeaderSize) {
+        this.requestHeaderSize = requestHeaderSize;
+    }
+
+
+    public long getRequestTimeout() {
+        return requestTimeout;
+    }
+
+
+    public void setRequestTimeout(long requestTimeout) {
+        this.requestTimeout = requestTimeout;
+    }
+
+
+    public Map<String, Long> getRequestTimeoutOverrides() {
+        return requestTimeoutOverrides;
+    }
+
+
+    public void setRequestTimeoutOverrides(Map<String, Long> requestTimeoutOverrides) {
+        this.requestTimeoutOverrides = requestTimeoutOverrides;
+    }
+
+
+    public int getSelectors() {
+        return selectors;
+    }
+
+
+    public void setSelectors(int selectors) {
+        this.selectors = selectors;
+    }
+
+
     public boolean isSniEnabled() {
         return sniEnabled;
     }
@@ -192,6 +503,46 @@ public class HttpEndpointConfig extends EndpointConfig<HttpEndpoint> {
     }
 
 
+    public boolean isSseEnabled() {
+        return sseEnabled;
+    }
+
+
+    public void setSseEnabled(boolean sseEnabled) {
+        this.sseEnabled = sseEnabled;
+    }
+
+
+    public long getSseHeartbeatInterval() {
+        return sseHeartbeatInterval;
+    }
+
+
+    public void setSseHeartbeatInterval(long sseHeartbeatInterval) {
+        this.sseHeartbeatInterval = sseHeartbeatInterval;
+    }
+
+
+    public int getSseHistorySize() {
+        return sseHistorySize;
+    }
+
+
+    public void setSseHistorySize(int sseHistorySize) {
+        this.sseHistorySize = sseHistorySize;
+    }
+
+
+    public int getSseMaxQueueSize() {
+        return sseMaxQueueSize;
+    }
+
+
+    public void setSseMaxQueueSize(int sseMaxQueueSize) {
+        this.sseMaxQueueSize = sseMaxQueueSize;
+    }
+
+
     public boolean isSslEnabled() {
         return sslEnabled;
     }
@@ -202,6 +553,76 @@ public class HttpEndpointConfig extends EndpointConfig<HttpEndpoint> {
     }
 
 
+    public int getThreadPoolMaxQueueSize() {
+        return threadPoolMaxQueueSize;
+    }
+
+
+    public void setThreadPoolMaxQueueSize(int threadPoolMaxQueueSize) {
+        this.threadPoolMaxQueueSize = threadPoolMaxQueueSize;
+    }
+
+
+    public int getThreadPoolMaxThreads() {
+        return threadPoolMaxThreads;
+    }
+
+
+    public void setThreadPoolMaxThreads(int threadPoolMaxThreads) {
+        this.threadPoolMaxThreads = threadPoolMaxThreads;
+    }
+
+
+    public int getThreadPoolMinThreads() {
+        return threadPoolMinThreads;
+    }
+
+
+    public void setThreadPoolMinThreads(int threadPoolMinThreads) {
+        this.threadPoolMinThreads = threadPoolMinThreads;
+    }
+
+
+    public long getThreadPoolReportInterval() {
+        return threadPoolReportInterval;
+    }
+
+
+    public void setThreadPoolReportInterval(long threadPoolReportInterval) {
+        this.threadPoolReportInterval = threadPoolReportInterval;
+    }
+
+
+    public boolean isThreadPoolVirtualThreads() {
+        return threadPoolVirtualThreads;
+    }
+
+
+    public void setThreadPoolVirtualThreads(boolean threadPoolVirtualThreads) {
+        this.threadPoolVirtualThreads = threadPoolVirtualThreads;
+    }
+
+
+    public boolean isWebSocketEnabled() {
+        return webSocketEnabled;
+    }
+
+
+    public void setWebSocketEnabled(boolean webSocketEnabled) {
+        this.webSocketEnabled = webSocketEnabled;
+    }
+
+
+    public long getWebSocketMaxMessageSize() {
+        return webSocketMaxMessageSize;
+    }
+
+
+    public void setWebSocketMaxMessageSize(long webSocketMaxMessageSize) {
+        this.webSocketMaxMessageSize = webSocketMaxMessageSize;
+    }
+
+
     @Override
     public boolean equals(Object o) {
         if (this == o) {
@@ -212,7 +633,16 @@ public class HttpEndpointConfig extends EndpointConfig<HttpEndpoint> {
         }
         HttpEndpointConfig that = (HttpEndpointConfig) o;
         return super.equals(o)
+                && Objects.equals(acceptQueueSize, that.acceptQueueSize)
+                && Objects.equals(acceptors, that.acceptors)
+                && Objects.equals(asyncProcessingEnabled, that.asyncProcessingEnabled)
+                && Objects.equals(asyncProcessingExcludedRequests, that.asyncProcessingExcludedRequests)
                 && Objects.equals(certificate, that.certificate)
+                && Objects.equals(compressionDecompressRequests, that.compressionDecompressRequests)
+                && Objects.equals(compressionEnabled, that.compressionEnabled)
+                && Objects.equals(compressionExcludedMimeTypes, that.compressionExcludedMimeTypes)
+                && Objects.equals(compressionIncludedMimeTypes, that.compressionIncludedMimeTypes)
+                && Objects.equals(compressionMinSize, that.compressionMinSize)
                 && Objects.equals(corsEnabled, that.corsEnabled)
                 && Objects.equals(corsAllowCredentials, that.corsAllowCredentials)
                 && Objects.equals(corsAllowedHeaders, that.corsAllowedHeaders)
@@ -221,10 +651,33 @@ public class HttpEndpointConfig extends EndpointConfig<HttpEndpoint> {
                 && Objects.equals(corsExposedHeaders, that.corsExposedHeaders)
                 && Objects.equals(corsMaxAge, that.corsMaxAge)
                 && Objects.equals(hostname, that.hostname)
+                && Objects.equals(http2Enabled, that.http2Enabled)
+                && Objects.equals(http2InitialSessionRecvWindow, that.http2InitialSessionRecvWindow)
+                && Objects.equals(http2InitialStreamRecvWindow, that.http2InitialStreamRecvWindow)
+                && Objects.equals(http2MaxConcurrentStreams, that.http2MaxConcurrentStreams)
+                && Objects.equals(idleTimeout, that.idleTimeout)
                 && Objects.equals(includeErrorDetails, that.includeErrorDetails)
+                && Objects.equals(maxRequestBodySize, that.maxRequestBodySize)
+                && Objects.equals(maxRequestBodySizeOverrides, that.maxRequestBodySizeOverrides)
+                && Objects.equals(outputBufferSize, that.outputBufferSize)
                 && Objects.equals(port, that.port)
+                && Objects.equals(requestHeaderSize, that.requestHeaderSize)
+                && Objects.equals(requestTimeout, that.requestTimeout)
+                && Objects.equals(requestTimeoutOverrides, that.requestTimeoutOverrides)
+                && Objects.equals(selectors, that.selectors)
                 && Objects.equals(sniEnabled, that.sniEnabled)
+                && Objects.equals(sseEnabled, that.sseEnabled)
+                && Objects.equals(sseHeartbeatInterval, that.sseHeartbeatInterval)
+                && Objects.equals(sseHistorySize, that.sseHistorySize)
+                && Objects.equals(sseMaxQueueSize, that.sseMaxQueueSize)
                 && Objects.equals(sslEnabled, that.sslEnabled)
+                && Objects.equals(threadPoolMaxQueueSize, that.threadPoolMaxQueueSize)
+                && Objects.equals(threadPoolMaxThreads, that.threadPoolMaxThreads)
+                && Objects.equals(threadPoolMinThreads, that.threadPoolMinThreads)
+                && Objects.equals(threadPoolReportInterval, that.threadPoolReportInterval)
+                && Objects.equals(threadPoolVirtualThreads, that.threadPoolVirtualThreads)
+                && Objects.equals(webSocketEnabled, that.webSocketEnabled)
+                && Objects.equals(webSocketMaxMessageSize, that.webSocketMaxMessageSize)
                 && Objects.equals(profiles, that.profiles);
     }
 
@@ -233,7 +686,16 @@ public class HttpEndpointConfig extends EndpointConfig<HttpEndpoint> {
     public int hashCode() {
         return Objects.hash(
                 super.hashCode(),
+                acceptQueueSize,
+                acceptors,
+                asyncProcessingEnabled,
+                asyncProcessingExcludedRequests,
                 certificate,
+                compressionDecompressRequests,
+                compressionEnabled,
+                compressionExcludedMimeTypes,
+                compressionIncludedMimeTypes,
+                compressionMinSize,
                 corsEnabled,
                 corsAllowCredentials,
                 corsAllowedHeaders,
@@ -242,21 +704,110 @@ public class HttpEndpointConfig extends EndpointConfig<HttpEndpoint> {
                 corsExposedHeaders,
                 corsMaxAge,
                 hostname,
+                http2Enabled,
+                http2InitialSessionRecvWindow,
+                http2InitialStreamRecvWindow,
+                http2MaxConcurrentStreams,
+                idleTimeout,
                 includeErrorDetails,
+                maxRequestBodySize,
+                maxRequestBodySizeOverrides,
+                outputBufferSize,
                 port,
+                requestHeaderSize,
+                requestTimeout,
+                requestTimeoutOverrides,
+                selectors,
                 sniEnabled,
+                sseEnabled,
+                sseHeartbeatInterval,
+                sseHistorySize,
+                sseMaxQueueSize,
                 sslEnabled,
+                threadPoolMaxQueueSize,
+                threadPoolMaxThreads,
+                threadPoolMinThreads,
+                threadPoolReportInterval,
+                threadPoolVirtualThreads,
+                webSocketEnabled,
+                webSocketMaxMessageSize,
                 profiles);
     }
 
     private abstract static class AbstractBuilder<T extends HttpEndpointConfig, B extends AbstractBuilder<T, B>> extends EndpointConfig.AbstractBuilder<HttpEndpoint, T, B> {
 
+        public B acceptQueueSize(int value) {
+            getBuildingInstance().setAcceptQueueSize(value);
+            return getSelf();
+        }
+
+
+        public B acceptors(int value) {
+            getBuildingInstance().setAcceptors(value);
+            return getSelf();
+        }
+
+
+        public B asyncProcessing() {
+            getBuildingInstance().setAsyncProcessingEnabled(true);
+            return getSelf();
+        }
+
+
+        public B asyncProcessing(boolean value) {
+            getBuildingInstance().setAsyncProcessingEnabled(value);
+            return getSelf();
+        }
+
+
+        public B asyncProcessingExcludedRequests(String value) {
+            getBuildingInstance().setAsyncProcessingExcludedRequests(value);
+            return getSelf();
+        }
+
+
         public B certificate(CertificateConfig value) {
             getBuildingInstance().setCertificate(value);
             return getSelf();
         }
 
 
+        public B compressionDecompressRequests(boolean value) {
+            getBuildingInstance().setCompressionDecompressRequests(value);
+            return getSelf();
+        }
+
+
+        public B compression() {
+            getBuildingInstance().setCompressionEnabled(true);
+            return getSelf();
+        }
+
+
+        public B compression(boolean value) {
+            getBuildingInstance().setCompressionEnabled(value);
+            return getSelf();
+        }
+
+
+        public B compressionExcludedMimeTypes(String value) {
+            getBuildingInstance().setCompressionExcludedMimeTypes(value);
+            return getSelf();
+        }
+
+
+        public B compressionIncludedMimeTypes(String value) {
+            getBuildingInstance().setCompressionIncludedMimeTypes(value);
+            return getSelf();
+        }
+
+
+        public B compressionMinSize(int value) {
+            getBuildingInstance().setCompressionMinSize(value);
+            return getSelf();
+        }
+
+
         public B cors() {
             getBuildingInstance().setCorsEnabled(true);
             return getSelf();
@@ -317,6 +868,42 @@ public class HttpEndpointConfig extends EndpointConfig<HttpEndpoint> {
         }
 
 
+        public B http2() {
+            getBuildingInstance().setHttp2Enabled(true);
+            return getSelf();
+        }
+
+
+        public B http2(boolean value) {
+            getBuildingInstance().setHttp2Enabled(value);
+            return getSelf();
+        }
+
+
+        public B http2InitialSessionRecvWindow(int value) {
+            getBuildingInstance().setHttp2InitialSessionRecvWindow(value);
+            return getSelf();
+        }
+
+
+        public B http2InitialStreamRecvWindow(int value) {
+            getBuildingInstance().setHttp2InitialStreamRecvWindow(value);
+            return getSelf();
+        }
+
+
+        public B http2MaxConcurrentStreams(int value) {
+            getBuildingInstance().setHttp2MaxConcurrentStreams(value);
+            return getSelf();
+        }
+
+
+        public B idleTimeout(long value) {
+            getBuildingInstance().setIdleTimeout(value);
+            return getSelf();
+        }
+
+
         public B includeErrorDetails() {
             getBuildingInstance().setIncludeErrorDetails(true);
             return getSelf();
@@ -329,12 +916,66 @@ public class HttpEndpointConfig extends EndpointConfig<HttpEndpoint> {
         }
 
 
+        public B maxRequestBodySize(long value) {
+            getBuildingInstance().setMaxRequestBodySize(value);
+            return getSelf();
+        }
+
+
+        public B maxRequestBodySizeOverrides(Map<String, Long> value) {
+            getBuildingInstance().setMaxRequestBodySizeOverrides(value);
+            return getSelf();
+        }
+
+
+        public B maxRequestBodySizeOverride(String requestType, long value) {
+            getBuildingInstance().getMaxRequestBodySizeOverrides().put(requestType, value);
+            return getSelf();
+        }
+
+
+        public B outputBufferSize(int value) {
+            getBuildingInstance().setOutputBufferSize(value);
+            return getSelf();
+        }
+
+
         public B port(int value) {
             getBuildingInstance().setPort(value);
             return getSelf();
         }
 
 
+        public B requestHeaderSize(int value) {
+            getBuildingInstance().setRequestHeaderSize(value);
+            return getSelf();
+        }
+
+
+        public B requestTimeout(long value) {
+            getBuildingInstance().setRequestTimeout(value);
+            return getSelf();
+        }
+
+
+        public B requestTimeoutOverrides(Map<String, Long> value) {
+            getBuildingInstance().setRequestTimeoutOverrides(value);
+            return getSelf();
+        }
+
+
+        public B requestTimeoutOverride(String requestType, long value) {
+            getBuildingInstance().getRequestTimeoutOverrides().put(requestType, value);
+            return getSelf();
+        }
+
+
+        public B selectors(int value) {
+            getBuildingInstance().setSelectors(value);
+            return getSelf();
+        }
+
+
         public B sni() {
             getBuildingInstance().setSniEnabled(true);
             return getSelf();
@@ -347,6 +988,36 @@ public class HttpEndpointConfig extends EndpointConfig<HttpEndpoint> {
         }
 
 
+        public B sse() {
+            getBuildingInstance().setSseEnabled(true);
+            return getSelf();
+        }
+
+
+        public B sse(boolean value) {
+            getBuildingInstance().setSseEnabled(value);
+            return getSelf();
+        }
+
+
+        public B sseHeartbeatInterval(long value) {
+            getBuildingInstance().setSseHeartbeatInterval(value);
+            return getSelf();
+        }
+
+
+        public B sseHistorySize(int value) {
+            getBuildingInstance().setSseHistorySize(value);
+            return getSelf();
+        }
+
+
+        public B sseMaxQueueSize(int value) {
+            getBuildingInstance().setSseMaxQueueSize(value);
+            return getSelf();
+        }
+
+
         public B ssl() {
             getBuildingInstance().setSslEnabled(true);
             return getSelf();
@@ -357,6 +1028,54 @@ public class HttpEndpointConfig extends EndpointConfig<HttpEndpoint> {
             getBuildingInstance().setSslEnabled(value);
             return getSelf();
         }
+
+
+        public B threadPoolMaxQueueSize(int value) {
+            getBuildingInstance().setThreadPoolMaxQueueSize(value);
+            return getSelf();
+        }
+
+
+        public B threadPoolMaxThreads(int value) {
+            getBuildingInstance().setThreadPoolMaxThreads(value);
+            return getSelf();
+        }
+
+
+        public B threadPoolMinThreads(int value) {
+            getBuildingInstance().setThreadPoolMinThreads(value);
+            return getSelf();
+        }
+
+
+        public B threadPoolReportInterval(long value) {
+            getBuildingInstance().setThreadPoolReportInterval(value);
+            return getSelf();
+        }
+
+
+        public B threadPoolVirtualThreads(boolean value) {
+            getBuildingInstance().setThreadPoolVirtualThreads(value);
+            return getSelf();
+        }
+
+
+        public B webSocket() {
+            getBuildingInstance().setWebSocketEnabled(true);
+            return getSelf();
+        }
+
+
+        public B webSocket(boolean value) {
+            getBuildingInstance().setWebSocketEnabled(value);
+            return getSelf();
+        }
+
+
+        public B webSocketMaxMessageSize(long value) {
+            getBuildingInstance().setWebSocketMaxMessageSize(value);
+            return getSelf();
+        }
     }
 
     public static class Builder extends AbstractBuilder<HttpEndpointConfig, Builder> {
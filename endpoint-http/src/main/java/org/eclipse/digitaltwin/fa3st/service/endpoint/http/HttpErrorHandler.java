@@ -34,7 +34,7 @@ import org.eclipse.digitaltwin.fa3st.common.model.api.StatusCode;
 import org.eclipse.digitaltwin.fa3st.common.util.MostSpecificClassComparator;
 import org.eclipse.digitaltwin.fa3st.common.util.StringHelper;
 import org.eclipse.digitaltwin.fa3st.service.endpoint.http.exception.MethodNotAllowedException;
-import org.eclipse.digitaltwin.fa3st.service.endpoint.http.serialization.HttpJsonApiSerializer;
+import org.eclipse.digitaltwin.fa3st.service.endpoint.http.serialization.HttpJsonSerialization;
 import org.eclipse.digitaltwin.fa3st.service.endpoint.http.util.HttpHelper;
 import org.eclipse.jetty.http.HttpHeader;
 import org.eclipse.jetty.http.HttpStatus;
@@ -97,6 +97,21 @@ public class HttpErrorHandler extends ErrorHandler {
     }
 
 
+    /**
+     * Determines the status code to send for an exception, e.g. when processing a request asynchronously fails and
+     * the error cannot be passed on to this handler.
+     *
+     * @param cause the exception
+     * @return the status code to send
+     */
+    static StatusCode getStatusCode(Throwable cause) {
+        Throwable realCause = findRealCause(cause);
+        return Objects.nonNull(realCause)
+                ? getStatus(realCause).orElse(StatusCode.SERVER_INTERNAL_ERROR)
+                : StatusCode.SERVER_INTERNAL_ERROR;
+    }
+
+
     @Override
     public boolean handle(Request request, Response response, Callback callback) throws Exception {
         LOGGER.debug("handle error (request: {}, response: {}, callback: {})", request, response, callback);
@@ -128,7 +143,7 @@ public class HttpErrorHandler extends ErrorHandler {
         }
         response.setStatus(HttpHelper.toHttpStatusCode(statusCode));
         try {
-            sendJson(response, new HttpJsonApiSerializer().write(result), callback);
+            sendJson(response, HttpJsonSerialization.SERIALIZER.write(result), callback);
         }
         catch (Exception e) {
             sendJson(response, getFallbackResponseJson(), callback);
@@ -13,54 +13,92 @@
  */
 package org.eclipse.digitaltwin.fa3st.service.endpoint.http;
 
+import jakarta.servlet.AsyncContext;
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServlet;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.Collections;
 import java.util.List;
+import java.util.Locale;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.stream.Collectors;
 import org.eclipse.digitaltwin.aas4j.v3.model.MessageTypeEnum;
+import org.eclipse.digitaltwin.aas4j.v3.model.impl.DefaultResult;
 import org.eclipse.digitaltwin.fa3st.common.exception.InvalidRequestException;
 import org.eclipse.digitaltwin.fa3st.common.exception.ResourceNotFoundException;
+import org.eclipse.digitaltwin.fa3st.common.model.api.Message;
+import org.eclipse.digitaltwin.fa3st.common.model.api.StatusCode;
 import org.eclipse.digitaltwin.fa3st.common.model.http.HttpMethod;
 import org.eclipse.digitaltwin.fa3st.common.util.Ensure;
 import org.eclipse.digitaltwin.fa3st.service.ServiceContext;
 import org.eclipse.digitaltwin.fa3st.service.endpoint.http.exception.MethodNotAllowedException;
 import org.eclipse.digitaltwin.fa3st.service.endpoint.http.model.HttpRequest;
 import org.eclipse.digitaltwin.fa3st.service.endpoint.http.request.RequestMappingManager;
+import org.eclipse.digitaltwin.fa3st.service.endpoint.http.request.RequestRouter;
+import org.eclipse.digitaltwin.fa3st.service.endpoint.http.request.mapper.AbstractRequestMapper;
 import org.eclipse.digitaltwin.fa3st.service.endpoint.http.response.ResponseMappingManager;
-import org.eclipse.digitaltwin.fa3st.service.endpoint.http.serialization.HttpJsonApiSerializer;
+import org.eclipse.digitaltwin.fa3st.service.endpoint.http.serialization.HttpJsonSerialization;
+import org.eclipse.digitaltwin.fa3st.service.endpoint.http.util.HttpConstants;
 import org.eclipse.digitaltwin.fa3st.service.endpoint.http.util.HttpHelper;
+import org.eclipse.digitaltwin.fa3st.service.request.RequestDeadline;
+import org.eclipse.digitaltwin.fa3st.service.request.admission.AdmissionController;
+import org.eclipse.digitaltwin.fa3st.service.request.admission.RequestRejectedException;
+import org.eclipse.jetty.ee10.servlet.ServletContextRequest;
 import org.eclipse.jetty.server.Response;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 
 /**
  * HTTP handler that actually handles all requests to the endpoint by finding the matching request class, deserializing
- * the request, executing it using the serviceContext and serializing the result.
+ * the request, executing it using the serviceContext and serializing the result. If enabled via
+ * {@link HttpEndpointConfig#isAsyncProcessingEnabled()}, requests are executed asynchronously so that the HTTP thread is
+ * released while the request waits for the persistence, assets or operations, and the response is sent by a thread of
+ * the HTTP thread pool once execution completes. Request types listed in {@link HttpEndpointConfig#getAsyncProcessingExcludedRequests()} are always
+ * executed synchronously on the HTTP thread.
  */
 public class RequestHandlerServlet extends HttpServlet {
 
+    private static final Logger LOGGER = LoggerFactory.getLogger(RequestHandlerServlet.class);
+    private static final int COPY_BUFFER_SIZE = 8192;
+    private static final int MAX_ARRAY_SIZE = Integer.MAX_VALUE - 8;
+    private static final String MULTIPART_PREFIX = "multipart/";
+    private static final String TEMP_FILE_PREFIX = "fa3st-upload-";
+
     private final HttpEndpoint endpoint;
     private final HttpEndpointConfig config;
     private final ServiceContext serviceContext;
     private final RequestMappingManager requestMappingManager;
     private final ResponseMappingManager responseMappingManager;
-    private final HttpJsonApiSerializer serializer;
+    private final Set<String> syncRequestTypes;
+    private final Executor responseExecutor;
 
-    public RequestHandlerServlet(HttpEndpoint endpoint, HttpEndpointConfig config, ServiceContext serviceContext) {
+    public RequestHandlerServlet(HttpEndpoint endpoint, HttpEndpointConfig config, ServiceContext serviceContext, Executor responseExecutor) {
         Ensure.requireNonNull(endpoint, "endpoint must be non-null");
         Ensure.requireNonNull(config, "config must be non-null");
         Ensure.requireNonNull(serviceContext, "serviceContext must be non-null");
+        Ensure.requireNonNull(responseExecutor, "responseExecutor must be non-null");
         this.endpoint = endpoint;
         this.config = config;
         this.serviceContext = serviceContext;
+        this.responseExecutor = responseExecutor;
         this.requestMappingManager = new RequestMappingManager(serviceContext);
         this.responseMappingManager = new ResponseMappingManager(serviceContext);
-        this.serializer = new HttpJsonApiSerializer();
+        this.syncRequestTypes = Set.copyOf(HttpHelper.parseCommaSeparatedList(config.getAsyncProcessingExcludedRequests()));
     }
 
 
@@ -87,7 +125,6 @@ public class RequestHandlerServlet extends HttpServlet {
         HttpRequest httpRequest = HttpRequest.builder()
                 .path(url.replaceAll("/$", ""))
                 .query(request.getQueryString())
-                .body(request.getInputStream().readAllBytes())
                 .method(method)
                 .charset(request.getCharacterEncoding())
                 .headers(Collections.list(request.getHeaderNames()).stream()
@@ -95,13 +132,102 @@ public class RequestHandlerServlet extends HttpServlet {
                                 x -> x,
                                 request::getHeader)))
                 .build();
+        boolean async = false;
         try {
-            executeAndSend(response, requestMappingManager.map(httpRequest));
+            RequestRouter.Match match = requestMappingManager.findMatch(httpRequest);
+            long maxBodySize = getMaxRequestBodySize(match.getMapper());
+            if (!readBody(request, httpRequest, maxBodySize)) {
+                HttpHelper.sendPayloadTooLarge(response, String.format("request body exceeds maximum size of %d bytes", maxBodySize));
+                return;
+            }
+            async = executeAndSend(request, response, httpRequest, requestMappingManager.map(httpRequest, match));
         }
         catch (Exception e) {
             doThrow(e);
         }
+        finally {
+            if (!async) {
+                deleteBodyFile(httpRequest);
+            }
+        }
+    }
+
+
+    private static void deleteBodyFile(HttpRequest httpRequest) {
+        if (Objects.isNull(httpRequest.getBodyFile())) {
+            return;
+        }
+        try {
+            Files.deleteIfExists(httpRequest.getBodyFile());
+        }
+        catch (IOException e) {
+            LOGGER.warn("unable to delete temporary file of request body (file: {})", httpRequest.getBodyFile(), e);
+        }
+    }
+
+
+    private long getMaxRequestBodySize(AbstractRequestMapper mapper) {
+        String requestType = mapper.getRequestType().getSimpleName();
+        return Optional.ofNullable(config.getMaxRequestBodySizeOverrides())
+                .map(x -> x.get(requestType))
+                .orElse(config.getMaxRequestBodySize());
+    }
+
+
+    /**
+     * Reads the body of the request into the HTTP request but never more than maxSize bytes. If the client announces a
+     * larger body via the Content-Length header, nothing is read at all. Multipart bodies, i.e. file uploads, are
+     * written to a temporary file instead of being kept in memory.
+     *
+     * @param request the servlet request to read from
+     * @param httpRequest the HTTP request to store the body in
+     * @param maxSize the maximum body size in bytes, values less or equal zero mean unlimited
+     * @return true if the body has been read, false if the body exceeds maxSize
+     * @throws IOException if reading the body fails
+     */
+    private static boolean readBody(HttpServletRequest request, HttpRequest httpRequest, long maxSize) throws IOException {
+        if (maxSize > 0 && request.getContentLengthLong() > maxSize) {
+            return false;
+        }
+        if (isMultipart(request)) {
+            Path bodyFile = Files.createTempFile(TEMP_FILE_PREFIX, null);
+            httpRequest.setBodyFile(bodyFile);
+            try (OutputStream output = Files.newOutputStream(bodyFile)) {
+                return copyBody(request.getInputStream(), output, maxSize);
+            }
+        }
+        if (maxSize <= 0) {
+            httpRequest.setBody(request.getInputStream().readAllBytes());
+            return true;
+        }
+        // read one byte more than allowed to detect oversized bodies without Content-Length, e.g. chunked or compressed
+        byte[] body = request.getInputStream().readNBytes((int) Math.min(maxSize, MAX_ARRAY_SIZE - 1) + 1);
+        if (body.length > maxSize) {
+            return false;
+        }
+        httpRequest.setBody(body);
+        return true;
+    }
 
+
+    private static boolean copyBody(InputStream input, OutputStream output, long maxSize) throws IOException {
+        byte[] buffer = new byte[COPY_BUFFER_SIZE];
+        long total = 0;
+        int read;
+        while ((read = input.read(buffer)) >= 0) {
+            total += read;
+            if (maxSize > 0 && total > maxSize) {
+                return false;
+            }
+            output.write(buffer, 0, read);
+        }
+        return true;
+    }
+
+
+    private static boolean isMultipart(HttpServletRequest request) {
+        return Objects.nonNull(request.getContentType())
+                && request.getContentType().toLowerCase(Locale.ROOT).startsWith(MULTIPART_PREFIX);
     }
 
 
@@ -119,21 +245,206 @@ public class RequestHandlerServlet extends HttpServlet {
     }
 
 
-    private void executeAndSend(HttpServletResponse response, org.eclipse.digitaltwin.fa3st.common.model.api.Request<? extends Response> apiRequest) throws Exception {
+    private RequestDeadline createDeadline(HttpServletRequest request, org.eclipse.digitaltwin.fa3st.common.model.api.Request<? extends Response> apiRequest)
+            throws InvalidRequestException {
+        long timeout = Optional.ofNullable(config.getRequestTimeoutOverrides())
+                .map(x -> x.get(apiRequest.getClass().getSimpleName()))
+                .orElse(config.getRequestTimeout());
+        String timeoutHeader = request.getHeader(HttpConstants.HEADER_REQUEST_TIMEOUT);
+        if (Objects.nonNull(timeoutHeader)) {
+            long requestedTimeout;
+            try {
+                requestedTimeout = Long.parseLong(timeoutHeader.trim());
+            }
+            catch (NumberFormatException e) {
+                throw new InvalidRequestException(String.format(
+                        "invalid value for header '%s' (expected: timeout in milliseconds, actual: %s)",
+                        HttpConstants.HEADER_REQUEST_TIMEOUT,
+                        timeoutHeader));
+            }
+            // clients may only shorten the timeout configured on the server
+            if (requestedTimeout > 0 && (timeout <= 0 || requestedTimeout < timeout)) {
+                timeout = requestedTimeout;
+            }
+        }
+        // requests without time limit still need a cancellable deadline so that work is aborted when the client disconnects
+        RequestDeadline result = timeout > 0
+                ? RequestDeadline.after(timeout)
+                : RequestDeadline.unlimited();
+        ServletContextRequest servletContextRequest = ServletContextRequest.getServletContextRequest(request);
+        if (Objects.nonNull(servletContextRequest)) {
+            servletContextRequest.addFailureListener(x -> result.cancel());
+        }
+        return result;
+    }
+
+
+    /**
+     * Executes the request and sends the response. Requests are executed synchronously if asynchronous processing is
+     * disabled or not supported by the servlet container or if the request type is excluded from asynchronous
+     * processing. Otherwise, the response is sent and the admission permit and temporary files are released once the
+     * request has been executed.
+     *
+     * @return true if the request is executed asynchronously, false if it has been completed already
+     */
+    private boolean executeAndSend(HttpServletRequest request, HttpServletResponse response, HttpRequest httpRequest, org.eclipse.digitaltwin.fa3st.common.model.api.Request<? extends Response> apiRequest)
+            throws Exception {
         if (Objects.isNull(apiRequest)) {
             throw new InvalidRequestException("empty API request");
         }
         checkRequestSupportedByProfiles(apiRequest);
-        org.eclipse.digitaltwin.fa3st.common.model.api.Response apiResponse = serviceContext.execute(endpoint, apiRequest);
+        RequestDeadline deadline = createDeadline(request, apiRequest);
+        AdmissionController.Permit permit;
+        try {
+            permit = serviceContext.getAdmissionController().acquire(apiRequest);
+        }
+        catch (RequestRejectedException e) {
+            HttpHelper.sendServiceUnavailable(response, e.getMessage(), e.getRetryAfter());
+            return false;
+        }
+        if (!isAsync(request, apiRequest)) {
+            try (permit) {
+                send(request, response, apiRequest, serviceContext.execute(endpoint, apiRequest, deadline), deadline);
+            }
+            return false;
+        }
+        AsyncContext asyncContext;
+        try {
+            asyncContext = request.startAsync();
+        }
+        catch (IllegalStateException e) {
+            permit.close();
+            throw e;
+        }
+        // the deadline of the request applies instead of the timeout of the servlet container
+        asyncContext.setTimeout(0);
+        asyncContext.addListener(new AsyncListener() {
+            @Override
+            public void onComplete(AsyncEvent event) {
+                // intentionally empty
+            }
+
+
+            @Override
+            public void onTimeout(AsyncEvent event) {
+                deadline.cancel();
+            }
+
+
+            @Override
+            public void onError(AsyncEvent event) {
+                deadline.cancel();
+            }
+
+
+            @Override
+            public void onStartAsync(AsyncEvent event) {
+                // intentionally empty
+            }
+        });
+        CompletableFuture<? extends org.eclipse.digitaltwin.fa3st.common.model.api.Response> execution;
+        try {
+            execution = serviceContext.executeAsync(endpoint, apiRequest, deadline);
+        }
+        catch (RuntimeException e) {
+            execution = CompletableFuture.failedFuture(e);
+        }
+        // the response is written by the HTTP thread pool so that the request handler threads only execute requests
+        execution.whenCompleteAsync((apiResponse, error) -> {
+            try {
+                if (Objects.nonNull(error)) {
+                    sendError(response, error);
+                }
+                else {
+                    send(request, response, apiRequest, apiResponse, deadline);
+                }
+            }
+            catch (Exception e) {
+                sendError(response, e);
+            }
+            finally {
+                permit.close();
+                deleteBodyFile(httpRequest);
+                asyncContext.complete();
+            }
+        }, this::executeResponse);
+        return true;
+    }
+
+
+    private void executeResponse(Runnable task) {
+        try {
+            responseExecutor.execute(task);
+        }
+        catch (RejectedExecutionException e) {
+            // sending the response must not be skipped as the request would never complete otherwise
+            task.run();
+        }
+    }
+
+
+    private boolean isAsync(HttpServletRequest request, org.eclipse.digitaltwin.fa3st.common.model.api.Request<? extends Response> apiRequest) {
+        return config.isAsyncProcessingEnabled()
+                && request.isAsyncSupported()
+                && !syncRequestTypes.contains(apiRequest.getClass().getSimpleName());
+    }
+
+
+    private void send(HttpServletRequest request, HttpServletResponse response, org.eclipse.digitaltwin.fa3st.common.model.api.Request<? extends Response> apiRequest, org.eclipse.digitaltwin.fa3st.common.model.api.Response apiResponse, RequestDeadline deadline)
+            throws Exception {
         if (Objects.isNull(apiResponse)) {
             throw new ServletException("empty API response");
         }
         if (isSuccessful(apiResponse)) {
-            responseMappingManager.map(apiRequest, apiResponse, response);
+            responseMappingManager.map(apiRequest, apiResponse, request, response);
+        }
+        else if (deadline.isAborted()) {
+            // the request failed because its deadline expired, e.g. before execution or while accessing an asset
+            HttpHelper.sendGatewayTimeout(response, getFirstMessage(apiResponse).orElse("request deadline exceeded"));
         }
         else {
-            HttpHelper.sendJson(response, apiResponse.getStatusCode(), serializer.write(apiResponse.getResult()));
+            HttpHelper.sendJson(response, apiResponse.getStatusCode(), HttpJsonSerialization.SERIALIZER.write(apiResponse.getResult()));
+        }
+    }
+
+
+    /**
+     * Sends an error response when executing a request asynchronously fails. In contrast to synchronous execution, the
+     * error cannot be passed on to the {@link HttpErrorHandler} anymore.
+     */
+    private static void sendError(HttpServletResponse response, Throwable error) {
+        Throwable cause = error instanceof CompletionException && Objects.nonNull(error.getCause())
+                ? error.getCause()
+                : error;
+        LOGGER.debug("error executing request asynchronously", cause);
+        if (response.isCommitted()) {
+            return;
         }
+        StatusCode statusCode = HttpErrorHandler.getStatusCode(cause);
+        try {
+            HttpHelper.send(response,
+                    statusCode,
+                    new DefaultResult.Builder()
+                            .messages(Message.builder()
+                                    .messageType(HttpHelper.messageTypeFromstatusCode(statusCode))
+                                    .text(cause.getMessage())
+                                    .build())
+                            .build());
+        }
+        catch (Exception e) {
+            response.setStatus(HttpHelper.toHttpStatusCode(statusCode));
+        }
+    }
+
+
+    private static Optional<String> getFirstMessage(org.eclipse.digitaltwin.fa3st.common.model.api.Response response) {
+        return Optional.ofNullable(response.getResult())
+                .map(x -> x.getMessages())
+                .orElse(List.of())
+                .stream()
+                .map(x -> x.getText())
+                .filter(Objects::nonNull)
+                .findFirst();
     }
 
 
@@ -0,0 +1,135 @@
+/**
+ * Copyright (c) 2025 the Eclipse FA³ST Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.eclipse.digitaltwin.fa3st.service.endpoint.http;
+
+import java.util.Objects;
+
+
+/**
+ * Snapshot of the utilization of the thread pool of the {@link HttpEndpoint}.
+ */
+public class ThreadPoolUtilization {
+
+    private final int threads;
+    private final int busyThreads;
+    private final int idleThreads;
+    private final int maxThreads;
+    private final int queueSize;
+    private final double utilizationRate;
+
+    public ThreadPoolUtilization(int threads, int busyThreads, int idleThreads, int maxThreads, int queueSize, double utilizationRate) {
+        this.threads = threads;
+        this.busyThreads = busyThreads;
+        this.idleThreads = idleThreads;
+        this.maxThreads = maxThreads;
+        this.queueSize = queueSize;
+        this.utilizationRate = utilizationRate;
+    }
+
+
+    /**
+     * Gets the number of threads currently in the pool.
+     *
+     * @return the number of threads currently in the pool
+     */
+    public int getThreads() {
+        return threads;
+    }
+
+
+    /**
+     * Gets the number of threads currently executing a task.
+     *
+     * @return the number of busy threads
+     */
+    public int getBusyThreads() {
+        return busyThreads;
+    }
+
+
+    /**
+     * Gets the number of threads currently waiting for a task.
+     *
+     * @return the number of idle threads
+     */
+    public int getIdleThreads() {
+        return idleThreads;
+    }
+
+
+    /**
+     * Gets the maximum number of threads of the pool.
+     *
+     * @return the maximum number of threads
+     */
+    public int getMaxThreads() {
+        return maxThreads;
+    }
+
+
+    /**
+     * Gets the number of tasks waiting for a free thread.
+     *
+     * @return the number of queued tasks
+     */
+    public int getQueueSize() {
+        return queueSize;
+    }
+
+
+    /**
+     * Gets the ratio of threads available for tasks that are currently busy, between 0 and 1.
+     *
+     * @return the utilization rate
+     */
+    public double getUtilizationRate() {
+        return utilizationRate;
+    }
+
+
+    @Override
+    public String toString() {
+        return String.format("threads: %d/%d, busy: %d, idle: %d, queued: %d, utilization: %.0f%%",
+                threads,
+                maxThreads,
+                busyThreads,
+                idleThreads,
+                queueSize,
+                utilizationRate * 100);
+    }
+
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        ThreadPoolUtilization that = (ThreadPoolUtilization) o;
+        return Objects.equals(threads, that.threads)
+                && Objects.equals(busyThreads, that.busyThreads)
+                && Objects.equals(idleThreads, that.idleThreads)
+                && Objects.equals(maxThreads, that.maxThreads)
+                && Objects.equals(queueSize, that.queueSize)
+                && Objects.equals(utilizationRate, that.utilizationRate);
+    }
+
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(threads, busyThreads, idleThreads, maxThreads, queueSize, utilizationRate);
+    }
+}
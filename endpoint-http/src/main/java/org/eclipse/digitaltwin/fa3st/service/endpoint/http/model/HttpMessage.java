@@ -42,7 +42,7 @@ public abstract class HttpMessage {
 
 
     public String getBodyAsString() {
-        return new String(body, charset);
+        return new String(getBody(), charset);
     }
 
 
@@ -53,7 +53,7 @@ public abstract class HttpMessage {
      * @return the body as string using given charset
      */
     public String getBodyAsString(Charset charset) {
-        return new String(body, charset);
+        return new String(getBody(), charset);
     }
 
 
@@ -13,11 +13,18 @@
  */
 package org.eclipse.digitaltwin.fa3st.service.endpoint.http.model;
 
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.stream.Collectors;
 import org.eclipse.digitaltwin.fa3st.common.model.http.HttpMethod;
@@ -34,6 +41,7 @@ public class HttpRequest extends HttpMessage {
     private String path;
     private Map<String, String> queryParameters;
     private List<String> pathElements;
+    private Path bodyFile;
 
     public static Builder builder() {
         return new Builder();
@@ -62,6 +70,58 @@ public class HttpRequest extends HttpMessage {
     }
 
 
+    /**
+     * Gets the body. If the body has been stored in a file, it is loaded into memory on first access.
+     *
+     * @return the body
+     * @throws UncheckedIOException if reading the body file fails
+     */
+    @Override
+    public byte[] getBody() {
+        if (Objects.isNull(body) && Objects.nonNull(bodyFile)) {
+            try {
+                body = Files.readAllBytes(bodyFile);
+            }
+            catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+        return body;
+    }
+
+
+    /**
+     * Opens a stream to read the body. If the body has been stored in a file, it is read from that file without loading
+     * it into memory.
+     *
+     * @return a stream to read the body from
+     * @throws IOException if opening the body file fails
+     */
+    public InputStream getBodyAsStream() throws IOException {
+        if (Objects.isNull(body) && Objects.nonNull(bodyFile)) {
+            return Files.newInputStream(bodyFile);
+        }
+        return new ByteArrayInputStream(Objects.nonNull(body) ? body : new byte[0]);
+    }
+
+
+    public Path getBodyFile() {
+        return bodyFile;
+    }
+
+
+    /**
+     * Sets a file containing the body. This is used for large bodies, e.g. file uploads, that should not be kept in
+     * memory as a whole. The caller is responsible for deleting the file once the request has been processed.
+     *
+     * @param bodyFile the file containing the body
+     */
+    public void setBodyFile(Path bodyFile) {
+        this.bodyFile = bodyFile;
+        this.body = null;
+    }
+
+
     /**
      * Gets the content type header value if present.
      *
@@ -208,6 +268,12 @@ public class HttpRequest extends HttpMessage {
             getBuildingInstance().setQueryParametersFromQueryString(value);
             return getSelf();
         }
+
+
+        public B bodyFile(Path value) {
+            getBuildingInstance().setBodyFile(value);
+            return getSelf();
+        }
     }
 
     public static class Builder extends AbstractBuilder<HttpRequest, Builder> {
@@ -13,6 +13,7 @@
  */
 package org.eclipse.digitaltwin.fa3st.service.endpoint.http.request;
 
+import java.util.List;
 import java.util.Set;
 import java.util.stream.Collectors;
 import org.eclipse.digitaltwin.fa3st.common.exception.InvalidRequestException;
@@ -27,12 +28,16 @@ import org.eclipse.digitaltwin.fa3st.service.endpoint.http.request.mapper.Abstra
 
 
 /**
- * Finds matching request mapper for given HTTP request.
+ * Finds matching request mapper for given HTTP request. Matching is done using a {@link RequestRouter} that is compiled
+ * once when creating the manager.
  */
 public class RequestMappingManager extends AbstractMappingManager<AbstractRequestMapper> {
 
+    private final RequestRouter router;
+
     public RequestMappingManager(ServiceContext serviceContext) {
         super(AbstractRequestMapper.class, serviceContext);
+        this.router = new RequestRouter(mappers);
     }
 
 
@@ -43,10 +48,13 @@ public class RequestMappingManager extends AbstractMappingManager<AbstractReques
      * @return a set of supported methods for the url
      */
     public Set<HttpMethod> getSupportedMethods(String url) {
-        return mappers.stream()
-                .filter(request -> request.matchesUrl(url))
+        HttpRequest httpRequest = HttpRequest.builder()
+                .path(url)
+                .build();
+        return router.route(httpRequest.getPath()).stream()
+                .map(RequestRouter.Match::getMapper)
+                .filter(x -> x.matchesQuery(httpRequest))
                 .map(x -> x.getMethod())
-                .distinct()
                 .collect(Collectors.toSet());
     }
 
@@ -61,26 +69,42 @@ public class RequestMappingManager extends AbstractMappingManager<AbstractReques
      * @throws IllegalStateException if there were multiple matching mappers
      */
     public AbstractRequestMapper findRequestMapper(HttpRequest httpRequest) throws InvalidRequestException {
+        return findMatch(httpRequest).getMapper();
+    }
+
+
+    /**
+     * Finds the matching request mapper including the URL parameters extracted from the path for given HTTP request.
+     * Only method, path and query of the HTTP request are evaluated, i.e. the body does not need to be present yet.
+     *
+     * @param httpRequest HTTP-based request to find a suitable request mapper
+     * @return the match
+     * @throws InvalidRequestException if no mapper is found for request
+     * @throws MethodNotAllowedException if the method was not valid for the request
+     * @throws IllegalStateException if there were multiple matching mappers
+     */
+    public RequestRouter.Match findMatch(HttpRequest httpRequest) throws InvalidRequestException {
         Ensure.requireNonNull(httpRequest, "httpRequest must be non-null");
-        Set<AbstractRequestMapper> mappersByUrl = mappers.stream()
-                .filter(request -> request.matchesUrl(httpRequest))
-                .collect(Collectors.toSet());
-        if (mappersByUrl.isEmpty()) {
-            throw new InvalidRequestException(String.format("no matching request mapper found for URL '%s'", httpRequest.getPath()));
-        }
-        Set<AbstractRequestMapper> mappersByUrlAndMethod = mappersByUrl.stream()
-                .filter(x -> x.getMethod() == httpRequest.getMethod())
-                .collect(Collectors.toSet());
-        if (mappersByUrlAndMethod.isEmpty()) {
+        List<RequestRouter.Match> matches = router.route(httpRequest.getMethod(), httpRequest.getPath()).stream()
+                .filter(x -> x.getMapper().matchesQuery(httpRequest))
+                .toList();
+        if (matches.isEmpty()) {
+            Set<AbstractRequestMapper> mappersByUrl = router.route(httpRequest.getPath()).stream()
+                    .map(RequestRouter.Match::getMapper)
+                    .filter(x -> x.matchesQuery(httpRequest))
+                    .collect(Collectors.toSet());
+            if (mappersByUrl.isEmpty()) {
+                throw new InvalidRequestException(String.format("no matching request mapper found for URL '%s'", httpRequest.getPath()));
+            }
             throw new MethodNotAllowedException(httpRequest, mappersByUrl);
         }
-        if (mappersByUrlAndMethod.size() > 1) {
+        if (matches.size() > 1) {
             throw new IllegalStateException(String.format(
                     "found multiple request mapper matching HTTP method and URL (HTTP method: %s, url: %s)",
                     httpRequest.getMethod(),
                     httpRequest.getPath()));
         }
-        return mappersByUrlAndMethod.iterator().next();
+        return matches.get(0);
     }
 
 
@@ -93,7 +117,23 @@ public class RequestMappingManager extends AbstractMappingManager<AbstractReques
      * @throws MethodNotAllowedException if HTTP method is not allowed on URL
      */
     public Request map(HttpRequest httpRequest) throws InvalidRequestException {
-        return findRequestMapper(httpRequest).parse(httpRequest);
+        return map(httpRequest, findMatch(httpRequest));
+    }
+
+
+    /**
+     * Converts given HTTP request to a protocol-agnostic request using a match previously obtained via
+     * {@link #findMatch(HttpRequest)}.
+     *
+     * @param httpRequest HTTP-based request to convert
+     * @param match the match for the request
+     * @return protocol-agnostic request
+     * @throws InvalidRequestException if mapping fails
+     * @throws IllegalArgumentException if match is null
+     */
+    public Request map(HttpRequest httpRequest, RequestRouter.Match match) throws InvalidRequestException {
+        Ensure.requireNonNull(match, "match must be non-null");
+        return match.getMapper().parse(httpRequest, match.getUrlParameters());
     }
 
 }
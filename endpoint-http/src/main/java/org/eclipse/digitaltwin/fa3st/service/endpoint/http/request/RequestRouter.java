@@ -0,0 +1,516 @@
+/**
+ * Copyright (c) 2025 the Eclipse FA³ST Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.eclipse.digitaltwin.fa3st.service.endpoint.http.request;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Predicate;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import org.eclipse.digitaltwin.fa3st.common.model.http.HttpMethod;
+import org.eclipse.digitaltwin.fa3st.common.util.Ensure;
+import org.eclipse.digitaltwin.fa3st.service.endpoint.http.request.mapper.AbstractRequestMapper;
+
+
+/**
+ * Router finding the request mappers matching a URL path. The URL patterns of all mappers are compiled once into a
+ * trie of path segments, where each node has children for literal segments and for typed placeholders, i.e. groups
+ * matching a single segment like {@code (?<id>[^/$]*)} (any segment not containing the given characters) or
+ * {@code \$((?!reference)\w*)} (a content modifier except the given ones).
+ *
+ * <p>URL patterns consisting only of literal segments and placeholders, optionally followed by an optional last
+ * segment like {@code (/\$value)?}, are matched by walking the trie, extracting the values of named placeholders on the
+ * way, without using regular expressions at all. For URL patterns containing other regular expression constructs, the
+ * longest prefix of literal segments and placeholders is added to the trie and the precompiled regular expression of
+ * the whole pattern is only evaluated if a request reaches the corresponding node.
+ */
+public class RequestRouter {
+
+    private static final char SEPARATOR = '/';
+    private static final String QUANTIFIERS = "?*+{";
+    private static final String OPTIONAL_SEGMENT_START = "(/";
+    private static final String OPTIONAL_SEGMENT_END = ")?";
+    private static final Pattern CHARACTER_CLASS_PLACEHOLDER = Pattern.compile("\\(\\?<([a-zA-Z][a-zA-Z0-9]*)>\\[\\^([^\\]\\\\-]*)\\]([*+])\\)");
+    private static final Pattern WORD_PLACEHOLDER = Pattern.compile("((?:[a-zA-Z0-9_~-]|\\\\[^a-zA-Z0-9])*)\\((?:\\(\\?!([a-zA-Z0-9_|]+)\\))?\\\\w\\*\\)");
+    private static final Pattern GROUP_NAME = Pattern.compile("\\(\\?<([a-zA-Z][a-zA-Z0-9]*)>");
+    private final Node root;
+
+    public RequestRouter(Collection<? extends AbstractRequestMapper> mappers) {
+        Ensure.requireNonNull(mappers, "mappers must be non-null");
+        this.root = new Node();
+        for (var mapper: mappers) {
+            for (var urlPattern: mapper.getUrlPatterns()) {
+                add(mapper, urlPattern);
+            }
+        }
+    }
+
+
+    /**
+     * Finds all mappers for the given HTTP method whose URL pattern matches the given path. Mappers may have additional
+     * constraints, e.g. on query parameters, that are not checked by the router.
+     *
+     * @param method the HTTP method
+     * @param path the URL path
+     * @return all matches, empty if no mapper matches
+     * @throws IllegalArgumentException if method is null
+     * @throws IllegalArgumentException if path is null
+     */
+    public List<Match> route(HttpMethod method, String path) {
+        Ensure.requireNonNull(method, "method must be non-null");
+        return doRoute(method, path);
+    }
+
+
+    /**
+     * Finds all mappers regardless of their HTTP method whose URL pattern matches the given path.
+     *
+     * @param path the URL path
+     * @return all matches, empty if no mapper matches
+     * @throws IllegalArgumentException if path is null
+     */
+    public List<Match> route(String path) {
+        return doRoute(null, path);
+    }
+
+
+    private List<Match> doRoute(HttpMethod method, String path) {
+        Ensure.requireNonNull(path, "path must be non-null");
+        String[] segments = path.isEmpty()
+                ? new String[0]
+                : path.split(String.valueOf(SEPARATOR), -1);
+        Map<AbstractRequestMapper, Match> result = new LinkedHashMap<>();
+        collect(root, segments, 0, path, method, result);
+        return new ArrayList<>(result.values());
+    }
+
+
+    private static void collect(Node node, String[] segments, int depth, String path, HttpMethod method, Map<AbstractRequestMapper, Match> result) {
+        for (var route: node.getRoutes(method)) {
+            if (route.isTemplate()) {
+                if (depth == segments.length) {
+                    Map<String, String> urlParameters = new HashMap<>();
+                    route.placeholders.forEach((index, name) -> urlParameters.put(name, segments[index]));
+                    result.putIfAbsent(route.mapper, new Match(route.mapper, urlParameters));
+                }
+            }
+            else {
+                Matcher matcher = route.pattern.matcher(path);
+                if (matcher.matches()) {
+                    Map<String, String> urlParameters = new HashMap<>();
+                    for (var name: route.groupNames) {
+                        String value = matcher.group(name);
+                        if (Objects.nonNull(value)) {
+                            urlParameters.put(name, value);
+                        }
+                    }
+                    result.putIfAbsent(route.mapper, new Match(route.mapper, urlParameters));
+                }
+            }
+        }
+        if (depth == segments.length) {
+            return;
+        }
+        Node literal = node.literals.get(segments[depth]);
+        if (Objects.nonNull(literal)) {
+            collect(literal, segments, depth + 1, path, method, result);
+        }
+        for (var placeholder: node.placeholders.values()) {
+            if (placeholder.accepts(segments[depth])) {
+                collect(placeholder.node, segments, depth + 1, path, method, result);
+            }
+        }
+    }
+
+
+    private void add(AbstractRequestMapper mapper, String urlPattern) {
+        String pattern = urlPattern;
+        if (pattern.startsWith("^")) {
+            pattern = pattern.substring(1);
+        }
+        if (pattern.endsWith("$") && !isEscaped(pattern, pattern.length() - 1)) {
+            pattern = pattern.substring(0, pattern.length() - 1);
+        }
+        List<String> segments = new ArrayList<>();
+        String remainder = pattern.isEmpty() ? "" : null;
+        int position = 0;
+        while (Objects.isNull(remainder) && position < pattern.length()) {
+            int end = findSegmentEnd(pattern, position);
+            String segment = pattern.substring(position, end);
+            if (!isSegment(segment)) {
+                // segment followed by an optional group starting with a separator, e.g. a content modifier like (/\$value)?
+                int suffixStart = findOptionalSuffixStart(pattern, position, end);
+                if (suffixStart >= 0) {
+                    segments.add(pattern.substring(position, suffixStart));
+                    remainder = pattern.substring(suffixStart);
+                }
+                break;
+            }
+            segments.add(segment);
+            if (end == pattern.length()) {
+                remainder = "";
+                break;
+            }
+            position = end + 1;
+            if (position < pattern.length() && QUANTIFIERS.indexOf(pattern.charAt(position)) >= 0) {
+                // separator is optional, therefore the previous segment might not be a complete segment
+                segments.remove(segments.size() - 1);
+                break;
+            }
+        }
+        if (Objects.equals(remainder, "")) {
+            addTemplate(mapper, segments);
+        }
+        else if (Objects.nonNull(remainder) && isOptionalSegment(remainder)) {
+            addTemplate(mapper, segments);
+            List<String> segmentsWithSuffix = new ArrayList<>(segments);
+            segmentsWithSuffix.add(remainder.substring(OPTIONAL_SEGMENT_START.length(), remainder.length() - OPTIONAL_SEGMENT_END.length()));
+            addTemplate(mapper, segmentsWithSuffix);
+        }
+        else {
+            Node node = root;
+            for (int i = 0; i < segments.size(); i++) {
+                node = addSegment(node, segments.get(i), i, new HashMap<>());
+            }
+            node.addRoute(new Route(mapper, Pattern.compile(urlPattern)));
+        }
+    }
+
+
+    private void addTemplate(AbstractRequestMapper mapper, List<String> segments) {
+        Node node = root;
+        Map<Integer, String> placeholders = new HashMap<>();
+        for (int i = 0; i < segments.size(); i++) {
+            node = addSegment(node, segments.get(i), i, placeholders);
+        }
+        node.addRoute(new Route(mapper, placeholders));
+    }
+
+
+    private static Node addSegment(Node node, String segment, int depth, Map<Integer, String> placeholders) {
+        Matcher matcher = CHARACTER_CLASS_PLACEHOLDER.matcher(segment);
+        if (isCharacterClassPlaceholder(segment) && matcher.matches()) {
+            String excludedCharacters = matcher.group(2);
+            boolean allowEmpty = Objects.equals(matcher.group(3), "*");
+            placeholders.put(depth, matcher.group(1));
+            return node.placeholders.computeIfAbsent(
+                    excludedCharacters + matcher.group(3),
+                    x -> new Placeholder(value -> (allowEmpty || !value.isEmpty())
+                            && value.chars().noneMatch(c -> excludedCharacters.indexOf(c) >= 0))).node;
+        }
+        matcher = WORD_PLACEHOLDER.matcher(segment);
+        if (matcher.matches()) {
+            String prefix = unescape(matcher.group(1));
+            List<String> excludedPrefixes = Objects.nonNull(matcher.group(2))
+                    ? List.of(matcher.group(2).split("\\|"))
+                    : List.of();
+            return node.placeholders.computeIfAbsent(
+                    segment,
+                    x -> new Placeholder(value -> value.startsWith(prefix)
+                            && isWord(value.substring(prefix.length()))
+                            && excludedPrefixes.stream().noneMatch(y -> value.startsWith(y, prefix.length())))).node;
+        }
+        return node.literals.computeIfAbsent(unescape(segment), x -> new Node());
+    }
+
+
+    private static boolean isSegment(String segment) {
+        return isCharacterClassPlaceholder(segment)
+                || WORD_PLACEHOLDER.matcher(segment).matches()
+                || isLiteral(segment);
+    }
+
+
+    private static boolean isCharacterClassPlaceholder(String segment) {
+        Matcher matcher = CHARACTER_CLASS_PLACEHOLDER.matcher(segment);
+        // placeholders not excluding the separator may span multiple segments
+        return matcher.matches() && matcher.group(2).indexOf(SEPARATOR) >= 0;
+    }
+
+
+    private static boolean isOptionalSegment(String value) {
+        return value.startsWith(OPTIONAL_SEGMENT_START)
+                && value.endsWith(OPTIONAL_SEGMENT_END)
+                && findGroupEnd(value, 0) == value.length() - OPTIONAL_SEGMENT_END.length()
+                && isSegment(value.substring(OPTIONAL_SEGMENT_START.length(), value.length() - OPTIONAL_SEGMENT_END.length()));
+    }
+
+
+    private static boolean isLiteral(String segment) {
+        if (segment.isEmpty()) {
+            return false;
+        }
+        for (int i = 0; i < segment.length(); i++) {
+            char c = segment.charAt(i);
+            if (c == '\\') {
+                i++;
+                if (i >= segment.length() || Character.isLetterOrDigit(segment.charAt(i))) {
+                    return false;
+                }
+            }
+            else if (!Character.isLetterOrDigit(c) && c != '-' && c != '_' && c != '~') {
+                return false;
+            }
+        }
+        return true;
+    }
+
+
+    private static boolean isWord(String value) {
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (!((c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z') || (c >= '0' && c <= '9') || c == '_')) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+
+    private static String unescape(String value) {
+        StringBuilder result = new StringBuilder(value.length());
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == '\\' && i + 1 < value.length()) {
+                i++;
+                c = value.charAt(i);
+            }
+            result.append(c);
+        }
+        return result.toString();
+    }
+
+
+    /**
+     * Finds the end of the segment starting at position, i.e. the next separator not being part of a group or
+     * character class.
+     */
+    private static int findSegmentEnd(String pattern, int position) {
+        int depth = 0;
+        boolean inCharacterClass = false;
+        for (int i = position; i < pattern.length(); i++) {
+            char c = pattern.charAt(i);
+            if (c == '\\') {
+                i++;
+            }
+            else if (inCharacterClass) {
+                inCharacterClass = c != ']';
+            }
+            else if (c == '[') {
+                inCharacterClass = true;
+            }
+            else if (c == '(') {
+                depth++;
+            }
+            else if (c == ')') {
+                depth--;
+            }
+            else if (c == SEPARATOR && depth == 0) {
+                return i;
+            }
+        }
+        return pattern.length();
+    }
+
+
+    /**
+     * Finds the index of the closing parenthesis of the group starting at groupStart or -1 if there is none.
+     */
+    private static int findGroupEnd(String pattern, int groupStart) {
+        int depth = 0;
+        boolean inCharacterClass = false;
+        for (int i = groupStart; i < pattern.length(); i++) {
+            char c = pattern.charAt(i);
+            if (c == '\\') {
+                i++;
+            }
+            else if (inCharacterClass) {
+                inCharacterClass = c != ']';
+            }
+            else if (c == '[') {
+                inCharacterClass = true;
+            }
+            else if (c == '(') {
+                depth++;
+            }
+            else if (c == ')') {
+                depth--;
+                if (depth == 0) {
+                    return i;
+                }
+            }
+        }
+        return -1;
+    }
+
+
+    /**
+     * Checks if the segment between start and end consists of a literal or placeholder followed by a group of which all
+     * alternatives start with a separator and returns the start of that group or -1 otherwise.
+     */
+    private static int findOptionalSuffixStart(String pattern, int start, int end) {
+        for (int i = start; i < end; i++) {
+            char c = pattern.charAt(i);
+            if (c == '\\') {
+                i++;
+            }
+            else if (c == '(' && i > start && i + 1 < end && pattern.charAt(i + 1) == SEPARATOR) {
+                if (isSegment(pattern.substring(start, i)) && allAlternativesStartWithSeparator(pattern, i)) {
+                    return i;
+                }
+            }
+        }
+        return -1;
+    }
+
+
+    private static boolean allAlternativesStartWithSeparator(String pattern, int groupStart) {
+        int depth = 0;
+        boolean inCharacterClass = false;
+        for (int i = groupStart; i < pattern.length(); i++) {
+            char c = pattern.charAt(i);
+            if (c == '\\') {
+                i++;
+            }
+            else if (inCharacterClass) {
+                inCharacterClass = c != ']';
+            }
+            else if (c == '[') {
+                inCharacterClass = true;
+            }
+            else if (c == '(') {
+                depth++;
+            }
+            else if (c == ')') {
+                depth--;
+                if (depth == 0) {
+                    return true;
+                }
+            }
+            else if (c == '|' && depth == 1 && (i + 1 >= pattern.length() || pattern.charAt(i + 1) != SEPARATOR)) {
+                return false;
+            }
+        }
+        return false;
+    }
+
+
+    private static boolean isEscaped(String value, int index) {
+        int backslashes = 0;
+        for (int i = index - 1; i >= 0 && value.charAt(i) == '\\'; i--) {
+            backslashes++;
+        }
+        return backslashes % 2 == 1;
+    }
+
+    /**
+     * Result of routing a URL path, i.e. the matching mapper and the values of the named groups of its URL pattern.
+     */
+    public static class Match {
+
+        private final AbstractRequestMapper mapper;
+        private final Map<String, String> urlParameters;
+
+        private Match(AbstractRequestMapper mapper, Map<String, String> urlParameters) {
+            this.mapper = mapper;
+            this.urlParameters = urlParameters;
+        }
+
+
+        public AbstractRequestMapper getMapper() {
+            return mapper;
+        }
+
+
+        public Map<String, String> getUrlParameters() {
+            return urlParameters;
+        }
+    }
+
+    private static class Node {
+
+        private final Map<String, Node> literals = new HashMap<>();
+        private final Map<String, Placeholder> placeholders = new LinkedHashMap<>();
+        private final Map<HttpMethod, List<Route>> routes = new EnumMap<>(HttpMethod.class);
+
+        private void addRoute(Route route) {
+            routes.computeIfAbsent(route.mapper.getMethod(), x -> new ArrayList<>()).add(route);
+        }
+
+
+        private Collection<Route> getRoutes(HttpMethod method) {
+            if (Objects.isNull(method)) {
+                return routes.values().stream()
+                        .flatMap(List::stream)
+                        .toList();
+            }
+            return routes.getOrDefault(method, List.of());
+        }
+    }
+
+    private static class Placeholder {
+
+        private final Predicate<String> predicate;
+        private final Node node;
+
+        private Placeholder(Predicate<String> predicate) {
+            this.predicate = predicate;
+            this.node = new Node();
+        }
+
+
+        private boolean accepts(String segment) {
+            return predicate.test(segment);
+        }
+    }
+
+    private static class Route {
+
+        private final AbstractRequestMapper mapper;
+        private final Map<Integer, String> placeholders;
+        private final Pattern pattern;
+        private final List<String> groupNames;
+
+        private Route(AbstractRequestMapper mapper, Map<Integer, String> placeholders) {
+            this.mapper = mapper;
+            this.placeholders = placeholders;
+            this.pattern = null;
+            this.groupNames = List.of();
+        }
+
+
+        private Route(AbstractRequestMapper mapper, Pattern pattern) {
+            this.mapper = mapper;
+            this.placeholders = Map.of();
+            this.pattern = pattern;
+            List<String> names = new ArrayList<>();
+            Matcher matcher = GROUP_NAME.matcher(pattern.pattern());
+            while (matcher.find()) {
+                names.add(matcher.group(1));
+            }
+            this.groupNames = names;
+        }
+
+
+        private boolean isTemplate() {
+            return Objects.isNull(pattern);
+        }
+    }
+}
@@ -14,16 +14,20 @@
 package org.eclipse.digitaltwin.fa3st.service.endpoint.http.request.mapper;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import com.github.fge.jsonpatch.mergepatch.JsonMergePatch;
 import com.google.common.net.MediaType;
-import java.io.ByteArrayInputStream;
-import java.io.ByteArrayOutputStream;
+import com.google.common.reflect.TypeToken;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Optional;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 import org.apache.commons.fileupload.MultipartStream;
@@ -38,16 +42,20 @@ import org.eclipse.digitaltwin.fa3st.common.util.RegExHelper;
 import org.eclipse.digitaltwin.fa3st.service.ServiceContext;
 import org.eclipse.digitaltwin.fa3st.service.endpoint.http.model.HttpRequest;
 import org.eclipse.digitaltwin.fa3st.service.endpoint.http.serialization.HttpJsonApiDeserializer;
+import org.eclipse.digitaltwin.fa3st.service.endpoint.http.serialization.HttpJsonSerialization;
 import org.eclipse.digitaltwin.fa3st.service.endpoint.http.util.HttpConstants;
+import org.eclipse.digitaltwin.fa3st.service.processor.Indexed;
 
 
 /**
  * Base class for mapping HTTP requests to protocol-agnostic requests.
  */
+@Indexed
 public abstract class AbstractRequestMapper {
 
     private static final String MSG_ERROR_PARSING_BODY = "error parsing body";
     protected static final String BOUNDARY = "boundary";
+    private static final int MULTIPART_BUFFER_SIZE = 8192;
     protected static final Pattern PATTERN_NAME = Pattern.compile("name=\"([^\"]+)\"");
     protected static final Pattern PATTERN_CONTENT_TYPE = Pattern.compile(HttpConstants.HEADER_CONTENT_TYPE + ": ([^\n^\r]+)");
 
@@ -55,6 +63,8 @@ public abstract class AbstractRequestMapper {
     protected final HttpJsonApiDeserializer deserializer;
     protected final HttpMethod method;
     protected String urlPattern;
+    private List<Pattern> compiledUrlPatterns;
+    private Class<? extends Request> requestType;
 
     protected AbstractRequestMapper(ServiceContext serviceContext, HttpMethod method, String urlPattern) {
         Ensure.requireNonNull(serviceContext, "serviceContext must be non-null");
@@ -63,7 +73,7 @@ public abstract class AbstractRequestMapper {
         this.serviceContext = serviceContext;
         this.method = method;
         this.urlPattern = urlPattern;
-        this.deserializer = new HttpJsonApiDeserializer();
+        this.deserializer = HttpJsonSerialization.DESERIALIZER;
         init();
     }
 
@@ -90,6 +100,17 @@ public abstract class AbstractRequestMapper {
     }
 
 
+    /**
+     * Gets the URL patterns, i.e. regular expressions, of this mapper. A request matches the mapper if its path matches
+     * any of these patterns and {@link #matchesQuery(HttpRequest)} is satisfied.
+     *
+     * @return the URL patterns
+     */
+    public List<String> getUrlPatterns() {
+        return List.of(urlPattern);
+    }
+
+
     /**
      * Decides if a given HTTP request matches this concrete protocol-agnostic request.
      *
@@ -99,7 +120,7 @@ public abstract class AbstractRequestMapper {
      */
     public boolean matchesUrl(HttpRequest httpRequest) {
         Ensure.requireNonNull(httpRequest, "httpRequest must be non-null");
-        return httpRequest.getPath().matches(urlPattern);
+        return findMatchingUrlPattern(httpRequest.getPath()).isPresent() && matchesQuery(httpRequest);
     }
 
 
@@ -118,6 +139,51 @@ public abstract class AbstractRequestMapper {
     }
 
 
+    /**
+     * Decides if a given HTTP request satisfies additional constraints of this mapper besides the URL path, e.g. the
+     * presence of query parameters. This is required when multiple mappers share the same URL pattern and HTTP method.
+     *
+     * @param httpRequest the HTTP request to check
+     * @return true if matches, otherwise false
+     */
+    public boolean matchesQuery(HttpRequest httpRequest) {
+        return true;
+    }
+
+
+    private Optional<Pattern> findMatchingUrlPattern(String path) {
+        if (Objects.isNull(compiledUrlPatterns)) {
+            compiledUrlPatterns = getUrlPatterns().stream()
+                    .map(Pattern::compile)
+                    .toList();
+        }
+        return compiledUrlPatterns.stream()
+                .filter(x -> x.matcher(path).matches())
+                .findFirst();
+    }
+
+
+    /**
+     * Gets the type of request created by this mapper, i.e., the return type of
+     * {@link #doParse(HttpRequest, Map)}. This allows looking up settings that depend on the request type before the
+     * request is parsed, e.g. the maximum size of the request body.
+     *
+     * @return the type of request created by this mapper
+     */
+    public Class<? extends Request> getRequestType() {
+        if (Objects.isNull(requestType)) {
+            try {
+                Method parse = getClass().getMethod("doParse", HttpRequest.class, Map.class);
+                requestType = (Class<? extends Request>) TypeToken.of(getClass()).method(parse).getReturnType().getRawType();
+            }
+            catch (NoSuchMethodException e) {
+                requestType = Request.class;
+            }
+        }
+        return requestType;
+    }
+
+
     /**
      * Converts the HTTP request to protocol-agnostic request.
      *
@@ -128,14 +194,30 @@ public abstract class AbstractRequestMapper {
      */
     public Request parse(HttpRequest httpRequest) throws InvalidRequestException {
         Ensure.requireNonNull(httpRequest, "httpRequest must be non-null");
-        Matcher matcher = Pattern.compile(urlPattern).matcher(httpRequest.getPath());
-        if (matcher.matches()) {
-            return doParse(httpRequest, RegExHelper.getGroupValues(urlPattern, httpRequest.getPath()));
+        Optional<Pattern> pattern = findMatchingUrlPattern(httpRequest.getPath());
+        if (pattern.isPresent()) {
+            return parse(httpRequest, RegExHelper.getGroupValues(pattern.get().pattern(), httpRequest.getPath()));
         }
         throw new IllegalStateException(String.format("request was matched but no suitable parser found (HTTP method: %s, URL pattern: %s", method, urlPattern));
     }
 
 
+    /**
+     * Converts the HTTP request to protocol-agnostic request using the values of the named groups of the URL pattern
+     * that have already been extracted while matching the request.
+     *
+     * @param httpRequest the HTTP request to convert
+     * @param urlParameters map of named regex groups and their values
+     * @return the protocol-agnostic request
+     * @throws InvalidRequestException if conversion fails
+     * @throws IllegalArgumentException if httpRequest is null
+     */
+    public Request parse(HttpRequest httpRequest, Map<String, String> urlParameters) throws InvalidRequestException {
+        Ensure.requireNonNull(httpRequest, "httpRequest must be non-null");
+        return doParse(httpRequest, urlParameters);
+    }
+
+
     /**
      * Converts the HTTP request to protocol-agnostic request.
      *
@@ -170,7 +252,9 @@ public abstract class AbstractRequestMapper {
 
 
     /**
-     * Deserializes HTTP body multipart form data.
+     * Deserializes HTTP body multipart form data. The body is read as a stream twice: the first pass only determines
+     * the size of each part, the second pass reads each part into an array of exactly that size. This way, the content
+     * of a part is allocated only once and the whole body is never buffered in memory.
      *
      * @param httpRequest HTTP request
      * @param contentType the multipart contentType containing the boundary
@@ -180,29 +264,40 @@ public abstract class AbstractRequestMapper {
      */
     protected Map<String, TypedInMemoryFile> parseMultiPartBody(HttpRequest httpRequest, MediaType contentType) throws InvalidRequestException {
         Ensure.requireNonNull(httpRequest, "httpRequest must be non-null");
+        byte[] boundary = contentType.parameters().get(BOUNDARY).get(0).getBytes();
         Map<String, TypedInMemoryFile> map = new HashMap<>();
         try {
-            MultipartStream multipartStream = new MultipartStream(
-                    new ByteArrayInputStream(httpRequest.getBody()),
-                    contentType.parameters().get(BOUNDARY).get(0).getBytes(), 4096, null);
-            boolean nextPart = multipartStream.skipPreamble();
-            while (nextPart) {
-                ByteArrayOutputStream output = new ByteArrayOutputStream();
-                String multipartHeaders = multipartStream.readHeaders();
-                multipartStream.readBodyData(output);
-                if (Objects.equals(headerMatcher(PATTERN_NAME, multipartHeaders), "fileName")) {
-                    map.put("fileName", new TypedInMemoryFile.Builder()
-                            .content(output.toByteArray())
-                            .contentType(MediaType.PLAIN_TEXT_UTF_8.toString())
-                            .build());
+            List<Integer> partSizes = new ArrayList<>();
+            try (InputStream body = httpRequest.getBodyAsStream()) {
+                MultipartStream multipartStream = new MultipartStream(body, boundary, MULTIPART_BUFFER_SIZE, null);
+                boolean nextPart = multipartStream.skipPreamble();
+                while (nextPart) {
+                    multipartStream.readHeaders();
+                    partSizes.add(multipartStream.discardBodyData());
+                    nextPart = multipartStream.readBoundary();
                 }
-                else {
-                    map.put("file", new TypedInMemoryFile.Builder()
-                            .content(output.toByteArray())
-                            .contentType(headerMatcher(PATTERN_CONTENT_TYPE, multipartHeaders))
-                            .build());
+            }
+            try (InputStream body = httpRequest.getBodyAsStream()) {
+                MultipartStream multipartStream = new MultipartStream(body, boundary, MULTIPART_BUFFER_SIZE, null);
+                Iterator<Integer> partSize = partSizes.iterator();
+                boolean nextPart = multipartStream.skipPreamble();
+                while (nextPart) {
+                    String multipartHeaders = multipartStream.readHeaders();
+                    byte[] content = readPartContent(multipartStream, partSize.next());
+                    if (Objects.equals(headerMatcher(PATTERN_NAME, multipartHeaders), "fileName")) {
+                        map.put("fileName", new TypedInMemoryFile.Builder()
+                                .content(content)
+                                .contentType(MediaType.PLAIN_TEXT_UTF_8.toString())
+                                .build());
+                    }
+                    else {
+                        map.put("file", new TypedInMemoryFile.Builder()
+                                .content(content)
+                                .contentType(headerMatcher(PATTERN_CONTENT_TYPE, multipartHeaders))
+                                .build());
+                    }
+                    nextPart = multipartStream.readBoundary();
                 }
-                nextPart = multipartStream.readBoundary();
             }
         }
         catch (IOException e) {
@@ -212,6 +307,13 @@ public abstract class AbstractRequestMapper {
     }
 
 
+    private static byte[] readPartContent(MultipartStream multipartStream, int size) throws IOException {
+        byte[] content = new byte[size];
+        multipartStream.readBodyData(new FixedSizeOutputStream(content));
+        return content;
+    }
+
+
     /**
      * Reads and decodes a base64Url-encoded query parameter.
      *
@@ -276,7 +378,7 @@ public abstract class AbstractRequestMapper {
     protected JsonMergePatch parseMergePatch(String json) throws InvalidRequestException {
 
         try {
-            return new ObjectMapper().readValue(json, JsonMergePatch.class);
+            return HttpJsonSerialization.MERGE_PATCH_READER.readValue(json);
         }
         catch (JsonProcessingException e) {
             throw new InvalidRequestException(String.format("unable to create JSON merge patch (reason: %s, JSON payload: %s)",
@@ -321,4 +423,39 @@ public abstract class AbstractRequestMapper {
         }
         return result;
     }
+
+    /**
+     * Output stream writing into a pre-allocated array of fixed size.
+     */
+    private static class FixedSizeOutputStream extends OutputStream {
+
+        private final byte[] buffer;
+        private int position;
+
+        private FixedSizeOutputStream(byte[] buffer) {
+            this.buffer = buffer;
+        }
+
+
+        @Override
+        public void write(int b) throws IOException {
+            ensureCapacity(1);
+            buffer[position++] = (byte) b;
+        }
+
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            ensureCapacity(len);
+            System.arraycopy(b, off, buffer, position, len);
+            position += len;
+        }
+
+
+        private void ensureCapacity(int len) throws IOException {
+            if (len > buffer.length - position) {
+                throw new IOException("multipart part is larger than expected");
+            }
+        }
+    }
 }
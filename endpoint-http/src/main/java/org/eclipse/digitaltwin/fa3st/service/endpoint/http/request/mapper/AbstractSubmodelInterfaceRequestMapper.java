@@ -13,10 +13,9 @@
  */
 package org.eclipse.digitaltwin.fa3st.service.endpoint.http.request.mapper;
 
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
 import org.eclipse.digitaltwin.fa3st.common.exception.InvalidRequestException;
 import org.eclipse.digitaltwin.fa3st.common.model.api.Response;
 import org.eclipse.digitaltwin.fa3st.common.model.api.modifier.Content;
@@ -45,6 +44,8 @@ public abstract class AbstractSubmodelInterfaceRequestMapper<T extends AbstractS
     protected static final String SUBMODEL_ID = RegExHelper.uniqueGroupName();
     protected static final String AAS_PATH_PATTERN = String.format("shells/%s/", pathElement(AAS_ID));
     protected static final String SUBMODEL_PATH_PATTERN = String.format("submodels/%s", pathElement(SUBMODEL_ID));
+    private static final int SUBMODEL_SEGMENTS = 2;
+    private static final int AAS_CONTEXT_SEGMENTS = 4;
     protected String contextualizedUrlPattern;
 
     /**
@@ -74,33 +75,34 @@ public abstract class AbstractSubmodelInterfaceRequestMapper<T extends AbstractS
     }
 
 
-    private static String removeSubmodelPath(String url) {
-        String result = url.replaceFirst(SUBMODEL_PATH_PATTERN, "");
-        if (result.endsWith("/")) {
-            return result.substring(0, result.length() - 1);
-        }
-        return result;
-    }
-
-
     private static String addAasPath(String urlPattern) {
         return String.format("%s%s", AAS_PATH_PATTERN, urlPattern);
     }
 
 
-    private static String removeAasPath(String url) {
-        return url.replaceFirst(AAS_PATH_PATTERN, "");
-    }
-
-
-    private static boolean hasAasPath(String url) {
-        return url.matches(String.format("^%s.*", AAS_PATH_PATTERN));
+    /**
+     * Removes the given number of leading segments from a path, e.g. the segments identifying the AAS and submodel.
+     * The result starts with a separator unless it is empty.
+     */
+    private static String removeLeadingSegments(String path, int count) {
+        int index = -1;
+        for (int i = 0; i < count; i++) {
+            index = path.indexOf(HttpConstants.PATH_SEPERATOR, index + 1);
+            if (index < 0) {
+                return "";
+            }
+        }
+        String result = path.substring(index);
+        if (result.endsWith(HttpConstants.PATH_SEPERATOR)) {
+            return result.substring(0, result.length() - 1);
+        }
+        return result;
     }
 
 
     @Override
-    public boolean matchesUrl(HttpRequest httpRequest) {
-        return super.matchesUrl(httpRequest) || httpRequest.getPath().matches(contextualizedUrlPattern);
+    public List<String> getUrlPatterns() {
+        return List.of(urlPattern, contextualizedUrlPattern);
     }
 
 
@@ -108,31 +110,25 @@ public abstract class AbstractSubmodelInterfaceRequestMapper<T extends AbstractS
      * Converts the HTTP request to protocol-agnostic request.
      *
      * @param httpRequest the HTTP request to convert
+     * @param urlParameters map of named regex groups and their values
      * @return the protocol-agnostic request
      * @throws InvalidRequestException if conversion fails
      * @throws IllegalArgumentException if httpRequest is null
      */
     @Override
-    public AbstractSubmodelInterfaceRequest parse(HttpRequest httpRequest) throws InvalidRequestException {
+    public AbstractSubmodelInterfaceRequest parse(HttpRequest httpRequest, Map<String, String> urlParameters) throws InvalidRequestException {
         Ensure.requireNonNull(httpRequest, "httpRequest must be non-null");
-        boolean withAasContext = hasAasPath(httpRequest.getPath());
-        String pattern = withAasContext
-                ? contextualizedUrlPattern
-                : urlPattern;
-        Matcher matcher = Pattern.compile(pattern).matcher(httpRequest.getPath());
-        if (matcher.matches()) {
-            Map<String, String> urlParameters = RegExHelper.getGroupValues(pattern, httpRequest.getPath());
-            httpRequest.setPath(hasAasPath(httpRequest.getPath())
-                    ? removeAasPath(removeSubmodelPath(httpRequest.getPath()))
-                    : removeSubmodelPath(httpRequest.getPath()));
-            AbstractSubmodelInterfaceRequest<R> result = doParse(httpRequest, urlParameters);
-            if (withAasContext) {
-                result.setAasId(getParameterBase64UrlEncoded(urlParameters, AAS_ID));
-            }
-            result.setSubmodelId(getParameterBase64UrlEncoded(urlParameters, SUBMODEL_ID));
-            return result;
+        Ensure.requireNonNull(urlParameters, "urlParameters must be non-null");
+        boolean withAasContext = Objects.nonNull(urlParameters.get(AAS_ID));
+        httpRequest.setPath(removeLeadingSegments(httpRequest.getPath(), withAasContext
+                ? AAS_CONTEXT_SEGMENTS
+                : SUBMODEL_SEGMENTS));
+        AbstractSubmodelInterfaceRequest<R> result = doParse(httpRequest, urlParameters);
+        if (withAasContext) {
+            result.setAasId(getParameterBase64UrlEncoded(urlParameters, AAS_ID));
         }
-        throw new InvalidRequestException(String.format("request does neither satisfy URL pattern '%s' nor contextualized URL pattern '%s'", urlPattern, contextualizedUrlPattern));
+        result.setSubmodelId(getParameterBase64UrlEncoded(urlParameters, SUBMODEL_ID));
+        return result;
     }
 
 
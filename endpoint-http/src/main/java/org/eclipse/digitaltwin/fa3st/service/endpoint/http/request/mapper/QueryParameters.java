@@ -22,6 +22,7 @@ public class QueryParameters {
     public static final String AAS_IDS = "aasIds";
     public static final String ASSET_IDS = "assetIds";
     public static final String ASYNC = "async";
+    public static final String ATOMIC = "atomic";
     public static final String DATA_SPECIFICATION_REF = "dataSpecificationRef";
     public static final String EXTENT = "extent";
     public static final String ID_SHORT = "idShort";
@@ -42,7 +42,7 @@ public class DeleteSubmodelReferenceRequestMapper extends AbstractRequestMapper
 
 
     @Override
-    public Request doParse(HttpRequest httpRequest, Map<String, String> urlParameters) throws InvalidRequestException {
+    public DeleteSubmodelReferenceRequest doParse(HttpRequest httpRequest, Map<String, String> urlParameters) throws InvalidRequestException {
         return DeleteSubmodelReferenceRequest.builder()
                 .id(getParameterBase64UrlEncoded(urlParameters, AAS_ID))
                 .submodelRef(ReferenceBuilder.forSubmodel(getParameterBase64UrlEncoded(urlParameters, SUBMODEL_ID)))
@@ -38,7 +38,7 @@ public class DeleteThumbnailRequestMapper extends AbstractRequestMapper {
 
 
     @Override
-    public Request doParse(HttpRequest httpRequest, Map<String, String> urlParameters) throws InvalidRequestException {
+    public DeleteThumbnailRequest doParse(HttpRequest httpRequest, Map<String, String> urlParameters) throws InvalidRequestException {
         return DeleteThumbnailRequest.builder()
                 .id(getParameterBase64UrlEncoded(urlParameters, AAS_ID))
                 .build();
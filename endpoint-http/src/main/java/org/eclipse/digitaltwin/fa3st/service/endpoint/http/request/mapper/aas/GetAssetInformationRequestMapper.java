@@ -38,7 +38,7 @@ public class GetAssetInformationRequestMapper extends AbstractRequestMapper {
 
 
     @Override
-    public Request doParse(HttpRequest httpRequest, Map<String, String> urlParameters) throws InvalidRequestException {
+    public GetAssetInformationRequest doParse(HttpRequest httpRequest, Map<String, String> urlParameters) throws InvalidRequestException {
         return GetAssetInformationRequest.builder()
                 .id(getParameterBase64UrlEncoded(urlParameters, AAS_ID))
                 .build();
@@ -38,7 +38,7 @@ public class GetThumbnailRequestMapper extends AbstractRequestMapper {
 
 
     @Override
-    public Request doParse(HttpRequest httpRequest, Map<String, String> urlParameters) throws InvalidRequestException {
+    public GetThumbnailRequest doParse(HttpRequest httpRequest, Map<String, String> urlParameters) throws InvalidRequestException {
         return GetThumbnailRequest.builder()
                 .id(getParameterBase64UrlEncoded(urlParameters, AAS_ID))
                 .build();
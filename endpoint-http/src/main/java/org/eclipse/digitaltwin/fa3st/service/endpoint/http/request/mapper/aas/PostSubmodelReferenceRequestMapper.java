@@ -39,7 +39,7 @@ public class PostSubmodelReferenceRequestMapper extends AbstractRequestMapper {
 
 
     @Override
-    public Request doParse(HttpRequest httpRequest, Map<String, String> urlParameters) throws InvalidRequestException {
+    public PostSubmodelReferenceRequest doParse(HttpRequest httpRequest, Map<String, String> urlParameters) throws InvalidRequestException {
         return PostSubmodelReferenceRequest.builder()
                 .id(getParameterBase64UrlEncoded(urlParameters, AAS_ID))
                 .submodelRef(parseBody(httpRequest, Reference.class))
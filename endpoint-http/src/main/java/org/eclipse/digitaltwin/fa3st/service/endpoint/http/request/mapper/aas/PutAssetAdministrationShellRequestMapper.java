@@ -39,7 +39,7 @@ public class PutAssetAdministrationShellRequestMapper extends AbstractRequestMap
 
 
     @Override
-    public Request doParse(HttpRequest httpRequest, Map<String, String> urlParameters) throws InvalidRequestException {
+    public PutAssetAdministrationShellRequest doParse(HttpRequest httpRequest, Map<String, String> urlParameters) throws InvalidRequestException {
         return PutAssetAdministrationShellRequest.builder()
                 .id(getParameterBase64UrlEncoded(urlParameters, AAS_ID))
                 .aas(parseBody(httpRequest, AssetAdministrationShell.class))
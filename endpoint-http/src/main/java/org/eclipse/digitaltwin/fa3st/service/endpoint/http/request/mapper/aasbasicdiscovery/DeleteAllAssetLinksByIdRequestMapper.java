@@ -38,7 +38,7 @@ public class DeleteAllAssetLinksByIdRequestMapper extends AbstractRequestMapper
 
 
     @Override
-    public Request doParse(HttpRequest httpRequest, Map<String, String> urlParameters) throws InvalidRequestException {
+    public DeleteAllAssetLinksByIdRequest doParse(HttpRequest httpRequest, Map<String, String> urlParameters) throws InvalidRequestException {
         return DeleteAllAssetLinksByIdRequest.builder()
                 .id(getParameterBase64UrlEncoded(urlParameters, AAS_ID))
                 .build();
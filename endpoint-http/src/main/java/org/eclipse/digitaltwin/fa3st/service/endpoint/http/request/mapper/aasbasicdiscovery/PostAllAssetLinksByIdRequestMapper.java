@@ -39,7 +39,7 @@ public class PostAllAssetLinksByIdRequestMapper extends AbstractRequestMapper {
 
 
     @Override
-    public Request doParse(HttpRequest httpRequest, Map<String, String> urlParameters) throws InvalidRequestException {
+    public PostAllAssetLinksByIdRequest doParse(HttpRequest httpRequest, Map<String, String> urlParameters) throws InvalidRequestException {
         return PostAllAssetLinksByIdRequest.builder()
                 .id(getParameterBase64UrlEncoded(urlParameters, AAS_ID))
                 .assetLinks(parseBodyAsList(httpRequest, SpecificAssetId.class))
@@ -38,7 +38,7 @@ public class DeleteAssetAdministrationShellByIdRequestMapper extends AbstractReq
 
 
     @Override
-    public Request doParse(HttpRequest httpRequest, Map<String, String> urlParameters) throws InvalidRequestException {
+    public DeleteAssetAdministrationShellByIdRequest doParse(HttpRequest httpRequest, Map<String, String> urlParameters) throws InvalidRequestException {
         return DeleteAssetAdministrationShellByIdRequest.builder()
                 .id(getParameterBase64UrlEncoded(urlParameters, AAS_ID))
                 .build();
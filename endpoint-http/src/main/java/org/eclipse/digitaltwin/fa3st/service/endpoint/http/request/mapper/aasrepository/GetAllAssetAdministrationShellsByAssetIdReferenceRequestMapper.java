@@ -44,8 +44,8 @@ public class GetAllAssetAdministrationShellsByAssetIdReferenceRequestMapper
 
 
     @Override
-    public boolean matchesUrl(HttpRequest httpRequest) {
-        return super.matchesUrl(httpRequest) && httpRequest.hasQueryParameter(QueryParameters.ASSET_IDS);
+    public boolean matchesQuery(HttpRequest httpRequest) {
+        return httpRequest.hasQueryParameter(QueryParameters.ASSET_IDS);
     }
 
 
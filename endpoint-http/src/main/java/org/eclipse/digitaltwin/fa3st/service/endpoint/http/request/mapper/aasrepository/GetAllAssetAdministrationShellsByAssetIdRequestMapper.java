@@ -43,8 +43,8 @@ public class GetAllAssetAdministrationShellsByAssetIdRequestMapper
 
 
     @Override
-    public boolean matchesUrl(HttpRequest httpRequest) {
-        return super.matchesUrl(httpRequest) && httpRequest.hasQueryParameter(QueryParameters.ASSET_IDS);
+    public boolean matchesQuery(HttpRequest httpRequest) {
+        return httpRequest.hasQueryParameter(QueryParameters.ASSET_IDS);
     }
 
 
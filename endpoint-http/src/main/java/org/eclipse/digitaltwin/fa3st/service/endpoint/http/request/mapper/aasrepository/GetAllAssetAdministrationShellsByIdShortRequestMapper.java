@@ -40,8 +40,8 @@ public class GetAllAssetAdministrationShellsByIdShortRequestMapper
 
 
     @Override
-    public boolean matchesUrl(HttpRequest httpRequest) {
-        return super.matchesUrl(httpRequest) && httpRequest.hasQueryParameter(QueryParameters.ID_SHORT);
+    public boolean matchesQuery(HttpRequest httpRequest) {
+        return httpRequest.hasQueryParameter(QueryParameters.ID_SHORT);
     }
 
 
@@ -40,9 +40,8 @@ public class GetAllAssetAdministrationShellsRequestMapper
 
 
     @Override
-    public boolean matchesUrl(HttpRequest httpRequest) {
-        return super.matchesUrl(httpRequest)
-                && !httpRequest.hasQueryParameter(QueryParameters.ASSET_IDS)
+    public boolean matchesQuery(HttpRequest httpRequest) {
+        return !httpRequest.hasQueryParameter(QueryParameters.ASSET_IDS)
                 && !httpRequest.hasQueryParameter(QueryParameters.ID_SHORT);
     }
 
@@ -37,7 +37,7 @@ public class PostAssetAdministrationShellRequestMapper extends AbstractRequestMa
 
 
     @Override
-    public Request doParse(HttpRequest httpRequest, Map<String, String> urlParameters) throws InvalidRequestException {
+    public PostAssetAdministrationShellRequest doParse(HttpRequest httpRequest, Map<String, String> urlParameters) throws InvalidRequestException {
         return PostAssetAdministrationShellRequest.builder()
                 .aas(parseBody(httpRequest, AssetAdministrationShell.class))
                 .build();
@@ -46,7 +46,7 @@ public class GenerateSerializationByIdsRequestMapper extends AbstractRequestMapp
 
 
     @Override
-    public Request doParse(HttpRequest httpRequest, Map<String, String> urlParameters) throws InvalidRequestException {
+    public GenerateSerializationByIdsRequest doParse(HttpRequest httpRequest, Map<String, String> urlParameters) throws InvalidRequestException {
         GenerateSerializationByIdsRequest.Builder builder = GenerateSerializationByIdsRequest.builder();
         if (httpRequest.hasQueryParameter(QueryParameters.AAS_IDS)) {
             builder.aasIds(parseAndDecodeQueryParameter(httpRequest.getQueryParameters(), QueryParameters.AAS_IDS));
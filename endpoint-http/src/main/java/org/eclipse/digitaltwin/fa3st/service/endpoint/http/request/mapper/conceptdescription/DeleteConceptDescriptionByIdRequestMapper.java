@@ -38,7 +38,7 @@ public class DeleteConceptDescriptionByIdRequestMapper extends AbstractRequestMa
 
 
     @Override
-    public Request doParse(HttpRequest httpRequest, Map<String, String> urlParameters) throws InvalidRequestException {
+    public DeleteConceptDescriptionByIdRequest doParse(HttpRequest httpRequest, Map<String, String> urlParameters) throws InvalidRequestException {
         return DeleteConceptDescriptionByIdRequest.builder()
                 .id(getParameterBase64UrlEncoded(urlParameters, CONCEPT_ID))
                 .build();
@@ -43,8 +43,8 @@ public class GetAllConceptDescriptionsByDataSpecificationReferenceRequestMapper
 
 
     @Override
-    public boolean matchesUrl(HttpRequest httpRequest) {
-        return super.matchesUrl(httpRequest) && httpRequest.hasQueryParameter(QueryParameters.DATA_SPECIFICATION_REF);
+    public boolean matchesQuery(HttpRequest httpRequest) {
+        return httpRequest.hasQueryParameter(QueryParameters.DATA_SPECIFICATION_REF);
     }
 
 
@@ -42,8 +42,8 @@ public class GetAllConceptDescriptionsByIsCaseOfRequestMapper
 
 
     @Override
-    public boolean matchesUrl(HttpRequest httpRequest) {
-        return super.matchesUrl(httpRequest) && httpRequest.hasQueryParameter(QueryParameters.IS_CASE_OF);
+    public boolean matchesQuery(HttpRequest httpRequest) {
+        return httpRequest.hasQueryParameter(QueryParameters.IS_CASE_OF);
     }
 
 
@@ -38,7 +38,7 @@ public class GetConceptDescriptionByIdRequestMapper extends AbstractRequestMappe
 
 
     @Override
-    public Request doParse(HttpRequest httpRequest, Map<String, String> urlParameters) throws InvalidRequestException {
+    public GetConceptDescriptionByIdRequest doParse(HttpRequest httpRequest, Map<String, String> urlParameters) throws InvalidRequestException {
         return GetConceptDescriptionByIdRequest.builder()
                 .id(getParameterBase64UrlEncoded(urlParameters, CONCEPT_ID))
                 .build();
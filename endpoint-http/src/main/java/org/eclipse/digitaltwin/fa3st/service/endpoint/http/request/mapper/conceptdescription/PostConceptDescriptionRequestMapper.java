@@ -37,7 +37,7 @@ public class PostConceptDescriptionRequestMapper extends AbstractRequestMapper {
 
 
     @Override
-    public Request doParse(HttpRequest httpRequest, Map<String, String> urlParameters) throws InvalidRequestException {
+    public PostConceptDescriptionRequest doParse(HttpRequest httpRequest, Map<String, String> urlParameters) throws InvalidRequestException {
         return PostConceptDescriptionRequest.builder()
                 .conceptDescription(parseBody(httpRequest, ConceptDescription.class))
                 .build();
@@ -39,7 +39,7 @@ public class PutConceptDescriptionByIdRequestMapper extends AbstractRequestMappe
 
 
     @Override
-    public Request doParse(HttpRequest httpRequest, Map<String, String> urlParameters) throws InvalidRequestException {
+    public PutConceptDescriptionByIdRequest doParse(HttpRequest httpRequest, Map<String, String> urlParameters) throws InvalidRequestException {
         return PutConceptDescriptionByIdRequest.builder()
                 .id(getParameterBase64UrlEncoded(urlParameters, CONCEPT_ID))
                 .conceptDescription(parseBody(httpRequest, ConceptDescription.class))
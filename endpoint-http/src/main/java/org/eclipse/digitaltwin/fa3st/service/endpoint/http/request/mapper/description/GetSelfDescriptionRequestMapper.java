@@ -36,7 +36,7 @@ public class GetSelfDescriptionRequestMapper extends AbstractRequestMapper {
 
 
     @Override
-    public Request doParse(HttpRequest httpRequest, Map<String, String> urlParameters) throws InvalidRequestException {
+    public GetSelfDescriptionRequest doParse(HttpRequest httpRequest, Map<String, String> urlParameters) throws InvalidRequestException {
         return GetSelfDescriptionRequest.builder().build();
     }
 }
@@ -0,0 +1,116 @@
+/**
+ * Copyright (c) 2025 the Eclipse FA³ST Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.eclipse.digitaltwin.fa3st.service.endpoint.http.request.mapper.proprietary;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Map;
+import java.util.Objects;
+import org.eclipse.digitaltwin.fa3st.common.exception.InvalidRequestException;
+import org.eclipse.digitaltwin.fa3st.common.model.IdShortPath;
+import org.eclipse.digitaltwin.fa3st.common.model.SubmodelElementIdentifier;
+import org.eclipse.digitaltwin.fa3st.common.model.api.Request;
+import org.eclipse.digitaltwin.fa3st.common.model.http.HttpMethod;
+import org.eclipse.digitaltwin.fa3st.service.ServiceContext;
+import org.eclipse.digitaltwin.fa3st.service.endpoint.http.model.HttpRequest;
+import org.eclipse.digitaltwin.fa3st.service.endpoint.http.request.mapper.AbstractRequestMapper;
+import org.eclipse.digitaltwin.fa3st.service.request.bulk.BulkReadValuesRequest;
+
+
+/**
+ * class to map HTTP-POST-Request path: bulk/read. The body is a JSON array of objects with the properties
+ * {@code submodelId} and {@code idShortPath}, both not encoded.
+ */
+public class BulkReadValuesRequestMapper extends AbstractRequestMapper {
+
+    public static final String FIELD_SUBMODEL_ID = "submodelId";
+    public static final String FIELD_ID_SHORT_PATH = "idShortPath";
+    private static final String PATTERN = "bulk/read";
+    private static final ObjectReader READER = new ObjectMapper().reader();
+
+    public BulkReadValuesRequestMapper(ServiceContext serviceContext) {
+        super(serviceContext, HttpMethod.POST, PATTERN);
+    }
+
+
+    @Override
+    public BulkReadValuesRequest doParse(HttpRequest httpRequest, Map<String, String> urlParameters) throws InvalidRequestException {
+        BulkReadValuesRequest.Builder builder = BulkReadValuesRequest.builder();
+        for (JsonNode entry: readEntries(httpRequest)) {
+            builder.element(parseElement(entry));
+        }
+        return builder.build();
+    }
+
+
+    /**
+     * Reads the body of a bulk request which must be a JSON array of objects.
+     *
+     * @param httpRequest the HTTP request
+     * @return the JSON array
+     * @throws InvalidRequestException if the body is not a JSON array of objects
+     */
+    static JsonNode readEntries(HttpRequest httpRequest) throws InvalidRequestException {
+        JsonNode result;
+        try (InputStream body = httpRequest.getBodyAsStream()) {
+            result = READER.readTree(body);
+        }
+        catch (IOException e) {
+            throw new InvalidRequestException("error parsing body", e);
+        }
+        if (Objects.isNull(result) || !result.isArray()) {
+            throw new InvalidRequestException("body must be a JSON array");
+        }
+        for (JsonNode entry: result) {
+            if (!entry.isObject()) {
+                throw new InvalidRequestException("body must only contain JSON objects");
+            }
+        }
+        return result;
+    }
+
+
+    /**
+     * Parses the element identified by an entry of a bulk request.
+     *
+     * @param entry the entry
+     * @return the identifier of the element
+     * @throws InvalidRequestException if the submodel id or idShortPath is missing or invalid
+     */
+    static SubmodelElementIdentifier parseElement(JsonNode entry) throws InvalidRequestException {
+        String submodelId = getRequiredText(entry, FIELD_SUBMODEL_ID);
+        String idShortPath = getRequiredText(entry, FIELD_ID_SHORT_PATH);
+        try {
+            return SubmodelElementIdentifier.builder()
+                    .submodelId(submodelId)
+                    .idShortPath(IdShortPath.parse(idShortPath))
+                    .build();
+        }
+        catch (IllegalArgumentException e) {
+            throw new InvalidRequestException(String.format("invalid idShortPath (value: %s)", idShortPath), e);
+        }
+    }
+
+
+    private static String getRequiredText(JsonNode entry, String field) throws InvalidRequestException {
+        JsonNode value = entry.get(field);
+        if (Objects.isNull(value) || !value.isTextual()) {
+            throw new InvalidRequestException(String.format("each entry must contain '%s' as string", field));
+        }
+        return value.asText();
+    }
+}
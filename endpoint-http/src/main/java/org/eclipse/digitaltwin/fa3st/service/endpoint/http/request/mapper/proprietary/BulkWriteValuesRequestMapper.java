@@ -0,0 +1,77 @@
+/**
+ * Copyright (c) 2025 the Eclipse FA³ST Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.eclipse.digitaltwin.fa3st.service.endpoint.http.request.mapper.proprietary;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import java.util.Map;
+import java.util.Objects;
+import org.eclipse.digitaltwin.fa3st.common.exception.InvalidRequestException;
+import org.eclipse.digitaltwin.fa3st.common.model.SubmodelElementIdentifier;
+import org.eclipse.digitaltwin.fa3st.common.model.api.Request;
+import org.eclipse.digitaltwin.fa3st.common.model.http.HttpMethod;
+import org.eclipse.digitaltwin.fa3st.common.util.BooleanHelper;
+import org.eclipse.digitaltwin.fa3st.service.ServiceContext;
+import org.eclipse.digitaltwin.fa3st.service.endpoint.http.model.HttpRequest;
+import org.eclipse.digitaltwin.fa3st.service.endpoint.http.request.mapper.AbstractRequestMapper;
+import org.eclipse.digitaltwin.fa3st.service.endpoint.http.request.mapper.QueryParameters;
+import org.eclipse.digitaltwin.fa3st.service.endpoint.http.serialization.ValueOnlyElementValueParser;
+import org.eclipse.digitaltwin.fa3st.service.request.bulk.BulkValueWrite;
+import org.eclipse.digitaltwin.fa3st.service.request.bulk.BulkWriteValuesRequest;
+
+
+/**
+ * class to map HTTP-POST-Request path: bulk/write. The body is a JSON array of objects with the properties
+ * {@code submodelId} and {@code idShortPath}, both not encoded, and {@code value} containing the new value in ValueOnly
+ * serialization. The optional query parameter {@code atomic} selects all-or-nothing semantics.
+ */
+public class BulkWriteValuesRequestMapper extends AbstractRequestMapper {
+
+    public static final String FIELD_VALUE = "value";
+    private static final String PATTERN = "bulk/write";
+
+    public BulkWriteValuesRequestMapper(ServiceContext serviceContext) {
+        super(serviceContext, HttpMethod.POST, PATTERN);
+    }
+
+
+    @Override
+    public BulkWriteValuesRequest doParse(HttpRequest httpRequest, Map<String, String> urlParameters) throws InvalidRequestException {
+        BulkWriteValuesRequest.Builder builder = BulkWriteValuesRequest.builder();
+        if (httpRequest.hasQueryParameter(QueryParameters.ATOMIC)) {
+            try {
+                builder.atomic(BooleanHelper.parseStrictIgnoreCase(httpRequest.getQueryParameter(QueryParameters.ATOMIC)));
+            }
+            catch (IllegalArgumentException e) {
+                throw new InvalidRequestException(
+                        String.format("invalid query parameter, must be valid boolean (name: %s, value: %s)",
+                                QueryParameters.ATOMIC,
+                                httpRequest.getQueryParameter(QueryParameters.ATOMIC)),
+                        e);
+            }
+        }
+        for (JsonNode entry: BulkReadValuesRequestMapper.readEntries(httpRequest)) {
+            SubmodelElementIdentifier element = BulkReadValuesRequestMapper.parseElement(entry);
+            JsonNode value = entry.get(FIELD_VALUE);
+            if (Objects.isNull(value)) {
+                throw new InvalidRequestException(String.format("each entry must contain '%s'", FIELD_VALUE));
+            }
+            builder.value(BulkValueWrite.builder()
+                    .element(element)
+                    .value(value.toString())
+                    .valueParser(new ValueOnlyElementValueParser(serviceContext, deserializer, element.toReference()))
+                    .build());
+        }
+        return builder.build();
+    }
+}
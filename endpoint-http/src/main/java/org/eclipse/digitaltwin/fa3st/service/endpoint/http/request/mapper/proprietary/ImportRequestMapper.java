@@ -36,7 +36,7 @@ public class ImportRequestMapper extends AbstractRequestMapper {
 
 
     @Override
-    public Request doParse(HttpRequest httpRequest, Map<String, String> urlParameters) throws InvalidRequestException {
+    public ImportRequest doParse(HttpRequest httpRequest, Map<String, String> urlParameters) throws InvalidRequestException {
         return ImportRequest.builder()
                 .content(httpRequest.getBody())
                 .contentType(httpRequest.getContentType()
@@ -40,8 +40,8 @@ public class GetAllSubmodelElementsRequestMapper extends AbstractSubmodelInterfa
 
 
     @Override
-    public boolean matchesUrl(HttpRequest httpRequest) {
-        return super.matchesUrl(httpRequest) && !httpRequest.hasQueryParameter(QueryParameters.PARENT_PATH);
+    public boolean matchesQuery(HttpRequest httpRequest) {
+        return !httpRequest.hasQueryParameter(QueryParameters.PARENT_PATH);
     }
 
 
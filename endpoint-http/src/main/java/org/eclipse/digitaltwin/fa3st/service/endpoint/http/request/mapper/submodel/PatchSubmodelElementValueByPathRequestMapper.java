@@ -14,25 +14,18 @@
 package org.eclipse.digitaltwin.fa3st.service.endpoint.http.request.mapper.submodel;
 
 import java.util.Map;
-import org.eclipse.digitaltwin.aas4j.v3.model.SubmodelElement;
-import org.eclipse.digitaltwin.fa3st.common.dataformat.DeserializationException;
 import org.eclipse.digitaltwin.fa3st.common.exception.InvalidRequestException;
-import org.eclipse.digitaltwin.fa3st.common.exception.PersistenceException;
-import org.eclipse.digitaltwin.fa3st.common.exception.ResourceNotFoundException;
-import org.eclipse.digitaltwin.fa3st.common.exception.ValueMappingException;
 import org.eclipse.digitaltwin.fa3st.common.model.api.modifier.OutputModifier;
 import org.eclipse.digitaltwin.fa3st.common.model.api.request.PatchSubmodelElementValueByPathRequest;
 import org.eclipse.digitaltwin.fa3st.common.model.api.response.PatchSubmodelElementValueByPathResponse;
 import org.eclipse.digitaltwin.fa3st.common.model.http.HttpMethod;
-import org.eclipse.digitaltwin.fa3st.common.model.value.ElementValue;
-import org.eclipse.digitaltwin.fa3st.common.model.value.ElementValueParser;
-import org.eclipse.digitaltwin.fa3st.common.model.value.mapper.ElementValueMapper;
 import org.eclipse.digitaltwin.fa3st.common.util.EncodingHelper;
 import org.eclipse.digitaltwin.fa3st.common.util.ReferenceBuilder;
 import org.eclipse.digitaltwin.fa3st.common.util.RegExHelper;
 import org.eclipse.digitaltwin.fa3st.service.ServiceContext;
 import org.eclipse.digitaltwin.fa3st.service.endpoint.http.model.HttpRequest;
 import org.eclipse.digitaltwin.fa3st.service.endpoint.http.request.mapper.AbstractSubmodelInterfaceRequestMapper;
+import org.eclipse.digitaltwin.fa3st.service.endpoint.http.serialization.ValueOnlyElementValueParser;
 
 
 /**
@@ -58,44 +51,13 @@ public class PatchSubmodelElementValueByPathRequestMapper
         return PatchSubmodelElementValueByPathRequest.builder()
                 .path(path)
                 .value(httpRequest.getBodyAsString())
-                .valueParser(new ElementValueParser<Object>() {
-                    @Override
-                    public <U extends ElementValue> U parse(Object raw, Class<U> type) throws DeserializationException {
-                        String rawString;
-                        if (raw.getClass().isAssignableFrom(byte[].class)) {
-                            rawString = new String((byte[]) raw);
-                        }
-                        else {
-                            rawString = raw.toString();
-                        }
-                        if (ElementValue.class.isAssignableFrom(type)) {
-                            try {
-                                return deserializer.readValue(
-                                        rawString,
-                                        serviceContext.getTypeInfo(
-                                                new ReferenceBuilder()
-                                                        .submodel(identifier)
-                                                        .idShortPath(path)
-                                                        .build()));
-                            }
-                            catch (ResourceNotFoundException | PersistenceException e) {
-                                throw new DeserializationException("unable to obtain type information as resource does not exist or storage failed", e);
-                            }
-                        }
-                        else if (SubmodelElement.class.isAssignableFrom(type)) {
-                            SubmodelElement submodelElement = (SubmodelElement) deserializer.read(rawString, type);
-                            try {
-                                return ElementValueMapper.toValue(submodelElement, type);
-                            }
-                            catch (ValueMappingException e) {
-                                throw new DeserializationException("error mapping submodel element to value object", e);
-                            }
-                        }
-                        throw new DeserializationException(
-                                String.format("error deserializing payload - invalid type '%s' (must be either instance of ElementValue or SubmodelElement",
-                                        type.getSimpleName()));
-                    }
-                })
+                .valueParser(new ValueOnlyElementValueParser(
+                        serviceContext,
+                        deserializer,
+                        new ReferenceBuilder()
+                                .submodel(identifier)
+                                .idShortPath(path)
+                                .build()))
                 .build();
     }
 
@@ -39,9 +39,8 @@ public class GetAllSubmodelsReferenceRequestMapper extends AbstractRequestMapper
 
 
     @Override
-    public boolean matchesUrl(HttpRequest httpRequest) {
-        return super.matchesUrl(httpRequest)
-                && !httpRequest.hasQueryParameter(QueryParameters.SEMANTIC_ID)
+    public boolean matchesQuery(HttpRequest httpRequest) {
+        return !httpRequest.hasQueryParameter(QueryParameters.SEMANTIC_ID)
                 && !httpRequest.hasQueryParameter(QueryParameters.ID_SHORT);
     }
 
@@ -37,7 +37,7 @@ public class PostSubmodelRequestMapper extends AbstractRequestMapper {
 
 
     @Override
-    public Request doParse(HttpRequest httpRequest, Map<String, String> urlParameters) throws InvalidRequestException {
+    public PostSubmodelRequest doParse(HttpRequest httpRequest, Map<String, String> urlParameters) throws InvalidRequestException {
         return PostSubmodelRequest.builder()
                 .submodel(parseBody(httpRequest, Submodel.class))
                 .build();
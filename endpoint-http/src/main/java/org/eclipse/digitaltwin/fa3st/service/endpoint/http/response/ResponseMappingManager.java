@@ -14,8 +14,12 @@
 package org.eclipse.digitaltwin.fa3st.service.endpoint.http.response;
 
 import com.google.common.reflect.TypeToken;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import org.apache.commons.lang3.tuple.Pair;
 import org.eclipse.digitaltwin.fa3st.common.model.api.Request;
 import org.eclipse.digitaltwin.fa3st.common.model.api.Response;
@@ -27,12 +31,22 @@ import org.eclipse.digitaltwin.fa3st.service.endpoint.http.response.mapper.Abstr
 
 
 /**
- * Maps a given API response to HTTP by finding the best suited (most specific) response mapper.
+ * Maps a given API response to HTTP by finding the best suited (most specific) response mapper. The response type
+ * handled by each mapper is resolved once on creation and the best suited mapper is only determined once per response
+ * type.
  */
 public class ResponseMappingManager extends AbstractMappingManager<AbstractResponseMapper> {
 
+    private final List<Pair<AbstractResponseMapper, Class<?>>> mapperTypes;
+    private final Map<Class<? extends Response>, AbstractResponseMapper> mappersByResponseType = new ConcurrentHashMap<>();
+
     public ResponseMappingManager(ServiceContext serviceContext) {
         super(AbstractResponseMapper.class, serviceContext);
+        this.mapperTypes = mappers.stream()
+                .map(x -> Pair.<AbstractResponseMapper, Class<?>> of(
+                        x,
+                        TypeToken.of(x.getClass()).resolveType(AbstractResponseMapper.class.getTypeParameters()[0]).getRawType()))
+                .toList();
     }
 
 
@@ -48,17 +62,39 @@ public class ResponseMappingManager extends AbstractMappingManager<AbstractRespo
      * @throws IllegalArgumentException is httpResponse is null
      */
     public void map(Request apiRequest, Response apiResponse, HttpServletResponse httpResponse) throws Exception {
+        map(apiRequest, apiResponse, null, httpResponse);
+    }
+
+
+    /**
+     * Maps a given API response to HTTP by finding the best suited (most specific) response mapper. The original HTTP
+     * request is passed to the mapper, e.g. to evaluate range headers.
+     *
+     * @param apiRequest the original API request received
+     * @param apiResponse the API response to process
+     * @param httpRequest the original HTTP request, may be null
+     * @param httpResponse the HTTP response to write to
+     * @throws Exception if mapping fails
+     * @throws IllegalArgumentException is apiRequest is null
+     * @throws IllegalArgumentException is apiResponse is null
+     * @throws IllegalArgumentException is httpResponse is null
+     */
+    public void map(Request apiRequest, Response apiResponse, HttpServletRequest httpRequest, HttpServletResponse httpResponse) throws Exception {
         Ensure.requireNonNull(apiRequest, "apiRequest must be non-null");
         Ensure.requireNonNull(apiResponse, "apiResponse must be non-null");
         Ensure.requireNonNull(httpResponse, "httpResponse must be non-null");
-        mappers.stream()
-                .map(x -> Pair.of(x, TypeToken.of(x.getClass()).resolveType(AbstractResponseMapper.class.getTypeParameters()[0]).getRawType()))
-                .filter(x -> x.getValue().isAssignableFrom(apiResponse.getClass()))
+        mappersByResponseType.computeIfAbsent(apiResponse.getClass(), this::findMapper)
+                .map(apiRequest, apiResponse, httpRequest, httpResponse);
+    }
+
+
+    private AbstractResponseMapper findMapper(Class<? extends Response> responseType) {
+        return mapperTypes.stream()
+                .filter(x -> x.getValue().isAssignableFrom(responseType))
                 .sorted(Comparator.comparing(Pair::getValue, new MostSpecificClassComparator()))
                 .map(Pair::getKey)
                 .findFirst()
-                .orElseThrow(() -> new IllegalStateException(String.format("no matching response mapper found for type '%s'", apiResponse.getClass())))
-                .map(apiRequest, apiResponse, httpResponse);
+                .orElseThrow(() -> new IllegalStateException(String.format("no matching response mapper found for type '%s'", responseType)));
     }
 
 }
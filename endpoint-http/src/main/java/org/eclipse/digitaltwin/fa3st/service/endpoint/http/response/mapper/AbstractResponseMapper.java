@@ -13,12 +13,14 @@
  */
 package org.eclipse.digitaltwin.fa3st.service.endpoint.http.response.mapper;
 
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import java.util.Objects;
 import org.eclipse.digitaltwin.fa3st.common.model.api.Request;
 import org.eclipse.digitaltwin.fa3st.common.model.api.Response;
 import org.eclipse.digitaltwin.fa3st.common.util.Ensure;
 import org.eclipse.digitaltwin.fa3st.service.ServiceContext;
+import org.eclipse.digitaltwin.fa3st.service.processor.Indexed;
 
 
 /**
@@ -27,6 +29,7 @@ import org.eclipse.digitaltwin.fa3st.service.ServiceContext;
  * @param <T> type of the response this class can be handled
  * @param <U> type of the request
  */
+@Indexed
 public abstract class AbstractResponseMapper<T extends Response, U extends Request<T>> {
 
     protected final ServiceContext serviceContext;
@@ -46,6 +49,21 @@ public abstract class AbstractResponseMapper<T extends Response, U extends Reque
     public abstract void map(U apiRequest, T apiResponse, HttpServletResponse httpResponse) throws Exception;
 
 
+    /**
+     * Maps the API response with access to the original HTTP request, e.g. to evaluate conditional or range headers.
+     * By default, the HTTP request is ignored.
+     *
+     * @param apiRequest the API request received
+     * @param apiResponse the API response that shall be sent as a response to the apiRequest
+     * @param httpRequest the original HTTP request, may be null
+     * @param httpResponse the HTTP response object to write to
+     * @throws Exception if mapping fails
+     */
+    public void map(U apiRequest, T apiResponse, HttpServletRequest httpRequest, HttpServletResponse httpResponse) throws Exception {
+        map(apiRequest, apiResponse, httpResponse);
+    }
+
+
     @Override
     public int hashCode() {
         return Objects.hash(serviceContext);
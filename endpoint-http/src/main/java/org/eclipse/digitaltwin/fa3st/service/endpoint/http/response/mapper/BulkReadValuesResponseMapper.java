@@ -0,0 +1,89 @@
+/**
+ * Copyright (c) 2025 the Eclipse FA³ST Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.eclipse.digitaltwin.fa3st.service.endpoint.http.response.mapper;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.io.StringWriter;
+import java.util.Objects;
+import org.eclipse.digitaltwin.fa3st.common.model.api.modifier.Content;
+import org.eclipse.digitaltwin.fa3st.common.model.api.modifier.OutputModifier;
+import org.eclipse.digitaltwin.fa3st.service.ServiceContext;
+import org.eclipse.digitaltwin.fa3st.service.endpoint.http.request.mapper.proprietary.BulkReadValuesRequestMapper;
+import org.eclipse.digitaltwin.fa3st.service.endpoint.http.serialization.HttpJsonSerialization;
+import org.eclipse.digitaltwin.fa3st.service.endpoint.http.util.HttpHelper;
+import org.eclipse.digitaltwin.fa3st.service.request.bulk.BulkReadValuesRequest;
+import org.eclipse.digitaltwin.fa3st.service.request.bulk.BulkReadValuesResponse;
+import org.eclipse.digitaltwin.fa3st.service.request.bulk.BulkValueResult;
+
+
+/**
+ * HTTP response mapper for {@link BulkReadValuesResponse}. Writes a JSON array with one entry per requested element
+ * containing the HTTP status code of reading the element and either its value in ValueOnly serialization or an error
+ * message.
+ */
+public class BulkReadValuesResponseMapper extends AbstractResponseMapper<BulkReadValuesResponse, BulkReadValuesRequest> {
+
+    public static final String FIELD_STATUS = "status";
+    public static final String FIELD_VALUE = "value";
+    public static final String FIELD_MESSAGE = "message";
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+    private static final OutputModifier VALUE_ONLY = new OutputModifier.Builder()
+            .content(Content.VALUE)
+            .build();
+
+    public BulkReadValuesResponseMapper(ServiceContext serviceContext) {
+        super(serviceContext);
+    }
+
+
+    @Override
+    public void map(BulkReadValuesRequest apiRequest, BulkReadValuesResponse apiResponse, HttpServletResponse httpResponse) throws Exception {
+        StringWriter result = new StringWriter();
+        try (JsonGenerator generator = MAPPER.getFactory().createGenerator(result)) {
+            generator.writeStartArray();
+            for (BulkValueResult item: apiResponse.getPayload()) {
+                writeResult(generator, item);
+                if (Objects.nonNull(item.getValue())) {
+                    generator.writeFieldName(FIELD_VALUE);
+                    generator.writeRawValue(HttpJsonSerialization.SERIALIZER.write(item.getValue(), VALUE_ONLY));
+                }
+                generator.writeEndObject();
+            }
+            generator.writeEndArray();
+        }
+        HttpHelper.sendJson(httpResponse, apiResponse.getStatusCode(), result.toString());
+    }
+
+
+    /**
+     * Starts a JSON object for the result of a single element and writes the properties common to all bulk requests,
+     * i.e., the identification of the element, the status code and the error message if present.
+     *
+     * @param generator the generator to write to
+     * @param item the result of the element
+     * @throws IOException if writing fails
+     */
+    static void writeResult(JsonGenerator generator, BulkValueResult item) throws IOException {
+        generator.writeStartObject();
+        generator.writeStringField(BulkReadValuesRequestMapper.FIELD_SUBMODEL_ID, item.getElement().getSubmodelId());
+        generator.writeStringField(BulkReadValuesRequestMapper.FIELD_ID_SHORT_PATH, item.getElement().getIdShortPath().toString());
+        generator.writeNumberField(FIELD_STATUS, HttpHelper.toHttpStatusCode(item.getStatusCode()));
+        if (Objects.nonNull(item.getMessage())) {
+            generator.writeStringField(FIELD_MESSAGE, item.getMessage());
+        }
+    }
+}
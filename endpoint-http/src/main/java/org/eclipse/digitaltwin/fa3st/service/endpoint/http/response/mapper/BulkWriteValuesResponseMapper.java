@@ -0,0 +1,53 @@
+/**
+ * Copyright (c) 2025 the Eclipse FA³ST Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.eclipse.digitaltwin.fa3st.service.endpoint.http.response.mapper;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.StringWriter;
+import org.eclipse.digitaltwin.fa3st.service.ServiceContext;
+import org.eclipse.digitaltwin.fa3st.service.endpoint.http.util.HttpHelper;
+import org.eclipse.digitaltwin.fa3st.service.request.bulk.BulkValueResult;
+import org.eclipse.digitaltwin.fa3st.service.request.bulk.BulkWriteValuesRequest;
+import org.eclipse.digitaltwin.fa3st.service.request.bulk.BulkWriteValuesResponse;
+
+
+/**
+ * HTTP response mapper for {@link BulkWriteValuesResponse}. Writes a JSON array with one entry per requested element
+ * containing the HTTP status code of writing the element and an error message if writing failed.
+ */
+public class BulkWriteValuesResponseMapper extends AbstractResponseMapper<BulkWriteValuesResponse, BulkWriteValuesRequest> {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    public BulkWriteValuesResponseMapper(ServiceContext serviceContext) {
+        super(serviceContext);
+    }
+
+
+    @Override
+    public void map(BulkWriteValuesRequest apiRequest, BulkWriteValuesResponse apiResponse, HttpServletResponse httpResponse) throws Exception {
+        StringWriter result = new StringWriter();
+        try (JsonGenerator generator = MAPPER.getFactory().createGenerator(result)) {
+            generator.writeStartArray();
+            for (BulkValueResult item: apiResponse.getPayload()) {
+                BulkReadValuesResponseMapper.writeResult(generator, item);
+                generator.writeEndObject();
+            }
+            generator.writeEndArray();
+        }
+        HttpHelper.sendJson(httpResponse, apiResponse.getStatusCode(), result.toString());
+    }
+}
@@ -18,7 +18,7 @@ import org.eclipse.digitaltwin.fa3st.common.model.api.paging.Page;
 import org.eclipse.digitaltwin.fa3st.common.model.api.request.submodel.GetAllSubmodelElementsPathRequest;
 import org.eclipse.digitaltwin.fa3st.common.model.api.response.submodel.GetAllSubmodelElementsPathResponse;
 import org.eclipse.digitaltwin.fa3st.service.ServiceContext;
-import org.eclipse.digitaltwin.fa3st.service.endpoint.http.serialization.HttpJsonApiSerializer;
+import org.eclipse.digitaltwin.fa3st.service.endpoint.http.serialization.HttpJsonSerialization;
 import org.eclipse.digitaltwin.fa3st.service.endpoint.http.util.HttpHelper;
 
 
@@ -39,6 +39,6 @@ public class GetAllSubmodelElementsPathResponseMapper extends AbstractResponseMa
                 apiResponse.getPayload().getMetadata());
         HttpHelper.sendJson(httpResponse,
                 apiResponse.getStatusCode(),
-                new HttpJsonApiSerializer().write(result));
+                HttpJsonSerialization.SERIALIZER.write(result));
     }
 }
@@ -20,7 +20,7 @@ import org.eclipse.digitaltwin.fa3st.common.model.api.request.submodel.GetOperat
 import org.eclipse.digitaltwin.fa3st.common.model.api.response.submodel.GetOperationAsyncStatusResponse;
 import org.eclipse.digitaltwin.fa3st.common.util.EncodingHelper;
 import org.eclipse.digitaltwin.fa3st.service.ServiceContext;
-import org.eclipse.digitaltwin.fa3st.service.endpoint.http.serialization.HttpJsonApiSerializer;
+import org.eclipse.digitaltwin.fa3st.service.endpoint.http.serialization.HttpJsonSerialization;
 import org.eclipse.digitaltwin.fa3st.service.endpoint.http.util.HttpHelper;
 
 
@@ -42,7 +42,7 @@ public class GetOperationAsyncStatusResponseMapper extends AbstractResponseMappe
                 HttpHelper.sendJson(
                         httpResponse,
                         StatusCode.SUCCESS,
-                        new HttpJsonApiSerializer().write(apiResponse.getPayload()));
+                        HttpJsonSerialization.SERIALIZER.write(apiResponse.getPayload()));
                 break;
             }
             case COMPLETED:
@@ -14,13 +14,26 @@
 package org.eclipse.digitaltwin.fa3st.service.endpoint.http.response.mapper;
 
 import com.google.common.net.MediaType;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.time.temporal.ChronoUnit;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Optional;
+import org.eclipse.digitaltwin.fa3st.common.exception.PersistenceException;
 import org.eclipse.digitaltwin.fa3st.common.model.api.Request;
+import org.eclipse.digitaltwin.fa3st.common.model.api.StatusCode;
 import org.eclipse.digitaltwin.fa3st.common.model.api.response.AbstractResponseWithFile;
 import org.eclipse.digitaltwin.fa3st.common.util.FileHelper;
 import org.eclipse.digitaltwin.fa3st.service.ServiceContext;
+import org.eclipse.digitaltwin.fa3st.service.endpoint.http.util.ByteRange;
+import org.eclipse.digitaltwin.fa3st.service.endpoint.http.util.HttpConstants;
 import org.eclipse.digitaltwin.fa3st.service.endpoint.http.util.HttpHelper;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -34,6 +47,9 @@ public class ResponseWithFileMapper extends AbstractResponseMapper<AbstractRespo
 
     private static final String HEADER_CONTENT_DISPOSITION = "Content-Disposition";
     private static final MediaType DEFAULT_CONTENT_TYPE = MediaType.OCTET_STREAM;
+    private static final DateTimeFormatter HTTP_DATE_FORMAT = DateTimeFormatter.ofPattern("EEE, dd MMM yyyy HH:mm:ss 'GMT'", Locale.US)
+            .withZone(ZoneOffset.UTC);
+    private static final String RANGE_UNIT_BYTES = "bytes";
     private static final Logger LOGGER = LoggerFactory.getLogger(ResponseWithFileMapper.class);
 
     public ResponseWithFileMapper(ServiceContext serviceContext) {
@@ -43,28 +59,94 @@ public class ResponseWithFileMapper extends AbstractResponseMapper<AbstractRespo
 
     @Override
     public void map(Request<AbstractResponseWithFile> apiRequest, AbstractResponseWithFile apiResponse, HttpServletResponse httpResponse) {
-        MediaType contentType = DEFAULT_CONTENT_TYPE;
+        map(apiRequest, apiResponse, null, httpResponse);
+    }
+
+
+    @Override
+    public void map(Request<AbstractResponseWithFile> apiRequest, AbstractResponseWithFile apiResponse, HttpServletRequest httpRequest, HttpServletResponse httpResponse) {
+        MediaType contentType = getContentType(apiResponse);
+        byte[] content = apiResponse.getPayload().getContent();
+        Optional<Instant> lastModified = getLastModified(apiResponse.getPayload().getPath());
+        Map<String, String> headers = new HashMap<>();
+        headers.put(HEADER_CONTENT_DISPOSITION, String.format(
+                "attachment; filename=\"%s\"",
+                FileHelper.getFilenameFromPath(apiResponse.getPayload().getPath())));
+        headers.put(HttpConstants.HEADER_ACCEPT_RANGES, RANGE_UNIT_BYTES);
+        lastModified.ifPresent(x -> headers.put(HttpConstants.HEADER_LAST_MODIFIED, HTTP_DATE_FORMAT.format(x)));
+        Optional<List<ByteRange>> ranges = Objects.nonNull(content)
+                && Objects.nonNull(httpRequest)
+                && apiResponse.getStatusCode() == StatusCode.SUCCESS
+                && isIfRangeSatisfied(httpRequest, lastModified)
+                        ? ByteRange.parse(httpRequest.getHeader(HttpConstants.HEADER_RANGE), content.length)
+                        : Optional.empty();
+        if (ranges.isEmpty()) {
+            HttpHelper.sendContent(
+                    httpResponse,
+                    apiResponse.getStatusCode(),
+                    content,
+                    contentType,
+                    headers);
+        }
+        else if (ranges.get().isEmpty()) {
+            HttpHelper.sendRangeNotSatisfiable(httpResponse, content.length);
+        }
+        else {
+            HttpHelper.sendPartialContent(httpResponse, content, ranges.get(), contentType, headers);
+        }
+    }
+
+
+    private static MediaType getContentType(AbstractResponseWithFile apiResponse) {
         if (Objects.isNull(apiResponse.getPayload().getContentType())) {
             LOGGER.debug("encountered missing content-type, using default content-type instead (default: {})", DEFAULT_CONTENT_TYPE.toString());
+            return DEFAULT_CONTENT_TYPE;
         }
-        else {
-            try {
-                contentType = MediaType.parse(apiResponse.getPayload().getContentType());
-            }
-            catch (IllegalArgumentException e) {
-                LOGGER.warn("encountered unparseable content-type, using default content-type instead (found: {}, default: {})",
-                        apiResponse.getPayload().getContentType(),
-                        DEFAULT_CONTENT_TYPE.toString());
-            }
+        try {
+            return MediaType.parse(apiResponse.getPayload().getContentType());
         }
-        HttpHelper.sendContent(
-                httpResponse,
-                apiResponse.getStatusCode(),
-                apiResponse.getPayload().getContent(),
-                contentType,
-                Map.of(HEADER_CONTENT_DISPOSITION, String.format(
-                        "attachment; filename=\"%s\"",
-                        FileHelper.getFilenameFromPath(apiResponse.getPayload().getPath()))));
+        catch (IllegalArgumentException e) {
+            LOGGER.warn("encountered unparseable content-type, using default content-type instead (found: {}, default: {})",
+                    apiResponse.getPayload().getContentType(),
+                    DEFAULT_CONTENT_TYPE.toString());
+            return DEFAULT_CONTENT_TYPE;
+        }
+    }
+
+
+    private Optional<Instant> getLastModified(String path) {
+        if (Objects.isNull(path)) {
+            return Optional.empty();
+        }
+        try {
+            // HTTP dates only have a precision of seconds
+            return serviceContext.getFileLastModified(path).map(x -> x.truncatedTo(ChronoUnit.SECONDS));
+        }
+        catch (PersistenceException e) {
+            LOGGER.debug("unable to determine last modification time of file (path: {})", path, e);
+            return Optional.empty();
+        }
+    }
+
 
+    /**
+     * Checks the If-Range header. A range request is only served if the header is absent or contains the current
+     * modification date of the file. As no entity tags are generated, an entity tag in If-Range never matches.
+     *
+     * @param httpRequest the HTTP request
+     * @param lastModified the last modification time of the file
+     * @return true if the Range header should be evaluated, false if the complete file should be sent
+     */
+    private static boolean isIfRangeSatisfied(HttpServletRequest httpRequest, Optional<Instant> lastModified) {
+        if (Objects.isNull(httpRequest.getHeader(HttpConstants.HEADER_IF_RANGE))) {
+            return true;
+        }
+        try {
+            long ifRange = httpRequest.getDateHeader(HttpConstants.HEADER_IF_RANGE);
+            return lastModified.isPresent() && lastModified.get().toEpochMilli() == ifRange;
+        }
+        catch (IllegalArgumentException e) {
+            return false;
+        }
     }
 }
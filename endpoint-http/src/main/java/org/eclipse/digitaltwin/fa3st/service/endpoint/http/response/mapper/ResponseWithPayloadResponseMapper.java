@@ -19,7 +19,7 @@ import org.eclipse.digitaltwin.fa3st.common.model.api.modifier.OutputModifier;
 import org.eclipse.digitaltwin.fa3st.common.model.api.request.AbstractRequestWithModifier;
 import org.eclipse.digitaltwin.fa3st.common.model.api.response.AbstractResponseWithPayload;
 import org.eclipse.digitaltwin.fa3st.service.ServiceContext;
-import org.eclipse.digitaltwin.fa3st.service.endpoint.http.serialization.HttpJsonApiSerializer;
+import org.eclipse.digitaltwin.fa3st.service.endpoint.http.serialization.HttpJsonSerialization;
 import org.eclipse.digitaltwin.fa3st.service.endpoint.http.util.HttpHelper;
 
 
@@ -40,7 +40,7 @@ public class ResponseWithPayloadResponseMapper<T extends AbstractResponseWithPay
     public void map(U apiRequest, T apiResponse, HttpServletResponse httpResponse) throws Exception {
         HttpHelper.sendJson(httpResponse,
                 apiResponse.getStatusCode(),
-                new HttpJsonApiSerializer().write(
+                HttpJsonSerialization.SERIALIZER.write(
                         apiResponse.getPayload(),
                         AbstractRequestWithModifier.class.isAssignableFrom(apiRequest.getClass())
                                 ? ((AbstractRequestWithModifier) apiRequest).getOutputModifier()
@@ -0,0 +1,44 @@
+/**
+ * Copyright (c) 2025 the Eclipse FA³ST Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.eclipse.digitaltwin.fa3st.service.endpoint.http.serialization;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.github.fge.jsonpatch.mergepatch.JsonMergePatch;
+
+
+/**
+ * Shared serializer and deserializer instances of the HTTP endpoint. Creating a serializer or deserializer is
+ * expensive as each instance creates and configures its own Jackson mappers which then build their serializer caches
+ * from scratch. All instances are thread-safe and should be used instead of creating new ones per request.
+ */
+public class HttpJsonSerialization {
+
+    /**
+     * Shared serializer for HTTP responses.
+     */
+    public static final HttpJsonApiSerializer SERIALIZER = new HttpJsonApiSerializer();
+
+    /**
+     * Shared deserializer for HTTP requests.
+     */
+    public static final HttpJsonApiDeserializer DESERIALIZER = new HttpJsonApiDeserializer();
+
+    /**
+     * Shared reader for JSON merge patches.
+     */
+    public static final ObjectReader MERGE_PATCH_READER = new ObjectMapper().readerFor(JsonMergePatch.class);
+
+    private HttpJsonSerialization() {}
+}
@@ -0,0 +1,79 @@
+/**
+ * Copyright (c) 2025 the Eclipse FA³ST Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.eclipse.digitaltwin.fa3st.service.endpoint.http.serialization;
+
+import org.eclipse.digitaltwin.aas4j.v3.model.Reference;
+import org.eclipse.digitaltwin.aas4j.v3.model.SubmodelElement;
+import org.eclipse.digitaltwin.fa3st.common.dataformat.DeserializationException;
+import org.eclipse.digitaltwin.fa3st.common.exception.PersistenceException;
+import org.eclipse.digitaltwin.fa3st.common.exception.ResourceNotFoundException;
+import org.eclipse.digitaltwin.fa3st.common.exception.ValueMappingException;
+import org.eclipse.digitaltwin.fa3st.common.model.value.ElementValue;
+import org.eclipse.digitaltwin.fa3st.common.model.value.ElementValueParser;
+import org.eclipse.digitaltwin.fa3st.common.model.value.mapper.ElementValueMapper;
+import org.eclipse.digitaltwin.fa3st.common.util.Ensure;
+import org.eclipse.digitaltwin.fa3st.service.ServiceContext;
+
+
+/**
+ * Parses the JSON payload of value updates of a submodel element, either in ValueOnly serialization or as a complete
+ * submodel element. Type information required for the ValueOnly serialization is obtained from the service.
+ */
+public class ValueOnlyElementValueParser implements ElementValueParser<Object> {
+
+    private final ServiceContext serviceContext;
+    private final HttpJsonApiDeserializer deserializer;
+    private final Reference element;
+
+    public ValueOnlyElementValueParser(ServiceContext serviceContext, HttpJsonApiDeserializer deserializer, Reference element) {
+        Ensure.requireNonNull(serviceContext, "serviceContext must be non-null");
+        Ensure.requireNonNull(deserializer, "deserializer must be non-null");
+        Ensure.requireNonNull(element, "element must be non-null");
+        this.serviceContext = serviceContext;
+        this.deserializer = deserializer;
+        this.element = element;
+    }
+
+
+    @Override
+    public <U extends ElementValue> U parse(Object raw, Class<U> type) throws DeserializationException {
+        String rawString;
+        if (raw.getClass().isAssignableFrom(byte[].class)) {
+            rawString = new String((byte[]) raw);
+        }
+        else {
+            rawString = raw.toString();
+        }
+        if (ElementValue.class.isAssignableFrom(type)) {
+            try {
+                return deserializer.readValue(rawString, serviceContext.getTypeInfo(element));
+            }
+            catch (ResourceNotFoundException | PersistenceException e) {
+                throw new DeserializationException("unable to obtain type information as resource does not exist or storage failed", e);
+            }
+        }
+        else if (SubmodelElement.class.isAssignableFrom(type)) {
+            SubmodelElement submodelElement = (SubmodelElement) deserializer.read(rawString, type);
+            try {
+                return ElementValueMapper.toValue(submodelElement, type);
+            }
+            catch (ValueMappingException e) {
+                throw new DeserializationException("error mapping submodel element to value object", e);
+            }
+        }
+        throw new DeserializationException(
+                String.format("error deserializing payload - invalid type '%s' (must be either instance of ElementValue or SubmodelElement",
+                        type.getSimpleName()));
+    }
+}
@@ -0,0 +1,168 @@
+/**
+ * Copyright (c) 2025 the Eclipse FA³ST Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.eclipse.digitaltwin.fa3st.service.endpoint.http.sse;
+
+import jakarta.servlet.AsyncContext;
+import jakarta.servlet.ServletOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+import org.eclipse.digitaltwin.fa3st.common.util.Ensure;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+
+/**
+ * A client connected via Server-Sent Events. Events are queued and written to the client by a single task on the
+ * executor at a time, so a slow client never blocks the message bus or other clients. If the queue is full, the client
+ * is disconnected and may reconnect using the Last-Event-ID header to receive the missed events.
+ */
+public class EventStreamClient {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(EventStreamClient.class);
+    private final AsyncContext asyncContext;
+    private final EventStreamFilter filter;
+    private final Executor executor;
+    private final Consumer<EventStreamClient> closeListener;
+    private final BlockingQueue<String> queue;
+    private final AtomicBoolean writing;
+    private final AtomicBoolean closed;
+
+    /**
+     * Creates a new instance.
+     *
+     * @param asyncContext the async context of the connection
+     * @param filter the filter to apply to events
+     * @param maxQueueSize the maximum number of queued frames, values less or equal zero mean unlimited
+     * @param executor the executor used to write to the client
+     * @param closeListener called once when the client is closed
+     */
+    public EventStreamClient(AsyncContext asyncContext, EventStreamFilter filter, int maxQueueSize, Executor executor,
+            Consumer<EventStreamClient> closeListener) {
+        Ensure.requireNonNull(asyncContext, "asyncContext must be non-null");
+        Ensure.requireNonNull(filter, "filter must be non-null");
+        Ensure.requireNonNull(executor, "executor must be non-null");
+        Ensure.requireNonNull(closeListener, "closeListener must be non-null");
+        this.asyncContext = asyncContext;
+        this.filter = filter;
+        this.executor = executor;
+        this.closeListener = closeListener;
+        this.queue = maxQueueSize > 0
+                ? new ArrayBlockingQueue<>(maxQueueSize)
+                : new LinkedBlockingQueue<>();
+        this.writing = new AtomicBoolean(false);
+        this.closed = new AtomicBoolean(false);
+    }
+
+
+    public EventStreamFilter getFilter() {
+        return filter;
+    }
+
+
+    public boolean isClosed() {
+        return closed.get();
+    }
+
+
+    /**
+     * Sends an event to the client if it matches the filter of the client.
+     *
+     * @param event the event to send
+     */
+    public void send(EventStreamEvent event) {
+        if (!closed.get() && filter.matches(event)) {
+            send(event.getFrame());
+        }
+    }
+
+
+    /**
+     * Sends raw data in text/event-stream format to the client, e.g. a comment or the retry field.
+     *
+     * @param frame the data to send
+     */
+    public void send(String frame) {
+        if (closed.get()) {
+            return;
+        }
+        if (!queue.offer(frame)) {
+            LOGGER.debug("closing Server-Sent Events connection because client does not keep up with events");
+            close();
+            return;
+        }
+        scheduleWrite();
+    }
+
+
+    /**
+     * Closes the connection to the client. Calling this method multiple times has no effect.
+     */
+    public void close() {
+        if (!closed.compareAndSet(false, true)) {
+            return;
+        }
+        queue.clear();
+        try {
+            asyncContext.complete();
+        }
+        catch (IllegalStateException e) {
+            // already completed, e.g. because the client disconnected
+        }
+        closeListener.accept(this);
+    }
+
+
+    private void scheduleWrite() {
+        if (closed.get() || !writing.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            executor.execute(this::write);
+        }
+        catch (RejectedExecutionException e) {
+            writing.set(false);
+            close();
+        }
+    }
+
+
+    private void write() {
+        try {
+            ServletOutputStream output = asyncContext.getResponse().getOutputStream();
+            String frame;
+            while (!closed.get() && (frame = queue.poll()) != null) {
+                output.write(frame.getBytes(StandardCharsets.UTF_8));
+            }
+            output.flush();
+        }
+        catch (IOException | IllegalStateException e) {
+            LOGGER.debug("writing to Server-Sent Events client failed, closing connection", e);
+            close();
+        }
+        finally {
+            writing.set(false);
+        }
+        // frames may have been added after the last poll but before resetting the flag
+        if (!queue.isEmpty()) {
+            scheduleWrite();
+        }
+    }
+}
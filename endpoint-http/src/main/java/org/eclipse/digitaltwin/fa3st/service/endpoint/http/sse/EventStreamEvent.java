@@ -0,0 +1,89 @@
+/**
+ * Copyright (c) 2025 the Eclipse FA³ST Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.eclipse.digitaltwin.fa3st.service.endpoint.http.sse;
+
+import java.util.Optional;
+import java.util.function.Supplier;
+import org.eclipse.digitaltwin.aas4j.v3.model.Reference;
+import org.eclipse.digitaltwin.fa3st.common.util.Ensure;
+
+
+/**
+ * An event sent to Server-Sent Events clients. The event is serialized to its wire format only once and shared among
+ * all clients. The semanticId of the affected element is resolved lazily as it is only needed if a client filters by
+ * semanticId.
+ */
+public class EventStreamEvent {
+
+    private static final String LINE_SEPARATOR_REGEX = "\r\n|\r|\n";
+    private final long id;
+    private final EventType type;
+    private final Reference element;
+    private final Supplier<Optional<Reference>> semanticId;
+    private final String frame;
+
+    public EventStreamEvent(long id, EventType type, Reference element, Supplier<Optional<Reference>> semanticId, String name, String data) {
+        Ensure.requireNonNull(type, "type must be non-null");
+        Ensure.requireNonNull(semanticId, "semanticId must be non-null");
+        Ensure.requireNonNull(name, "name must be non-null");
+        Ensure.requireNonNull(data, "data must be non-null");
+        this.id = id;
+        this.type = type;
+        this.element = element;
+        this.semanticId = semanticId;
+        this.frame = toFrame(id, name, data);
+    }
+
+
+    public long getId() {
+        return id;
+    }
+
+
+    public EventType getType() {
+        return type;
+    }
+
+
+    public Reference getElement() {
+        return element;
+    }
+
+
+    public Optional<Reference> getSemanticId() {
+        return semanticId.get();
+    }
+
+
+    /**
+     * Gets the event in the text/event-stream format.
+     *
+     * @return the event in the text/event-stream format
+     */
+    public String getFrame() {
+        return frame;
+    }
+
+
+    private static String toFrame(long id, String name, String data) {
+        StringBuilder result = new StringBuilder()
+                .append("id: ").append(id).append('\n')
+                .append("event: ").append(name).append('\n');
+        // every line of the payload must be prefixed separately as a line break ends the data field
+        for (String line: data.split(LINE_SEPARATOR_REGEX, -1)) {
+            result.append("data: ").append(line).append('\n');
+        }
+        return result.append('\n').toString();
+    }
+}
@@ -0,0 +1,114 @@
+/**
+ * Copyright (c) 2025 the Eclipse FA³ST Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.eclipse.digitaltwin.fa3st.service.endpoint.http.sse;
+
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.Objects;
+import java.util.Set;
+import org.eclipse.digitaltwin.aas4j.v3.model.KeyTypes;
+import org.eclipse.digitaltwin.aas4j.v3.model.Reference;
+import org.eclipse.digitaltwin.fa3st.common.util.Ensure;
+import org.eclipse.digitaltwin.fa3st.common.util.ReferenceHelper;
+import org.eclipse.digitaltwin.fa3st.common.util.StringHelper;
+
+
+/**
+ * Filter deciding which events are sent to a Server-Sent Events client. All criteria that are set must match.
+ */
+public class EventStreamFilter {
+
+    private final Set<EventType> eventTypes;
+    private final String submodelId;
+    private final String idShortPath;
+    private final Reference semanticId;
+
+    /**
+     * Creates a new instance.
+     *
+     * @param eventTypes the event types to include
+     * @param submodelId the id of the submodel the affected element must belong to, or null to accept all submodels
+     * @param idShortPath the idShortPath the path of the affected element must start with, or null to accept all paths
+     * @param semanticId the semanticId the affected element must have, or null to accept all semanticIds
+     * @throws IllegalArgumentException if eventTypes is null or empty
+     */
+    public EventStreamFilter(Set<EventType> eventTypes, String submodelId, String idShortPath, Reference semanticId) {
+        Ensure.requireNonNull(eventTypes, "eventTypes must be non-null");
+        Ensure.require(!eventTypes.isEmpty(), "eventTypes must be non-empty");
+        this.eventTypes = Collections.unmodifiableSet(EnumSet.copyOf(eventTypes));
+        this.submodelId = submodelId;
+        this.idShortPath = idShortPath;
+        this.semanticId = semanticId;
+    }
+
+
+    public Set<EventType> getEventTypes() {
+        return eventTypes;
+    }
+
+
+    public String getSubmodelId() {
+        return submodelId;
+    }
+
+
+    public String getIdShortPath() {
+        return idShortPath;
+    }
+
+
+    public Reference getSemanticId() {
+        return semanticId;
+    }
+
+
+    /**
+     * Checks if an event matches this filter.
+     *
+     * @param event the event
+     * @return true if the event matches, false otherwise
+     */
+    public boolean matches(EventStreamEvent event) {
+        if (Objects.isNull(event) || !eventTypes.contains(event.getType())) {
+            return false;
+        }
+        if (Objects.nonNull(submodelId)
+                && (Objects.isNull(event.getElement())
+                        || !Objects.equals(submodelId, ReferenceHelper.findFirstKeyType(event.getElement(), KeyTypes.SUBMODEL)))) {
+            return false;
+        }
+        if (Objects.nonNull(idShortPath)
+                && (Objects.isNull(event.getElement()) || !isPathPrefix(idShortPath, ReferenceHelper.toPath(event.getElement())))) {
+            return false;
+        }
+        // checked last as resolving the semanticId may require looking up the element
+        return Objects.isNull(semanticId)
+                || event.getSemanticId()
+                        .map(x -> ReferenceHelper.equals(x, semanticId))
+                        .orElse(false);
+    }
+
+
+    private static boolean isPathPrefix(String prefix, String path) {
+        if (StringHelper.isEmpty(path) || !path.startsWith(prefix)) {
+            return false;
+        }
+        if (path.length() == prefix.length()) {
+            return true;
+        }
+        // a.b must match a.b.c and a.b[0] but not a.bc
+        char next = path.charAt(prefix.length());
+        return next == '.' || next == '[';
+    }
+}
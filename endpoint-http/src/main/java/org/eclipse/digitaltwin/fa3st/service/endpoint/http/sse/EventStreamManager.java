@@ -0,0 +1,292 @@
+/**
+ * Copyright (c) 2025 the Eclipse FA³ST Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.eclipse.digitaltwin.fa3st.service.endpoint.http.sse;
+
+import com.google.common.base.Suppliers;
+import jakarta.servlet.AsyncContext;
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import org.eclipse.digitaltwin.aas4j.v3.model.HasSemantics;
+import org.eclipse.digitaltwin.aas4j.v3.model.KeyTypes;
+import org.eclipse.digitaltwin.aas4j.v3.model.Reference;
+import org.eclipse.digitaltwin.aas4j.v3.model.SubmodelElement;
+import org.eclipse.digitaltwin.fa3st.common.dataformat.json.JsonEventSerializer;
+import org.eclipse.digitaltwin.fa3st.common.exception.MessageBusException;
+import org.eclipse.digitaltwin.fa3st.common.exception.PersistenceException;
+import org.eclipse.digitaltwin.fa3st.common.exception.ResourceNotFoundException;
+import org.eclipse.digitaltwin.fa3st.common.model.api.modifier.QueryModifier;
+import org.eclipse.digitaltwin.fa3st.common.model.messagebus.EventMessage;
+import org.eclipse.digitaltwin.fa3st.common.model.messagebus.SubscriptionId;
+import org.eclipse.digitaltwin.fa3st.common.model.messagebus.SubscriptionInfo;
+import org.eclipse.digitaltwin.fa3st.common.model.messagebus.event.change.ElementChangeEventMessage;
+import org.eclipse.digitaltwin.fa3st.common.model.messagebus.event.change.ValueChangeEventMessage;
+import org.eclipse.digitaltwin.fa3st.common.util.Ensure;
+import org.eclipse.digitaltwin.fa3st.common.util.ReferenceHelper;
+import org.eclipse.digitaltwin.fa3st.common.util.StringHelper;
+import org.eclipse.digitaltwin.fa3st.service.ServiceContext;
+import org.eclipse.digitaltwin.fa3st.service.endpoint.http.HttpEndpointConfig;
+import org.eclipse.jetty.util.thread.Scheduler;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+
+/**
+ * Distributes element change events from the message bus to clients connected via Server-Sent Events. There is only a
+ * single subscription to the message bus regardless of the number of clients. Each event is serialized once and kept in
+ * a bounded history so that reconnecting clients can resume using the Last-Event-ID header.
+ */
+public class EventStreamManager {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(EventStreamManager.class);
+    private static final String HEARTBEAT = ": heartbeat\n\n";
+    private static final long RECONNECT_DELAY = 3000;
+    private final HttpEndpointConfig config;
+    private final ServiceContext serviceContext;
+    private final Executor executor;
+    private final Scheduler scheduler;
+    private final JsonEventSerializer serializer;
+    private final Set<EventStreamClient> clients;
+    private final Deque<EventStreamEvent> history;
+    private final Map<Reference, Optional<Reference>> semanticIds;
+    private final List<SubscriptionId> subscriptions;
+    private final AtomicBoolean running;
+    private long lastEventId;
+
+    public EventStreamManager(HttpEndpointConfig config, ServiceContext serviceContext, Executor executor, Scheduler scheduler) {
+        Ensure.requireNonNull(config, "config must be non-null");
+        Ensure.requireNonNull(serviceContext, "serviceContext must be non-null");
+        Ensure.requireNonNull(executor, "executor must be non-null");
+        Ensure.requireNonNull(scheduler, "scheduler must be non-null");
+        this.config = config;
+        this.serviceContext = serviceContext;
+        this.executor = executor;
+        this.scheduler = scheduler;
+        this.serializer = new JsonEventSerializer();
+        this.clients = ConcurrentHashMap.newKeySet();
+        this.history = new ArrayDeque<>();
+        this.semanticIds = new ConcurrentHashMap<>();
+        this.subscriptions = new ArrayList<>();
+        this.running = new AtomicBoolean(false);
+    }
+
+
+    /**
+     * Subscribes to the message bus and starts sending heartbeats.
+     *
+     * @throws MessageBusException if subscribing to the message bus fails
+     */
+    public void start() throws MessageBusException {
+        if (!running.compareAndSet(false, true)) {
+            return;
+        }
+        subscriptions.add(serviceContext.getMessageBus().subscribe(SubscriptionInfo.create(ValueChangeEventMessage.class, this::handle)));
+        subscriptions.add(serviceContext.getMessageBus().subscribe(SubscriptionInfo.create(ElementChangeEventMessage.class, this::handle)));
+        if (config.getSseHeartbeatInterval() > 0) {
+            scheduleHeartbeat();
+        }
+    }
+
+
+    /**
+     * Unsubscribes from the message bus and closes all connections.
+     */
+    public void stop() {
+        if (!running.compareAndSet(true, false)) {
+            return;
+        }
+        for (SubscriptionId subscription: subscriptions) {
+            try {
+                serviceContext.getMessageBus().unsubscribe(subscription);
+            }
+            catch (MessageBusException e) {
+                LOGGER.debug("unsubscribing Server-Sent Events from message bus failed", e);
+            }
+        }
+        subscriptions.clear();
+        List.copyOf(clients).forEach(EventStreamClient::close);
+        synchronized (this) {
+            history.clear();
+        }
+        semanticIds.clear();
+    }
+
+
+    /**
+     * Gets the number of currently connected clients.
+     *
+     * @return the number of currently connected clients
+     */
+    public int getClientCount() {
+        return clients.size();
+    }
+
+
+    /**
+     * Registers a new client. If lastEventId is present, all events in the history after that id matching the filter
+     * are sent before any new events.
+     *
+     * @param asyncContext the async context of the connection
+     * @param filter the filter to apply to events
+     * @param lastEventId the id of the last event received by the client before reconnecting
+     */
+    public void connect(AsyncContext asyncContext, EventStreamFilter filter, Optional<Long> lastEventId) {
+        Ensure.requireNonNull(asyncContext, "asyncContext must be non-null");
+        Ensure.requireNonNull(filter, "filter must be non-null");
+        Ensure.requireNonNull(lastEventId, "lastEventId must be non-null");
+        if (lastEventId.isPresent() && Objects.nonNull(filter.getSemanticId())) {
+            // resolve semanticIds of events to replay before acquiring the lock
+            List<EventStreamEvent> candidates;
+            synchronized (this) {
+                candidates = history.stream()
+                        .filter(x -> x.getId() > lastEventId.get())
+                        .collect(Collectors.toList());
+            }
+            candidates.forEach(EventStreamEvent::getSemanticId);
+        }
+        EventStreamClient client;
+        // replaying and registering must not interleave with new events to guarantee order and completeness
+        synchronized (this) {
+            List<EventStreamEvent> replay = lastEventId
+                    .map(id -> history.stream()
+                            .filter(x -> x.getId() > id)
+                            .filter(filter::matches)
+                            .collect(Collectors.toList()))
+                    .orElse(List.of());
+            client = new EventStreamClient(
+                    asyncContext,
+                    filter,
+                    config.getSseMaxQueueSize() > 0 ? config.getSseMaxQueueSize() + replay.size() + 1 : 0,
+                    executor,
+                    clients::remove);
+            client.send("retry: " + RECONNECT_DELAY + "\n\n");
+            replay.forEach(x -> client.send(x.getFrame()));
+            clients.add(client);
+        }
+        asyncContext.addListener(new AsyncListener() {
+            @Override
+            public void onComplete(AsyncEvent event) {
+                client.close();
+            }
+
+
+            @Override
+            public void onTimeout(AsyncEvent event) {
+                client.close();
+            }
+
+
+            @Override
+            public void onError(AsyncEvent event) {
+                client.close();
+            }
+
+
+            @Override
+            public void onStartAsync(AsyncEvent event) {
+                // intentionally empty
+            }
+        });
+    }
+
+
+    private void handle(EventMessage message) {
+        Optional<EventType> type = EventType.of(message);
+        if (type.isEmpty()) {
+            return;
+        }
+        if (ElementChangeEventMessage.class.isAssignableFrom(message.getClass()) && Objects.nonNull(message.getElement())) {
+            semanticIds.keySet().removeIf(x -> ReferenceHelper.startsWith(x, message.getElement()));
+        }
+        String data;
+        try {
+            data = serializer.write(message);
+        }
+        catch (Exception e) {
+            LOGGER.debug("serializing event for Server-Sent Events failed (reference: {})", ReferenceHelper.toString(message.getElement()), e);
+            return;
+        }
+        Supplier<Optional<Reference>> semanticId = Suppliers.memoize(() -> resolveSemanticId(message));
+        // resolve semanticId before distributing the event so that no lookup happens while holding the lock
+        if (clients.stream().anyMatch(x -> Objects.nonNull(x.getFilter().getSemanticId()))) {
+            semanticId.get();
+        }
+        synchronized (this) {
+            EventStreamEvent event = new EventStreamEvent(++lastEventId, type.get(), message.getElement(), semanticId, message.getClass().getSimpleName(), data);
+            if (config.getSseHistorySize() > 0) {
+                history.addLast(event);
+                while (history.size() > config.getSseHistorySize()) {
+                    history.removeFirst();
+                }
+            }
+            clients.forEach(x -> x.send(event));
+        }
+    }
+
+
+    private Optional<Reference> resolveSemanticId(EventMessage message) {
+        if (ElementChangeEventMessage.class.isAssignableFrom(message.getClass())) {
+            Object value = ((ElementChangeEventMessage) message).getValue();
+            if (Objects.nonNull(value) && HasSemantics.class.isAssignableFrom(value.getClass())) {
+                return Optional.ofNullable(((HasSemantics) value).getSemanticId());
+            }
+        }
+        if (Objects.isNull(message.getElement())) {
+            return Optional.empty();
+        }
+        return semanticIds.computeIfAbsent(message.getElement(), this::lookupSemanticId);
+    }
+
+
+    private Optional<Reference> lookupSemanticId(Reference element) {
+        if (StringHelper.isBlank(ReferenceHelper.findFirstKeyType(element, KeyTypes.SUBMODEL)) || StringHelper.isBlank(ReferenceHelper.toPath(element))) {
+            return Optional.empty();
+        }
+        try {
+            // read directly from persistence as executing a request might read from and write to the asset
+            return Optional.ofNullable(serviceContext.getSubmodelElement(element, QueryModifier.MINIMAL))
+                    .map(SubmodelElement::getSemanticId);
+        }
+        catch (ResourceNotFoundException e) {
+            return Optional.empty();
+        }
+        catch (PersistenceException e) {
+            LOGGER.debug("resolving semanticId for Server-Sent Events failed (reference: {})", ReferenceHelper.toString(element), e);
+            return Optional.empty();
+        }
+    }
+
+
+    private void scheduleHeartbeat() {
+        scheduler.schedule(() -> {
+            if (running.get()) {
+                clients.forEach(x -> x.send(HEARTBEAT));
+                scheduleHeartbeat();
+            }
+        }, config.getSseHeartbeatInterval(), TimeUnit.MILLISECONDS);
+    }
+}
@@ -0,0 +1,157 @@
+/**
+ * Copyright (c) 2025 the Eclipse FA³ST Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.eclipse.digitaltwin.fa3st.service.endpoint.http.sse;
+
+import jakarta.servlet.AsyncContext;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServlet;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.EnumSet;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import org.eclipse.digitaltwin.aas4j.v3.model.Reference;
+import org.eclipse.digitaltwin.fa3st.common.dataformat.DeserializationException;
+import org.eclipse.digitaltwin.fa3st.common.exception.InvalidRequestException;
+import org.eclipse.digitaltwin.fa3st.common.util.EncodingHelper;
+import org.eclipse.digitaltwin.fa3st.common.util.Ensure;
+import org.eclipse.digitaltwin.fa3st.common.util.StringHelper;
+import org.eclipse.digitaltwin.fa3st.service.endpoint.http.serialization.HttpJsonSerialization;
+import org.eclipse.digitaltwin.fa3st.service.endpoint.http.util.HttpConstants;
+import org.eclipse.digitaltwin.fa3st.service.endpoint.http.util.HttpHelper;
+
+
+/**
+ * Servlet streaming element changes to clients using Server-Sent Events. Clients can select the events to receive via
+ * the query parameters events (comma-separated list of value, create, update, delete; default: value), submodelId
+ * (base64Url-encoded), idShortPath (prefix) and semanticId (base64Url-encoded JSON reference). Clients that reconnect
+ * can resume the stream by sending the Last-Event-ID header or lastEventId query parameter.
+ */
+public class EventStreamServlet extends HttpServlet {
+
+    public static final String PATH = "/events";
+    public static final String CONTENT_TYPE = "text/event-stream";
+    public static final String QUERY_PARAMETER_EVENTS = "events";
+    public static final String QUERY_PARAMETER_SUBMODEL_ID = "submodelId";
+    public static final String QUERY_PARAMETER_ID_SHORT_PATH = "idShortPath";
+    public static final String QUERY_PARAMETER_SEMANTIC_ID = "semanticId";
+    public static final String QUERY_PARAMETER_LAST_EVENT_ID = "lastEventId";
+    private static final String CACHE_CONTROL_NO_CACHE = "no-cache";
+    private final EventStreamManager manager;
+
+    public EventStreamServlet(EventStreamManager manager) {
+        Ensure.requireNonNull(manager, "manager must be non-null");
+        this.manager = manager;
+    }
+
+
+    @Override
+    protected void doGet(HttpServletRequest request, HttpServletResponse response) throws ServletException, IOException {
+        EventStreamFilter filter;
+        try {
+            filter = parseFilter(request);
+        }
+        catch (InvalidRequestException e) {
+            throw new ServletException(e);
+        }
+        response.setStatus(HttpServletResponse.SC_OK);
+        response.setContentType(CONTENT_TYPE);
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        response.setHeader(HttpConstants.HEADER_CACHE_CONTROL, CACHE_CONTROL_NO_CACHE);
+        response.flushBuffer();
+        AsyncContext asyncContext = request.startAsync();
+        asyncContext.setTimeout(0);
+        manager.connect(asyncContext, filter, parseLastEventId(request));
+    }
+
+
+    private static EventStreamFilter parseFilter(HttpServletRequest request) throws InvalidRequestException {
+        Set<EventType> eventTypes = EnumSet.noneOf(EventType.class);
+        String events = request.getParameter(QUERY_PARAMETER_EVENTS);
+        if (StringHelper.isBlank(events)) {
+            eventTypes.add(EventType.VALUE);
+        }
+        else {
+            for (String event: HttpHelper.parseCommaSeparatedList(events)) {
+                try {
+                    eventTypes.add(EventType.fromString(event));
+                }
+                catch (IllegalArgumentException e) {
+                    throw new InvalidRequestException(String.format(
+                            "invalid value for query parameter '%s' (value: %s, allowed values: value, create, update, delete)",
+                            QUERY_PARAMETER_EVENTS,
+                            event));
+                }
+            }
+        }
+        return new EventStreamFilter(
+                eventTypes,
+                decodeBase64Url(request, QUERY_PARAMETER_SUBMODEL_ID),
+                request.getParameter(QUERY_PARAMETER_ID_SHORT_PATH),
+                parseSemanticId(request));
+    }
+
+
+    private static Reference parseSemanticId(HttpServletRequest request) throws InvalidRequestException {
+        String semanticId = decodeBase64Url(request, QUERY_PARAMETER_SEMANTIC_ID);
+        if (Objects.isNull(semanticId)) {
+            return null;
+        }
+        try {
+            return HttpJsonSerialization.DESERIALIZER.read(semanticId, Reference.class);
+        }
+        catch (DeserializationException e) {
+            throw new InvalidRequestException(String.format(
+                    "invalid value for query parameter '%s', must be a base64Url-encoded reference",
+                    QUERY_PARAMETER_SEMANTIC_ID),
+                    e);
+        }
+    }
+
+
+    private static String decodeBase64Url(HttpServletRequest request, String parameterName) throws InvalidRequestException {
+        String value = request.getParameter(parameterName);
+        if (Objects.isNull(value)) {
+            return null;
+        }
+        try {
+            return EncodingHelper.base64UrlDecode(value);
+        }
+        catch (IllegalArgumentException e) {
+            throw new InvalidRequestException(String.format(
+                    "invalid query parameter, must be base64Url-encoded (name: %s, value: %s)",
+                    parameterName,
+                    value));
+        }
+    }
+
+
+    private static Optional<Long> parseLastEventId(HttpServletRequest request) {
+        String value = Optional.ofNullable(request.getHeader(HttpConstants.HEADER_LAST_EVENT_ID))
+                .orElse(request.getParameter(QUERY_PARAMETER_LAST_EVENT_ID));
+        if (StringHelper.isBlank(value)) {
+            return Optional.empty();
+        }
+        try {
+            return Optional.of(Long.parseLong(value.trim()));
+        }
+        catch (NumberFormatException e) {
+            // unknown ids are ignored and the stream starts with new events as if no id was provided
+            return Optional.empty();
+        }
+    }
+}
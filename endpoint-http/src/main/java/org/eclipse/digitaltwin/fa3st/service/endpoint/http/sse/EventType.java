@@ -0,0 +1,73 @@
+/**
+ * Copyright (c) 2025 the Eclipse FA³ST Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.eclipse.digitaltwin.fa3st.service.endpoint.http.sse;
+
+import java.util.Locale;
+import java.util.Optional;
+import java.util.stream.Stream;
+import org.eclipse.digitaltwin.fa3st.common.model.messagebus.EventMessage;
+import org.eclipse.digitaltwin.fa3st.common.model.messagebus.event.change.ElementCreateEventMessage;
+import org.eclipse.digitaltwin.fa3st.common.model.messagebus.event.change.ElementDeleteEventMessage;
+import org.eclipse.digitaltwin.fa3st.common.model.messagebus.event.change.ElementUpdateEventMessage;
+import org.eclipse.digitaltwin.fa3st.common.model.messagebus.event.change.ValueChangeEventMessage;
+
+
+/**
+ * Types of events that can be streamed to clients via Server-Sent Events.
+ */
+public enum EventType {
+    VALUE(ValueChangeEventMessage.class),
+    CREATE(ElementCreateEventMessage.class),
+    UPDATE(ElementUpdateEventMessage.class),
+    DELETE(ElementDeleteEventMessage.class);
+
+    private final Class<? extends EventMessage> messageType;
+
+    private EventType(Class<? extends EventMessage> messageType) {
+        this.messageType = messageType;
+    }
+
+
+    public Class<? extends EventMessage> getMessageType() {
+        return messageType;
+    }
+
+
+    /**
+     * Finds the event type of a given message.
+     *
+     * @param message the message
+     * @return the event type of the message or empty if the message type can not be streamed
+     */
+    public static Optional<EventType> of(EventMessage message) {
+        if (message == null) {
+            return Optional.empty();
+        }
+        return Stream.of(values())
+                .filter(x -> x.messageType.isAssignableFrom(message.getClass()))
+                .findFirst();
+    }
+
+
+    /**
+     * Parses an event type case-insensitive from its name.
+     *
+     * @param value the name of the event type
+     * @return the event type
+     * @throws IllegalArgumentException if there is no event type with the given name
+     */
+    public static EventType fromString(String value) {
+        return valueOf(value.trim().toUpperCase(Locale.ROOT));
+    }
+}
@@ -0,0 +1,171 @@
+/**
+ * Copyright (c) 2025 the Eclipse FA³ST Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.eclipse.digitaltwin.fa3st.service.endpoint.http.util;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Objects;
+import java.util.Optional;
+
+
+/**
+ * Range of bytes of a representation as requested via the HTTP Range header (RFC 9110, section 14). Start and end are
+ * inclusive.
+ */
+public class ByteRange {
+
+    private static final String UNIT_PREFIX = "bytes=";
+    private static final String RANGE_SEPARATOR = ",";
+    private static final String BOUNDARY_SEPARATOR = "-";
+    private static final int MAX_RANGES = 32;
+
+    private final long start;
+    private final long end;
+
+    public ByteRange(long start, long end) {
+        this.start = start;
+        this.end = end;
+    }
+
+
+    /**
+     * Parses the value of a Range header for a representation of given length. Overlapping and adjacent ranges are
+     * merged and the resulting ranges are sorted by their start.
+     *
+     * @param header the value of the Range header, may be null
+     * @param length the length of the representation in bytes
+     * @return an empty optional if the header is not present, invalid or requests too many ranges, meaning the whole
+     *         representation should be sent; otherwise the satisfiable ranges, which is an empty list if none of the
+     *         requested ranges can be satisfied
+     */
+    public static Optional<List<ByteRange>> parse(String header, long length) {
+        if (Objects.isNull(header) || !header.trim().toLowerCase(Locale.ROOT).startsWith(UNIT_PREFIX)) {
+            return Optional.empty();
+        }
+        String[] specs = header.trim().substring(UNIT_PREFIX.length()).split(RANGE_SEPARATOR);
+        if (specs.length > MAX_RANGES) {
+            return Optional.empty();
+        }
+        List<ByteRange> ranges = new ArrayList<>();
+        for (String spec: specs) {
+            String value = spec.trim();
+            int separator = value.indexOf(BOUNDARY_SEPARATOR);
+            if (separator < 0) {
+                return Optional.empty();
+            }
+            try {
+                String first = value.substring(0, separator).trim();
+                String last = value.substring(separator + 1).trim();
+                if (first.isEmpty()) {
+                    long suffixLength = Long.parseLong(last);
+                    if (suffixLength < 0) {
+                        return Optional.empty();
+                    }
+                    if (suffixLength > 0 && length > 0) {
+                        ranges.add(new ByteRange(Math.max(0, length - suffixLength), length - 1));
+                    }
+                    continue;
+                }
+                long rangeStart = Long.parseLong(first);
+                long rangeEnd = last.isEmpty() ? Long.MAX_VALUE : Long.parseLong(last);
+                if (rangeStart < 0 || rangeEnd < rangeStart) {
+                    return Optional.empty();
+                }
+                if (rangeStart < length) {
+                    ranges.add(new ByteRange(rangeStart, Math.min(rangeEnd, length - 1)));
+                }
+            }
+            catch (NumberFormatException e) {
+                return Optional.empty();
+            }
+        }
+        return Optional.of(merge(ranges));
+    }
+
+
+    private static List<ByteRange> merge(List<ByteRange> ranges) {
+        List<ByteRange> result = new ArrayList<>();
+        ranges.stream()
+                .sorted(Comparator.comparingLong(ByteRange::getStart))
+                .forEach(x -> {
+                    if (!result.isEmpty() && x.start <= result.get(result.size() - 1).end + 1) {
+                        ByteRange last = result.remove(result.size() - 1);
+                        result.add(new ByteRange(last.start, Math.max(last.end, x.end)));
+                    }
+                    else {
+                        result.add(x);
+                    }
+                });
+        return result;
+    }
+
+
+    public long getStart() {
+        return start;
+    }
+
+
+    public long getEnd() {
+        return end;
+    }
+
+
+    /**
+     * Gets the number of bytes in this range.
+     *
+     * @return the number of bytes in this range
+     */
+    public long getLength() {
+        return end - start + 1;
+    }
+
+
+    /**
+     * Formats this range as value of a Content-Range header.
+     *
+     * @param completeLength the length of the complete representation
+     * @return the value for the Content-Range header
+     */
+    public String toContentRange(long completeLength) {
+        return String.format("bytes %d-%d/%d", start, end, completeLength);
+    }
+
+
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        if (obj == null || getClass() != obj.getClass()) {
+            return false;
+        }
+        ByteRange other = (ByteRange) obj;
+        return start == other.start
+                && end == other.end;
+    }
+
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(start, end);
+    }
+
+
+    @Override
+    public String toString() {
+        return String.format("%d-%d", start, end);
+    }
+}
@@ -21,8 +21,17 @@ public class HttpConstants {
     public static final String HEADER_VALUE_SEPARATOR = ",";
     public static final String PATH_SEPERATOR = "/";
     public static final String HEADER_ACCEPT = "Accept";
+    public static final String HEADER_ACCEPT_RANGES = "Accept-Ranges";
+    public static final String HEADER_CACHE_CONTROL = "Cache-Control";
+    public static final String HEADER_CONTENT_RANGE = "Content-Range";
     public static final String HEADER_CONTENT_TYPE = "Content-Type";
+    public static final String HEADER_IF_RANGE = "If-Range";
+    public static final String HEADER_LAST_EVENT_ID = "Last-Event-ID";
+    public static final String HEADER_LAST_MODIFIED = "Last-Modified";
     public static final String HEADER_LOCATION = "Location";
+    public static final String HEADER_RANGE = "Range";
+    public static final String HEADER_REQUEST_TIMEOUT = "X-Request-Timeout";
+    public static final String HEADER_RETRY_AFTER = "Retry-After";
 
     private HttpConstants() {}
 }
@@ -16,6 +16,9 @@ package org.eclipse.digitaltwin.fa3st.service.endpoint.http.util;
 import com.google.common.net.MediaType;
 import jakarta.servlet.http.HttpServletResponse;
 import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
 import java.nio.charset.IllegalCharsetNameException;
 import java.nio.charset.StandardCharsets;
 import java.nio.charset.UnsupportedCharsetException;
@@ -23,6 +26,7 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.UUID;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 import org.eclipse.digitaltwin.aas4j.v3.model.MessageTypeEnum;
@@ -35,7 +39,7 @@ import org.eclipse.digitaltwin.fa3st.common.model.api.Message;
 import org.eclipse.digitaltwin.fa3st.common.model.api.StatusCode;
 import org.eclipse.digitaltwin.fa3st.common.util.Ensure;
 import org.eclipse.digitaltwin.fa3st.common.util.StringHelper;
-import org.eclipse.digitaltwin.fa3st.service.endpoint.http.serialization.HttpJsonApiSerializer;
+import org.eclipse.digitaltwin.fa3st.service.endpoint.http.serialization.HttpJsonSerialization;
 import org.eclipse.jetty.http.HttpStatus;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -47,6 +51,9 @@ import org.slf4j.LoggerFactory;
 public class HttpHelper {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(HttpHelper.class);
+    private static final int STREAMING_THRESHOLD = 64 * 1024;
+    private static final String CRLF = "\r\n";
+    private static final String MULTIPART_BYTERANGES = "multipart/byteranges";
 
     private HttpHelper() {}
 
@@ -156,7 +163,7 @@ public class HttpHelper {
      */
     public static void send(HttpServletResponse response, StatusCode statusCode, Result result) throws UnsupportedModifierException {
         try {
-            sendJson(response, statusCode, new HttpJsonApiSerializer().write(result));
+            sendJson(response, statusCode, HttpJsonSerialization.SERIALIZER.write(result));
         }
         catch (SerializationException e) {
             throw new RuntimeException("error serializing response", e);
@@ -165,13 +172,21 @@ public class HttpHelper {
 
 
     /**
-     * Sends a HTTP response with given statusCode and JSON payload.
+     * Sends a HTTP response with given statusCode and JSON payload. Small payloads are sent with a Content-Length
+     * header, large payloads are encoded directly into the output stream of the response using chunked transfer
+     * encoding so that they are never copied into a single byte array.
      *
      * @param response HTTP response object
      * @param statusCode statusCode to send
      * @param content JSON payload
      */
     public static void sendJson(HttpServletResponse response, StatusCode statusCode, String content) {
+        if (Objects.nonNull(content)
+                && content.length() > STREAMING_THRESHOLD
+                && statusCode != StatusCode.SUCCESS_NO_CONTENT) {
+            streamJson(response, statusCode, content);
+            return;
+        }
         sendContent(response,
                 statusCode,
                 content != null
@@ -228,9 +243,9 @@ public class HttpHelper {
             }
             if (content != null) {
                 try {
+                    response.setContentLengthLong(content.length);
                     response.getOutputStream().write(content);
                     response.getOutputStream().flush();
-                    response.setContentLengthLong(content.length);
                 }
                 catch (IOException e) {
                     sendException(response, e);
@@ -240,6 +255,111 @@ public class HttpHelper {
     }
 
 
+    /**
+     * Sends a HTTP 206 Partial Content response containing the given ranges of the content. A single range is sent as
+     * is, multiple ranges are sent as multipart/byteranges. The Content-Length is computed and set before writing the
+     * body.
+     *
+     * @param response HTTP response object
+     * @param content the complete content
+     * @param ranges the ranges of the content to send, as returned by {@link ByteRange#parse(String, long)}
+     * @param contentType the contentType of the content
+     * @param headers headers to be added to the response
+     * @throws IllegalArgumentException if response is null
+     * @throws IllegalArgumentException if content is null
+     * @throws IllegalArgumentException if ranges is null or empty
+     * @throws IllegalArgumentException if contentType is null
+     */
+    public static void sendPartialContent(HttpServletResponse response, byte[] content, List<ByteRange> ranges, MediaType contentType, Map<String, String> headers) {
+        Ensure.requireNonNull(response, "response must be non-null");
+        Ensure.requireNonNull(content, "content must be non-null");
+        Ensure.requireNonNull(ranges, "ranges must be non-null");
+        Ensure.require(!ranges.isEmpty(), "ranges must be non-empty");
+        Ensure.requireNonNull(contentType, "contentType must be non-null");
+        response.setStatus(HttpStatus.PARTIAL_CONTENT_206);
+        if (Objects.nonNull(headers)) {
+            headers.forEach(response::addHeader);
+        }
+        try {
+            OutputStream output = response.getOutputStream();
+            if (ranges.size() == 1) {
+                ByteRange range = ranges.get(0);
+                response.setContentType(contentType.toString());
+                response.setHeader(HttpConstants.HEADER_CONTENT_RANGE, range.toContentRange(content.length));
+                response.setContentLengthLong(range.getLength());
+                output.write(content, (int) range.getStart(), (int) range.getLength());
+            }
+            else {
+                String boundary = UUID.randomUUID().toString().replace("-", "");
+                List<byte[]> partHeaders = ranges.stream()
+                        .map(x -> String.format("--%s%s%s: %s%s%s: %s%s%s",
+                                boundary, CRLF,
+                                HttpConstants.HEADER_CONTENT_TYPE, contentType, CRLF,
+                                HttpConstants.HEADER_CONTENT_RANGE, x.toContentRange(content.length), CRLF,
+                                CRLF)
+                                .getBytes(StandardCharsets.US_ASCII))
+                        .toList();
+                byte[] closeDelimiter = String.format("--%s--%s", boundary, CRLF).getBytes(StandardCharsets.US_ASCII);
+                byte[] partEnd = CRLF.getBytes(StandardCharsets.US_ASCII);
+                long length = closeDelimiter.length;
+                for (int i = 0; i < ranges.size(); i++) {
+                    length += partHeaders.get(i).length + ranges.get(i).getLength() + partEnd.length;
+                }
+                response.setContentType(String.format("%s; boundary=%s", MULTIPART_BYTERANGES, boundary));
+                response.setContentLengthLong(length);
+                for (int i = 0; i < ranges.size(); i++) {
+                    output.write(partHeaders.get(i));
+                    output.write(content, (int) ranges.get(i).getStart(), (int) ranges.get(i).getLength());
+                    output.write(partEnd);
+                }
+                output.write(closeDelimiter);
+            }
+            output.flush();
+        }
+        catch (IOException e) {
+            sendException(response, e);
+        }
+    }
+
+
+    /**
+     * Sends an empty HTTP 416 Range Not Satisfiable response.
+     *
+     * @param response HTTP response object
+     * @param completeLength the length of the complete content
+     * @throws IllegalArgumentException if response is null
+     */
+    public static void sendRangeNotSatisfiable(HttpServletResponse response, long completeLength) {
+        Ensure.requireNonNull(response, "response must be non-null");
+        response.setStatus(HttpStatus.RANGE_NOT_SATISFIABLE_416);
+        response.setHeader(HttpConstants.HEADER_CONTENT_RANGE, String.format("bytes */%d", completeLength));
+        response.setContentLengthLong(0);
+    }
+
+
+    private static void streamJson(HttpServletResponse response, StatusCode statusCode, String content) {
+        Ensure.requireNonNull(response, "response must be non-null");
+        Ensure.requireNonNull(statusCode, "statusCode must be non-null");
+        response.setStatus(toHttpStatusCode(statusCode));
+        response.setContentType(MediaType.JSON_UTF_8.toString());
+        response.setCharacterEncoding(StandardCharsets.UTF_8.toString());
+        try {
+            // the writer encodes the content piecewise directly into the output stream of the response
+            Writer writer = new OutputStreamWriter(response.getOutputStream(), StandardCharsets.UTF_8);
+            writer.write(content);
+            writer.flush();
+        }
+        catch (IOException e) {
+            if (response.isCommitted()) {
+                // parts of the body have already been sent, so the response cannot be replaced by an error response
+                LOGGER.warn("sending response failed after parts of the body have been sent, aborting response", e);
+                return;
+            }
+            sendException(response, e);
+        }
+    }
+
+
     /**
      * Sends a HTTP response with given statusCode, payload and contentType.
      *
@@ -265,6 +385,73 @@ public class HttpHelper {
     }
 
 
+    /**
+     * Sends a HTTP 503 Service Unavailable response indicating that the client should retry the request later. As there
+     * is no protocol-agnostic status code for this, the HTTP status code is set directly.
+     *
+     * @param response HTTP response object
+     * @param message the message to send
+     * @param retryAfter the time in seconds after which the client may retry the request
+     * @throws IllegalArgumentException if response is null
+     */
+    public static void sendServiceUnavailable(HttpServletResponse response, String message, long retryAfter) {
+        Ensure.requireNonNull(response, "response must be non-null");
+        response.setHeader(HttpConstants.HEADER_RETRY_AFTER, Long.toString(Math.max(0, retryAfter)));
+        sendError(response, HttpStatus.SERVICE_UNAVAILABLE_503, message);
+    }
+
+
+    /**
+     * Sends a HTTP 413 Content Too Large response indicating that the request body exceeds the allowed size. As there
+     * is no protocol-agnostic status code for this, the HTTP status code is set directly.
+     *
+     * @param response HTTP response object
+     * @param message the message to send
+     * @throws IllegalArgumentException if response is null
+     */
+    public static void sendPayloadTooLarge(HttpServletResponse response, String message) {
+        Ensure.requireNonNull(response, "response must be non-null");
+        sendError(response, HttpStatus.PAYLOAD_TOO_LARGE_413, message);
+    }
+
+
+    /**
+     * Sends a HTTP 504 Gateway Timeout response indicating that the request could not be completed before its deadline
+     * expired. As there is no protocol-agnostic status code for this, the HTTP status code is set directly.
+     *
+     * @param response HTTP response object
+     * @param message the message to send
+     * @throws IllegalArgumentException if response is null
+     */
+    public static void sendGatewayTimeout(HttpServletResponse response, String message) {
+        Ensure.requireNonNull(response, "response must be non-null");
+        sendError(response, HttpStatus.GATEWAY_TIMEOUT_504, message);
+    }
+
+
+    private static void sendError(HttpServletResponse response, int httpStatusCode, String message) {
+        response.setStatus(httpStatusCode);
+        response.setContentType(MediaType.JSON_UTF_8.toString());
+        response.setCharacterEncoding(StandardCharsets.UTF_8.toString());
+        try {
+            byte[] content = HttpJsonSerialization.SERIALIZER
+                    .write(new DefaultResult.Builder()
+                            .messages(Message.builder()
+                                    .messageType(MessageTypeEnum.ERROR)
+                                    .text(message)
+                                    .build())
+                            .build())
+                    .getBytes(StandardCharsets.UTF_8);
+            response.setContentLengthLong(content.length);
+            response.getOutputStream().write(content);
+            response.getOutputStream().flush();
+        }
+        catch (SerializationException | UnsupportedModifierException | IOException e) {
+            LOGGER.debug("error sending error response (status code: {})", httpStatusCode, e);
+        }
+    }
+
+
     /**
      * Sends an empty HTTP response with given statusCode and headers.
      *
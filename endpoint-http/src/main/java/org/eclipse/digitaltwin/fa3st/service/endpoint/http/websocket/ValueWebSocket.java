@@ -0,0 +1,441 @@
+/**
+ * Copyright (c) 2025 the Eclipse FA³ST Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.eclipse.digitaltwin.fa3st.service.endpoint.http.websocket;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.io.StringWriter;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.function.Supplier;
+import org.eclipse.digitaltwin.aas4j.v3.model.Reference;
+import org.eclipse.digitaltwin.fa3st.common.model.api.Response;
+import org.eclipse.digitaltwin.fa3st.common.model.api.modifier.Content;
+import org.eclipse.digitaltwin.fa3st.common.model.api.modifier.OutputModifier;
+import org.eclipse.digitaltwin.fa3st.common.model.api.request.PatchSubmodelElementValueByPathRequest;
+import org.eclipse.digitaltwin.fa3st.common.model.api.request.submodel.GetSubmodelElementByPathRequest;
+import org.eclipse.digitaltwin.fa3st.common.model.api.response.submodel.GetSubmodelElementByPathResponse;
+import org.eclipse.digitaltwin.fa3st.common.util.Ensure;
+import org.eclipse.digitaltwin.fa3st.common.util.ReferenceBuilder;
+import org.eclipse.digitaltwin.fa3st.common.util.ReferenceHelper;
+import org.eclipse.digitaltwin.fa3st.common.util.StringHelper;
+import org.eclipse.digitaltwin.fa3st.service.ServiceContext;
+import org.eclipse.digitaltwin.fa3st.service.endpoint.Endpoint;
+import org.eclipse.digitaltwin.fa3st.service.endpoint.http.serialization.HttpJsonSerialization;
+import org.eclipse.digitaltwin.fa3st.service.endpoint.http.serialization.ValueOnlyElementValueParser;
+import org.eclipse.digitaltwin.fa3st.service.endpoint.http.util.HttpHelper;
+import org.eclipse.digitaltwin.fa3st.service.request.admission.AdmissionController;
+import org.eclipse.digitaltwin.fa3st.service.request.admission.RequestRejectedException;
+import org.eclipse.jetty.http.HttpStatus;
+import org.eclipse.jetty.websocket.api.Callback;
+import org.eclipse.jetty.websocket.api.Session;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+
+/**
+ * A WebSocket connection over which a client can subscribe to values of submodel elements and write values.
+ *
+ * <p>Messages are JSON objects. Requests sent by the client have the form
+ * {@code {"id": 1, "type": "subscribe|unsubscribe|write", "submodelId": "...", "path": "...", "value": ...}} where
+ * value is only required for writes and uses the ValueOnly serialization. Each request is acknowledged with
+ * {@code {"id": 1, "type": "ack", "status": 200}}, where status is the HTTP status code the same request would yield
+ * via the HTTP API, and an optional message in case of an error. Value changes of subscribed elements (and their
+ * children) are sent as {@code {"type": "value", "submodelId": "...", "path": "...", "value": ...}}.
+ *
+ * <p>Requests are processed one after another in the order received and the next message is only read once the
+ * acknowledgement of the previous one has been sent, so a client sending faster than the service can process is slowed
+ * down by TCP flow control instead of filling up memory. Value changes are conflated per element, i.e. if a client
+ * does not keep up, it only receives the latest value of each element.
+ */
+public class ValueWebSocket implements Session.Listener {
+
+    public static final String TYPE_SUBSCRIBE = "subscribe";
+    public static final String TYPE_UNSUBSCRIBE = "unsubscribe";
+    public static final String TYPE_WRITE = "write";
+    public static final String TYPE_ACK = "ack";
+    public static final String TYPE_VALUE = "value";
+    public static final String FIELD_ID = "id";
+    public static final String FIELD_TYPE = "type";
+    public static final String FIELD_SUBMODEL_ID = "submodelId";
+    public static final String FIELD_PATH = "path";
+    public static final String FIELD_VALUE = "value";
+    public static final String FIELD_STATUS = "status";
+    public static final String FIELD_MESSAGE = "message";
+    private static final Logger LOGGER = LoggerFactory.getLogger(ValueWebSocket.class);
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+    private static final OutputModifier VALUE_ONLY = new OutputModifier.Builder()
+            .content(Content.VALUE)
+            .build();
+    private final WebSocketManager manager;
+    private final ServiceContext serviceContext;
+    private final Endpoint endpoint;
+    private final Executor executor;
+    private final Set<Reference> subscriptions;
+    private final Deque<String> acknowledgements;
+    private final Map<Reference, String> pendingValues;
+    private final Map<Reference, Map<Reference, String>> heldBackValues;
+    private Session session;
+    private boolean sending;
+
+    public ValueWebSocket(WebSocketManager manager, ServiceContext serviceContext, Endpoint endpoint, Executor executor) {
+        Ensure.requireNonNull(manager, "manager must be non-null");
+        Ensure.requireNonNull(serviceContext, "serviceContext must be non-null");
+        Ensure.requireNonNull(executor, "executor must be non-null");
+        this.manager = manager;
+        this.serviceContext = serviceContext;
+        this.endpoint = endpoint;
+        this.executor = executor;
+        this.subscriptions = ConcurrentHashMap.newKeySet();
+        this.acknowledgements = new ArrayDeque<>();
+        this.pendingValues = new LinkedHashMap<>();
+        this.heldBackValues = new HashMap<>();
+    }
+
+
+    @Override
+    public void onWebSocketOpen(Session session) {
+        this.session = session;
+        manager.register(this);
+        session.demand();
+    }
+
+
+    @Override
+    public void onWebSocketText(String message) {
+        try {
+            executor.execute(() -> sendAcknowledgement(handle(message)));
+        }
+        catch (RejectedExecutionException e) {
+            sendAcknowledgement(acknowledgement(null, HttpStatus.SERVICE_UNAVAILABLE_503, "server overloaded"));
+        }
+    }
+
+
+    @Override
+    public void onWebSocketBinary(ByteBuffer payload, Callback callback) {
+        // binary frames carry the same JSON messages encoded as UTF-8, e.g. for clients that only send binary frames
+        String message = StandardCharsets.UTF_8.decode(payload).toString();
+        callback.succeed();
+        onWebSocketText(message);
+    }
+
+
+    @Override
+    public void onWebSocketClose(int statusCode, String reason) {
+        close();
+    }
+
+
+    @Override
+    public void onWebSocketError(Throwable cause) {
+        LOGGER.debug("WebSocket connection failed", cause);
+        close();
+    }
+
+
+    /**
+     * Sends a value change to the client if the client has subscribed to the element or one of its parents.
+     *
+     * @param element the element that changed
+     * @param frame supplies the message to send, only called if the client has subscribed to the element
+     */
+    public void valueChanged(Reference element, Supplier<String> frame) {
+        if (Objects.isNull(element) || subscriptions.stream().noneMatch(x -> ReferenceHelper.startsWith(element, x))) {
+            return;
+        }
+        String value = frame.get();
+        if (Objects.isNull(value)) {
+            return;
+        }
+        synchronized (this) {
+            // changes are held back while the current value of a matching subscription is being read so that they are
+            // sent after that value
+            Map<Reference, String> values = heldBackValues.entrySet().stream()
+                    .filter(x -> ReferenceHelper.startsWith(element, x.getKey()))
+                    .map(Map.Entry::getValue)
+                    .findFirst()
+                    .orElse(pendingValues);
+            // re-insert to keep the order of changes, only the latest value of each element is kept
+            values.remove(element);
+            values.put(element, value);
+        }
+        flush();
+    }
+
+
+    /**
+     * Checks if the client has subscribed to at least one element.
+     *
+     * @return true if the client has subscribed to at least one element, otherwise false
+     */
+    public boolean hasSubscriptions() {
+        return !subscriptions.isEmpty();
+    }
+
+
+    /**
+     * Closes the connection.
+     */
+    public void close() {
+        manager.unregister(this);
+        subscriptions.clear();
+        synchronized (this) {
+            acknowledgements.clear();
+            pendingValues.clear();
+            heldBackValues.clear();
+        }
+        if (Objects.nonNull(session) && session.isOpen()) {
+            session.close();
+        }
+    }
+
+
+    private String handle(String message) {
+        JsonNode request;
+        try {
+            request = MAPPER.readTree(message);
+        }
+        catch (IOException e) {
+            return acknowledgement(null, HttpStatus.BAD_REQUEST_400, "invalid JSON message");
+        }
+        JsonNode id = request.get(FIELD_ID);
+        String type = request.path(FIELD_TYPE).asText(null);
+        String submodelId = request.path(FIELD_SUBMODEL_ID).asText(null);
+        String path = request.path(FIELD_PATH).asText(null);
+        if (StringHelper.isBlank(type) || StringHelper.isBlank(submodelId) || StringHelper.isBlank(path)) {
+            return acknowledgement(id, HttpStatus.BAD_REQUEST_400, String.format(
+                    "message must contain '%s', '%s' and '%s'", FIELD_TYPE, FIELD_SUBMODEL_ID, FIELD_PATH));
+        }
+        Reference element = new ReferenceBuilder()
+                .submodel(submodelId)
+                .idShortPath(path)
+                .build();
+        try {
+            switch (type) {
+                case TYPE_SUBSCRIBE:
+                    return subscribe(id, element, submodelId, path);
+                case TYPE_UNSUBSCRIBE:
+                    subscriptions.remove(element);
+                    return acknowledgement(id, HttpStatus.OK_200, null);
+                case TYPE_WRITE:
+                    return write(id, element, submodelId, path, request.get(FIELD_VALUE));
+                default:
+                    return acknowledgement(id, HttpStatus.BAD_REQUEST_400, String.format("unknown message type '%s'", type));
+            }
+        }
+        catch (RequestRejectedException e) {
+            return acknowledgement(id, HttpStatus.SERVICE_UNAVAILABLE_503, e.getMessage());
+        }
+        catch (Exception e) {
+            LOGGER.debug("handling WebSocket message failed", e);
+            return acknowledgement(id, HttpStatus.INTERNAL_SERVER_ERROR_500, e.getMessage());
+        }
+    }
+
+
+    private String subscribe(JsonNode id, Reference element, String submodelId, String path) throws Exception {
+        GetSubmodelElementByPathRequest request = GetSubmodelElementByPathRequest.builder()
+                .submodelId(submodelId)
+                .path(path)
+                .outputModifier(VALUE_ONLY)
+                .build();
+        // subscribe before reading the current value so that no change in between is lost
+        boolean added = subscriptions.add(element);
+        synchronized (this) {
+            heldBackValues.put(element, new LinkedHashMap<>());
+        }
+        String current = null;
+        try {
+            GetSubmodelElementByPathResponse response;
+            try (AdmissionController.Permit permit = serviceContext.getAdmissionController().acquire(request)) {
+                response = serviceContext.execute(endpoint, request);
+            }
+            if (response.getStatusCode().isSuccess()) {
+                current = valueFrame(submodelId, path, HttpJsonSerialization.SERIALIZER.write(response.getPayload(), VALUE_ONLY));
+            }
+            return acknowledgement(id, response);
+        }
+        finally {
+            if (Objects.isNull(current) && added) {
+                subscriptions.remove(element);
+            }
+            releaseHeldBackValues(element, current);
+        }
+    }
+
+
+    private void releaseHeldBackValues(Reference element, String current) {
+        synchronized (this) {
+            Map<Reference, String> heldBack = heldBackValues.remove(element);
+            if (Objects.isNull(heldBack)) {
+                // connection has been closed in the meantime
+                return;
+            }
+            // the current value is sent right after the acknowledgement, followed by all changes held back while reading it
+            if (Objects.nonNull(current)) {
+                pendingValues.remove(element);
+                pendingValues.put(element, current);
+            }
+            heldBack.entrySet().stream()
+                    .filter(x -> subscriptions.stream().anyMatch(subscription -> ReferenceHelper.startsWith(x.getKey(), subscription)))
+                    .forEach(x -> {
+                        pendingValues.remove(x.getKey());
+                        pendingValues.put(x.getKey(), x.getValue());
+                    });
+        }
+    }
+
+
+    private String write(JsonNode id, Reference element, String submodelId, String path, JsonNode value) throws Exception {
+        if (Objects.isNull(value)) {
+            return acknowledgement(id, HttpStatus.BAD_REQUEST_400, String.format("message must contain '%s'", FIELD_VALUE));
+        }
+        PatchSubmodelElementValueByPathRequest<?> request = PatchSubmodelElementValueByPathRequest.builder()
+                .submodelId(submodelId)
+                .path(path)
+                .value(value.toString())
+                .valueParser(new ValueOnlyElementValueParser(serviceContext, HttpJsonSerialization.DESERIALIZER, element))
+                .build();
+        try (AdmissionController.Permit permit = serviceContext.getAdmissionController().acquire(request)) {
+            return acknowledgement(id, serviceContext.execute(endpoint, request));
+        }
+    }
+
+
+    private void sendAcknowledgement(String acknowledgement) {
+        synchronized (this) {
+            acknowledgements.addLast(acknowledgement);
+        }
+        flush();
+    }
+
+
+    private void flush() {
+        String next;
+        boolean isAcknowledgement;
+        synchronized (this) {
+            if (sending || Objects.isNull(session) || !session.isOpen()) {
+                return;
+            }
+            next = acknowledgements.pollFirst();
+            isAcknowledgement = Objects.nonNull(next);
+            if (!isAcknowledgement) {
+                Iterator<String> iterator = pendingValues.values().iterator();
+                if (!iterator.hasNext()) {
+                    return;
+                }
+                next = iterator.next();
+                iterator.remove();
+            }
+            sending = true;
+        }
+        session.sendText(next, Callback.from(() -> {
+            synchronized (this) {
+                sending = false;
+            }
+            if (isAcknowledgement) {
+                // read the next request only after the previous one has been answered
+                session.demand();
+            }
+            flush();
+        }, error -> {
+            LOGGER.debug("sending WebSocket message failed", error);
+            close();
+        }));
+    }
+
+
+    private static String acknowledgement(JsonNode id, Response response) {
+        return acknowledgement(
+                id,
+                HttpHelper.toHttpStatusCode(response.getStatusCode()),
+                response.getStatusCode().isSuccess()
+                        ? null
+                        : Optional.ofNullable(response.getResult())
+                                .map(x -> x.getMessages())
+                                .filter(x -> !x.isEmpty())
+                                .map(x -> x.get(0).getText())
+                                .orElse(null));
+    }
+
+
+    private static String acknowledgement(JsonNode id, int status, String message) {
+        return toJson(generator -> {
+            if (Objects.nonNull(id)) {
+                generator.writeFieldName(FIELD_ID);
+                generator.writeTree(id);
+            }
+            generator.writeStringField(FIELD_TYPE, TYPE_ACK);
+            generator.writeNumberField(FIELD_STATUS, status);
+            if (Objects.nonNull(message)) {
+                generator.writeStringField(FIELD_MESSAGE, message);
+            }
+        });
+    }
+
+
+    /**
+     * Creates the message notifying a client about a new value.
+     *
+     * @param submodelId the id of the submodel
+     * @param path the idShortPath of the element
+     * @param value the new value in ValueOnly serialization
+     * @return the message
+     */
+    public static String valueFrame(String submodelId, String path, String value) {
+        return toJson(generator -> {
+            generator.writeStringField(FIELD_TYPE, TYPE_VALUE);
+            generator.writeStringField(FIELD_SUBMODEL_ID, submodelId);
+            generator.writeStringField(FIELD_PATH, path);
+            generator.writeFieldName(FIELD_VALUE);
+            generator.writeRawValue(value);
+        });
+    }
+
+
+    private static String toJson(JsonWriter writer) {
+        StringWriter result = new StringWriter();
+        try (JsonGenerator generator = MAPPER.getFactory().createGenerator(result)) {
+            generator.writeStartObject();
+            writer.write(generator);
+            generator.writeEndObject();
+        }
+        catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return result.toString();
+    }
+
+    @FunctionalInterface
+    private interface JsonWriter {
+
+        public void write(JsonGenerator generator) throws IOException;
+    }
+}
@@ -0,0 +1,150 @@
+/**
+ * Copyright (c) 2025 the Eclipse FA³ST Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.eclipse.digitaltwin.fa3st.service.endpoint.http.websocket;
+
+import com.google.common.base.Suppliers;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Supplier;
+import org.eclipse.digitaltwin.aas4j.v3.model.KeyTypes;
+import org.eclipse.digitaltwin.aas4j.v3.model.Reference;
+import org.eclipse.digitaltwin.fa3st.common.exception.MessageBusException;
+import org.eclipse.digitaltwin.fa3st.common.model.messagebus.EventMessage;
+import org.eclipse.digitaltwin.fa3st.common.model.messagebus.SubscriptionId;
+import org.eclipse.digitaltwin.fa3st.common.model.messagebus.SubscriptionInfo;
+import org.eclipse.digitaltwin.fa3st.common.model.messagebus.event.change.ValueChangeEventMessage;
+import org.eclipse.digitaltwin.fa3st.common.util.Ensure;
+import org.eclipse.digitaltwin.fa3st.common.util.ReferenceHelper;
+import org.eclipse.digitaltwin.fa3st.service.ServiceContext;
+import org.eclipse.digitaltwin.fa3st.service.endpoint.Endpoint;
+import org.eclipse.digitaltwin.fa3st.service.endpoint.http.serialization.HttpJsonSerialization;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+
+/**
+ * Manages WebSocket connections to the HTTP endpoint. There is only a single subscription to the message bus
+ * regardless of the number of connections and each value change is serialized at most once.
+ */
+public class WebSocketManager {
+
+    public static final String PATH = "/ws";
+    private static final Logger LOGGER = LoggerFactory.getLogger(WebSocketManager.class);
+    private final ServiceContext serviceContext;
+    private final Endpoint endpoint;
+    private final Executor executor;
+    private final Set<ValueWebSocket> connections;
+    private final AtomicBoolean running;
+    private SubscriptionId subscription;
+
+    public WebSocketManager(ServiceContext serviceContext, Endpoint endpoint, Executor executor) {
+        Ensure.requireNonNull(serviceContext, "serviceContext must be non-null");
+        Ensure.requireNonNull(executor, "executor must be non-null");
+        this.serviceContext = serviceContext;
+        this.endpoint = endpoint;
+        this.executor = executor;
+        this.connections = ConcurrentHashMap.newKeySet();
+        this.running = new AtomicBoolean(false);
+    }
+
+
+    /**
+     * Subscribes to value changes on the message bus.
+     *
+     * @throws MessageBusException if subscribing to the message bus fails
+     */
+    public void start() throws MessageBusException {
+        if (!running.compareAndSet(false, true)) {
+            return;
+        }
+        subscription = serviceContext.getMessageBus().subscribe(SubscriptionInfo.create(ValueChangeEventMessage.class, this::handle));
+    }
+
+
+    /**
+     * Unsubscribes from the message bus and closes all connections.
+     */
+    public void stop() {
+        if (!running.compareAndSet(true, false)) {
+            return;
+        }
+        try {
+            serviceContext.getMessageBus().unsubscribe(subscription);
+        }
+        catch (MessageBusException e) {
+            LOGGER.debug("unsubscribing WebSocket endpoint from message bus failed", e);
+        }
+        List.copyOf(connections).forEach(ValueWebSocket::close);
+    }
+
+
+    /**
+     * Creates a new WebSocket for an incoming connection.
+     *
+     * @return the new WebSocket
+     */
+    public ValueWebSocket create() {
+        return new ValueWebSocket(this, serviceContext, endpoint, executor);
+    }
+
+
+    /**
+     * Gets the number of currently open connections.
+     *
+     * @return the number of currently open connections
+     */
+    public int getConnectionCount() {
+        return connections.size();
+    }
+
+
+    void register(ValueWebSocket connection) {
+        connections.add(connection);
+    }
+
+
+    void unregister(ValueWebSocket connection) {
+        connections.remove(connection);
+    }
+
+
+    private void handle(EventMessage event) {
+        ValueChangeEventMessage message = (ValueChangeEventMessage) event;
+        Reference element = message.getElement();
+        if (Objects.isNull(element) || Objects.isNull(message.getNewValue())) {
+            return;
+        }
+        Supplier<String> frame = Suppliers.memoize(() -> {
+            try {
+                return ValueWebSocket.valueFrame(
+                        ReferenceHelper.findFirstKeyType(element, KeyTypes.SUBMODEL),
+                        ReferenceHelper.toPath(element),
+                        HttpJsonSerialization.SERIALIZER.write(message.getNewValue()));
+            }
+            catch (Exception e) {
+                LOGGER.debug("serializing value for WebSocket clients failed (reference: {})", ReferenceHelper.toString(element), e);
+                return null;
+            }
+        });
+        for (ValueWebSocket connection: connections) {
+            if (connection.hasSubscriptions()) {
+                connection.valueChanged(element, frame);
+            }
+        }
+    }
+}
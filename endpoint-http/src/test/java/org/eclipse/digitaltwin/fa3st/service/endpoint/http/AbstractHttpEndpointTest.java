@@ -15,7 +15,9 @@ package org.eclipse.digitaltwin.fa3st.service.endpoint.http;
 
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import com.fasterxml.jackson.core.type.TypeReference;
@@ -23,6 +25,7 @@ import java.net.URI;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 import org.eclipse.digitaltwin.aas4j.v3.model.AssetAdministrationShell;
@@ -46,6 +49,7 @@ import org.eclipse.digitaltwin.fa3st.common.dataformat.DeserializationException;
 import org.eclipse.digitaltwin.fa3st.common.exception.PersistenceException;
 import org.eclipse.digitaltwin.fa3st.common.model.AASFull;
 import org.eclipse.digitaltwin.fa3st.common.model.EnvironmentContext;
+import org.eclipse.digitaltwin.fa3st.common.model.TypedInMemoryFile;
 import org.eclipse.digitaltwin.fa3st.common.model.api.Message;
 import org.eclipse.digitaltwin.fa3st.common.model.api.StatusCode;
 import org.eclipse.digitaltwin.fa3st.common.model.api.modifier.Content;
@@ -54,6 +58,7 @@ import org.eclipse.digitaltwin.fa3st.common.model.api.modifier.OutputModifier;
 import org.eclipse.digitaltwin.fa3st.common.model.api.operation.OperationHandle;
 import org.eclipse.digitaltwin.fa3st.common.model.api.paging.Page;
 import org.eclipse.digitaltwin.fa3st.common.model.api.paging.PagingMetadata;
+import org.eclipse.digitaltwin.fa3st.common.model.api.request.aasrepository.GetAllAssetAdministrationShellsRequest;
 import org.eclipse.digitaltwin.fa3st.common.model.api.request.aasserialization.GenerateSerializationByIdsRequest;
 import org.eclipse.digitaltwin.fa3st.common.model.api.request.submodel.InvokeOperationAsyncRequest;
 import org.eclipse.digitaltwin.fa3st.common.model.api.response.aas.GetAssetAdministrationShellResponse;
@@ -65,6 +70,7 @@ import org.eclipse.digitaltwin.fa3st.common.model.api.response.proprietary.Impor
 import org.eclipse.digitaltwin.fa3st.common.model.api.response.proprietary.ImportResult;
 import org.eclipse.digitaltwin.fa3st.common.model.api.response.submodel.GetAllSubmodelElementsReferenceResponse;
 import org.eclipse.digitaltwin.fa3st.common.model.api.response.submodel.GetAllSubmodelElementsResponse;
+import org.eclipse.digitaltwin.fa3st.common.model.api.response.submodel.GetFileByPathResponse;
 import org.eclipse.digitaltwin.fa3st.common.model.api.response.submodel.GetOperationAsyncResultResponse;
 import org.eclipse.digitaltwin.fa3st.common.model.api.response.submodel.GetOperationAsyncStatusResponse;
 import org.eclipse.digitaltwin.fa3st.common.model.api.response.submodel.GetSubmodelElementByPathResponse;
@@ -88,6 +94,7 @@ import org.eclipse.digitaltwin.fa3st.service.endpoint.http.serialization.HttpJso
 import org.eclipse.digitaltwin.fa3st.service.endpoint.http.util.HttpConstants;
 import org.eclipse.digitaltwin.fa3st.service.filestorage.FileStorage;
 import org.eclipse.digitaltwin.fa3st.service.persistence.Persistence;
+import org.eclipse.digitaltwin.fa3st.service.request.RequestDeadline;
 import org.eclipse.jetty.client.ContentResponse;
 import org.eclipse.jetty.client.HttpClient;
 import org.eclipse.jetty.client.Request;
@@ -112,6 +119,7 @@ public abstract class AbstractHttpEndpointTest {
     protected static final Logger LOGGER = LoggerFactory.getLogger(AbstractHttpEndpointTest.class);
     protected static final String HOST = "localhost";
     protected static final String API_PREFIX = "/api/v3.0";
+    private static final String FILE_PATH = "/submodels/" + EncodingHelper.base64UrlEncode("submodel") + "/submodel-elements/file/attachment";
     protected static String scheme;
     protected static int port;
     protected static HttpClient client;
@@ -130,6 +138,10 @@ public abstract class AbstractHttpEndpointTest {
         Mockito.reset(persistence);
         Mockito.reset(fileStorage);
         Mockito.reset(service);
+        // requests may be executed asynchronously, answer them using the (stubbed) synchronous execution
+        doAnswer(x -> CompletableFuture.completedFuture(service.execute(x.getArgument(0), x.getArgument(1), x.getArgument(2))))
+                .when(service)
+                .executeAsync(any(), any(), any());
     }
 
 
@@ -189,10 +201,19 @@ public abstract class AbstractHttpEndpointTest {
     }
 
 
+    @Test
+    public void testThreadPoolUtilization() {
+        ThreadPoolUtilization actual = endpoint.getThreadPoolUtilization().orElseThrow();
+        Assert.assertEquals(HttpEndpointConfig.DEFAULT_THREAD_POOL_MAX_THREADS, actual.getMaxThreads());
+        Assert.assertTrue(actual.getThreads() >= HttpEndpointConfig.DEFAULT_THREAD_POOL_MIN_THREADS);
+        Assert.assertTrue(actual.getBusyThreads() <= actual.getThreads());
+    }
+
+
     @Test
     public void testParamContentReference() throws Exception {
         String id = "foo";
-        when(service.execute(any(), any())).thenReturn(GetAssetAdministrationShellResponse.builder()
+        when(service.execute(any(), any(), any())).thenReturn(GetAssetAdministrationShellResponse.builder()
                 .statusCode(StatusCode.SUCCESS)
                 .build());
         ContentResponse response = execute(HttpMethod.GET, "/shells/" + EncodingHelper.base64UrlEncode(id) + "/$reference");
@@ -203,7 +224,7 @@ public abstract class AbstractHttpEndpointTest {
     @Test
     public void testParamContentAndLevelInvalid() throws Exception {
         String id = "foo";
-        when(service.execute(any(), any())).thenReturn(GetAssetAdministrationShellResponse.builder()
+        when(service.execute(any(), any(), any())).thenReturn(GetAssetAdministrationShellResponse.builder()
                 .statusCode(StatusCode.SUCCESS)
                 .build());
         ContentResponse response = execute(HttpMethod.GET, "/shells/" + EncodingHelper.base64UrlEncode(id) + "/$foo?level=foo");
@@ -213,7 +234,7 @@ public abstract class AbstractHttpEndpointTest {
 
     @Test
     public void testInvalidAASIdentifier() throws Exception {
-        when(service.execute(any(), any())).thenReturn(GetAssetAdministrationShellResponse.builder()
+        when(service.execute(any(), any(), any())).thenReturn(GetAssetAdministrationShellResponse.builder()
                 .statusCode(StatusCode.SUCCESS)
                 .build());
         ContentResponse response = execute(HttpMethod.GET, "/shells/bogus");
@@ -223,7 +244,7 @@ public abstract class AbstractHttpEndpointTest {
 
     @Test
     public void testInvalidAASIdentifierAndAdditionalPathElement() throws Exception {
-        when(service.execute(any(), any())).thenReturn(GetAssetAdministrationShellResponse.builder()
+        when(service.execute(any(), any(), any())).thenReturn(GetAssetAdministrationShellResponse.builder()
                 .statusCode(StatusCode.SUCCESS)
                 .build());
         ContentResponse response = execute(HttpMethod.DELETE, "/shells/bogus/test");
@@ -241,7 +262,7 @@ public abstract class AbstractHttpEndpointTest {
     @Test
     public void testNonExistentId() throws Exception {
         String idShort = AASFull.SUBMODEL_3.getIdShort() + "123";
-        when(service.execute(any(), any())).thenReturn(GetSubmodelByIdResponse.builder()
+        when(service.execute(any(), any(), any())).thenReturn(GetSubmodelByIdResponse.builder()
                 .statusCode(StatusCode.CLIENT_ERROR_RESOURCE_NOT_FOUND)
                 .payload(null)
                 .build());
@@ -253,7 +274,7 @@ public abstract class AbstractHttpEndpointTest {
     @Test
     public void testDoubleQueryValue() throws Exception {
         String idShort = AASFull.SUBMODEL_3.getIdShort() + "123";
-        when(service.execute(any(), any())).thenReturn(GetSubmodelByIdResponse.builder()
+        when(service.execute(any(), any(), any())).thenReturn(GetSubmodelByIdResponse.builder()
                 .statusCode(StatusCode.SUCCESS)
                 .payload(null)
                 .build());
@@ -266,7 +287,7 @@ public abstract class AbstractHttpEndpointTest {
     @Test
     public void testMissingQueryValue() throws Exception {
         String idShort = AASFull.SUBMODEL_3.getIdShort() + "123";
-        when(service.execute(any(), any())).thenReturn(GetSubmodelByIdResponse.builder()
+        when(service.execute(any(), any(), any())).thenReturn(GetSubmodelByIdResponse.builder()
                 .statusCode(StatusCode.SUCCESS)
                 .payload(null)
                 .build());
@@ -279,7 +300,7 @@ public abstract class AbstractHttpEndpointTest {
     @Test
     public void testBogusAndMissingQueryValue() throws Exception {
         String idShort = AASFull.SUBMODEL_3.getIdShort() + "123";
-        when(service.execute(any(), any())).thenReturn(GetSubmodelByIdResponse.builder()
+        when(service.execute(any(), any(), any())).thenReturn(GetSubmodelByIdResponse.builder()
                 .statusCode(StatusCode.SUCCESS)
                 .payload(null)
                 .build());
@@ -291,7 +312,7 @@ public abstract class AbstractHttpEndpointTest {
 
     @Test
     public void testWrongResponse() throws Exception {
-        when(service.execute(any(), any())).thenReturn(GetAllAssetAdministrationShellsResponse.builder()
+        when(service.execute(any(), any(), any())).thenReturn(GetAllAssetAdministrationShellsResponse.builder()
                 .statusCode(StatusCode.SUCCESS)
                 .payload(null)
                 .build());
@@ -303,7 +324,7 @@ public abstract class AbstractHttpEndpointTest {
 
     @Test
     public void testPostSubmodelNoData() throws Exception {
-        when(service.execute(any(), any())).thenReturn(PostSubmodelResponse.builder()
+        when(service.execute(any(), any(), any())).thenReturn(PostSubmodelResponse.builder()
                 .statusCode(StatusCode.SUCCESS)
                 .payload(null)
                 .build());
@@ -315,7 +336,7 @@ public abstract class AbstractHttpEndpointTest {
     @Test
     public void testGetAllAssetAdministrationShellsWithSinglePage() throws Exception {
         Page<AssetAdministrationShell> expected = Page.of(AASFull.AAS_1);
-        when(service.execute(any(), any())).thenReturn(GetAllAssetAdministrationShellsResponse.builder()
+        when(service.execute(any(), any(), any())).thenReturn(GetAllAssetAdministrationShellsResponse.builder()
                 .statusCode(StatusCode.SUCCESS)
                 .payload(expected)
                 .build());
@@ -329,6 +350,53 @@ public abstract class AbstractHttpEndpointTest {
     }
 
 
+    @Test
+    public void testRequestWithoutTimeoutHasCancellableDeadline() throws Exception {
+        when(service.execute(any(), any(), any())).thenReturn(GetAllAssetAdministrationShellsResponse.builder()
+                .statusCode(StatusCode.SUCCESS)
+                .payload(Page.of(AASFull.AAS_1))
+                .build());
+        ContentResponse response = execute(HttpMethod.GET, "/shells");
+        Assert.assertEquals(HttpStatus.OK_200, response.getStatus());
+        verify(service).execute(any(), any(GetAllAssetAdministrationShellsRequest.class), argThat(x -> x.canExpire() && !x.hasTimeLimit()));
+    }
+
+
+    @Test
+    public void testRequestTimeoutExceeded() throws Exception {
+        doAnswer(x -> {
+            Thread.sleep(200);
+            x.<RequestDeadline> getArgument(2).markAborted();
+            return GetAllAssetAdministrationShellsResponse.builder()
+                    .error(StatusCode.SERVER_INTERNAL_ERROR, "request expired before execution")
+                    .build();
+        }).when(service).execute(any(), any(), any());
+        ContentResponse response = execute(HttpMethod.GET, "/shells", null, null, null, null, Map.of(HttpConstants.HEADER_REQUEST_TIMEOUT, "50"));
+        Assert.assertEquals(HttpStatus.GATEWAY_TIMEOUT_504, response.getStatus());
+        verify(service).execute(any(), any(GetAllAssetAdministrationShellsRequest.class), argThat(x -> x.hasTimeLimit()));
+    }
+
+
+    @Test
+    public void testRequestFailedAfterTimeoutKeepsStatusCode() throws Exception {
+        doAnswer(x -> {
+            Thread.sleep(200);
+            return GetAllAssetAdministrationShellsResponse.builder()
+                    .error(StatusCode.CLIENT_ERROR_RESOURCE_NOT_FOUND, "resource not found")
+                    .build();
+        }).when(service).execute(any(), any(), any());
+        ContentResponse response = execute(HttpMethod.GET, "/shells", null, null, null, null, Map.of(HttpConstants.HEADER_REQUEST_TIMEOUT, "50"));
+        Assert.assertEquals(HttpStatus.NOT_FOUND_404, response.getStatus());
+    }
+
+
+    @Test
+    public void testRequestTimeoutInvalid() throws Exception {
+        ContentResponse response = execute(HttpMethod.GET, "/shells", null, null, null, null, Map.of(HttpConstants.HEADER_REQUEST_TIMEOUT, "foo"));
+        Assert.assertEquals(HttpStatus.BAD_REQUEST_400, response.getStatus());
+    }
+
+
     @Test
     public void testGetAllAssetAdministrationShellsWithMultiplePages() throws Exception {
         Page<AssetAdministrationShell> expected = Page.<AssetAdministrationShell> builder()
@@ -337,7 +405,7 @@ public abstract class AbstractHttpEndpointTest {
                         .cursor("foo")
                         .build())
                 .build();
-        when(service.execute(any(), any())).thenReturn(GetAllAssetAdministrationShellsResponse.builder()
+        when(service.execute(any(), any(), any())).thenReturn(GetAllAssetAdministrationShellsResponse.builder()
                 .statusCode(StatusCode.SUCCESS)
                 .payload(expected)
                 .build());
@@ -358,7 +426,7 @@ public abstract class AbstractHttpEndpointTest {
                 .submodels(AASFull.SUBMODEL_4)
                 .submodels(AASFull.SUBMODEL_5)
                 .build();
-        when(service.execute(any(), any())).thenReturn(GenerateSerializationByIdsResponse.builder()
+        when(service.execute(any(), any(), any())).thenReturn(GenerateSerializationByIdsResponse.builder()
                 .dataformat(DataFormat.JSON)
                 .payload(EnvironmentContext.builder()
                         .environment(expected)
@@ -432,7 +500,7 @@ public abstract class AbstractHttpEndpointTest {
     @Ignore("value only serialization not defined for AssetAdministrationShells")
     public void testGetAllAssetAdministrationShellsValueOnly() throws Exception {
         Page<AssetAdministrationShell> expectedPayload = Page.of(AASFull.AAS_1);
-        when(service.execute(any(), any())).thenReturn(GetAllAssetAdministrationShellsResponse.builder()
+        when(service.execute(any(), any(), any())).thenReturn(GetAllAssetAdministrationShellsResponse.builder()
                 .statusCode(StatusCode.SUCCESS)
                 .payload(expectedPayload)
                 .build());
@@ -459,7 +527,7 @@ public abstract class AbstractHttpEndpointTest {
                         .max("2.0")
                         .valueType(DataTypeDefXsd.DOUBLE)
                         .build());
-        when(service.execute(any(), any())).thenReturn(GetAllSubmodelElementsResponse.builder()
+        when(service.execute(any(), any(), any())).thenReturn(GetAllSubmodelElementsResponse.builder()
                 .statusCode(StatusCode.SUCCESS)
                 .payload(Page.of(submodelElements))
                 .build());
@@ -486,7 +554,7 @@ public abstract class AbstractHttpEndpointTest {
                         .idShort("range1")
                         .valueType(DataTypeDefXsd.DOUBLE)
                         .build());
-        when(service.execute(any(), any())).thenReturn(GetAllSubmodelElementsResponse.builder()
+        when(service.execute(any(), any(), any())).thenReturn(GetAllSubmodelElementsResponse.builder()
                 .statusCode(StatusCode.SUCCESS)
                 .payload(expected)
                 .build());
@@ -504,7 +572,7 @@ public abstract class AbstractHttpEndpointTest {
         Page<Reference> expected = Page.of(
                 ReferenceBuilder.forSubmodel("submodelId", "property1"),
                 ReferenceBuilder.forSubmodel("submodelId", "range1"));
-        when(service.execute(any(), any())).thenReturn(GetAllSubmodelElementsReferenceResponse.builder()
+        when(service.execute(any(), any(), any())).thenReturn(GetAllSubmodelElementsReferenceResponse.builder()
                 .statusCode(StatusCode.SUCCESS)
                 .payload(expected)
                 .build());
@@ -529,7 +597,7 @@ public abstract class AbstractHttpEndpointTest {
                         .max("2.0")
                         .valueType(DataTypeDefXsd.DOUBLE)
                         .build());
-        when(service.execute(any(), any())).thenReturn(GetAllSubmodelElementsResponse.builder()
+        when(service.execute(any(), any(), any())).thenReturn(GetAllSubmodelElementsResponse.builder()
                 .statusCode(StatusCode.SUCCESS)
                 .payload(expected)
                 .build());
@@ -566,7 +634,7 @@ public abstract class AbstractHttpEndpointTest {
                         .max("2.0")
                         .valueType(DataTypeDefXsd.DOUBLE)
                         .build());
-        when(service.execute(any(), any())).thenReturn(
+        when(service.execute(any(), any(), any())).thenReturn(
                 GetAllSubmodelElementsResponse.builder()
                         .statusCode(StatusCode.SUCCESS)
                         .payload(expected)
@@ -594,7 +662,7 @@ public abstract class AbstractHttpEndpointTest {
 
     @Test
     public void testAASAlreadyExists() throws Exception {
-        when(service.execute(any(), any())).thenReturn(
+        when(service.execute(any(), any(), any())).thenReturn(
                 PostAssetAdministrationShellResponse.builder()
                         .statusCode(StatusCode.CLIENT_RESOURCE_CONFLICT)
                         .build());
@@ -608,7 +676,7 @@ public abstract class AbstractHttpEndpointTest {
 
     @Test
     public void testSubmodelAlreadyExists() throws Exception {
-        when(service.execute(any(), any())).thenReturn(
+        when(service.execute(any(), any(), any())).thenReturn(
                 PostSubmodelResponse.builder()
                         .statusCode(StatusCode.CLIENT_RESOURCE_CONFLICT)
                         .build());
@@ -623,7 +691,7 @@ public abstract class AbstractHttpEndpointTest {
     @Test
     public void testSubmodelElementAlreadyExists() throws Exception {
         String id = "foo";
-        when(service.execute(any(), any())).thenReturn(
+        when(service.execute(any(), any(), any())).thenReturn(
                 PostSubmodelElementResponse.builder()
                         .statusCode(StatusCode.CLIENT_RESOURCE_CONFLICT)
                         .build());
@@ -636,7 +704,7 @@ public abstract class AbstractHttpEndpointTest {
 
     @Test
     public void testConceptDescriptionAlreadyExists() throws Exception {
-        when(service.execute(any(), any())).thenReturn(
+        when(service.execute(any(), any(), any())).thenReturn(
                 PostConceptDescriptionResponse.builder()
                         .statusCode(StatusCode.CLIENT_RESOURCE_CONFLICT)
                         .build());
@@ -651,7 +719,7 @@ public abstract class AbstractHttpEndpointTest {
     public void testOperationAsync() throws Exception {
         OperationHandle handle = OperationHandle.builder().build();
         String handleId = EncodingHelper.base64UrlEncode(handle.getHandleId());
-        when(service.execute(any(), any())).thenReturn(
+        when(service.execute(any(), any(), any())).thenReturn(
                 InvokeOperationAsyncResponse.builder()
                         .payload(handle)
                         .statusCode(StatusCode.SUCCESS_ACCEPTED)
@@ -664,7 +732,7 @@ public abstract class AbstractHttpEndpointTest {
         Assert.assertTrue(responseInvoke.getHeaders().contains(HttpHeader.LOCATION));
 
         URI urlStatus = urlInvoke.resolve(responseInvoke.getHeaders().getField(HttpHeader.LOCATION).getValue());
-        when(service.execute(any(), any())).thenReturn(
+        when(service.execute(any(), any(), any())).thenReturn(
                 GetOperationAsyncStatusResponse.builder()
                         .payload(new DefaultBaseOperationResult.Builder()
                                 .executionState(ExecutionState.RUNNING)
@@ -676,7 +744,7 @@ public abstract class AbstractHttpEndpointTest {
         // check content for state == RUNNING
 
         // check result = 404
-        when(service.execute(any(), any())).thenReturn(
+        when(service.execute(any(), any(), any())).thenReturn(
                 GetOperationAsyncStatusResponse.builder()
                         .payload(null)
                         .statusCode(StatusCode.CLIENT_ERROR_RESOURCE_NOT_FOUND)
@@ -685,7 +753,7 @@ public abstract class AbstractHttpEndpointTest {
         Assert.assertEquals(HttpStatus.NOT_FOUND_404, responseStatusNotFound.getStatus());
 
         // check COMPLETED = 302
-        when(service.execute(any(), any())).thenReturn(
+        when(service.execute(any(), any(), any())).thenReturn(
                 GetOperationAsyncStatusResponse.builder()
                         .payload(new DefaultBaseOperationResult.Builder()
                                 .executionState(ExecutionState.COMPLETED)
@@ -699,7 +767,7 @@ public abstract class AbstractHttpEndpointTest {
         // check content for state == COMPLETED
 
         URI urlResult = urlStatus.resolve(responseStatusCompleted.getHeaders().getField(HttpHeader.LOCATION).getValue());
-        when(service.execute(any(), any())).thenReturn(
+        when(service.execute(any(), any(), any())).thenReturn(
                 GetOperationAsyncResultResponse.builder()
                         .payload(new DefaultOperationResult.Builder()
                                 .executionState(ExecutionState.COMPLETED)
@@ -731,7 +799,7 @@ public abstract class AbstractHttpEndpointTest {
                         .text(HttpStatus.getMessage(500))
                         .build())
                 .build();
-        when(service.execute(any(), any())).thenReturn(GetSubmodelElementByPathResponse.builder()
+        when(service.execute(any(), any(), any())).thenReturn(GetSubmodelElementByPathResponse.builder()
                 .statusCode(StatusCode.SERVER_INTERNAL_ERROR)
                 .result(expected)
                 .payload(null)
@@ -770,6 +838,54 @@ public abstract class AbstractHttpEndpointTest {
     }
 
 
+    @Test
+    public void testGetFileByPathWithRange() throws Exception {
+        byte[] content = "0123456789abcdefghij".getBytes();
+        mockGetFileByPath(content);
+        ContentResponse response = execute(HttpMethod.GET, FILE_PATH, null, null, null, null, Map.of(HttpHeader.RANGE.asString(), "bytes=5-9"));
+        Assert.assertEquals(HttpStatus.PARTIAL_CONTENT_206, response.getStatus());
+        Assert.assertEquals("bytes 5-9/20", response.getHeaders().get(HttpHeader.CONTENT_RANGE));
+        Assert.assertEquals("bytes", response.getHeaders().get(HttpHeader.ACCEPT_RANGES));
+        Assert.assertEquals(5, response.getHeaders().getLongField(HttpHeader.CONTENT_LENGTH));
+        Assert.assertEquals("56789", response.getContentAsString());
+    }
+
+
+    @Test
+    public void testGetFileByPathWithMultipleRanges() throws Exception {
+        byte[] content = "0123456789abcdefghij".getBytes();
+        mockGetFileByPath(content);
+        ContentResponse response = execute(HttpMethod.GET, FILE_PATH, null, null, null, null, Map.of(HttpHeader.RANGE.asString(), "bytes=0-1,-2"));
+        Assert.assertEquals(HttpStatus.PARTIAL_CONTENT_206, response.getStatus());
+        Assert.assertTrue(response.getHeaders().get(HttpHeader.CONTENT_TYPE).startsWith("multipart/byteranges; boundary="));
+        Assert.assertEquals(response.getContent().length, response.getHeaders().getLongField(HttpHeader.CONTENT_LENGTH));
+        String body = response.getContentAsString();
+        Assert.assertTrue(body.contains("Content-Range: bytes 0-1/20\r\n\r\n01\r\n"));
+        Assert.assertTrue(body.contains("Content-Range: bytes 18-19/20\r\n\r\nij\r\n"));
+    }
+
+
+    @Test
+    public void testGetFileByPathWithUnsatisfiableRange() throws Exception {
+        mockGetFileByPath("0123456789".getBytes());
+        ContentResponse response = execute(HttpMethod.GET, FILE_PATH, null, null, null, null, Map.of(HttpHeader.RANGE.asString(), "bytes=10-"));
+        Assert.assertEquals(HttpStatus.RANGE_NOT_SATISFIABLE_416, response.getStatus());
+        Assert.assertEquals("bytes */10", response.getHeaders().get(HttpHeader.CONTENT_RANGE));
+    }
+
+
+    private void mockGetFileByPath(byte[] content) {
+        when(service.execute(any(), any(), any())).thenReturn(GetFileByPathResponse.builder()
+                .statusCode(StatusCode.SUCCESS)
+                .payload(new TypedInMemoryFile.Builder()
+                        .path("file.txt")
+                        .contentType("text/plain")
+                        .content(content)
+                        .build())
+                .build());
+    }
+
+
     @Test
     public void testResultNotFound() throws Exception {
         Result expected = new DefaultResult.Builder()
@@ -778,7 +894,7 @@ public abstract class AbstractHttpEndpointTest {
                         .text(HttpStatus.getMessage(404))
                         .build())
                 .build();
-        when(service.execute(any(), any())).thenReturn(GetSubmodelElementByPathResponse.builder()
+        when(service.execute(any(), any(), any())).thenReturn(GetSubmodelElementByPathResponse.builder()
                 .statusCode(StatusCode.CLIENT_ERROR_RESOURCE_NOT_FOUND)
                 .payload(null)
                 .result(expected)
@@ -796,7 +912,7 @@ public abstract class AbstractHttpEndpointTest {
                 .fileError("/foo/bar", "some error")
                 .modelError(ReferenceBuilder.forAas("my-aas"), "not present")
                 .build();
-        when(service.execute(any(), any())).thenReturn(
+        when(service.execute(any(), any(), any())).thenReturn(
                 ImportResponse.builder()
                         .statusCode(StatusCode.SUCCESS)
                         .payload(expected)
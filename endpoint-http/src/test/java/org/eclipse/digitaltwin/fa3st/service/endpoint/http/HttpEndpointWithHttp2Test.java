@@ -0,0 +1,112 @@
+/**
+ * Copyright (c) 2025 the Eclipse FA³ST Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.eclipse.digitaltwin.fa3st.service.endpoint.http;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import org.eclipse.digitaltwin.fa3st.common.model.AASFull;
+import org.eclipse.digitaltwin.fa3st.common.model.api.StatusCode;
+import org.eclipse.digitaltwin.fa3st.common.model.api.response.submodel.GetSubmodelElementByPathResponse;
+import org.eclipse.digitaltwin.fa3st.common.util.EncodingHelper;
+import org.eclipse.digitaltwin.fa3st.common.util.PortHelper;
+import org.eclipse.digitaltwin.fa3st.service.Service;
+import org.eclipse.digitaltwin.fa3st.service.config.CoreConfig;
+import org.eclipse.digitaltwin.fa3st.service.filestorage.FileStorage;
+import org.eclipse.digitaltwin.fa3st.service.messagebus.MessageBus;
+import org.eclipse.digitaltwin.fa3st.service.persistence.Persistence;
+import org.eclipse.jetty.client.CompletableResponseListener;
+import org.eclipse.jetty.client.ContentResponse;
+import org.eclipse.jetty.client.HttpClient;
+import org.eclipse.jetty.http.HttpMethod;
+import org.eclipse.jetty.http.HttpScheme;
+import org.eclipse.jetty.http.HttpStatus;
+import org.eclipse.jetty.http.HttpVersion;
+import org.eclipse.jetty.http2.client.HTTP2Client;
+import org.eclipse.jetty.http2.client.transport.HttpClientTransportOverHTTP2;
+import org.eclipse.jetty.server.Server;
+import org.junit.Assert;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+
+public class HttpEndpointWithHttp2Test extends AbstractHttpEndpointTest {
+
+    private static final int PARALLEL_REQUESTS = 50;
+
+    @BeforeClass
+    public static void init() throws Exception {
+        port = PortHelper.findFreePort();
+        persistence = mock(Persistence.class);
+        fileStorage = mock(FileStorage.class);
+
+        startServer();
+        startClient();
+    }
+
+
+    private static void startServer() throws Exception {
+        scheme = HttpScheme.HTTP.toString();
+        endpoint = new HttpEndpoint();
+        server = new Server();
+        service = spy(new Service(CoreConfig.DEFAULT, persistence, fileStorage, mock(MessageBus.class), List.of(endpoint), List.of()));
+        endpoint.init(
+                CoreConfig.DEFAULT,
+                HttpEndpointConfig.builder()
+                        .port(port)
+                        .cors(true)
+                        .ssl(false)
+                        .http2()
+                        .build(),
+                service);
+        server.start();
+        service.start();
+    }
+
+
+    private static void startClient() throws Exception {
+        client = new HttpClient(new HttpClientTransportOverHTTP2(new HTTP2Client()));
+        client.start();
+    }
+
+
+    @Test
+    public void testParallelRequestsMultiplexed() throws Exception {
+        when(service.execute(any(), any(), any())).thenReturn(GetSubmodelElementByPathResponse.builder()
+                .statusCode(StatusCode.SUCCESS)
+                .payload(AASFull.SUBMODEL_1.getSubmodelElements().get(0))
+                .build());
+        String path = String.format("%s/submodels/%s/submodel-elements/%s/$value",
+                API_PREFIX,
+                EncodingHelper.base64UrlEncode(AASFull.SUBMODEL_1.getId()),
+                AASFull.SUBMODEL_1.getSubmodelElements().get(0).getIdShort());
+        List<CompletableFuture<ContentResponse>> responses = new ArrayList<>();
+        for (int i = 0; i < PARALLEL_REQUESTS; i++) {
+            responses.add(new CompletableResponseListener(client.newRequest(HOST, port)
+                    .method(HttpMethod.GET)
+                    .path(path)
+                    .scheme(scheme))
+                    .send());
+        }
+        for (var response: responses) {
+            Assert.assertEquals(HttpStatus.OK_200, response.get().getStatus());
+            Assert.assertEquals(HttpVersion.HTTP_2, response.get().getVersion());
+        }
+    }
+}
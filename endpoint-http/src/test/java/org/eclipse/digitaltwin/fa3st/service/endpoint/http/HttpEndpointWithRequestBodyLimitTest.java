@@ -0,0 +1,155 @@
+/**
+ * Copyright (c) 2025 the Eclipse FA³ST Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.eclipse.digitaltwin.fa3st.service.endpoint.http;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import org.eclipse.digitaltwin.aas4j.v3.model.Submodel;
+import org.eclipse.digitaltwin.aas4j.v3.model.impl.DefaultSubmodel;
+import org.eclipse.digitaltwin.fa3st.common.model.AASFull;
+import org.eclipse.digitaltwin.fa3st.common.model.api.StatusCode;
+import org.eclipse.digitaltwin.fa3st.common.model.api.request.submodel.PutSubmodelRequest;
+import org.eclipse.digitaltwin.fa3st.common.model.api.request.submodelrepository.PostSubmodelRequest;
+import org.eclipse.digitaltwin.fa3st.common.model.api.response.submodel.PutSubmodelResponse;
+import org.eclipse.digitaltwin.fa3st.common.model.api.response.submodelrepository.PostSubmodelResponse;
+import org.eclipse.digitaltwin.fa3st.common.util.EncodingHelper;
+import org.eclipse.digitaltwin.fa3st.common.util.PortHelper;
+import org.eclipse.digitaltwin.fa3st.service.Service;
+import org.eclipse.digitaltwin.fa3st.service.config.CoreConfig;
+import org.eclipse.digitaltwin.fa3st.service.filestorage.FileStorage;
+import org.eclipse.digitaltwin.fa3st.service.messagebus.MessageBus;
+import org.eclipse.digitaltwin.fa3st.service.persistence.Persistence;
+import org.eclipse.jetty.client.BytesRequestContent;
+import org.eclipse.jetty.client.ContentResponse;
+import org.eclipse.jetty.client.HttpClient;
+import org.eclipse.jetty.client.transport.HttpClientTransportDynamic;
+import org.eclipse.jetty.http.HttpMethod;
+import org.eclipse.jetty.http.HttpScheme;
+import org.eclipse.jetty.http.HttpStatus;
+import org.eclipse.jetty.io.ClientConnector;
+import org.eclipse.jetty.server.Server;
+import org.junit.Assert;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+
+public class HttpEndpointWithRequestBodyLimitTest extends AbstractHttpEndpointTest {
+
+    private static final int MAX_PUT_SUBMODEL_BODY_SIZE = 1024;
+
+    @BeforeClass
+    public static void init() throws Exception {
+        port = PortHelper.findFreePort();
+        persistence = mock(Persistence.class);
+        fileStorage = mock(FileStorage.class);
+
+        startServer();
+        startClient();
+    }
+
+
+    private static void startServer() throws Exception {
+        scheme = HttpScheme.HTTP.toString();
+        endpoint = new HttpEndpoint();
+        server = new Server();
+        service = spy(new Service(CoreConfig.DEFAULT, persistence, fileStorage, mock(MessageBus.class), List.of(endpoint), List.of()));
+        endpoint.init(
+                CoreConfig.DEFAULT,
+                HttpEndpointConfig.builder()
+                        .port(port)
+                        .cors(true)
+                        .ssl(false)
+                        .maxRequestBodySizeOverride(PutSubmodelRequest.class.getSimpleName(), MAX_PUT_SUBMODEL_BODY_SIZE)
+                        .build(),
+                service);
+        server.start();
+        service.start();
+    }
+
+
+    private static void startClient() throws Exception {
+        client = new HttpClient(new HttpClientTransportDynamic(new ClientConnector()));
+        client.start();
+    }
+
+
+    @Test
+    public void testRequestBodyTooLarge() throws Exception {
+        ContentResponse response = sendPutSubmodel(new byte[MAX_PUT_SUBMODEL_BODY_SIZE + 1]);
+        Assert.assertEquals(HttpStatus.PAYLOAD_TOO_LARGE_413, response.getStatus());
+        verify(service, never()).execute(any(), any(PutSubmodelRequest.class), any());
+    }
+
+
+    @Test
+    public void testRequestBodyWithinLimit() throws Exception {
+        Submodel submodel = new DefaultSubmodel.Builder()
+                .id(AASFull.SUBMODEL_1.getId())
+                .build();
+        byte[] body = serializer.write(submodel).getBytes(StandardCharsets.UTF_8);
+        Assert.assertTrue(body.length <= MAX_PUT_SUBMODEL_BODY_SIZE);
+        when(service.execute(any(), any(), any())).thenReturn(PutSubmodelResponse.builder()
+                .statusCode(StatusCode.SUCCESS_NO_CONTENT)
+                .build());
+        ContentResponse response = sendPutSubmodel(body);
+        Assert.assertEquals(HttpStatus.NO_CONTENT_204, response.getStatus());
+        verify(service).execute(any(), any(PutSubmodelRequest.class), any());
+    }
+
+
+    @Test
+    public void testRequestBodyLimitAppliesToConfiguredRequestTypeOnly() throws Exception {
+        Submodel expected = AASFull.SUBMODEL_1;
+        byte[] body = serializer.write(expected).getBytes(StandardCharsets.UTF_8);
+        Assert.assertTrue(body.length > MAX_PUT_SUBMODEL_BODY_SIZE);
+        when(service.execute(any(), any(), any())).thenReturn(PostSubmodelResponse.builder()
+                .statusCode(StatusCode.SUCCESS_CREATED)
+                .payload(expected)
+                .build());
+        ContentResponse response = client.newRequest(HOST, port)
+                .method(HttpMethod.POST)
+                .path(API_PREFIX + "/submodels")
+                .scheme(scheme)
+                .body(new BytesRequestContent("application/json", body))
+                .send();
+        Assert.assertEquals(HttpStatus.CREATED_201, response.getStatus());
+        verify(service).execute(any(), any(PostSubmodelRequest.class), any());
+    }
+
+
+    @Test
+    public void testDefaultRequestBodyLimits() {
+        HttpEndpointConfig config = HttpEndpointConfig.builder().build();
+        Assert.assertEquals(HttpEndpointConfig.DEFAULT_MAX_REQUEST_BODY_SIZE, config.getMaxRequestBodySize());
+        Assert.assertTrue(config.getMaxRequestBodySize() > 0);
+        Assert.assertTrue(config.getMaxRequestBodySizeOverrides().get("ImportRequest") > config.getMaxRequestBodySize());
+    }
+
+
+    private ContentResponse sendPutSubmodel(byte[] body) throws Exception {
+        return client.newRequest(HOST, port)
+                .method(HttpMethod.PUT)
+                .path(API_PREFIX + "/submodels/" + EncodingHelper.base64UrlEncode(AASFull.SUBMODEL_1.getId()))
+                .scheme(scheme)
+                .body(new BytesRequestContent("application/json", body))
+                .send();
+    }
+}
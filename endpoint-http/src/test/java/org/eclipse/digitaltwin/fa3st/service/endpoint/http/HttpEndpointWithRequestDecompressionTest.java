@@ -0,0 +1,145 @@
+/**
+ * Copyright (c) 2025 the Eclipse FA³ST Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.eclipse.digitaltwin.fa3st.service.endpoint.http;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.zip.GZIPOutputStream;
+import org.apache.hc.client5.http.classic.methods.HttpGet;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.core5.http.io.entity.EntityUtils;
+import org.eclipse.digitaltwin.aas4j.v3.model.Submodel;
+import org.eclipse.digitaltwin.fa3st.common.model.AASFull;
+import org.eclipse.digitaltwin.fa3st.common.model.api.StatusCode;
+import org.eclipse.digitaltwin.fa3st.common.model.api.paging.Page;
+import org.eclipse.digitaltwin.fa3st.common.model.api.request.submodelrepository.PostSubmodelRequest;
+import org.eclipse.digitaltwin.fa3st.common.model.api.response.submodelrepository.GetAllSubmodelsResponse;
+import org.eclipse.digitaltwin.fa3st.common.model.api.response.submodelrepository.PostSubmodelResponse;
+import org.eclipse.digitaltwin.fa3st.common.util.PortHelper;
+import org.eclipse.digitaltwin.fa3st.service.Service;
+import org.eclipse.digitaltwin.fa3st.service.config.CoreConfig;
+import org.eclipse.digitaltwin.fa3st.service.filestorage.FileStorage;
+import org.eclipse.digitaltwin.fa3st.service.messagebus.MessageBus;
+import org.eclipse.digitaltwin.fa3st.service.persistence.Persistence;
+import org.eclipse.jetty.client.BytesRequestContent;
+import org.eclipse.jetty.client.ContentResponse;
+import org.eclipse.jetty.client.HttpClient;
+import org.eclipse.jetty.client.transport.HttpClientTransportDynamic;
+import org.eclipse.jetty.http.HttpHeader;
+import org.eclipse.jetty.http.HttpMethod;
+import org.eclipse.jetty.http.HttpScheme;
+import org.eclipse.jetty.http.HttpStatus;
+import org.eclipse.jetty.io.ClientConnector;
+import org.eclipse.jetty.server.Server;
+import org.junit.Assert;
+import org.junit.BeforeClass;
+import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+
+
+public class HttpEndpointWithRequestDecompressionTest extends AbstractHttpEndpointTest {
+
+    private static final String GZIP = "gzip";
+
+    @BeforeClass
+    public static void init() throws Exception {
+        port = PortHelper.findFreePort();
+        persistence = mock(Persistence.class);
+        fileStorage = mock(FileStorage.class);
+
+        startServer();
+        startClient();
+    }
+
+
+    private static void startServer() throws Exception {
+        scheme = HttpScheme.HTTP.toString();
+        endpoint = new HttpEndpoint();
+        server = new Server();
+        service = spy(new Service(CoreConfig.DEFAULT, persistence, fileStorage, mock(MessageBus.class), List.of(endpoint), List.of()));
+        endpoint.init(
+                CoreConfig.DEFAULT,
+                HttpEndpointConfig.builder()
+                        .port(port)
+                        .cors(true)
+                        .ssl(false)
+                        .compression(false)
+                        .compressionDecompressRequests(true)
+                        .build(),
+                service);
+        server.start();
+        service.start();
+    }
+
+
+    private static void startClient() throws Exception {
+        client = new HttpClient(new HttpClientTransportDynamic(new ClientConnector()));
+        client.start();
+    }
+
+
+    @Test
+    public void testResponseNotCompressed() throws Exception {
+        Page<Submodel> expected = Page.of(AASFull.createEnvironment().getSubmodels());
+        when(service.execute(any(), any(), any())).thenReturn(GetAllSubmodelsResponse.builder()
+                .statusCode(StatusCode.SUCCESS)
+                .payload(expected)
+                .build());
+        HttpGet request = new HttpGet(String.format("%s://%s:%d%s/submodels", scheme, HOST, port, API_PREFIX));
+        request.addHeader(HttpHeader.ACCEPT_ENCODING.asString(), GZIP);
+        try (CloseableHttpClient rawClient = HttpClients.custom().disableContentCompression().build()) {
+            byte[] content = rawClient.execute(request, response -> {
+                Assert.assertEquals(HttpStatus.OK_200, response.getCode());
+                Assert.assertNull(response.getFirstHeader(HttpHeader.CONTENT_ENCODING.asString()));
+                return EntityUtils.toByteArray(response.getEntity());
+            });
+            Page<Submodel> actual = deserializer.read(new String(content, StandardCharsets.UTF_8), new TypeReference<Page<Submodel>>() {});
+            Assert.assertEquals(expected, actual);
+        }
+    }
+
+
+    @Test
+    public void testRequestDecompressed() throws Exception {
+        Submodel expected = AASFull.SUBMODEL_1;
+        when(service.execute(any(), any(), any())).thenReturn(PostSubmodelResponse.builder()
+                .statusCode(StatusCode.SUCCESS_CREATED)
+                .payload(expected)
+                .build());
+        ByteArrayOutputStream body = new ByteArrayOutputStream();
+        try (GZIPOutputStream out = new GZIPOutputStream(body)) {
+            out.write(serializer.write(expected).getBytes(StandardCharsets.UTF_8));
+        }
+        ContentResponse response = client.newRequest(HOST, port)
+                .method(HttpMethod.POST)
+                .path(API_PREFIX + "/submodels")
+                .scheme(scheme)
+                .headers(x -> x.put(HttpHeader.CONTENT_ENCODING, GZIP))
+                .body(new BytesRequestContent("application/json", body.toByteArray()))
+                .send();
+        Assert.assertEquals(HttpStatus.CREATED_201, response.getStatus());
+        ArgumentCaptor<PostSubmodelRequest> request = ArgumentCaptor.forClass(PostSubmodelRequest.class);
+        verify(service).execute(any(), request.capture(), any());
+        Assert.assertEquals(expected, request.getValue().getSubmodel());
+    }
+}
@@ -21,6 +21,8 @@ import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.github.fge.jsonpatch.mergepatch.JsonMergePatch;
 import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Random;
@@ -42,6 +44,8 @@ import org.eclipse.digitaltwin.aas4j.v3.model.impl.DefaultSpecificAssetId;
 import org.eclipse.digitaltwin.fa3st.common.dataformat.SerializationException;
 import org.eclipse.digitaltwin.fa3st.common.exception.InvalidRequestException;
 import org.eclipse.digitaltwin.fa3st.common.model.AASFull;
+import org.eclipse.digitaltwin.fa3st.common.model.IdShortPath;
+import org.eclipse.digitaltwin.fa3st.common.model.SubmodelElementIdentifier;
 import org.eclipse.digitaltwin.fa3st.common.model.TypedInMemoryFile;
 import org.eclipse.digitaltwin.fa3st.common.model.api.Request;
 import org.eclipse.digitaltwin.fa3st.common.model.api.modifier.Content;
@@ -119,6 +123,7 @@ import org.eclipse.digitaltwin.fa3st.service.endpoint.http.exception.MethodNotAl
 import org.eclipse.digitaltwin.fa3st.service.endpoint.http.model.HttpRequest;
 import org.eclipse.digitaltwin.fa3st.service.endpoint.http.serialization.HttpJsonApiSerializer;
 import org.eclipse.digitaltwin.fa3st.service.endpoint.http.util.HttpConstants;
+import org.eclipse.digitaltwin.fa3st.service.request.bulk.BulkReadValuesRequest;
 import org.junit.Assert;
 import org.junit.Test;
 
@@ -154,6 +159,36 @@ public class RequestMappingManagerTest {
     }
 
 
+    @Test
+    public void testBulkReadValues() throws InvalidRequestException, MethodNotAllowedException {
+        Request expected = BulkReadValuesRequest.builder()
+                .element(SubmodelElementIdentifier.builder()
+                        .submodelId(SUBMODEL.getId())
+                        .idShortPath(IdShortPath.parse(SUBMODEL_ELEMENT.getIdShort()))
+                        .build())
+                .build();
+        Request actual = mappingManager.map(HttpRequest.builder()
+                .method(HttpMethod.POST)
+                .path("bulk/read")
+                .body(String.format("[{\"submodelId\": \"%s\", \"idShortPath\": \"%s\"}]",
+                        SUBMODEL.getId(),
+                        SUBMODEL_ELEMENT.getIdShort())
+                        .getBytes())
+                .build());
+        Assert.assertEquals(expected, actual);
+    }
+
+
+    @Test
+    public void testBulkReadValuesInvalidBody() {
+        Assert.assertThrows(InvalidRequestException.class, () -> mappingManager.map(HttpRequest.builder()
+                .method(HttpMethod.POST)
+                .path("bulk/read")
+                .body(String.format("{\"submodelId\": \"%s\"}", SUBMODEL.getId()).getBytes())
+                .build()));
+    }
+
+
     @Test
     public void testDeleteAllAssetLinksById() throws InvalidRequestException, MethodNotAllowedException {
         Request expected = DeleteAllAssetLinksByIdRequest.builder()
@@ -1053,6 +1088,37 @@ public class RequestMappingManagerTest {
     }
 
 
+    @Test
+    public void testPutFileByPathFromBodyFile() throws InvalidRequestException, IOException {
+        byte[] content = new byte[1024 * 1024];
+        new Random().nextBytes(content);
+        Path bodyFile = Files.createTempFile("multipart", null);
+        try {
+            Files.write(bodyFile, generateMultipartBodyRandomFile(content, "test.pdf", ContentType.APPLICATION_PDF));
+            Request expected = PutFileByPathRequest.builder()
+                    .submodelId(SUBMODEL.getId())
+                    .path(ReferenceHelper.toPath(SUBMODEL_ELEMENT_REF))
+                    .content(new TypedInMemoryFile.Builder()
+                            .path("test.pdf")
+                            .content(content)
+                            .contentType(ContentType.APPLICATION_PDF.getMimeType())
+                            .build())
+                    .build();
+            Request actual = mappingManager.map(HttpRequest.builder()
+                    .method(HttpMethod.PUT)
+                    .path("submodels/" + EncodingHelper.base64UrlEncode(SUBMODEL.getId()) + "/submodel-elements/"
+                            + ReferenceHelper.toPath(SUBMODEL_ELEMENT_REF) + "/attachment")
+                    .header(HttpConstants.HEADER_CONTENT_TYPE, "multipart/form-data; boundary=boundary")
+                    .bodyFile(bodyFile)
+                    .build());
+            Assert.assertEquals(expected, actual);
+        }
+        finally {
+            Files.deleteIfExists(bodyFile);
+        }
+    }
+
+
     @Test
     public void testPutSubmodel() throws SerializationException, InvalidRequestException, MethodNotAllowedException {
         Request expected = PutSubmodelRequest.builder()
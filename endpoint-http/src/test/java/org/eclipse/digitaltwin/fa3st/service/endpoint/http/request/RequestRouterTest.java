@@ -0,0 +1,126 @@
+/**
+ * Copyright (c) 2025 the Eclipse FA³ST Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.eclipse.digitaltwin.fa3st.service.endpoint.http.request;
+
+import static org.mockito.Mockito.mock;
+
+import com.github.curiousoddman.rgxgen.RgxGen;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+import org.eclipse.digitaltwin.fa3st.common.model.http.HttpMethod;
+import org.eclipse.digitaltwin.fa3st.common.util.RegExHelper;
+import org.eclipse.digitaltwin.fa3st.service.ServiceContext;
+import org.eclipse.digitaltwin.fa3st.service.endpoint.http.request.mapper.AbstractRequestMapper;
+import org.junit.Assert;
+import org.junit.Test;
+
+
+public class RequestRouterTest {
+
+    private static final int EXAMPLES_PER_PATTERN = 20;
+    private static final Pattern NEGATIVE_LOOKAHEAD = Pattern.compile("\\(\\?![^)]*\\)");
+    private static final Pattern GROUP_NAME = Pattern.compile("\\(\\?<([a-zA-Z][a-zA-Z0-9]*)>");
+    private static final List<String> ADDITIONAL_PATHS = List.of(
+            "",
+            "shells",
+            "shells/",
+            "shells/$reference",
+            "shells/$reference/$metadata",
+            "shells/$reference/$value",
+            "shells/$unknown",
+            "submodels/$reference",
+            "submodels/abc/$referenceX",
+            "submodels/abc/submodel-elements/a.b/$value",
+            "submodels/abc/submodel-elements/a.b/$value/",
+            "shells/abc/submodels/def/submodel-elements/a.b/invoke/$value",
+            "unknown/path");
+
+    private final List<AbstractRequestMapper> mappers;
+    private final RequestRouter router;
+
+    public RequestRouterTest() {
+        mappers = new RequestMappingManager(mock(ServiceContext.class)) {
+            List<AbstractRequestMapper> getMappers() {
+                return this.mappers;
+            }
+        }.getMappers();
+        router = new RequestRouter(mappers);
+    }
+
+
+    @Test
+    public void testRouteEquivalentToRegularExpressions() {
+        for (var mapper: mappers) {
+            for (var urlPattern: mapper.getUrlPatterns()) {
+                // lookaheads only restrict matches, removing them still generates relevant examples
+                RgxGen generator = RgxGen.parse(NEGATIVE_LOOKAHEAD.matcher(RegExHelper.removeGroupNames(urlPattern)).replaceAll(""));
+                for (int i = 0; i < EXAMPLES_PER_PATTERN; i++) {
+                    assertRouteEquivalentToRegularExpressions(generator.generate());
+                }
+            }
+        }
+        ADDITIONAL_PATHS.forEach(this::assertRouteEquivalentToRegularExpressions);
+    }
+
+
+    @Test
+    public void testRouteByMethod() {
+        String path = "submodels/abc/submodel-elements/a.b";
+        Map<HttpMethod, List<RequestRouter.Match>> matches = router.route(path).stream()
+                .collect(Collectors.groupingBy(x -> x.getMapper().getMethod()));
+        for (var method: HttpMethod.values()) {
+            Assert.assertEquals(
+                    matches.getOrDefault(method, List.of()).stream().map(RequestRouter.Match::getMapper).collect(Collectors.toSet()),
+                    router.route(method, path).stream().map(RequestRouter.Match::getMapper).collect(Collectors.toSet()));
+        }
+    }
+
+
+    @Test
+    public void testRouteExtractsUrlParameters() {
+        List<RequestRouter.Match> matches = router.route(HttpMethod.GET, "shells/abc/submodels/def/submodel-elements/a.b/$value");
+        Assert.assertEquals(1, matches.size());
+        Assert.assertEquals(
+                List.of("a.b", "abc", "def"),
+                matches.get(0).getUrlParameters().values().stream().sorted().toList());
+    }
+
+
+    private void assertRouteEquivalentToRegularExpressions(String path) {
+        Map<AbstractRequestMapper, Map<String, String>> expected = new HashMap<>();
+        for (var mapper: mappers) {
+            for (var urlPattern: mapper.getUrlPatterns()) {
+                Matcher matcher = Pattern.compile(urlPattern).matcher(path);
+                if (matcher.matches()) {
+                    Map<String, String> urlParameters = new HashMap<>();
+                    Matcher groupNames = GROUP_NAME.matcher(urlPattern);
+                    while (groupNames.find()) {
+                        if (Objects.nonNull(matcher.group(groupNames.group(1)))) {
+                            urlParameters.put(groupNames.group(1), matcher.group(groupNames.group(1)));
+                        }
+                    }
+                    expected.putIfAbsent(mapper, urlParameters);
+                }
+            }
+        }
+        Map<AbstractRequestMapper, Map<String, String>> actual = router.route(path).stream()
+                .collect(Collectors.toMap(RequestRouter.Match::getMapper, RequestRouter.Match::getUrlParameters));
+        Assert.assertEquals(String.format("routing differs from matching regular expressions (path: %s)", path), expected, actual);
+    }
+}
@@ -0,0 +1,125 @@
+/**
+ * Copyright (c) 2025 the Eclipse FA³ST Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.eclipse.digitaltwin.fa3st.service.endpoint.http.response;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.WriteListener;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.List;
+import org.eclipse.digitaltwin.aas4j.v3.model.DataTypeDefXsd;
+import org.eclipse.digitaltwin.aas4j.v3.model.impl.DefaultProperty;
+import org.eclipse.digitaltwin.fa3st.common.model.IdShortPath;
+import org.eclipse.digitaltwin.fa3st.common.model.SubmodelElementIdentifier;
+import org.eclipse.digitaltwin.fa3st.common.model.api.StatusCode;
+import org.eclipse.digitaltwin.fa3st.service.ServiceContext;
+import org.eclipse.digitaltwin.fa3st.service.request.bulk.BulkReadValuesRequest;
+import org.eclipse.digitaltwin.fa3st.service.request.bulk.BulkReadValuesResponse;
+import org.eclipse.digitaltwin.fa3st.service.request.bulk.BulkValueResult;
+import org.eclipse.jetty.http.HttpStatus;
+import org.junit.Assert;
+import org.junit.Test;
+
+
+public class ResponseMappingManagerTest {
+
+    private static final String SUBMODEL_ID = "http://example.org/submodel";
+    private static final SubmodelElementIdentifier EXISTING_ELEMENT = SubmodelElementIdentifier.builder()
+            .submodelId(SUBMODEL_ID)
+            .idShortPath(IdShortPath.parse("property"))
+            .build();
+    private static final SubmodelElementIdentifier MISSING_ELEMENT = SubmodelElementIdentifier.builder()
+            .submodelId(SUBMODEL_ID)
+            .idShortPath(IdShortPath.parse("missing"))
+            .build();
+    private final ResponseMappingManager mappingManager;
+
+    public ResponseMappingManagerTest() {
+        mappingManager = new ResponseMappingManager(mock(ServiceContext.class));
+    }
+
+
+    @Test
+    public void testBulkReadValues() throws Exception {
+        BulkReadValuesRequest request = BulkReadValuesRequest.builder()
+                .element(EXISTING_ELEMENT)
+                .element(MISSING_ELEMENT)
+                .build();
+        BulkReadValuesResponse response = BulkReadValuesResponse.builder()
+                .payload(List.of(
+                        BulkValueResult.builder()
+                                .element(EXISTING_ELEMENT)
+                                .success()
+                                .value(new DefaultProperty.Builder()
+                                        .idShort("property")
+                                        .valueType(DataTypeDefXsd.INT)
+                                        .value("42")
+                                        .build())
+                                .build(),
+                        BulkValueResult.builder()
+                                .element(MISSING_ELEMENT)
+                                .statusCode(StatusCode.CLIENT_ERROR_RESOURCE_NOT_FOUND)
+                                .message("resource not found")
+                                .build()))
+                .success()
+                .build();
+        ByteArrayOutputStream body = new ByteArrayOutputStream();
+        HttpServletResponse httpResponse = mockResponse(body);
+        mappingManager.map(request, response, httpResponse);
+        verify(httpResponse).setStatus(HttpStatus.OK_200);
+        JsonNode actual = new ObjectMapper().readTree(body.toByteArray());
+        Assert.assertTrue(actual.isArray());
+        Assert.assertEquals(2, actual.size());
+        Assert.assertEquals(SUBMODEL_ID, actual.get(0).get("submodelId").asText());
+        Assert.assertEquals("property", actual.get(0).get("idShortPath").asText());
+        Assert.assertEquals(HttpStatus.OK_200, actual.get(0).get("status").asInt());
+        Assert.assertTrue(actual.get(0).has("value"));
+        Assert.assertFalse(actual.get(0).has("message"));
+        Assert.assertEquals("missing", actual.get(1).get("idShortPath").asText());
+        Assert.assertEquals(HttpStatus.NOT_FOUND_404, actual.get(1).get("status").asInt());
+        Assert.assertEquals("resource not found", actual.get(1).get("message").asText());
+        Assert.assertFalse(actual.get(1).has("value"));
+    }
+
+
+    private static HttpServletResponse mockResponse(ByteArrayOutputStream body) throws IOException {
+        HttpServletResponse response = mock(HttpServletResponse.class);
+        when(response.getOutputStream()).thenReturn(new ServletOutputStream() {
+            @Override
+            public boolean isReady() {
+                return true;
+            }
+
+
+            @Override
+            public void setWriteListener(WriteListener writeListener) {
+                // intentionally empty
+            }
+
+
+            @Override
+            public void write(int b) {
+                body.write(b);
+            }
+        });
+        return response;
+    }
+}
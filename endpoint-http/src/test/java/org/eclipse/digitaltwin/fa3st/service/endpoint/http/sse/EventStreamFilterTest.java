@@ -0,0 +1,98 @@
+/**
+ * Copyright (c) 2025 the Eclipse FA³ST Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.eclipse.digitaltwin.fa3st.service.endpoint.http.sse;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Optional;
+import java.util.Set;
+import org.eclipse.digitaltwin.aas4j.v3.model.KeyTypes;
+import org.eclipse.digitaltwin.aas4j.v3.model.Reference;
+import org.eclipse.digitaltwin.aas4j.v3.model.ReferenceTypes;
+import org.eclipse.digitaltwin.aas4j.v3.model.impl.DefaultKey;
+import org.eclipse.digitaltwin.aas4j.v3.model.impl.DefaultReference;
+import org.eclipse.digitaltwin.fa3st.common.util.ReferenceBuilder;
+import org.junit.Test;
+
+
+public class EventStreamFilterTest {
+
+    private static final String SUBMODEL_ID = "http://example.org/submodel";
+    private static final Reference ELEMENT = new ReferenceBuilder()
+            .submodel(SUBMODEL_ID)
+            .element("collection")
+            .element("property")
+            .build();
+    private static final Reference SEMANTIC_ID = semanticId("http://example.org/semantic/property");
+
+    @Test
+    public void testEventTypes() {
+        EventStreamFilter filter = new EventStreamFilter(Set.of(EventType.VALUE, EventType.DELETE), null, null, null);
+        assertTrue(filter.matches(event(EventType.VALUE, ELEMENT, null)));
+        assertTrue(filter.matches(event(EventType.DELETE, ELEMENT, null)));
+        assertFalse(filter.matches(event(EventType.CREATE, ELEMENT, null)));
+        assertFalse(filter.matches(event(EventType.UPDATE, ELEMENT, null)));
+    }
+
+
+    @Test
+    public void testSubmodelId() {
+        EventStreamFilter filter = new EventStreamFilter(Set.of(EventType.VALUE), SUBMODEL_ID, null, null);
+        assertTrue(filter.matches(event(EventType.VALUE, ELEMENT, null)));
+        assertFalse(filter.matches(event(EventType.VALUE, ReferenceBuilder.forSubmodel("http://example.org/other", "property"), null)));
+    }
+
+
+    @Test
+    public void testIdShortPathPrefix() {
+        assertTrue(new EventStreamFilter(Set.of(EventType.VALUE), null, "collection", null).matches(event(EventType.VALUE, ELEMENT, null)));
+        assertTrue(new EventStreamFilter(Set.of(EventType.VALUE), null, "collection.property", null).matches(event(EventType.VALUE, ELEMENT, null)));
+        assertFalse(new EventStreamFilter(Set.of(EventType.VALUE), null, "coll", null).matches(event(EventType.VALUE, ELEMENT, null)));
+        assertFalse(new EventStreamFilter(Set.of(EventType.VALUE), null, "collection.property2", null).matches(event(EventType.VALUE, ELEMENT, null)));
+    }
+
+
+    @Test
+    public void testSemanticId() {
+        EventStreamFilter filter = new EventStreamFilter(Set.of(EventType.VALUE), null, null, SEMANTIC_ID);
+        assertTrue(filter.matches(event(EventType.VALUE, ELEMENT, semanticId("http://example.org/semantic/property"))));
+        assertFalse(filter.matches(event(EventType.VALUE, ELEMENT, semanticId("http://example.org/semantic/other"))));
+        assertFalse(filter.matches(event(EventType.VALUE, ELEMENT, null)));
+    }
+
+
+    @Test
+    public void testFrameWithMultiLineData() {
+        EventStreamEvent event = new EventStreamEvent(42, EventType.VALUE, ELEMENT, Optional::empty, "ValueChangeEventMessage", "{\n  \"a\": 1\r\n}");
+        assertEquals("id: 42\nevent: ValueChangeEventMessage\ndata: {\ndata:   \"a\": 1\ndata: }\n\n", event.getFrame());
+    }
+
+
+    private static EventStreamEvent event(EventType type, Reference element, Reference semanticId) {
+        return new EventStreamEvent(1, type, element, () -> Optional.ofNullable(semanticId), type.getMessageType().getSimpleName(), "{}");
+    }
+
+
+    private static Reference semanticId(String value) {
+        return new DefaultReference.Builder()
+                .type(ReferenceTypes.EXTERNAL_REFERENCE)
+                .keys(new DefaultKey.Builder()
+                        .type(KeyTypes.GLOBAL_REFERENCE)
+                        .value(value)
+                        .build())
+                .build();
+    }
+}
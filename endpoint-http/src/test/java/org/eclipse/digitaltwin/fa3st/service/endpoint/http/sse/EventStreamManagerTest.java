@@ -0,0 +1,224 @@
+/**
+ * Copyright (c) 2025 the Eclipse FA³ST Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.eclipse.digitaltwin.fa3st.service.endpoint.http.sse;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import jakarta.servlet.AsyncContext;
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.ServletResponse;
+import jakarta.servlet.WriteListener;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import org.eclipse.digitaltwin.aas4j.v3.model.KeyTypes;
+import org.eclipse.digitaltwin.aas4j.v3.model.Reference;
+import org.eclipse.digitaltwin.aas4j.v3.model.ReferenceTypes;
+import org.eclipse.digitaltwin.aas4j.v3.model.impl.DefaultKey;
+import org.eclipse.digitaltwin.aas4j.v3.model.impl.DefaultProperty;
+import org.eclipse.digitaltwin.aas4j.v3.model.impl.DefaultReference;
+import org.eclipse.digitaltwin.fa3st.common.model.messagebus.SubscriptionInfo;
+import org.eclipse.digitaltwin.fa3st.common.model.messagebus.event.change.ValueChangeEventMessage;
+import org.eclipse.digitaltwin.fa3st.common.model.value.PropertyValue;
+import org.eclipse.digitaltwin.fa3st.common.model.value.primitive.IntValue;
+import org.eclipse.digitaltwin.fa3st.common.util.ReferenceBuilder;
+import org.eclipse.digitaltwin.fa3st.service.ServiceContext;
+import org.eclipse.digitaltwin.fa3st.service.endpoint.http.HttpEndpointConfig;
+import org.eclipse.digitaltwin.fa3st.service.messagebus.MessageBus;
+import org.eclipse.jetty.util.thread.Scheduler;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+
+
+public class EventStreamManagerTest {
+
+    private static final String SUBMODEL_ID = "http://example.org/submodel";
+    private static final Reference PROPERTY_1 = ReferenceBuilder.forSubmodel(SUBMODEL_ID, "property1");
+    private static final Reference PROPERTY_2 = ReferenceBuilder.forSubmodel(SUBMODEL_ID, "property2");
+    private static final Reference SEMANTIC_ID = new DefaultReference.Builder()
+            .type(ReferenceTypes.EXTERNAL_REFERENCE)
+            .keys(new DefaultKey.Builder()
+                    .type(KeyTypes.GLOBAL_REFERENCE)
+                    .value("http://example.org/semantic/property1")
+                    .build())
+            .build();
+    private ServiceContext serviceContext;
+    private MessageBus messageBus;
+    private Scheduler scheduler;
+    private ArgumentCaptor<SubscriptionInfo> subscriptions;
+
+    @Before
+    public void init() throws Exception {
+        serviceContext = mock(ServiceContext.class);
+        messageBus = mock(MessageBus.class);
+        scheduler = mock(Scheduler.class);
+        subscriptions = ArgumentCaptor.forClass(SubscriptionInfo.class);
+        when(serviceContext.getMessageBus()).thenReturn(messageBus);
+        when(messageBus.subscribe(subscriptions.capture())).thenReturn(null);
+    }
+
+
+    @Test
+    public void testEventDelivery() throws Exception {
+        EventStreamManager manager = start(HttpEndpointConfig.builder().build());
+        Connection connection = connect(manager, new EventStreamFilter(Set.of(EventType.VALUE), null, null, null), Optional.empty());
+        publish(PROPERTY_1, 1);
+        publish(PROPERTY_2, 2);
+        String actual = connection.getContent();
+        assertTrue(actual.startsWith("retry: "));
+        assertTrue(actual.contains("id: 1\nevent: ValueChangeEventMessage\n"));
+        assertTrue(actual.contains("id: 2\nevent: ValueChangeEventMessage\n"));
+        assertTrue(actual.indexOf("id: 1\n") < actual.indexOf("id: 2\n"));
+        assertEquals(1, manager.getClientCount());
+    }
+
+
+    @Test
+    public void testReplayWithLastEventId() throws Exception {
+        EventStreamManager manager = start(HttpEndpointConfig.builder()
+                .sseHistorySize(10)
+                .build());
+        publish(PROPERTY_1, 1);
+        publish(PROPERTY_1, 2);
+        publish(PROPERTY_1, 3);
+        Connection connection = connect(manager, new EventStreamFilter(Set.of(EventType.VALUE), null, null, null), Optional.of(1L));
+        publish(PROPERTY_1, 4);
+        String actual = connection.getContent();
+        assertFalse(actual.contains("id: 1\n"));
+        assertTrue(actual.contains("id: 2\n"));
+        assertTrue(actual.contains("id: 3\n"));
+        assertTrue(actual.contains("id: 4\n"));
+        assertTrue(actual.indexOf("id: 3\n") < actual.indexOf("id: 4\n"));
+    }
+
+
+    @Test
+    public void testHeartbeat() throws Exception {
+        EventStreamManager manager = start(HttpEndpointConfig.builder()
+                .sseHeartbeatInterval(1000)
+                .build());
+        Connection connection = connect(manager, new EventStreamFilter(Set.of(EventType.VALUE), null, null, null), Optional.empty());
+        ArgumentCaptor<Runnable> heartbeat = ArgumentCaptor.forClass(Runnable.class);
+        verify(scheduler).schedule(heartbeat.capture(), eq(1000L), eq(TimeUnit.MILLISECONDS));
+        heartbeat.getValue().run();
+        assertTrue(connection.getContent().endsWith(": heartbeat\n\n"));
+        // heartbeat reschedules itself while running
+        verify(scheduler, times(2)).schedule(heartbeat.capture(), eq(1000L), eq(TimeUnit.MILLISECONDS));
+        manager.stop();
+        heartbeat.getValue().run();
+        verify(scheduler, times(2)).schedule(any(Runnable.class), anyLong(), any(TimeUnit.class));
+    }
+
+
+    @Test
+    public void testSemanticIdResolvedFromPersistence() throws Exception {
+        when(serviceContext.getSubmodelElement(eq(PROPERTY_1), any())).thenReturn(new DefaultProperty.Builder()
+                .idShort("property1")
+                .semanticId(SEMANTIC_ID)
+                .build());
+        when(serviceContext.getSubmodelElement(eq(PROPERTY_2), any())).thenReturn(new DefaultProperty.Builder()
+                .idShort("property2")
+                .build());
+        EventStreamManager manager = start(HttpEndpointConfig.builder().build());
+        Connection connection = connect(manager, new EventStreamFilter(Set.of(EventType.VALUE), null, null, SEMANTIC_ID), Optional.empty());
+        publish(PROPERTY_1, 1);
+        publish(PROPERTY_2, 2);
+        publish(PROPERTY_1, 3);
+        String actual = connection.getContent();
+        assertTrue(actual.contains("id: 1\n"));
+        assertFalse(actual.contains("id: 2\n"));
+        assertTrue(actual.contains("id: 3\n"));
+        // semanticIds are cached and never resolved by executing a request
+        verify(serviceContext).getSubmodelElement(eq(PROPERTY_1), any());
+        verify(serviceContext, never()).execute(any());
+        verify(serviceContext, never()).execute(any(), any());
+    }
+
+
+    private EventStreamManager start(HttpEndpointConfig config) throws Exception {
+        EventStreamManager result = new EventStreamManager(config, serviceContext, Runnable::run, scheduler);
+        result.start();
+        return result;
+    }
+
+
+    private void publish(Reference element, int value) {
+        ValueChangeEventMessage message = new ValueChangeEventMessage();
+        message.setElement(element);
+        PropertyValue propertyValue = new PropertyValue();
+        propertyValue.setValue(new IntValue(value));
+        message.setNewValue(propertyValue);
+        List<SubscriptionInfo> handlers = subscriptions.getAllValues();
+        handlers.stream()
+                .filter(x -> x.getSubscribedEvents().stream().anyMatch(y -> y.isAssignableFrom(message.getClass())))
+                .forEach(x -> x.getHandler().accept(message));
+    }
+
+
+    private static Connection connect(EventStreamManager manager, EventStreamFilter filter, Optional<Long> lastEventId) throws Exception {
+        Connection result = new Connection();
+        manager.connect(result.asyncContext, filter, lastEventId);
+        return result;
+    }
+
+
+    private static class Connection {
+
+        private final ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+        private final AsyncContext asyncContext;
+
+        private Connection() throws Exception {
+            ServletResponse response = mock(ServletResponse.class);
+            when(response.getOutputStream()).thenReturn(new ServletOutputStream() {
+                @Override
+                public boolean isReady() {
+                    return true;
+                }
+
+
+                @Override
+                public void setWriteListener(WriteListener writeListener) {
+                    // intentionally empty
+                }
+
+
+                @Override
+                public void write(int b) {
+                    buffer.write(b);
+                }
+            });
+            asyncContext = mock(AsyncContext.class);
+            when(asyncContext.getResponse()).thenReturn(response);
+        }
+
+
+        private String getContent() {
+            return buffer.toString(StandardCharsets.UTF_8);
+        }
+    }
+}
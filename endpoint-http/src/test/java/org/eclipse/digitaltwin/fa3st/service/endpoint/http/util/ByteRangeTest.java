@@ -0,0 +1,73 @@
+/**
+ * Copyright (c) 2025 the Eclipse FA³ST Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.eclipse.digitaltwin.fa3st.service.endpoint.http.util;
+
+import java.util.List;
+import java.util.Optional;
+import org.junit.Assert;
+import org.junit.Test;
+
+
+public class ByteRangeTest {
+
+    private static final long LENGTH = 100;
+
+    @Test
+    public void testNoOrUnsupportedHeader() {
+        Assert.assertEquals(Optional.empty(), ByteRange.parse(null, LENGTH));
+        Assert.assertEquals(Optional.empty(), ByteRange.parse("items=0-1", LENGTH));
+    }
+
+
+    @Test
+    public void testInvalidHeaderIgnored() {
+        Assert.assertEquals(Optional.empty(), ByteRange.parse("bytes=", LENGTH));
+        Assert.assertEquals(Optional.empty(), ByteRange.parse("bytes=abc", LENGTH));
+        Assert.assertEquals(Optional.empty(), ByteRange.parse("bytes=5-1", LENGTH));
+        Assert.assertEquals(Optional.empty(), ByteRange.parse("bytes=1-x", LENGTH));
+    }
+
+
+    @Test
+    public void testSingleRange() {
+        Assert.assertEquals(Optional.of(List.of(new ByteRange(0, 9))), ByteRange.parse("bytes=0-9", LENGTH));
+        Assert.assertEquals(Optional.of(List.of(new ByteRange(90, 99))), ByteRange.parse("bytes=90-", LENGTH));
+        Assert.assertEquals(Optional.of(List.of(new ByteRange(90, 99))), ByteRange.parse("bytes=90-1000", LENGTH));
+        Assert.assertEquals(Optional.of(List.of(new ByteRange(80, 99))), ByteRange.parse("bytes=-20", LENGTH));
+        Assert.assertEquals(Optional.of(List.of(new ByteRange(0, 99))), ByteRange.parse("bytes=-1000", LENGTH));
+    }
+
+
+    @Test
+    public void testMultipleRangesMergedAndSorted() {
+        Assert.assertEquals(
+                Optional.of(List.of(new ByteRange(0, 19), new ByteRange(50, 59), new ByteRange(95, 99))),
+                ByteRange.parse("bytes=95-, 50-59, 10-19, 0-9, 5-12", LENGTH));
+    }
+
+
+    @Test
+    public void testUnsatisfiable() {
+        Assert.assertEquals(Optional.of(List.of()), ByteRange.parse("bytes=100-", LENGTH));
+        Assert.assertEquals(Optional.of(List.of()), ByteRange.parse("bytes=-0", LENGTH));
+        Assert.assertEquals(Optional.of(List.of()), ByteRange.parse("bytes=0-", 0));
+    }
+
+
+    @Test
+    public void testContentRange() {
+        Assert.assertEquals("bytes 10-19/100", new ByteRange(10, 19).toContentRange(LENGTH));
+        Assert.assertEquals(10, new ByteRange(10, 19).getLength());
+    }
+}
@@ -0,0 +1,96 @@
+/**
+ * Copyright (c) 2025 the Eclipse FA³ST Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.eclipse.digitaltwin.fa3st.service.endpoint.http.util;
+
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.WriteListener;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import org.eclipse.digitaltwin.fa3st.common.model.api.StatusCode;
+import org.eclipse.jetty.http.HttpStatus;
+import org.junit.Assert;
+import org.junit.Test;
+
+
+public class HttpHelperTest {
+
+    private static final String LARGE_CONTENT = "\"" + "ä".repeat(100 * 1024) + "\"";
+
+    @Test
+    public void testSendJsonSmallPayload() throws IOException {
+        ByteArrayOutputStream body = new ByteArrayOutputStream();
+        HttpServletResponse response = mockResponse(body, Long.MAX_VALUE);
+        String content = "{\"foo\":\"bär\"}";
+        HttpHelper.sendJson(response, StatusCode.SUCCESS, content);
+        verify(response).setContentLengthLong(content.getBytes(StandardCharsets.UTF_8).length);
+        Assert.assertEquals(content, body.toString(StandardCharsets.UTF_8));
+    }
+
+
+    @Test
+    public void testSendJsonLargePayloadStreamed() throws IOException {
+        ByteArrayOutputStream body = new ByteArrayOutputStream();
+        HttpServletResponse response = mockResponse(body, Long.MAX_VALUE);
+        HttpHelper.sendJson(response, StatusCode.SUCCESS, LARGE_CONTENT);
+        verify(response, never()).setContentLengthLong(anyLong());
+        Assert.assertEquals(LARGE_CONTENT, body.toString(StandardCharsets.UTF_8));
+    }
+
+
+    @Test
+    public void testSendJsonLargePayloadAbortedAfterPartialWrite() throws IOException {
+        ByteArrayOutputStream body = new ByteArrayOutputStream();
+        HttpServletResponse response = mockResponse(body, 16 * 1024);
+        when(response.isCommitted()).thenReturn(true);
+        HttpHelper.sendJson(response, StatusCode.SUCCESS, LARGE_CONTENT);
+        verify(response).setStatus(HttpStatus.OK_200);
+        verify(response, never()).setStatus(HttpStatus.INTERNAL_SERVER_ERROR_500);
+        Assert.assertEquals(16 * 1024, body.size());
+    }
+
+
+    private static HttpServletResponse mockResponse(ByteArrayOutputStream body, long failAfter) throws IOException {
+        HttpServletResponse response = mock(HttpServletResponse.class);
+        when(response.getOutputStream()).thenReturn(new ServletOutputStream() {
+            @Override
+            public boolean isReady() {
+                return true;
+            }
+
+
+            @Override
+            public void setWriteListener(WriteListener writeListener) {
+                // intentionally empty
+            }
+
+
+            @Override
+            public void write(int b) throws IOException {
+                if (body.size() >= failAfter) {
+                    throw new IOException("connection reset");
+                }
+                body.write(b);
+            }
+        });
+        return response;
+    }
+}
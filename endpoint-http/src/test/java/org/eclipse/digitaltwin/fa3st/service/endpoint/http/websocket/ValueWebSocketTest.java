@@ -0,0 +1,167 @@
+/**
+ * Copyright (c) 2025 the Eclipse FA³ST Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.eclipse.digitaltwin.fa3st.service.endpoint.http.websocket;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.List;
+import org.eclipse.digitaltwin.aas4j.v3.model.DataTypeDefXsd;
+import org.eclipse.digitaltwin.aas4j.v3.model.Property;
+import org.eclipse.digitaltwin.aas4j.v3.model.Reference;
+import org.eclipse.digitaltwin.aas4j.v3.model.impl.DefaultProperty;
+import org.eclipse.digitaltwin.fa3st.common.model.api.StatusCode;
+import org.eclipse.digitaltwin.fa3st.common.model.api.modifier.Content;
+import org.eclipse.digitaltwin.fa3st.common.model.api.modifier.OutputModifier;
+import org.eclipse.digitaltwin.fa3st.common.model.api.request.PatchSubmodelElementValueByPathRequest;
+import org.eclipse.digitaltwin.fa3st.common.model.api.response.PatchSubmodelElementValueByPathResponse;
+import org.eclipse.digitaltwin.fa3st.common.model.api.response.submodel.GetSubmodelElementByPathResponse;
+import org.eclipse.digitaltwin.fa3st.common.util.ReferenceBuilder;
+import org.eclipse.digitaltwin.fa3st.service.ServiceContext;
+import org.eclipse.digitaltwin.fa3st.service.endpoint.http.serialization.HttpJsonSerialization;
+import org.eclipse.digitaltwin.fa3st.service.request.admission.AdmissionController;
+import org.eclipse.jetty.websocket.api.Callback;
+import org.eclipse.jetty.websocket.api.Session;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+
+
+public class ValueWebSocketTest {
+
+    private static final String SUBMODEL_ID = "http://example.org/submodel";
+    private static final String PATH = "collection.property";
+    private static final Reference ELEMENT = new ReferenceBuilder()
+            .submodel(SUBMODEL_ID)
+            .idShortPath(PATH)
+            .build();
+    private ServiceContext serviceContext;
+    private Session session;
+    private WebSocketManager manager;
+    private ValueWebSocket webSocket;
+    private List<String> sent;
+
+    @Before
+    public void init() {
+        serviceContext = mock(ServiceContext.class);
+        when(serviceContext.getAdmissionController()).thenReturn(AdmissionController.DISABLED);
+        session = mock(Session.class);
+        when(session.isOpen()).thenReturn(true);
+        sent = new ArrayList<>();
+        doAnswer(invocation -> {
+            sent.add(invocation.getArgument(0));
+            ((Callback) invocation.getArgument(1)).succeed();
+            return null;
+        }).when(session).sendText(any(), any());
+        manager = new WebSocketManager(serviceContext, null, Runnable::run);
+        webSocket = manager.create();
+        webSocket.onWebSocketOpen(session);
+    }
+
+
+    @Test
+    public void testWrite() {
+        when(serviceContext.execute(any(), any())).thenReturn(PatchSubmodelElementValueByPathResponse.builder()
+                .statusCode(StatusCode.SUCCESS_NO_CONTENT)
+                .build());
+        webSocket.onWebSocketText(String.format("{\"id\":1,\"type\":\"write\",\"submodelId\":\"%s\",\"path\":\"%s\",\"value\":42}", SUBMODEL_ID, PATH));
+        ArgumentCaptor<PatchSubmodelElementValueByPathRequest> request = ArgumentCaptor.forClass(PatchSubmodelElementValueByPathRequest.class);
+        verify(serviceContext).execute(any(), request.capture());
+        assertEquals(SUBMODEL_ID, request.getValue().getSubmodelId());
+        assertEquals(PATH, request.getValue().getPath());
+        assertEquals("42", request.getValue().getRawValue());
+        assertEquals(List.of("{\"id\":1,\"type\":\"ack\",\"status\":204}"), sent);
+        // the next message is only read once the previous one has been acknowledged
+        verify(session, times(2)).demand();
+    }
+
+
+    @Test
+    public void testInvalidMessage() {
+        webSocket.onWebSocketText("{\"id\":\"a\",\"type\":\"write\"}");
+        webSocket.onWebSocketText("not JSON");
+        assertEquals(2, sent.size());
+        assertEquals("{\"id\":\"a\",\"type\":\"ack\",\"status\":400,\"message\":\"message must contain 'type', 'submodelId' and 'path'\"}", sent.get(0));
+        assertEquals("{\"type\":\"ack\",\"status\":400,\"message\":\"invalid JSON message\"}", sent.get(1));
+    }
+
+
+    @Test
+    public void testSubscribe() throws Exception {
+        Property property = new DefaultProperty.Builder()
+                .idShort("property")
+                .valueType(DataTypeDefXsd.INT)
+                .value("1")
+                .build();
+        when(serviceContext.execute(any(), any())).thenReturn(GetSubmodelElementByPathResponse.builder()
+                .payload(property)
+                .success()
+                .build());
+        webSocket.onWebSocketText(String.format("{\"id\":1,\"type\":\"subscribe\",\"submodelId\":\"%s\",\"path\":\"%s\"}", SUBMODEL_ID, PATH));
+        webSocket.valueChanged(ELEMENT, () -> ValueWebSocket.valueFrame(SUBMODEL_ID, PATH, "2"));
+        webSocket.valueChanged(new ReferenceBuilder().submodel(SUBMODEL_ID).idShortPath("other").build(), () -> ValueWebSocket.valueFrame(SUBMODEL_ID, "other", "3"));
+        webSocket.onWebSocketText(String.format("{\"id\":2,\"type\":\"unsubscribe\",\"submodelId\":\"%s\",\"path\":\"%s\"}", SUBMODEL_ID, PATH));
+        webSocket.valueChanged(ELEMENT, () -> ValueWebSocket.valueFrame(SUBMODEL_ID, PATH, "4"));
+        assertEquals(4, sent.size());
+        assertEquals("{\"id\":1,\"type\":\"ack\",\"status\":200}", sent.get(0));
+        assertEquals(ValueWebSocket.valueFrame(SUBMODEL_ID, PATH, HttpJsonSerialization.SERIALIZER.write(property, new OutputModifier.Builder()
+                .content(Content.VALUE)
+                .build())), sent.get(1));
+        assertEquals(String.format("{\"type\":\"value\",\"submodelId\":\"%s\",\"path\":\"%s\",\"value\":2}", SUBMODEL_ID, PATH), sent.get(2));
+        assertEquals("{\"id\":2,\"type\":\"ack\",\"status\":200}", sent.get(3));
+    }
+
+
+    @Test
+    public void testSubscribeSendsChangesDuringReadAfterCurrentValue() throws Exception {
+        Property property = new DefaultProperty.Builder()
+                .idShort("property")
+                .valueType(DataTypeDefXsd.INT)
+                .value("1")
+                .build();
+        when(serviceContext.execute(any(), any())).thenAnswer(invocation -> {
+            webSocket.valueChanged(ELEMENT, () -> ValueWebSocket.valueFrame(SUBMODEL_ID, PATH, "2"));
+            return GetSubmodelElementByPathResponse.builder()
+                    .payload(property)
+                    .success()
+                    .build();
+        });
+        webSocket.onWebSocketText(String.format("{\"id\":1,\"type\":\"subscribe\",\"submodelId\":\"%s\",\"path\":\"%s\"}", SUBMODEL_ID, PATH));
+        assertEquals(3, sent.size());
+        assertEquals("{\"id\":1,\"type\":\"ack\",\"status\":200}", sent.get(0));
+        assertEquals(ValueWebSocket.valueFrame(SUBMODEL_ID, PATH, HttpJsonSerialization.SERIALIZER.write(property, new OutputModifier.Builder()
+                .content(Content.VALUE)
+                .build())), sent.get(1));
+        assertEquals(String.format("{\"type\":\"value\",\"submodelId\":\"%s\",\"path\":\"%s\",\"value\":2}", SUBMODEL_ID, PATH), sent.get(2));
+    }
+
+
+    @Test
+    public void testSubscribeFailedRemovesSubscription() {
+        when(serviceContext.execute(any(), any())).thenReturn(GetSubmodelElementByPathResponse.builder()
+                .statusCode(StatusCode.CLIENT_ERROR_RESOURCE_NOT_FOUND)
+                .build());
+        webSocket.onWebSocketText(String.format("{\"id\":1,\"type\":\"subscribe\",\"submodelId\":\"%s\",\"path\":\"%s\"}", SUBMODEL_ID, PATH));
+        webSocket.valueChanged(ELEMENT, () -> ValueWebSocket.valueFrame(SUBMODEL_ID, PATH, "2"));
+        assertFalse(webSocket.hasSubscriptions());
+        assertEquals(List.of("{\"id\":1,\"type\":\"ack\",\"status\":404}"), sent);
+    }
+}
@@ -18,12 +18,14 @@ import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.InvalidPathException;
 import java.nio.file.Path;
+import java.time.Instant;
 import java.util.Arrays;
 import java.util.Base64;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Optional;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 import org.eclipse.digitaltwin.fa3st.common.dataformat.DeserializationException;
@@ -156,6 +158,24 @@ public class FileStorageFilesystem implements FileStorage<FileStorageFilesystemC
     }
 
 
+    @Override
+    public Optional<Instant> getLastModified(String path) throws PersistenceException {
+        String encodedFilePath = encodeFilePath(path);
+        Path file = existingFiles.containsKey(encodedFilePath)
+                ? existingFiles.get(encodedFilePath)
+                : Path.of(config.getPath(), encodedFilePath);
+        if (!Files.exists(file)) {
+            return Optional.empty();
+        }
+        try {
+            return Optional.of(Files.getLastModifiedTime(file).toInstant());
+        }
+        catch (IOException e) {
+            throw new PersistenceException(e);
+        }
+    }
+
+
     private String encodeFilePath(String filePath) {
         return Base64.getUrlEncoder().encodeToString(localize(filePath).getBytes());
     }
@@ -13,7 +13,9 @@
  */
 package org.eclipse.digitaltwin.fa3st.service.filestorage.memory;
 
+import java.time.Instant;
 import java.util.Map;
+import java.util.Optional;
 import java.util.concurrent.ConcurrentHashMap;
 import org.eclipse.digitaltwin.fa3st.common.dataformat.DeserializationException;
 import org.eclipse.digitaltwin.fa3st.common.exception.ConfigurationInitializationException;
@@ -33,9 +35,11 @@ public class FileStorageInMemory implements FileStorage<FileStorageInMemoryConfi
 
     private FileStorageInMemoryConfig config;
     private final Map<String, byte[]> files;
+    private final Map<String, Instant> lastModified;
 
     public FileStorageInMemory() {
         files = new ConcurrentHashMap<>();
+        lastModified = new ConcurrentHashMap<>();
     }
 
 
@@ -62,6 +66,12 @@ public class FileStorageInMemory implements FileStorage<FileStorageInMemoryConfi
     }
 
 
+    @Override
+    public Optional<Instant> getLastModified(String path) {
+        return Optional.ofNullable(lastModified.get(path));
+    }
+
+
     @Override
     public boolean contains(String path) {
         return this.files.containsKey(path);
@@ -71,6 +81,7 @@ public class FileStorageInMemory implements FileStorage<FileStorageInMemoryConfi
     @Override
     public void save(String path, byte[] content) {
         files.put(path, content);
+        lastModified.put(path, Instant.now());
     }
 
 
@@ -80,12 +91,14 @@ public class FileStorageInMemory implements FileStorage<FileStorageInMemoryConfi
             throw new ResourceNotFoundException(String.format("could not find file for path '%s'", path));
         }
         files.remove(path);
+        lastModified.remove(path);
     }
 
 
     @Override
     public void deleteAll() throws PersistenceException {
         files.clear();
+        lastModified.clear();
     }
 
 
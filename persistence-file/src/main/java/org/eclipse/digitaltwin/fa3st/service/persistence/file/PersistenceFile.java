@@ -24,7 +24,9 @@ import com.fasterxml.jackson.databind.module.SimpleModule;
 import java.io.File;
 import java.io.IOException;
 import java.nio.file.Path;
+import java.util.Collection;
 import java.util.HashMap;
+import java.util.Map;
 import java.util.Objects;
 import org.eclipse.digitaltwin.aas4j.v3.model.AssetAdministrationShell;
 import org.eclipse.digitaltwin.aas4j.v3.model.ConceptDescription;
@@ -159,6 +161,18 @@ public class PersistenceFile implements Persistence<PersistenceFileConfig> {
     }
 
 
+    @Override
+    public Map<SubmodelElementIdentifier, SubmodelElement> getSubmodelElements(Collection<SubmodelElementIdentifier> identifiers, QueryModifier modifier) {
+        return persistence.getSubmodelElements(identifiers, modifier);
+    }
+
+
+    @Override
+    public boolean assetAdministrationShellContainsSubmodel(String aasId, String submodelId) throws ResourceNotFoundException {
+        return persistence.assetAdministrationShellContainsSubmodel(aasId, submodelId);
+    }
+
+
     @Override
     public Page<Reference> getSubmodelRefs(String aasId, PagingInfo paging) throws ResourceNotFoundException {
         return persistence.getSubmodelRefs(aasId, paging);
@@ -230,6 +244,18 @@ public class PersistenceFile implements Persistence<PersistenceFileConfig> {
     }
 
 
+    @Override
+    public void updateAll(Map<Reference, SubmodelElement> submodelElements) throws ResourceNotFoundException, PersistenceException {
+        try {
+            persistence.updateAll(submodelElements);
+        }
+        finally {
+            // elements updated before a failure must be persisted as well
+            saveEnvironment();
+        }
+    }
+
+
     @Override
     public void save(OperationHandle handle, OperationResult result) {
         persistence.save(handle, result);
@@ -20,16 +20,22 @@ import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.nio.file.StandardCopyOption;
 import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.Map;
 import org.bouncycastle.util.Objects;
 import org.eclipse.digitaltwin.aas4j.v3.model.Environment;
+import org.eclipse.digitaltwin.aas4j.v3.model.Reference;
+import org.eclipse.digitaltwin.aas4j.v3.model.SubmodelElement;
 import org.eclipse.digitaltwin.fa3st.common.exception.AssetConnectionException;
 import org.eclipse.digitaltwin.fa3st.common.exception.ConfigurationException;
 import org.eclipse.digitaltwin.fa3st.common.exception.ConfigurationInitializationException;
+import org.eclipse.digitaltwin.fa3st.common.exception.PersistenceException;
 import org.eclipse.digitaltwin.fa3st.common.exception.ResourceNotFoundException;
 import org.eclipse.digitaltwin.fa3st.common.model.AASFull;
 import org.eclipse.digitaltwin.fa3st.common.model.api.modifier.QueryModifier;
 import org.eclipse.digitaltwin.fa3st.common.model.serialization.DataFormat;
 import org.eclipse.digitaltwin.fa3st.common.util.FileHelper;
+import org.eclipse.digitaltwin.fa3st.common.util.ReferenceBuilder;
 import org.eclipse.digitaltwin.fa3st.service.ServiceContext;
 import org.eclipse.digitaltwin.fa3st.service.config.CoreConfig;
 import org.eclipse.digitaltwin.fa3st.service.persistence.AbstractPersistenceTest;
@@ -189,6 +195,32 @@ public class PersistenceFileTest extends AbstractPersistenceTest<PersistenceFile
     }
 
 
+    @Test
+    public void testUpdateAllPartiallyFailedIsSaved() throws ConfigurationException, ResourceNotFoundException, PersistenceException {
+        PersistenceFileConfig config = PersistenceFileConfig.builder()
+                .initialModelFile(modelFileJson)
+                .keepInitial(false)
+                .build();
+        PersistenceFile persistence = config.newInstance(CoreConfig.DEFAULT, SERVICE_CONTEXT);
+        String submodelId = "http://acplt.org/Submodels/Assets/TestAsset/BillOfMaterial";
+        Reference reference = new ReferenceBuilder()
+                .submodel(submodelId)
+                .element("ExampleEntity2")
+                .build();
+        SubmodelElement element = persistence.getSubmodelElement(reference, QueryModifier.DEFAULT);
+        element.setCategory("changed");
+        Map<Reference, SubmodelElement> submodelElements = new LinkedHashMap<>();
+        submodelElements.put(reference, element);
+        submodelElements.put(new ReferenceBuilder()
+                .submodel(submodelId)
+                .element("NonExistingElement")
+                .build(), element);
+        Assert.assertThrows(ResourceNotFoundException.class, () -> persistence.updateAll(submodelElements));
+        PersistenceFile newPersistence = config.newInstance(CoreConfig.DEFAULT, SERVICE_CONTEXT);
+        Assert.assertEquals("changed", newPersistence.getSubmodelElement(reference, QueryModifier.DEFAULT).getCategory());
+    }
+
+
     @After
     public void deleteTempFiles() throws IOException {
         Files.walk(tempDir)
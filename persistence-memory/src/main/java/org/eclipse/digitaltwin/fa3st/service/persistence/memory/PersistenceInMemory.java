@@ -15,10 +15,14 @@ package org.eclipse.digitaltwin.fa3st.service.persistence.memory;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.stream.Collectors;
@@ -28,6 +32,7 @@ import org.eclipse.digitaltwin.aas4j.v3.model.ConceptDescription;
 import org.eclipse.digitaltwin.aas4j.v3.model.Environment;
 import org.eclipse.digitaltwin.aas4j.v3.model.HasSemantics;
 import org.eclipse.digitaltwin.aas4j.v3.model.Identifiable;
+import org.eclipse.digitaltwin.aas4j.v3.model.KeyTypes;
 import org.eclipse.digitaltwin.aas4j.v3.model.OperationResult;
 import org.eclipse.digitaltwin.aas4j.v3.model.Referable;
 import org.eclipse.digitaltwin.aas4j.v3.model.Reference;
@@ -93,6 +98,7 @@ public class PersistenceInMemory implements Persistence<PersistenceInMemoryConfi
     private Environment environment;
     private PersistenceInMemoryConfig config;
     private Map<OperationHandle, OperationResult> operationStates;
+    private Map<String, Set<String>> submodelMembership;
 
     public PersistenceInMemory() {
         operationStates = new ConcurrentHashMap<>();
@@ -132,6 +138,7 @@ public class PersistenceInMemory implements Persistence<PersistenceInMemoryConfi
         if (!environment.getAssetAdministrationShells().removeIf(x -> Objects.equals(x.getId(), id))) {
             throw new ResourceNotFoundException(String.format(MSG_RESOURCE_NOT_FOUND_BY_ID, id));
         }
+        removeSubmodelMembership(id);
     }
 
 
@@ -153,6 +160,7 @@ public class PersistenceInMemory implements Persistence<PersistenceInMemoryConfi
         // TODO check if submodelRef inside AAS should really be deleted or this has to be done manually
         Reference submodelRef = ReferenceBuilder.forSubmodel(id);
         environment.getAssetAdministrationShells().forEach(x -> x.getSubmodels().remove(submodelRef));
+        removeSubmodelFromMembership(id);
     }
 
 
@@ -194,6 +202,7 @@ public class PersistenceInMemory implements Persistence<PersistenceInMemoryConfi
     public void deleteAll() throws PersistenceException {
         operationStates.clear();
         environment = new DefaultEnvironment();
+        invalidateSubmodelMembership();
     }
 
 
@@ -336,6 +345,49 @@ public class PersistenceInMemory implements Persistence<PersistenceInMemoryConfi
     }
 
 
+    @Override
+    public Map<SubmodelElementIdentifier, SubmodelElement> getSubmodelElements(Collection<SubmodelElementIdentifier> identifiers, QueryModifier modifier) {
+        Map<SubmodelElementIdentifier, SubmodelElement> result = new LinkedHashMap<>();
+        if (Objects.isNull(identifiers)) {
+            return result;
+        }
+        // each submodel is looked up only once and elements are resolved within an environment containing only that submodel
+        Map<String, List<SubmodelElementIdentifier>> identifiersBySubmodel = identifiers.stream()
+                .collect(Collectors.groupingBy(SubmodelElementIdentifier::getSubmodelId, LinkedHashMap::new, Collectors.toList()));
+        for (var entry: identifiersBySubmodel.entrySet()) {
+            Optional<Submodel> submodel = filterById(environment.getSubmodels().stream(), entry.getKey()).findFirst();
+            if (submodel.isEmpty()) {
+                continue;
+            }
+            Environment submodelEnvironment = new DefaultEnvironment.Builder()
+                    .submodels(submodel.get())
+                    .build();
+            for (SubmodelElementIdentifier identifier: entry.getValue()) {
+                try {
+                    result.put(identifier, prepareResult(
+                            EnvironmentHelper.resolve(identifier.toReference(), submodelEnvironment, SubmodelElement.class),
+                            modifier));
+                }
+                catch (ResourceNotFoundException e) {
+                    // not contained in result on purpose
+                }
+            }
+        }
+        return result;
+    }
+
+
+    @Override
+    public boolean assetAdministrationShellContainsSubmodel(String aasId, String submodelId) throws ResourceNotFoundException {
+        Ensure.requireNonNull(aasId, MSG_ID_NOT_NULL);
+        Set<String> submodelIds = getSubmodelMembership().get(aasId);
+        if (Objects.isNull(submodelIds)) {
+            throw new ResourceNotFoundException(String.format(MSG_RESOURCE_NOT_FOUND_BY_ID, aasId));
+        }
+        return submodelIds.contains(submodelId);
+    }
+
+
     @Override
     public Page<Reference> getSubmodelRefs(String aasId, PagingInfo paging) throws ResourceNotFoundException {
         return preparePagedResult(
@@ -351,6 +403,7 @@ public class PersistenceInMemory implements Persistence<PersistenceInMemoryConfi
         this.config = config;
         try {
             this.environment = config.loadInitialModel();
+            invalidateSubmodelMembership();
         }
         catch (InvalidConfigurationException | DeserializationException e) {
             throw new ConfigurationInitializationException("error initializing in-memory persistence", e);
@@ -443,6 +496,7 @@ public class PersistenceInMemory implements Persistence<PersistenceInMemoryConfi
     @Override
     public void save(AssetAdministrationShell assetAdministrationShell) {
         saveOrUpdateById(environment.getAssetAdministrationShells(), assetAdministrationShell);
+        updateSubmodelMembership(assetAdministrationShell);
     }
 
 
@@ -464,6 +518,68 @@ public class PersistenceInMemory implements Persistence<PersistenceInMemoryConfi
     }
 
 
+    /**
+     * Gets the ids of the submodels referenced by each AAS. The index is built lazily and updated for the affected AAS
+     * only whenever an AAS is saved or deleted or a submodel is deleted.
+     *
+     * @return map of AAS id to ids of referenced submodels
+     */
+    private synchronized Map<String, Set<String>> getSubmodelMembership() {
+        if (Objects.isNull(submodelMembership)) {
+            Map<String, Set<String>> result = new ConcurrentHashMap<>();
+            for (AssetAdministrationShell aas: environment.getAssetAdministrationShells()) {
+                result.putIfAbsent(aas.getId(), getSubmodelIds(aas));
+            }
+            submodelMembership = result;
+        }
+        return submodelMembership;
+    }
+
+
+    private synchronized void updateSubmodelMembership(AssetAdministrationShell aas) {
+        if (Objects.nonNull(submodelMembership)) {
+            submodelMembership.put(aas.getId(), getSubmodelIds(aas));
+        }
+    }
+
+
+    private synchronized void removeSubmodelMembership(String aasId) {
+        if (Objects.nonNull(submodelMembership)) {
+            submodelMembership.remove(aasId);
+        }
+    }
+
+
+    private synchronized void removeSubmodelFromMembership(String submodelId) {
+        if (Objects.nonNull(submodelMembership)) {
+            submodelMembership.replaceAll((aasId, submodelIds) -> submodelIds.contains(submodelId)
+                    ? submodelIds.stream()
+                            .filter(x -> !Objects.equals(x, submodelId))
+                            .collect(Collectors.toUnmodifiableSet())
+                    : submodelIds);
+        }
+    }
+
+
+    private synchronized void invalidateSubmodelMembership() {
+        submodelMembership = null;
+    }
+
+
+    private static Set<String> getSubmodelIds(AssetAdministrationShell aas) {
+        Set<String> result = new HashSet<>();
+        if (Objects.nonNull(aas.getSubmodels())) {
+            for (Reference submodelRef: aas.getSubmodels()) {
+                String submodelId = ReferenceHelper.findFirstKeyType(submodelRef, KeyTypes.SUBMODEL);
+                if (Objects.nonNull(submodelId) && ReferenceHelper.equals(submodelRef, ReferenceBuilder.forSubmodel(submodelId))) {
+                    result.add(submodelId);
+                }
+            }
+        }
+        return Collections.unmodifiableSet(result);
+    }
+
+
     private static <T> Stream<T> filterByHasValueOnlySerialization(Stream<T> stream) {
         return stream.filter(ElementValueHelper::isValueOnlySupported);
     }
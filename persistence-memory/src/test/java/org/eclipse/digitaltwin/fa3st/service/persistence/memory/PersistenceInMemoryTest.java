@@ -14,8 +14,21 @@
 package org.eclipse.digitaltwin.fa3st.service.persistence.memory;
 
 import java.io.File;
+import org.eclipse.digitaltwin.aas4j.v3.model.AssetAdministrationShell;
 import org.eclipse.digitaltwin.aas4j.v3.model.Environment;
+import org.eclipse.digitaltwin.aas4j.v3.model.KeyTypes;
+import org.eclipse.digitaltwin.aas4j.v3.model.Reference;
+import org.eclipse.digitaltwin.fa3st.common.exception.ResourceNotFoundException;
+import org.eclipse.digitaltwin.fa3st.common.model.AASFull;
+import org.eclipse.digitaltwin.fa3st.common.util.DeepCopyHelper;
+import org.eclipse.digitaltwin.fa3st.common.util.ReferenceBuilder;
+import org.eclipse.digitaltwin.fa3st.common.util.ReferenceHelper;
+import org.eclipse.digitaltwin.fa3st.service.ServiceContext;
+import org.eclipse.digitaltwin.fa3st.service.config.CoreConfig;
 import org.eclipse.digitaltwin.fa3st.service.persistence.AbstractPersistenceTest;
+import org.junit.Assert;
+import org.junit.Test;
+import org.mockito.Mockito;
 
 
 public class PersistenceInMemoryTest extends AbstractPersistenceTest<PersistenceInMemory, PersistenceInMemoryConfig> {
@@ -28,4 +41,27 @@ public class PersistenceInMemoryTest extends AbstractPersistenceTest<Persistence
                 .build();
     }
 
+
+    @Test
+    public void testSubmodelMembershipUpdatedIncrementally() throws Exception {
+        Environment environment = AASFull.createEnvironment();
+        PersistenceInMemory persistence = getPersistenceConfig(null, environment).newInstance(CoreConfig.DEFAULT, Mockito.mock(ServiceContext.class));
+        AssetAdministrationShell aas = DeepCopyHelper.deepCopy(environment.getAssetAdministrationShells().get(0), AssetAdministrationShell.class);
+        AssetAdministrationShell otherAas = environment.getAssetAdministrationShells().get(1);
+        String submodelId = ReferenceHelper.findFirstKeyType(aas.getSubmodels().get(0), KeyTypes.SUBMODEL);
+        String newSubmodelId = "http://example.org/submodel/new";
+        Assert.assertTrue(persistence.assetAdministrationShellContainsSubmodel(aas.getId(), submodelId));
+        aas.getSubmodels().add(ReferenceBuilder.forSubmodel(newSubmodelId));
+        persistence.save(aas);
+        Assert.assertTrue(persistence.assetAdministrationShellContainsSubmodel(aas.getId(), newSubmodelId));
+        for (Reference submodelRef: otherAas.getSubmodels()) {
+            Assert.assertTrue(persistence.assetAdministrationShellContainsSubmodel(otherAas.getId(), ReferenceHelper.findFirstKeyType(submodelRef, KeyTypes.SUBMODEL)));
+        }
+        persistence.deleteSubmodel(submodelId);
+        Assert.assertFalse(persistence.assetAdministrationShellContainsSubmodel(aas.getId(), submodelId));
+        Assert.assertTrue(persistence.assetAdministrationShellContainsSubmodel(aas.getId(), newSubmodelId));
+        persistence.deleteAssetAdministrationShell(otherAas.getId());
+        Assert.assertThrows(ResourceNotFoundException.class, () -> persistence.assetAdministrationShellContainsSubmodel(otherAas.getId(), newSubmodelId));
+        Assert.assertTrue(persistence.assetAdministrationShellContainsSubmodel(aas.getId(), newSubmodelId));
+    }
 }
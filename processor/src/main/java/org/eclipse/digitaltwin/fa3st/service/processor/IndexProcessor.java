@@ -0,0 +1,159 @@
+/**
+ * Copyright (c) 2025 the Eclipse FA³ST Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.eclipse.digitaltwin.fa3st.service.processor;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.NestingKind;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.tools.Diagnostic;
+import javax.tools.FileObject;
+import javax.tools.StandardLocation;
+
+
+/**
+ * Annotation processor that records all non-abstract classes extending or implementing a type annotated with
+ * {@link Indexed} in a resource file. This allows finding implementations at runtime without scanning the classpath.
+ */
+@SupportedAnnotationTypes("*")
+public class IndexProcessor extends AbstractProcessor {
+
+    public static final String INDEX_LOCATION = "META-INF/fa3st/index/";
+    private final Map<String, Set<String>> index = new TreeMap<>();
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+        if (roundEnv.processingOver()) {
+            writeIndex();
+            return false;
+        }
+        for (Element element: roundEnv.getRootElements()) {
+            collect(element);
+        }
+        return false;
+    }
+
+
+    private void collect(Element element) {
+        if (!element.getKind().isClass() && !element.getKind().isInterface()) {
+            return;
+        }
+        TypeElement type = (TypeElement) element;
+        if (isInstantiable(type)) {
+            String name = processingEnv.getElementUtils().getBinaryName(type).toString();
+            Set<String> indexedTypes = new TreeSet<>();
+            findIndexedSupertypes(type, indexedTypes, new HashSet<>());
+            indexedTypes.forEach(x -> index.computeIfAbsent(x, k -> new TreeSet<>()).add(name));
+        }
+        for (Element enclosed: type.getEnclosedElements()) {
+            collect(enclosed);
+        }
+    }
+
+
+    private static boolean isInstantiable(TypeElement type) {
+        return type.getKind() == ElementKind.CLASS
+                && !type.getModifiers().contains(Modifier.ABSTRACT)
+                && (type.getNestingKind() == NestingKind.TOP_LEVEL
+                        || (type.getNestingKind() == NestingKind.MEMBER && type.getModifiers().contains(Modifier.STATIC)));
+    }
+
+
+    private void findIndexedSupertypes(TypeElement type, Set<String> result, Set<String> visited) {
+        for (TypeMirror supertype: processingEnv.getTypeUtils().directSupertypes(type.asType())) {
+            if (supertype.getKind() != TypeKind.DECLARED) {
+                continue;
+            }
+            TypeElement element = (TypeElement) ((DeclaredType) supertype).asElement();
+            String name = processingEnv.getElementUtils().getBinaryName(element).toString();
+            if (!visited.add(name)) {
+                continue;
+            }
+            if (isIndexed(element)) {
+                result.add(name);
+            }
+            findIndexedSupertypes(element, result, visited);
+        }
+    }
+
+
+    private static boolean isIndexed(TypeElement type) {
+        return type.getAnnotationMirrors().stream()
+                .anyMatch(x -> ((TypeElement) x.getAnnotationType().asElement()).getQualifiedName().contentEquals(Indexed.class.getCanonicalName()));
+    }
+
+
+    private void writeIndex() {
+        for (var entry: index.entrySet()) {
+            String path = INDEX_LOCATION + entry.getKey();
+            Set<String> classNames = new TreeSet<>(entry.getValue());
+            classNames.addAll(readExistingIndex(path));
+            try {
+                FileObject file = processingEnv.getFiler().createResource(StandardLocation.CLASS_OUTPUT, "", path);
+                try (Writer writer = file.openWriter()) {
+                    for (String className: classNames) {
+                        writer.write(className);
+                        writer.write('\n');
+                    }
+                }
+            }
+            catch (IOException e) {
+                processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, String.format("unable to write index file %s: %s", path, e.getMessage()));
+            }
+        }
+    }
+
+
+    private Set<String> readExistingIndex(String path) {
+        // keep entries from previous (incremental) compilations; stale entries are ignored when loading the index
+        Set<String> result = new TreeSet<>();
+        try {
+            FileObject file = processingEnv.getFiler().getResource(StandardLocation.CLASS_OUTPUT, "", path);
+            try (BufferedReader reader = new BufferedReader(new InputStreamReader(file.openInputStream(), StandardCharsets.UTF_8))) {
+                reader.lines()
+                        .map(String::trim)
+                        .filter(x -> !x.isEmpty())
+                        .forEach(result::add);
+            }
+        }
+        catch (IOException | IllegalArgumentException e) {
+            // no index from previous compilation
+        }
+        return result;
+    }
+}
@@ -0,0 +1,84 @@
+/**
+ * Copyright (c) 2025 the Eclipse FA³ST Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.eclipse.digitaltwin.fa3st.service.processor;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.URI;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import javax.tools.JavaCompiler;
+import javax.tools.JavaFileObject;
+import javax.tools.SimpleJavaFileObject;
+import javax.tools.ToolProvider;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+
+public class IndexProcessorTest {
+
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    @Test
+    public void testIndex() throws IOException {
+        Path output = compile(Map.of(
+                "test.Base", "package test; @org.eclipse.digitaltwin.fa3st.service.processor.Indexed public abstract class Base<T> {}",
+                "test.Intermediate", "package test; public abstract class Intermediate<T> extends Base<T> {}",
+                "test.Impl", "package test; public class Impl extends Intermediate<String> { public static class Nested extends Base<Integer> {} public class Inner extends Base<Integer> {} }",
+                "test.Format", "package test; @org.eclipse.digitaltwin.fa3st.service.processor.Indexed public interface Format {}",
+                "test.JsonFormat", "package test; public class JsonFormat implements Format {}",
+                "test.Unrelated", "package test; public class Unrelated {}"));
+        assertEquals(List.of("test.Impl", "test.Impl$Nested"), readIndex(output, "test.Base"));
+        assertEquals(List.of("test.JsonFormat"), readIndex(output, "test.Format"));
+        assertFalse(Files.exists(output.resolve(IndexProcessor.INDEX_LOCATION + "test.Unrelated")));
+    }
+
+
+    private Path compile(Map<String, String> sources) throws IOException {
+        JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        Path output = temporaryFolder.newFolder().toPath();
+        List<JavaFileObject> compilationUnits = sources.entrySet().stream()
+                .map(x -> new SimpleJavaFileObject(URI.create("string:///" + x.getKey().replace('.', '/') + ".java"), JavaFileObject.Kind.SOURCE) {
+                    @Override
+                    public CharSequence getCharContent(boolean ignoreEncodingErrors) {
+                        return x.getValue();
+                    }
+                })
+                .collect(Collectors.toList());
+        JavaCompiler.CompilationTask task = compiler.getTask(
+                null,
+                null,
+                null,
+                List.of("-d", output.toString(), "-classpath", System.getProperty("java.class.path") + File.pathSeparator + output),
+                null,
+                compilationUnits);
+        task.setProcessors(List.of(new IndexProcessor()));
+        assertTrue(task.call());
+        return output;
+    }
+
+
+    private static List<String> readIndex(Path output, String type) throws IOException {
+        return Files.readAllLines(output.resolve(IndexProcessor.INDEX_LOCATION + type));
+    }
+}